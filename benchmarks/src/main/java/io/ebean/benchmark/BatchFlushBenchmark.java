@@ -0,0 +1,65 @@
+package io.ebean.benchmark;
+
+import io.ebean.Transaction;
+import io.ebean.annotation.PersistBatch;
+import io.ebean.benchmark.model.BCustomer;
+import io.ebeaninternal.api.SpiEbeanServer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * BatchControl queueing and flush of batched inserts (rolled back to keep the table size stable).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BatchFlushBenchmark {
+
+  @Param({"500"})
+  int rows;
+
+  @Param({"false", "true"})
+  boolean pipelined;
+
+  private SpiEbeanServer server;
+
+  @Setup
+  public void setup() {
+    server = BenchDatabase.create("batchFlush", 0);
+  }
+
+  @TearDown
+  public void tearDown() {
+    server.shutdown(true, false);
+  }
+
+  @Benchmark
+  public void insertBatch() {
+    try (Transaction txn = server.beginTransaction()) {
+      txn.setBatch(PersistBatch.ALL);
+      txn.setBatchSize(50);
+      txn.setBatchGetGeneratedKeys(false);
+      txn.setBatchPipelined(pipelined);
+      for (int i = 0; i < rows; i++) {
+        server.save(BenchDatabase.newCustomer(i), txn);
+      }
+      txn.flush();
+      txn.rollback();
+    }
+  }
+}
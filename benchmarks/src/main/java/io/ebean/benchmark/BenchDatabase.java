@@ -0,0 +1,88 @@
+package io.ebean.benchmark;
+
+import io.ebean.EbeanServer;
+import io.ebean.EbeanServerFactory;
+import io.ebean.Transaction;
+import io.ebean.benchmark.model.BCustomer;
+import io.ebean.benchmark.model.BOrder;
+import io.ebean.benchmark.model.BOrderLine;
+import io.ebean.benchmark.model.BWide;
+import io.ebean.config.ContainerConfig;
+import io.ebean.config.ServerConfig;
+import io.ebeaninternal.api.SpiEbeanServer;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.util.Properties;
+
+/**
+ * Creates an EbeanServer using in-memory H2 loaded with customers, orders, order lines and wide rows.
+ */
+public final class BenchDatabase {
+
+  private BenchDatabase() {
+  }
+
+  /**
+   * Create a new server with the given number of customers (each with 3 orders of 2 lines) and wide rows.
+   */
+  public static SpiEbeanServer create(String name, int customers) {
+
+    ServerConfig config = new ServerConfig();
+    config.setName(name);
+
+    Properties properties = new Properties();
+    properties.setProperty("datasource." + name + ".username", "sa");
+    properties.setProperty("datasource." + name + ".password", "");
+    properties.setProperty("datasource." + name + ".databaseUrl", "jdbc:h2:mem:" + name + ";");
+    properties.setProperty("datasource." + name + ".databaseDriver", "org.h2.Driver");
+    config.loadFromProperties(properties);
+
+    config.setContainerConfig(new ContainerConfig());
+    config.setDefaultServer(false);
+    config.setRegister(false);
+    config.setDdlGenerate(true);
+    config.setDdlRun(true);
+    config.addClass(BCustomer.class);
+    config.addClass(BOrder.class);
+    config.addClass(BOrderLine.class);
+    config.addClass(BWide.class);
+
+    EbeanServer server = EbeanServerFactory.create(config);
+    load(server, customers);
+    return (SpiEbeanServer) server;
+  }
+
+  private static void load(EbeanServer server, int customers) {
+    try (Transaction txn = server.beginTransaction()) {
+      txn.setBatchSize(100);
+      for (int i = 0; i < customers; i++) {
+        BCustomer customer = newCustomer(i);
+        server.save(customer, txn);
+        for (int j = 0; j < 3; j++) {
+          BOrder order = new BOrder(customer, LocalDate.of(2018, 1 + j, 1 + i % 28), BigDecimal.valueOf(i * 10 + j));
+          server.save(order, txn);
+          for (int k = 0; k < 2; k++) {
+            server.save(new BOrderLine(order, "product" + k, 1 + k, BigDecimal.valueOf(5 + k)), txn);
+          }
+        }
+        server.save(new BWide(i), txn);
+      }
+      txn.commit();
+    }
+  }
+
+  /**
+   * Return a new (unsaved) customer.
+   */
+  public static BCustomer newCustomer(int i) {
+    BCustomer customer = new BCustomer("customer" + i);
+    customer.setEmail("customer" + i + "@example.com");
+    customer.setStatus(BCustomer.Status.values()[i % 3]);
+    customer.setCreditLimit(BigDecimal.valueOf(1000 + i));
+    customer.setRegistered(LocalDate.of(2017, 1 + i % 12, 1 + i % 28));
+    customer.setLastContact(new Timestamp(1_500_000_000_000L + i * 1000L));
+    return customer;
+  }
+}
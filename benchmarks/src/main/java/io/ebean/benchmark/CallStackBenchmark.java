@@ -0,0 +1,59 @@
+package io.ebean.benchmark;
+
+import io.ebean.bean.CallStack;
+import io.ebean.config.ServerConfig;
+import io.ebeaninternal.server.core.CallStackFactories;
+import io.ebeaninternal.server.core.CallStackFactory;
+import org.example.callstack.StackDepth;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Creation of the CallStack used for query origins (profiling / AutoTune).
+ * <p>
+ * The default factory (Thread stack trace) is the baseline. The stackWalker factory
+ * requires running on Java 9 or later. The noop factory is used when AutoTune is not active.
+ * The CallStack is created from a class outside of the io.ebean packages (as the factories
+ * skip the leading ebean frames) with the given stack depth.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CallStackBenchmark {
+
+  @Param({"default", "stackWalker", "noop"})
+  String type;
+
+  /**
+   * Number of (non ebean) frames on the stack below the benchmark method.
+   */
+  @Param({"10", "100"})
+  int depth;
+
+  private CallStackFactory factory;
+
+  @Setup
+  public void setup() {
+    factory = CallStackFactories.create(type, new ServerConfig().getMaxCallStack());
+  }
+
+  @Benchmark
+  public CallStack createCallStack() {
+    return StackDepth.call(factory, depth);
+  }
+}
@@ -0,0 +1,102 @@
+package io.ebean.benchmark;
+
+import io.ebean.text.json.EJson;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Compare two JMH json result files (from <code>-rf json</code>) reporting the change per benchmark.
+ * <p>
+ * Usage: <code>CompareResults baseline.json current.json [thresholdPercent]</code>
+ * </p>
+ * <p>
+ * Exits with status 1 when any benchmark regressed by more than the threshold (default 10%)
+ * taking into account whether higher (throughput) or lower (average time) scores are better.
+ * </p>
+ */
+public final class CompareResults {
+
+  private CompareResults() {
+  }
+
+  public static void main(String[] args) throws IOException {
+    if (args.length < 2) {
+      System.err.println("Usage: CompareResults baseline.json current.json [thresholdPercent]");
+      System.exit(2);
+    }
+    double threshold = args.length > 2 ? Double.parseDouble(args[2]) : 10d;
+    Map<String, Result> baseline = read(args[0]);
+    Map<String, Result> current = read(args[1]);
+
+    int regressions = 0;
+    System.out.println(String.format("%-70s %14s %14s %9s", "benchmark", "baseline", "current", "change"));
+    for (Map.Entry<String, Result> entry : current.entrySet()) {
+      Result now = entry.getValue();
+      Result base = baseline.get(entry.getKey());
+      if (base == null) {
+        System.out.println(String.format("%-70s %14s %14.3f %9s", entry.getKey(), "-", now.score, "new"));
+        continue;
+      }
+      double change = (now.score - base.score) * 100d / base.score;
+      double worse = now.higherIsBetter() ? -change : change;
+      String flag = worse > threshold ? "  REGRESSION" : "";
+      if (!flag.isEmpty()) {
+        regressions++;
+      }
+      System.out.println(String.format("%-70s %14.3f %14.3f %+8.1f%% %s%s", entry.getKey(), base.score, now.score, change, now.unit, flag));
+    }
+    if (regressions > 0) {
+      System.out.println(regressions + " benchmark(s) regressed by more than " + threshold + "%");
+      System.exit(1);
+    }
+  }
+
+  @SuppressWarnings("unchecked")
+  private static Map<String, Result> read(String file) throws IOException {
+    Map<String, Result> results = new TreeMap<>();
+    try (Reader reader = Files.newBufferedReader(Paths.get(file), StandardCharsets.UTF_8)) {
+      for (Object row : EJson.parseList(reader)) {
+        Map<String, Object> entry = (Map<String, Object>) row;
+        Map<String, Object> metric = (Map<String, Object>) entry.get("primaryMetric");
+        String key = key(entry);
+        String mode = (String) entry.get("mode");
+        results.put(key, new Result(((Number) metric.get("score")).doubleValue(), (String) metric.get("scoreUnit"), mode));
+      }
+    }
+    return results;
+  }
+
+  @SuppressWarnings("unchecked")
+  private static String key(Map<String, Object> entry) {
+    String benchmark = (String) entry.get("benchmark");
+    Map<String, Object> params = (Map<String, Object>) entry.get("params");
+    if (params == null || params.isEmpty()) {
+      return benchmark;
+    }
+    return benchmark + new LinkedHashMap<>(new TreeMap<>(params));
+  }
+
+  private static final class Result {
+
+    final double score;
+    final String unit;
+    final String mode;
+
+    Result(double score, String unit, String mode) {
+      this.score = score;
+      this.unit = unit;
+      this.mode = mode;
+    }
+
+    boolean higherIsBetter() {
+      return "thrpt".equals(mode);
+    }
+  }
+}
@@ -0,0 +1,73 @@
+package io.ebean.benchmark;
+
+import io.ebean.bean.EntityBean;
+import io.ebean.bean.EntityBeanIntercept;
+import io.ebean.benchmark.model.BCustomer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * EntityBeanIntercept dirty tracking of enhanced beans.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class InterceptBenchmark {
+
+  private int counter;
+
+  private BCustomer loadedCustomer() {
+    BCustomer customer = BenchDatabase.newCustomer(counter++);
+    customer.setId(42L);
+    ((EntityBean) customer)._ebean_getIntercept().setLoaded();
+    return customer;
+  }
+
+  /**
+   * Set properties on a loaded bean and check dirty state.
+   */
+  @Benchmark
+  public boolean setAndCheckDirty() {
+    BCustomer customer = loadedCustomer();
+    customer.setName("changed");
+    customer.setCreditLimit(BigDecimal.ONE);
+    return ((EntityBean) customer)._ebean_getIntercept().isDirty();
+  }
+
+  /**
+   * Set properties and obtain the dirty values (as used to build updates).
+   */
+  @Benchmark
+  public Map<String, ?> dirtyValues() {
+    BCustomer customer = loadedCustomer();
+    customer.setName("changed");
+    customer.setEmail("changed@example.com");
+    customer.setStatus(BCustomer.Status.INACTIVE);
+    EntityBeanIntercept intercept = ((EntityBean) customer)._ebean_getIntercept();
+    return intercept.getDirtyValues();
+  }
+
+  /**
+   * Set a property to the same value (not dirty).
+   */
+  @Benchmark
+  public boolean setSameValue() {
+    BCustomer customer = loadedCustomer();
+    customer.setName(customer.getName());
+    return ((EntityBean) customer)._ebean_getIntercept().isDirty();
+  }
+}
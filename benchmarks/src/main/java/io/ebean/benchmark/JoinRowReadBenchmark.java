@@ -0,0 +1,68 @@
+package io.ebean.benchmark;
+
+import io.ebean.benchmark.model.BOrderLine;
+import io.ebeaninternal.api.SpiEbeanServer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Row reading of a 3 level join (order line, order and customer) selecting 22 columns.
+ * <p>
+ * Compare the results of this benchmark against the baseline commit using CompareResults.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JoinRowReadBenchmark {
+
+  @Param({"100", "1000"})
+  int rows;
+
+  private SpiEbeanServer server;
+
+  @Setup
+  public void setup() {
+    server = BenchDatabase.create("joinRowRead", 500);
+  }
+
+  @TearDown
+  public void tearDown() {
+    server.shutdown(true, false);
+  }
+
+  @Benchmark
+  public List<BOrderLine> findListJoin() {
+    return server.find(BOrderLine.class)
+      .fetch("order")
+      .fetch("order.customer")
+      .setMaxRows(rows)
+      .findList();
+  }
+
+  @Benchmark
+  public List<BOrderLine> findListJoinPartial() {
+    return server.find(BOrderLine.class)
+      .select("product,quantity,unitPrice")
+      .fetch("order", "orderDate,amount")
+      .fetch("order.customer", "name,email")
+      .setMaxRows(rows)
+      .findList();
+  }
+}
@@ -0,0 +1,81 @@
+package io.ebean.benchmark;
+
+import io.ebean.benchmark.model.BCustomer;
+import io.ebean.text.json.EJson;
+import io.ebean.text.json.JsonContext;
+import io.ebeaninternal.api.SpiEbeanServer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JSON round trips of beans (WriteJson / DJsonBeanReader) and maps (EJsonWriter / EJsonReader).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JsonBenchmark {
+
+  private SpiEbeanServer server;
+
+  private JsonContext json;
+
+  private List<BCustomer> customers;
+
+  private String customersJson;
+
+  private Map<String, Object> map;
+
+  private String mapJson;
+
+  @Setup
+  public void setup() throws IOException {
+    server = BenchDatabase.create("json", 100);
+    json = server.json();
+    customers = server.find(BCustomer.class).findList();
+    customersJson = json.toJson(customers);
+    map = EJson.parseObject(json.toJson(customers.get(0)));
+    mapJson = EJson.write(map);
+  }
+
+  @TearDown
+  public void tearDown() {
+    server.shutdown(true, false);
+  }
+
+  @Benchmark
+  public String beanToJson() {
+    return json.toJson(customers);
+  }
+
+  @Benchmark
+  public List<BCustomer> jsonToBean() {
+    return json.toList(BCustomer.class, customersJson);
+  }
+
+  @Benchmark
+  public String mapToJson() throws IOException {
+    return EJson.write(map);
+  }
+
+  @Benchmark
+  public Map<String, Object> jsonToMap() throws IOException {
+    return EJson.parseObject(mapJson);
+  }
+}
@@ -0,0 +1,60 @@
+package io.ebean.benchmark;
+
+import io.ebean.bean.PersistenceContext;
+import io.ebeaninternal.server.transaction.ConcurrentPersistenceContext;
+import io.ebeaninternal.server.transaction.DefaultPersistenceContext;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Contended access to the DefaultPersistenceContext (single monitor) and ConcurrentPersistenceContext.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PersistenceContextBenchmark {
+
+  private static final int KEYS = 10000;
+
+  @Param({"default", "concurrent"})
+  String type;
+
+  private PersistenceContext context;
+
+  @Setup
+  public void setup() {
+    context = "concurrent".equals(type) ? new ConcurrentPersistenceContext() : new DefaultPersistenceContext();
+    for (long i = 0; i < KEYS; i++) {
+      context.put(Long.class, i, "bean" + i);
+    }
+  }
+
+  @Benchmark
+  @Threads(4)
+  public Object get() {
+    return context.get(Long.class, (long) ThreadLocalRandom.current().nextInt(KEYS));
+  }
+
+  @Benchmark
+  @Threads(4)
+  public Object putIfAbsent() {
+    long id = ThreadLocalRandom.current().nextInt(KEYS * 2);
+    return context.putIfAbsent(Long.class, id, "bean");
+  }
+}
@@ -0,0 +1,159 @@
+package io.ebean.benchmark;
+
+import io.ebean.Query;
+import io.ebean.benchmark.model.BCustomer;
+import io.ebean.benchmark.model.BOrder;
+import io.ebeaninternal.api.PlanKeyBuilder;
+import io.ebeaninternal.api.SpiEbeanServer;
+import io.ebeaninternal.api.SpiExpression;
+import io.ebeaninternal.api.SpiQuery;
+import io.ebeaninternal.server.deploy.BeanDescriptor;
+import io.ebeaninternal.server.expression.DefaultExpressionList;
+import io.ebeaninternal.server.expression.SimpleExpression;
+import io.ebeaninternal.server.query.CQuery;
+import io.ebeaninternal.server.querydefn.OrmQueryDetail;
+import io.ebeaninternal.server.querydefn.OrmQueryProperties;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Query plan building (SqlTreeBuilder) and plan key computation (DefaultOrmQuery).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class QueryPlanBenchmark {
+
+  private SpiEbeanServer server;
+
+  private BeanDescriptor<BOrder> orderDescriptor;
+
+  private SpiQuery<BOrder> keyQuery;
+
+  private PlanKeyBuilder cachedKey;
+
+  private String cachedDescription;
+
+  @Setup
+  public void setup() {
+    server = BenchDatabase.create("queryPlan", 10);
+    orderDescriptor = server.getBeanDescriptor(BOrder.class);
+    keyQuery = (SpiQuery<BOrder>) query();
+    cachedKey = planKey(keyQuery);
+    cachedDescription = baselineKey(keyQuery);
+  }
+
+  @TearDown
+  public void tearDown() {
+    server.shutdown(true, false);
+  }
+
+  private Query<BOrder> query() {
+    return server.find(BOrder.class)
+      .fetch("customer", "name,email,status")
+      .where()
+      .gt("amount", BigDecimal.TEN)
+      .eq("customer.status", BCustomer.Status.ACTIVE)
+      .orderBy("orderDate desc")
+      .setMaxRows(100);
+  }
+
+  /**
+   * Build the query plan (sql tree and sql) each time.
+   */
+  @Benchmark
+  public CQuery<BOrder> planBuild() {
+    // remove the cached plans such that the plan is built
+    orderDescriptor.trimQueryPlans(Long.MAX_VALUE);
+    return server.compileQuery(query(), null);
+  }
+
+  /**
+   * Compute the plan key and obtain the cached query plan.
+   */
+  @Benchmark
+  public CQuery<BOrder> planCached() {
+    return server.compileQuery(query(), null);
+  }
+
+  /**
+   * Compute the hash of the bind values (combined with the plan key for the query hash).
+   */
+  @Benchmark
+  public int queryBindHash() {
+    SpiQuery<BOrder> query = (SpiQuery<BOrder>) query();
+    return query.queryBindHash();
+  }
+
+  private static PlanKeyBuilder planKey(SpiQuery<?> query) {
+    PlanKeyBuilder key = new PlanKeyBuilder();
+    query.getDetail().queryPlanHash(key);
+    query.getWhereExpressions().queryPlanHash(key);
+    return key;
+  }
+
+  /**
+   * Structural plan key (detail and where expressions) matched against a cached key.
+   */
+  @Benchmark
+  public boolean planKeyStructural() {
+    PlanKeyBuilder key = planKey(keyQuery);
+    return key.hash() == cachedKey.hash() && key.isSame(cachedKey);
+  }
+
+  /**
+   * The plan key built as a String via StringBuilder (as OrmQueryDetail, OrmQueryProperties,
+   * DefaultExpressionList and SimpleExpression built it prior to PlanKeyBuilder) for the
+   * benchmark query.
+   */
+  private static String baselineKey(SpiQuery<?> query) {
+    StringBuilder builder = new StringBuilder();
+    OrmQueryDetail detail = query.getDetail();
+    baselineProps(builder, detail.getChunk(null, false));
+    for (Map.Entry<String, OrmQueryProperties> entry : detail.entries()) {
+      baselineProps(builder, entry.getValue());
+    }
+    builder.append("List[");
+    for (SpiExpression expr : ((DefaultExpressionList<?>) query.getWhereExpressions()).internalList()) {
+      SimpleExpression simple = (SimpleExpression) expr;
+      builder.append(simple.isOpEquals() ? "EQ" : "GT").append("[").append(simple.getPropName()).append("]");
+      builder.append(",");
+    }
+    builder.append("]");
+    return builder.toString();
+  }
+
+  private static void baselineProps(StringBuilder builder, OrmQueryProperties props) {
+    builder.append("qpp[");
+    builder.append(props.getPath());
+    if (props.getIncluded() != null) {
+      builder.append(" included:").append(props.getIncluded());
+    }
+    builder.append("]");
+  }
+
+  /**
+   * Baseline - the plan key built as a description String matched against a cached description.
+   */
+  @Benchmark
+  public boolean planKeyString() {
+    String description = baselineKey(keyQuery);
+    return description.hashCode() == cachedDescription.hashCode() && description.equals(cachedDescription);
+  }
+}
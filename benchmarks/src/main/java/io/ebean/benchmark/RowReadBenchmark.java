@@ -0,0 +1,92 @@
+package io.ebean.benchmark;
+
+import io.ebean.benchmark.model.BCustomer;
+import io.ebean.benchmark.model.BOrder;
+import io.ebeaninternal.api.SpiEbeanServer;
+import io.ebeaninternal.server.type.RsetDataReader;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Row reading of ORM queries (CQuery building beans via RsetDataReader).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RowReadBenchmark {
+
+  @Param({"100", "1000"})
+  int rows;
+
+  private SpiEbeanServer server;
+
+  @Setup
+  public void setup() {
+    server = BenchDatabase.create("rowRead", 1000);
+  }
+
+  @TearDown
+  public void tearDown() {
+    server.shutdown(true, false);
+  }
+
+  @Benchmark
+  public List<BCustomer> findList() {
+    return server.find(BCustomer.class)
+      .setMaxRows(rows)
+      .findList();
+  }
+
+  @Benchmark
+  public List<BOrder> findListFetchJoin() {
+    return server.find(BOrder.class)
+      .fetch("customer", "name,email")
+      .setMaxRows(rows)
+      .findList();
+  }
+
+  /**
+   * Reading the same columns directly via RsetDataReader (without building beans).
+   */
+  @Benchmark
+  public void rsetDataReader(Blackhole bh) throws SQLException {
+    String sql = "select id, name, email, credit_limit, registered, last_contact from b_customer limit " + rows;
+    try (Connection connection = server.getPluginApi().getDataSource().getConnection();
+         PreparedStatement pstmt = connection.prepareStatement(sql)) {
+      RsetDataReader reader = new RsetDataReader(server.getDataTimeZone(), pstmt.executeQuery());
+      try {
+        while (reader.next()) {
+          reader.resetColumnPosition();
+          bh.consume(reader.getLong());
+          bh.consume(reader.getString());
+          bh.consume(reader.getString());
+          bh.consume(reader.getBigDecimal());
+          bh.consume(reader.getDate());
+          bh.consume(reader.getTimestamp());
+        }
+      } finally {
+        reader.close();
+      }
+    }
+  }
+}
@@ -0,0 +1,84 @@
+package io.ebean.benchmark;
+
+import io.ebean.cache.ServerCacheOptions;
+import io.ebeaninternal.server.cache.DefaultServerCache;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * DefaultServerCache get, put and trim (eviction).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ServerCacheBenchmark {
+
+  /**
+   * Number of distinct keys relative to the cache max size of 10000.
+   */
+  @Param({"5000", "50000"})
+  int keys;
+
+  private DefaultServerCache cache;
+
+  private DefaultServerCache trimCache;
+
+  @Setup
+  public void setup() {
+    ServerCacheOptions options = new ServerCacheOptions();
+    options.setMaxSize(10000);
+    options.setMaxIdleSecs(600);
+    cache = new DefaultServerCache("bench", null, options);
+    for (int i = 0; i < keys; i++) {
+      cache.put(i, "value" + i);
+    }
+    trimCache = new DefaultServerCache("benchTrim", null, options);
+  }
+
+  @Benchmark
+  @Threads(4)
+  public Object get() {
+    return cache.get(ThreadLocalRandom.current().nextInt(keys));
+  }
+
+  @Benchmark
+  @Threads(4)
+  public Object getOrPut() {
+    int key = ThreadLocalRandom.current().nextInt(keys);
+    Object value = cache.get(key);
+    if (value == null) {
+      cache.put(key, "value" + key);
+    }
+    return value;
+  }
+
+  /**
+   * Fill beyond max size and run the eviction (trim).
+   */
+  @Benchmark
+  @BenchmarkMode(Mode.AverageTime)
+  public int putAndTrim() {
+    int base = ThreadLocalRandom.current().nextInt();
+    for (int i = 0; i < 12000; i++) {
+      trimCache.put(base + i, "value");
+    }
+    trimCache.runEviction();
+    return trimCache.size();
+  }
+}
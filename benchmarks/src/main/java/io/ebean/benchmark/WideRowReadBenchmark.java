@@ -0,0 +1,131 @@
+package io.ebean.benchmark;
+
+import io.ebean.benchmark.model.BWide;
+import io.ebeaninternal.api.SpiEbeanServer;
+import io.ebeaninternal.server.type.RsetDataReader;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Reading rows of an entity with 16 primitive properties.
+ * <p>
+ * Run with the gc profiler to report bytes allocated per row (gc.alloc.rate.norm):
+ * </p>
+ * <pre>
+ *   java -jar benchmarks/target/benchmarks.jar WideRowReadBenchmark -prof gc
+ * </pre>
+ * <p>
+ * The boxed vs primitive benchmarks compare reading the same columns via RsetDataReader
+ * using the boxed getters and the primitive getters.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class WideRowReadBenchmark {
+
+  private static final int ROWS = 1000;
+
+  private static final String SQL = "select count1, count2, count3, count4, total1, total2, total3, total4,"
+    + " ratio1, ratio2, ratio3, ratio4, flag1, flag2, flag3, flag4 from b_wide limit " + ROWS;
+
+  private SpiEbeanServer server;
+
+  @Setup
+  public void setup() {
+    server = BenchDatabase.create("wideRowRead", ROWS);
+  }
+
+  @TearDown
+  public void tearDown() {
+    server.shutdown(true, false);
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(ROWS)
+  public List<BWide> findList() {
+    return server.find(BWide.class)
+      .setMaxRows(ROWS)
+      .findList();
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(ROWS)
+  public void readBoxed(Blackhole bh) throws SQLException {
+    try (Connection connection = server.getPluginApi().getDataSource().getConnection();
+         PreparedStatement pstmt = connection.prepareStatement(SQL)) {
+      RsetDataReader reader = new RsetDataReader(server.getDataTimeZone(), pstmt.executeQuery());
+      try {
+        while (reader.next()) {
+          reader.resetColumnPosition();
+          for (int i = 0; i < 4; i++) {
+            bh.consume(reader.getInt());
+          }
+          for (int i = 0; i < 4; i++) {
+            bh.consume(reader.getLong());
+          }
+          for (int i = 0; i < 4; i++) {
+            bh.consume(reader.getDouble());
+          }
+          for (int i = 0; i < 4; i++) {
+            bh.consume(reader.getBoolean());
+          }
+        }
+      } finally {
+        reader.close();
+      }
+    }
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(ROWS)
+  public void readPrimitive(Blackhole bh) throws SQLException {
+    try (Connection connection = server.getPluginApi().getDataSource().getConnection();
+         PreparedStatement pstmt = connection.prepareStatement(SQL)) {
+      RsetDataReader reader = new RsetDataReader(server.getDataTimeZone(), pstmt.executeQuery());
+      try {
+        while (reader.next()) {
+          reader.resetColumnPosition();
+          for (int i = 0; i < 4; i++) {
+            bh.consume(reader.getIntValue());
+            bh.consume(reader.wasNull());
+          }
+          for (int i = 0; i < 4; i++) {
+            bh.consume(reader.getLongValue());
+            bh.consume(reader.wasNull());
+          }
+          for (int i = 0; i < 4; i++) {
+            bh.consume(reader.getDoubleValue());
+            bh.consume(reader.wasNull());
+          }
+          for (int i = 0; i < 4; i++) {
+            bh.consume(reader.getBooleanValue());
+            bh.consume(reader.wasNull());
+          }
+        }
+      } finally {
+        reader.close();
+      }
+    }
+  }
+}
@@ -0,0 +1,121 @@
+package io.ebean.benchmark.model;
+
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.OneToMany;
+import javax.persistence.Table;
+import javax.persistence.Version;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+@Entity
+@Table(name = "b_customer")
+public class BCustomer {
+
+  public enum Status {
+    NEW, ACTIVE, INACTIVE
+  }
+
+  @Id
+  Long id;
+
+  String name;
+
+  String email;
+
+  Status status;
+
+  BigDecimal creditLimit;
+
+  LocalDate registered;
+
+  Timestamp lastContact;
+
+  @Version
+  long version;
+
+  @OneToMany(mappedBy = "customer")
+  List<BOrder> orders = new ArrayList<>();
+
+  public BCustomer() {
+  }
+
+  public BCustomer(String name) {
+    this.name = name;
+  }
+
+  public Long getId() {
+    return id;
+  }
+
+  public void setId(Long id) {
+    this.id = id;
+  }
+
+  public String getName() {
+    return name;
+  }
+
+  public void setName(String name) {
+    this.name = name;
+  }
+
+  public String getEmail() {
+    return email;
+  }
+
+  public void setEmail(String email) {
+    this.email = email;
+  }
+
+  public Status getStatus() {
+    return status;
+  }
+
+  public void setStatus(Status status) {
+    this.status = status;
+  }
+
+  public BigDecimal getCreditLimit() {
+    return creditLimit;
+  }
+
+  public void setCreditLimit(BigDecimal creditLimit) {
+    this.creditLimit = creditLimit;
+  }
+
+  public LocalDate getRegistered() {
+    return registered;
+  }
+
+  public void setRegistered(LocalDate registered) {
+    this.registered = registered;
+  }
+
+  public Timestamp getLastContact() {
+    return lastContact;
+  }
+
+  public void setLastContact(Timestamp lastContact) {
+    this.lastContact = lastContact;
+  }
+
+  public long getVersion() {
+    return version;
+  }
+
+  public void setVersion(long version) {
+    this.version = version;
+  }
+
+  public List<BOrder> getOrders() {
+    return orders;
+  }
+
+  public void setOrders(List<BOrder> orders) {
+    this.orders = orders;
+  }
+}
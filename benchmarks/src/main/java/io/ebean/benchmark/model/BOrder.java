@@ -0,0 +1,86 @@
+package io.ebean.benchmark.model;
+
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.ManyToOne;
+import javax.persistence.Table;
+import javax.persistence.Version;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+@Entity
+@Table(name = "b_order")
+public class BOrder {
+
+  @Id
+  Long id;
+
+  @ManyToOne
+  BCustomer customer;
+
+  LocalDate orderDate;
+
+  BigDecimal amount;
+
+  String notes;
+
+  @Version
+  long version;
+
+  public BOrder() {
+  }
+
+  public BOrder(BCustomer customer, LocalDate orderDate, BigDecimal amount) {
+    this.customer = customer;
+    this.orderDate = orderDate;
+    this.amount = amount;
+  }
+
+  public Long getId() {
+    return id;
+  }
+
+  public void setId(Long id) {
+    this.id = id;
+  }
+
+  public BCustomer getCustomer() {
+    return customer;
+  }
+
+  public void setCustomer(BCustomer customer) {
+    this.customer = customer;
+  }
+
+  public LocalDate getOrderDate() {
+    return orderDate;
+  }
+
+  public void setOrderDate(LocalDate orderDate) {
+    this.orderDate = orderDate;
+  }
+
+  public BigDecimal getAmount() {
+    return amount;
+  }
+
+  public void setAmount(BigDecimal amount) {
+    this.amount = amount;
+  }
+
+  public String getNotes() {
+    return notes;
+  }
+
+  public void setNotes(String notes) {
+    this.notes = notes;
+  }
+
+  public long getVersion() {
+    return version;
+  }
+
+  public void setVersion(long version) {
+    this.version = version;
+  }
+}
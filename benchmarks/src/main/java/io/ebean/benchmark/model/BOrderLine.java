@@ -0,0 +1,106 @@
+package io.ebean.benchmark.model;
+
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.ManyToOne;
+import javax.persistence.Table;
+import javax.persistence.Version;
+import java.math.BigDecimal;
+
+@Entity
+@Table(name = "b_order_line")
+public class BOrderLine {
+
+  @Id
+  Long id;
+
+  @ManyToOne
+  BOrder order;
+
+  String product;
+
+  int quantity;
+
+  BigDecimal unitPrice;
+
+  double discount;
+
+  boolean shipped;
+
+  @Version
+  long version;
+
+  public BOrderLine() {
+  }
+
+  public BOrderLine(BOrder order, String product, int quantity, BigDecimal unitPrice) {
+    this.order = order;
+    this.product = product;
+    this.quantity = quantity;
+    this.unitPrice = unitPrice;
+  }
+
+  public Long getId() {
+    return id;
+  }
+
+  public void setId(Long id) {
+    this.id = id;
+  }
+
+  public BOrder getOrder() {
+    return order;
+  }
+
+  public void setOrder(BOrder order) {
+    this.order = order;
+  }
+
+  public String getProduct() {
+    return product;
+  }
+
+  public void setProduct(String product) {
+    this.product = product;
+  }
+
+  public int getQuantity() {
+    return quantity;
+  }
+
+  public void setQuantity(int quantity) {
+    this.quantity = quantity;
+  }
+
+  public BigDecimal getUnitPrice() {
+    return unitPrice;
+  }
+
+  public void setUnitPrice(BigDecimal unitPrice) {
+    this.unitPrice = unitPrice;
+  }
+
+  public double getDiscount() {
+    return discount;
+  }
+
+  public void setDiscount(double discount) {
+    this.discount = discount;
+  }
+
+  public boolean isShipped() {
+    return shipped;
+  }
+
+  public void setShipped(boolean shipped) {
+    this.shipped = shipped;
+  }
+
+  public long getVersion() {
+    return version;
+  }
+
+  public void setVersion(long version) {
+    this.version = version;
+  }
+}
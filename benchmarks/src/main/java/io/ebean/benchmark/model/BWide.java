@@ -0,0 +1,202 @@
+package io.ebean.benchmark.model;
+
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Table;
+
+/**
+ * Wide entity of primitive properties (for measuring allocation per row read).
+ */
+@Entity
+@Table(name = "b_wide")
+public class BWide {
+
+  @Id
+  Long id;
+
+  int count1;
+
+  int count2;
+
+  int count3;
+
+  int count4;
+
+  long total1;
+
+  long total2;
+
+  long total3;
+
+  long total4;
+
+  double ratio1;
+
+  double ratio2;
+
+  double ratio3;
+
+  double ratio4;
+
+  boolean flag1;
+
+  boolean flag2;
+
+  boolean flag3;
+
+  boolean flag4;
+
+  public BWide() {
+  }
+
+  public BWide(int seed) {
+    this.count1 = seed * 1 + 100000;
+    this.count2 = seed * 2 + 100000;
+    this.count3 = seed * 3 + 100000;
+    this.count4 = seed * 4 + 100000;
+    this.total1 = seed * 1L + 10_000_000_000L;
+    this.total2 = seed * 2L + 10_000_000_000L;
+    this.total3 = seed * 3L + 10_000_000_000L;
+    this.total4 = seed * 4L + 10_000_000_000L;
+    this.ratio1 = seed * 1.5d;
+    this.ratio2 = seed * 2.5d;
+    this.ratio3 = seed * 3.5d;
+    this.ratio4 = seed * 4.5d;
+    this.flag1 = seed % 2 == 0;
+    this.flag2 = seed % 3 == 0;
+    this.flag3 = seed % 4 == 0;
+    this.flag4 = seed % 5 == 0;
+  }
+
+  public Long getId() {
+    return id;
+  }
+
+  public int getCount1() {
+    return count1;
+  }
+
+  public void setCount1(int count1) {
+    this.count1 = count1;
+  }
+
+  public int getCount2() {
+    return count2;
+  }
+
+  public void setCount2(int count2) {
+    this.count2 = count2;
+  }
+
+  public int getCount3() {
+    return count3;
+  }
+
+  public void setCount3(int count3) {
+    this.count3 = count3;
+  }
+
+  public int getCount4() {
+    return count4;
+  }
+
+  public void setCount4(int count4) {
+    this.count4 = count4;
+  }
+
+  public long getTotal1() {
+    return total1;
+  }
+
+  public void setTotal1(long total1) {
+    this.total1 = total1;
+  }
+
+  public long getTotal2() {
+    return total2;
+  }
+
+  public void setTotal2(long total2) {
+    this.total2 = total2;
+  }
+
+  public long getTotal3() {
+    return total3;
+  }
+
+  public void setTotal3(long total3) {
+    this.total3 = total3;
+  }
+
+  public long getTotal4() {
+    return total4;
+  }
+
+  public void setTotal4(long total4) {
+    this.total4 = total4;
+  }
+
+  public double getRatio1() {
+    return ratio1;
+  }
+
+  public void setRatio1(double ratio1) {
+    this.ratio1 = ratio1;
+  }
+
+  public double getRatio2() {
+    return ratio2;
+  }
+
+  public void setRatio2(double ratio2) {
+    this.ratio2 = ratio2;
+  }
+
+  public double getRatio3() {
+    return ratio3;
+  }
+
+  public void setRatio3(double ratio3) {
+    this.ratio3 = ratio3;
+  }
+
+  public double getRatio4() {
+    return ratio4;
+  }
+
+  public void setRatio4(double ratio4) {
+    this.ratio4 = ratio4;
+  }
+
+  public boolean isFlag1() {
+    return flag1;
+  }
+
+  public void setFlag1(boolean flag1) {
+    this.flag1 = flag1;
+  }
+
+  public boolean isFlag2() {
+    return flag2;
+  }
+
+  public void setFlag2(boolean flag2) {
+    this.flag2 = flag2;
+  }
+
+  public boolean isFlag3() {
+    return flag3;
+  }
+
+  public void setFlag3(boolean flag3) {
+    this.flag3 = flag3;
+  }
+
+  public boolean isFlag4() {
+    return flag4;
+  }
+
+  public void setFlag4(boolean flag4) {
+    this.flag4 = flag4;
+  }
+}
@@ -0,0 +1,29 @@
+package io.ebeaninternal.server.core;
+
+/**
+ * Creates the (package private) CallStackFactory implementations for CallStackBenchmark.
+ */
+public final class CallStackFactories {
+
+  private CallStackFactories() {
+  }
+
+  /**
+   * Return the CallStackFactory of the given type (noop, default or stackWalker).
+   */
+  public static CallStackFactory create(String type, int maxCallStack) {
+    switch (type) {
+      case "noop":
+        return new NoopCallStackFactory();
+      case "default":
+        return new DefaultCallStackFactory(maxCallStack);
+      case "stackWalker":
+        if (!StackWalkerCallStackFactory.isSupported()) {
+          throw new IllegalStateException("StackWalker requires Java 9 or later");
+        }
+        return new StackWalkerCallStackFactory(maxCallStack);
+      default:
+        throw new IllegalArgumentException("Unknown CallStackFactory type " + type);
+    }
+  }
+}
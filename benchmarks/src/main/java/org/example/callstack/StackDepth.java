@@ -0,0 +1,20 @@
+package org.example.callstack;
+
+import io.ebean.bean.CallStack;
+import io.ebeaninternal.server.core.CallStackFactory;
+
+/**
+ * Creates a CallStack from application (non ebean) frames at a given stack depth.
+ */
+public final class StackDepth {
+
+  private StackDepth() {
+  }
+
+  /**
+   * Create the CallStack with depth application frames on the stack.
+   */
+  public static CallStack call(CallStackFactory factory, int depth) {
+    return depth <= 1 ? factory.createCallStack() : call(factory, depth - 1);
+  }
+}
@@ -22,6 +22,7 @@ import java.util.Set;
 import java.util.concurrent.Callable;
 import java.util.function.Consumer;
 import java.util.function.Predicate;
+import java.util.stream.Stream;
 
 /**
  * Provides the API for fetching and saving beans to a particular DataSource.
@@ -843,6 +844,18 @@ public interface EbeanServer {
   @Nonnull
   <T> QueryIterator<T> findIterate(Query<T> query, Transaction transaction);
 
+  /**
+   * Execute the query returning a lazy Stream of the beans.
+   * <p>
+   * The Stream should be closed (typically using try with resources) to close the
+   * underlying jdbc statement and resultSet if it is not fully consumed.
+   * </p>
+   *
+   * @see Query#findStream()
+   */
+  @Nonnull
+  <T> Stream<T> findStream(Query<T> query, Transaction transaction);
+
   /**
    * Execute the query visiting the each bean one at a time.
    * <p>
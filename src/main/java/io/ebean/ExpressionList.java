@@ -17,6 +17,7 @@ import java.util.Optional;
 import java.util.Set;
 import java.util.function.Consumer;
 import java.util.function.Predicate;
+import java.util.stream.Stream;
 
 /**
  * List of Expressions that make up a where or having clause.
@@ -173,6 +174,13 @@ public interface ExpressionList<T> {
    */
   QueryIterator<T> findIterate();
 
+  /**
+   * Execute the query returning a lazy Stream of the beans.
+   *
+   * @see Query#findStream()
+   */
+  Stream<T> findStream();
+
   /**
    * Execute the query process the beans one at a time.
    *
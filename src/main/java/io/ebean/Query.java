@@ -10,6 +10,7 @@ import java.util.Optional;
 import java.util.Set;
 import java.util.function.Consumer;
 import java.util.function.Predicate;
+import java.util.stream.Stream;
 
 /**
  * Object relational query for finding a List, Set, Map or single entity bean.
@@ -649,6 +650,36 @@ public interface Query<T> {
   @Nonnull
   QueryIterator<T> findIterate();
 
+  /**
+   * Execute the query returning a lazy Stream of the beans.
+   * <p>
+   * The beans are read from the resultSet as the stream is consumed such that not all the
+   * beans need to be held in memory. Like findIterate() this uses a "per graph" persistence
+   * context and the Stream should be closed (typically using try with resources) to close
+   * the jdbc statement and resultSet. The resultSet is also closed when all the beans have
+   * been consumed.
+   * </p>
+   * <p>
+   * The stream can be made parallel in which case chunks of beans are read from the
+   * resultSet and handed off to fork join workers. This suits CPU heavy processing of
+   * each bean without loading all the beans into a List.
+   * </p>
+   * <pre>{@code
+   *
+   *  try (Stream<Order> orders = ebeanServer.find(Order.class)
+   *     .where().eq("status", Order.Status.NEW)
+   *     .findStream()) {
+   *
+   *    List<Summary> summaries = orders.parallel()
+   *      .map(order -> summarise(order))
+   *      .collect(Collectors.toList());
+   *  }
+   *
+   * }</pre>
+   */
+  @Nonnull
+  Stream<T> findStream();
+
   /**
    * Execute the query processing the beans one at a time.
    * <p>
@@ -1551,6 +1582,53 @@ public interface Query<T> {
    */
   Query<T> setDisableLazyLoading(boolean disableLazyLoading);
 
+  /**
+   * Set true to execute the secondary queries (fetchQuery joins) of this query in parallel.
+   * <p>
+   * Independent secondary query paths are executed concurrently using background threads
+   * with each secondary query using its own transaction (and hence connection). The
+   * secondary queries do not see uncommitted changes made by the current transaction.
+   * </p>
+   * <p>
+   * The background threads are bounded by ServerConfig parallelQueryThreads and when they
+   * are all busy the secondary queries are executed by the calling thread.
+   * </p>
+   * <p>
+   * This can reduce the latency of queries that fetch a number of paths via secondary queries.
+   * </p>
+   */
+  Query<T> setParallelSecondaryQueries(boolean parallelSecondaryQueries);
+
+  /**
+   * Set true to use a double buffered iterator for findEach(), findEachWhile() and findIterate().
+   * <p>
+   * While the beans of the current buffer are processed the rows of the next buffer are read and
+   * its secondary queries (fetchQuery joins) executed using a background thread. The secondary
+   * queries each use their own transaction (and hence connection). The persistence context is
+   * reset per buffer as per normal findEach() processing.
+   * </p>
+   * <p>
+   * Prefetch only applies when the iteration is buffered (the query has fetchQuery joins or a
+   * lazy load batch size) and lazy loading is disabled, as the next buffer is loaded into the
+   * persistence and load context concurrently. The background threads are bounded by
+   * ServerConfig parallelQueryThreads.
+   * </p>
+   * <p>
+   * The consumer should avoid using the transaction of the query (for example by persisting
+   * with it) while iterating.
+   * </p>
+   * <pre>{@code
+   *
+   *  Ebean.find(Order.class)
+   *    .fetchQuery("customer")
+   *    .setDisableLazyLoading(true)
+   *    .setIteratePrefetch(true)
+   *    .findEach(order -> export(order));
+   *
+   * }</pre>
+   */
+  Query<T> setIteratePrefetch(boolean iteratePrefetch);
+
   /**
    * Returns the set of properties or paths that are unknown (do not map to known properties or paths).
    * <p>
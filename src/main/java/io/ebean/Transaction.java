@@ -436,6 +436,24 @@ public interface Transaction extends AutoCloseable {
    */
   void setBatchFlushOnMixed(boolean batchFlushOnMixed);
 
+  /**
+   * Set to true to execute batches in the background (pipelined) for bulk inserts and imports.
+   * <p>
+   * When the batch size is hit the batch is executed in the background while the application
+   * continues to persist (and bind) the next batch. Batches still execute in order and at most
+   * one batch is pending such that explicit flush, commit, flush on query and non-batched
+   * statements wait for the pending batch to complete with any error reported at that point.
+   * </p>
+   * <p>
+   * Note that the bean post execute processing occurs when the pending batch has completed
+   * (after the row counts are checked) and that the next batch is bound concurrently with execution on the same connection (which needs to
+   * be supported by the JDBC driver). Batches that require getGeneratedKeys are executed
+   * synchronously so typically this is used with {@link #setBatchGetGeneratedKeys(boolean)}
+   * false or with sequence based ids.
+   * </p>
+   */
+  void setBatchPipelined(boolean batchPipelined);
+
   /**
    * By default executing a query will automatically flush any batched
    * statements (persisted beans, executed UpdateSql etc).
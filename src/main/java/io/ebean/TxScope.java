@@ -50,6 +50,8 @@ public final class TxScope {
 
   private boolean skipCache;
 
+  private boolean concurrentPersistenceContext;
+
   private String label;
 
   private ArrayList<Class<? extends Throwable>> rollbackFor;
@@ -221,6 +223,26 @@ public final class TxScope {
     return this;
   }
 
+  /**
+   * Return true if the transaction should use a persistence context supporting concurrent access.
+   */
+  public boolean isConcurrentPersistenceContext() {
+    return concurrentPersistenceContext;
+  }
+
+  /**
+   * Set to true if the transaction should use a persistence context supporting concurrent access.
+   * <p>
+   * This is useful when beans are loaded into the persistence context of the transaction by
+   * multiple threads (such as parallel secondary queries) such that they do not contend on a
+   * single lock.
+   * </p>
+   */
+  public TxScope setConcurrentPersistenceContext(boolean concurrentPersistenceContext) {
+    this.concurrentPersistenceContext = concurrentPersistenceContext;
+    return this;
+  }
+
   /**
    * Return the label for the transaction.
    */
@@ -34,6 +34,37 @@ public interface ServerCache {
    */
   Object get(Object id);
 
+  /**
+   * Return the value for a read through lookup (find by id or query cache) where a miss
+   * results in the value being loaded and put into the cache.
+   * <p>
+   * Unlike get() the cache can return null for an entry that is close to its time to live
+   * expiry such that the caller refreshes it early.
+   * </p>
+   */
+  default Object getReadThrough(Object id) {
+    return get(id);
+  }
+
+  /**
+   * Start loading the value for the given key after a read through cache miss.
+   * <p>
+   * Return true if the caller should load the value and then call {@link #loadEnd(Object)}.
+   * Return false if a concurrent caller was loading the value for the same key and that load
+   * has completed (such that the cache should be read again).
+   * </p>
+   */
+  default boolean loadStart(Object id) {
+    return true;
+  }
+
+  /**
+   * End the load of the value for the given key (started via {@link #loadStart(Object)}).
+   */
+  default void loadEnd(Object id) {
+    // do nothing by default
+  }
+
   /**
    * Put all the values in the cache.
    */
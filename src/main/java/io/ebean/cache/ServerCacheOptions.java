@@ -12,6 +12,10 @@ public class ServerCacheOptions {
   private int maxIdleSecs;
   private int maxSecsToLive;
   private int trimFrequency;
+  private long offHeapMaxBytes;
+  private int earlyRefreshSecs;
+  private int nearMaxSize;
+  private int nearMaxSecsToLive;
 
   /**
    * Construct with no set options.
@@ -57,6 +61,18 @@ public class ServerCacheOptions {
     if (trimFrequency == 0) {
       trimFrequency = defaults.getTrimFrequency();
     }
+    if (offHeapMaxBytes == 0) {
+      offHeapMaxBytes = defaults.getOffHeapMaxBytes();
+    }
+    if (earlyRefreshSecs == 0) {
+      earlyRefreshSecs = defaults.getEarlyRefreshSecs();
+    }
+    if (nearMaxSize == 0) {
+      nearMaxSize = defaults.getNearMaxSize();
+    }
+    if (nearMaxSecsToLive == 0) {
+      nearMaxSecsToLive = defaults.getNearMaxSecsToLive();
+    }
     return this;
   }
 
@@ -70,6 +86,10 @@ public class ServerCacheOptions {
     copy.maxIdleSecs = maxIdleSecs;
     copy.maxSecsToLive = maxSecsToLive;
     copy.trimFrequency = trimFrequency;
+    copy.offHeapMaxBytes = offHeapMaxBytes;
+    copy.earlyRefreshSecs = earlyRefreshSecs;
+    copy.nearMaxSize = nearMaxSize;
+    copy.nearMaxSecsToLive = nearMaxSecsToLive;
     return copy;
   }
 
@@ -128,4 +148,77 @@ public class ServerCacheOptions {
   public void setTrimFrequency(int trimFrequency) {
     this.trimFrequency = trimFrequency;
   }
+
+  /**
+   * Return the maximum bytes of off heap memory used by the cache (0 means on heap).
+   */
+  public long getOffHeapMaxBytes() {
+    return offHeapMaxBytes;
+  }
+
+  /**
+   * Set the maximum bytes of off heap memory to use for the cache.
+   * <p>
+   * When set to a value greater than 0 the bean cache holds the cached bean data
+   * in a compact binary form in direct (off heap) memory.
+   * </p>
+   */
+  public void setOffHeapMaxBytes(long offHeapMaxBytes) {
+    this.offHeapMaxBytes = offHeapMaxBytes;
+  }
+
+  /**
+   * Return the early refresh window in seconds (0 means no early refresh).
+   */
+  public int getEarlyRefreshSecs() {
+    return earlyRefreshSecs;
+  }
+
+  /**
+   * Set the early refresh window in seconds before the time to live expiry.
+   * <p>
+   * Within this window read through lookups (find by id and query cache) refresh the entry
+   * with a probability that increases as the expiry gets closer. This spreads the reload of
+   * hot entries rather than having them all miss at their time to live.
+   * </p>
+   */
+  public void setEarlyRefreshSecs(int earlyRefreshSecs) {
+    this.earlyRefreshSecs = earlyRefreshSecs;
+  }
+
+  /**
+   * Return the maximum size of the near (on heap) tier (0 means no near tier).
+   */
+  public int getNearMaxSize() {
+    return nearMaxSize;
+  }
+
+  /**
+   * Set the maximum size of the near (on heap) tier.
+   * <p>
+   * When greater than 0 a remote or off heap cache has a small on heap near cache in front
+   * of it. The maxSize and maxSecsToLive options then apply to the remote or off heap tier.
+   * </p>
+   */
+  public void setNearMaxSize(int nearMaxSize) {
+    this.nearMaxSize = nearMaxSize;
+  }
+
+  /**
+   * Return the maximum time to live of entries in the near (on heap) tier.
+   */
+  public int getNearMaxSecsToLive() {
+    return nearMaxSecsToLive;
+  }
+
+  /**
+   * Set the maximum time to live of entries in the near (on heap) tier.
+   * <p>
+   * This bounds how stale a near entry can be when it is not invalidated (for example when
+   * the change was made by another application that does not send invalidation messages).
+   * </p>
+   */
+  public void setNearMaxSecsToLive(int nearMaxSecsToLive) {
+    this.nearMaxSecsToLive = nearMaxSecsToLive;
+  }
 }
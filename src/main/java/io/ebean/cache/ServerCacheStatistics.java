@@ -39,6 +39,22 @@ public class ServerCacheStatistics {
 
   protected long evictByLRU;
 
+  protected long byteCount;
+
+  protected long maxBytes;
+
+  protected long loadCount;
+
+  protected long coalescedLoadCount;
+
+  protected long earlyRefreshCount;
+
+  protected int nearSize;
+
+  protected long nearHitCount;
+
+  protected long nearMissCount;
+
   @Override
   public String toString() {
     //noinspection StringBufferReplaceableByString
@@ -58,6 +74,19 @@ public class ServerCacheStatistics {
     sb.append(" evictByLRU:").append(evictByLRU);
     sb.append(" evictionRunCount:").append(evictionRunCount);
     sb.append(" evictionRunMicros:").append(evictionRunMicros);
+    sb.append(" load:").append(loadCount);
+    sb.append(" coalescedLoad:").append(coalescedLoadCount);
+    sb.append(" earlyRefresh:").append(earlyRefreshCount);
+    if (maxBytes > 0) {
+      sb.append(" bytes:").append(byteCount);
+      sb.append(" maxBytes:").append(maxBytes);
+    }
+    if (nearSize > 0 || nearHitCount + nearMissCount > 0) {
+      sb.append(" nearSize:").append(nearSize);
+      sb.append(" nearHitRatio:").append(getNearHitRatio());
+      sb.append(" nearHit:").append(nearHitCount);
+      sb.append(" nearMiss:").append(nearMissCount);
+    }
     return sb.toString();
   }
 
@@ -76,6 +105,22 @@ public class ServerCacheStatistics {
     }
   }
 
+  /**
+   * Returns an int from 0 to 100 (percentage) for the hit ratio of the near (on heap) tier.
+   * <p>
+   * For a tiered cache the near misses go to the remote (or off heap) tier and the
+   * hit and miss counts (and {@link #getHitRatio()}) are those of that tier.
+   * </p>
+   */
+  public int getNearHitRatio() {
+    long totalCount = nearHitCount + nearMissCount;
+    if (totalCount == 0) {
+      return 0;
+    } else {
+      return (int) (nearHitCount * 100 / totalCount);
+    }
+  }
+
   /**
    * Return the name of the cache.
    */
@@ -275,4 +320,116 @@ public class ServerCacheStatistics {
   public long getEvictByLRU() {
     return evictByLRU;
   }
+
+  /**
+   * Set the number of bytes used by the cache entries (off heap caches).
+   */
+  public void setByteCount(long byteCount) {
+    this.byteCount = byteCount;
+  }
+
+  /**
+   * Return the number of bytes used by the cache entries (off heap caches).
+   */
+  public long getByteCount() {
+    return byteCount;
+  }
+
+  /**
+   * Set the maximum number of bytes for the cache (off heap caches).
+   */
+  public void setMaxBytes(long maxBytes) {
+    this.maxBytes = maxBytes;
+  }
+
+  /**
+   * Return the maximum number of bytes for the cache (off heap caches).
+   */
+  public long getMaxBytes() {
+    return maxBytes;
+  }
+
+  /**
+   * Set the count of loads after a cache miss.
+   */
+  public void setLoadCount(long loadCount) {
+    this.loadCount = loadCount;
+  }
+
+  /**
+   * Return the count of loads after a cache miss.
+   */
+  public long getLoadCount() {
+    return loadCount;
+  }
+
+  /**
+   * Set the count of cache misses that waited on a concurrent load of the same key.
+   */
+  public void setCoalescedLoadCount(long coalescedLoadCount) {
+    this.coalescedLoadCount = coalescedLoadCount;
+  }
+
+  /**
+   * Return the count of cache misses that waited on a concurrent load of the same key.
+   */
+  public long getCoalescedLoadCount() {
+    return coalescedLoadCount;
+  }
+
+  /**
+   * Set the count of entries refreshed early (before their time to live expiry).
+   */
+  public void setEarlyRefreshCount(long earlyRefreshCount) {
+    this.earlyRefreshCount = earlyRefreshCount;
+  }
+
+  /**
+   * Return the count of entries refreshed early (before their time to live expiry).
+   */
+  public long getEarlyRefreshCount() {
+    return earlyRefreshCount;
+  }
+
+  /**
+   * Set the size of the near (on heap) tier.
+   */
+  public void setNearSize(int nearSize) {
+    this.nearSize = nearSize;
+  }
+
+  /**
+   * Return the size of the near (on heap) tier.
+   */
+  public int getNearSize() {
+    return nearSize;
+  }
+
+  /**
+   * Set the hit count of the near (on heap) tier.
+   */
+  public void setNearHitCount(long nearHitCount) {
+    this.nearHitCount = nearHitCount;
+  }
+
+  /**
+   * Return the hit count of the near (on heap) tier.
+   */
+  public long getNearHitCount() {
+    return nearHitCount;
+  }
+
+  /**
+   * Set the miss count of the near (on heap) tier.
+   */
+  public void setNearMissCount(long nearMissCount) {
+    this.nearMissCount = nearMissCount;
+  }
+
+  /**
+   * Return the miss count of the near (on heap) tier.
+   */
+  public long getNearMissCount() {
+    return nearMissCount;
+  }
 }
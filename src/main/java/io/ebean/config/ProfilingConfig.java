@@ -30,6 +30,11 @@ public class ProfilingConfig {
    */
   private long profilesPerFile = 1000;
 
+  /**
+   * The number of slots in the ring buffer used to collect transaction profiles.
+   */
+  private int bufferSize = 4096;
+
   private String directory = "profiling";
 
   /**
@@ -104,6 +109,24 @@ public class ProfilingConfig {
     this.profilesPerFile = profilesPerFile;
   }
 
+  /**
+   * Return the number of slots in the ring buffer used to collect transaction profiles.
+   */
+  public int getBufferSize() {
+    return bufferSize;
+  }
+
+  /**
+   * Set the number of slots in the ring buffer used to collect transaction profiles.
+   * <p>
+   * Each slot holds a transaction summary or 4 verbose events. When the buffer is full
+   * transaction profiles are dropped rather than blocking.
+   * </p>
+   */
+  public void setBufferSize(int bufferSize) {
+    this.bufferSize = bufferSize;
+  }
+
   /**
    * Return the directory profiling files are put into.
    */
@@ -128,6 +151,7 @@ public class ProfilingConfig {
 
     directory = p.get("profiling.directory", directory);
     profilesPerFile = p.getLong("profiling.profilesPerFile", profilesPerFile);
+    bufferSize = p.getInt("profiling.bufferSize", bufferSize);
     minimumMicros = p.getLong("profiling.minimumMicros", minimumMicros);
 
     String includeIds = p.get("profiling.includeProfileIds");
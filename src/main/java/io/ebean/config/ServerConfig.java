@@ -8,6 +8,7 @@ import io.ebean.Transaction;
 import io.ebean.annotation.Encrypted;
 import io.ebean.annotation.PersistBatch;
 import io.ebean.annotation.Platform;
+import io.ebean.cache.ServerCacheOptions;
 import io.ebean.cache.ServerCachePlugin;
 import io.ebean.config.dbplatform.DatabasePlatform;
 import io.ebean.config.dbplatform.DbEncrypt;
@@ -231,6 +232,16 @@ public class ServerConfig {
    */
   private int lazyLoadBatchSize = 10;
 
+  /**
+   * Set to true to adapt the lazy loading batch size per origin and path.
+   */
+  private boolean adaptiveLazyLoadBatchSize;
+
+  /**
+   * The maximum number of threads executing parallel secondary queries and iterate prefetch.
+   */
+  private int parallelQueryThreads = 4;
+
   /**
    * The default batch size for 'query joins'.
    */
@@ -416,6 +427,8 @@ public class ServerConfig {
 
   private int maxCallStack = 5;
 
+  private boolean callStackWalker;
+
   private boolean transactionRollbackOnChecked = true;
 
   // configuration for the background executor service (thread pool)
@@ -423,6 +436,11 @@ public class ServerConfig {
   private int backgroundExecutorSchedulePoolSize = 1;
   private int backgroundExecutorShutdownSecs = 30;
 
+  // configuration for the post commit processing
+
+  private int postCommitWorkers = 1;
+  private int postCommitQueueCapacity = 10000;
+
   // defaults for the L2 bean caching
 
   private int cacheMaxSize = 10000;
@@ -434,6 +452,16 @@ public class ServerConfig {
   private int queryCacheMaxSize = 1000;
   private int queryCacheMaxIdleTime = 600;
   private int queryCacheMaxTimeToLive = 60 * 60 * 6;
+
+  // defaults for the near (on heap) tier in front of remote or off heap L2 caches
+
+  private int cacheNearMaxSize;
+  private int cacheNearMaxTimeToLive = 60;
+
+  /**
+   * Bean cache options explicitly set per bean type (overriding CacheBeanTuning and defaults).
+   */
+  private Map<Class<?>, ServerCacheOptions> beanCacheOptions = new HashMap<>();
   private Object objectMapper;
 
   /**
@@ -453,6 +481,21 @@ public class ServerConfig {
    */
   private int queryPlanTTLSeconds = 60 * 5;
 
+  /**
+   * Maximum number of query plans per bean type - defaults to 1000 (0 for unbounded).
+   */
+  private int queryPlanCacheMaxSize = 1000;
+
+  /**
+   * Maximum number of query plans across all bean types - defaults to 20000 (0 for unbounded).
+   */
+  private int queryPlanCacheMaxSizeGlobal = 20000;
+
+  /**
+   * Maximum number of PreparedStatements cached per transaction for reuse - defaults to 20 (0 to disable).
+   */
+  private int transactionPstmtCacheSize = 20;
+
   /**
    * Set to true to globally disable L2 caching (typically for performance testing).
    */
@@ -920,6 +963,48 @@ public class ServerConfig {
     this.lazyLoadBatchSize = lazyLoadBatchSize;
   }
 
+  /**
+   * Return true if the lazy loading batch size adapts per origin and path.
+   */
+  public boolean isAdaptiveLazyLoadBatchSize() {
+    return adaptiveLazyLoadBatchSize;
+  }
+
+  /**
+   * Set to true to adapt the lazy loading batch size per query origin and path.
+   * <p>
+   * The lazy loading batch size starts at the default lazy load batch size and based on the
+   * observed number of beans or collections loaded per lazy loading query is increased (when
+   * batches are typically full) or decreased (when batches are typically mostly empty). The
+   * batch size is bounded by the max IN binding of the database platform.
+   * </p>
+   * <p>
+   * Paths with an explicit lazy loading batch size (via FetchConfig) are not adapted. The
+   * current batch sizes are available via MetaInfoManager.collectLazyLoadBatchSizes().
+   * </p>
+   */
+  public void setAdaptiveLazyLoadBatchSize(boolean adaptiveLazyLoadBatchSize) {
+    this.adaptiveLazyLoadBatchSize = adaptiveLazyLoadBatchSize;
+  }
+
+  /**
+   * Return the maximum number of threads executing parallel secondary queries and iterate prefetch.
+   */
+  public int getParallelQueryThreads() {
+    return parallelQueryThreads;
+  }
+
+  /**
+   * Set the maximum number of threads executing parallel secondary queries and findEach prefetch.
+   * <p>
+   * Each of these queries uses its own connection. When all the threads are busy the query is
+   * executed by the calling thread instead. Defaults to 4.
+   * </p>
+   */
+  public void setParallelQueryThreads(int parallelQueryThreads) {
+    this.parallelQueryThreads = parallelQueryThreads;
+  }
+
   /**
    * Set the number of sequences to fetch/preallocate when using DB sequences.
    * <p>
@@ -1256,6 +1341,25 @@ public class ServerConfig {
     this.maxCallStack = maxCallStack;
   }
 
+  /**
+   * Return true if StackWalker (Java 9+) is used to create the call stacks for origin location.
+   */
+  public boolean isCallStackWalker() {
+    return callStackWalker;
+  }
+
+  /**
+   * Set to true to use StackWalker (Java 9+) to create the call stacks for origin location.
+   * <p>
+   * This caches the call stack per call site and its cost does not grow with the depth of the
+   * stack. It is slower than the default on shallow stacks so is typically only worthwhile for
+   * applications with deep stacks (such as with frameworks and proxies). It is ignored on Java 8.
+   * </p>
+   */
+  public void setCallStackWalker(boolean callStackWalker) {
+    this.callStackWalker = callStackWalker;
+  }
+
   /**
    * Return true if transactions should rollback on checked exceptions.
    */
@@ -1300,6 +1404,47 @@ public class ServerConfig {
     this.backgroundExecutorShutdownSecs = backgroundExecutorShutdownSecs;
   }
 
+  /**
+   * Return the number of worker threads performing post commit processing. Defaults to 1.
+   */
+  public int getPostCommitWorkers() {
+    return postCommitWorkers;
+  }
+
+  /**
+   * Set the number of worker threads performing post commit processing.
+   * <p>
+   * The workers apply L2 cache changes, notify persist listeners, broadcast to the cluster and
+   * update the document store coalescing the commits that are queued into a single batch.
+   * </p>
+   * <p>
+   * The L2 cache changes, persist listeners and cluster broadcast are performed by one worker
+   * at a time (in commit order) such that additional workers only process document store
+   * updates concurrently.
+   * </p>
+   */
+  public void setPostCommitWorkers(int postCommitWorkers) {
+    this.postCommitWorkers = postCommitWorkers;
+  }
+
+  /**
+   * Return the maximum number of commits queued for post commit processing. Defaults to 10000.
+   */
+  public int getPostCommitQueueCapacity() {
+    return postCommitQueueCapacity;
+  }
+
+  /**
+   * Set the maximum number of commits queued for post commit processing.
+   * <p>
+   * When the queue is full the committing thread waits for space in the queue (slowing it down)
+   * such that the post commit processing remains in commit order.
+   * </p>
+   */
+  public void setPostCommitQueueCapacity(int postCommitQueueCapacity) {
+    this.postCommitQueueCapacity = postCommitQueueCapacity;
+  }
+
   /**
    * Return the L2 cache default max size.
    */
@@ -1342,6 +1487,38 @@ public class ServerConfig {
     this.cacheMaxTimeToLive = cacheMaxTimeToLive;
   }
 
+  /**
+   * Return the L2 cache default max size of the near (on heap) tier.
+   */
+  public int getCacheNearMaxSize() {
+    return cacheNearMaxSize;
+  }
+
+  /**
+   * Set the L2 cache default max size of the near (on heap) tier.
+   * <p>
+   * When greater than 0 remote (ServerCachePlugin) and off heap caches have a small on heap
+   * near cache in front of them such that hot entries are read without the remote call.
+   * </p>
+   */
+  public void setCacheNearMaxSize(int cacheNearMaxSize) {
+    this.cacheNearMaxSize = cacheNearMaxSize;
+  }
+
+  /**
+   * Return the L2 cache default max time to live in seconds of the near (on heap) tier.
+   */
+  public int getCacheNearMaxTimeToLive() {
+    return cacheNearMaxTimeToLive;
+  }
+
+  /**
+   * Set the L2 cache default max time to live in seconds of the near (on heap) tier.
+   */
+  public void setCacheNearMaxTimeToLive(int cacheNearMaxTimeToLive) {
+    this.cacheNearMaxTimeToLive = cacheNearMaxTimeToLive;
+  }
+
   /**
    * Return the L2 query cache default max size.
    */
@@ -1384,6 +1561,25 @@ public class ServerConfig {
     this.queryCacheMaxTimeToLive = queryCacheMaxTimeToLive;
   }
 
+  /**
+   * Return the bean cache options explicitly set per bean type.
+   */
+  public Map<Class<?>, ServerCacheOptions> getBeanCacheOptions() {
+    return beanCacheOptions;
+  }
+
+  /**
+   * Set the bean cache options for a given bean type.
+   * <p>
+   * These options take precedence over the <code>@CacheBeanTuning</code> annotation with
+   * any unset options taking the default values. This is used to select the off heap bean
+   * cache for a given bean type via {@link ServerCacheOptions#setOffHeapMaxBytes(long)}.
+   * </p>
+   */
+  public void putBeanCacheOptions(Class<?> beanType, ServerCacheOptions options) {
+    beanCacheOptions.put(beanType, options);
+  }
+
   /**
    * Return the NamingConvention.
    * <p>
@@ -2762,7 +2958,11 @@ public class ServerConfig {
     }
     loadDocStoreSettings(p);
 
+    callStackWalker = p.getBoolean("callStackWalker", callStackWalker);
     queryPlanTTLSeconds = p.getInt("queryPlanTTLSeconds", queryPlanTTLSeconds);
+    queryPlanCacheMaxSize = p.getInt("queryPlanCacheMaxSize", queryPlanCacheMaxSize);
+    queryPlanCacheMaxSizeGlobal = p.getInt("queryPlanCacheMaxSizeGlobal", queryPlanCacheMaxSizeGlobal);
+    transactionPstmtCacheSize = p.getInt("transactionPstmtCacheSize", transactionPstmtCacheSize);
     slowQueryMillis = p.getLong("slowQueryMillis", slowQueryMillis);
     docStoreOnly = p.getBoolean("docStoreOnly", docStoreOnly);
     disableL2Cache = p.getBoolean("disableL2Cache", disableL2Cache);
@@ -2775,6 +2975,8 @@ public class ServerConfig {
 
     backgroundExecutorSchedulePoolSize = p.getInt("backgroundExecutorSchedulePoolSize", backgroundExecutorSchedulePoolSize);
     backgroundExecutorShutdownSecs = p.getInt("backgroundExecutorShutdownSecs", backgroundExecutorShutdownSecs);
+    postCommitWorkers = p.getInt("postCommitWorkers", postCommitWorkers);
+    postCommitQueueCapacity = p.getInt("postCommitQueueCapacity", postCommitQueueCapacity);
     disableClasspathSearch = p.getBoolean("disableClasspathSearch", disableClasspathSearch);
     currentUserProvider = p.createInstance(CurrentUserProvider.class, "currentUserProvider", currentUserProvider);
     databasePlatform = p.createInstance(DatabasePlatform.class, "databasePlatform", databasePlatform);
@@ -2832,6 +3034,8 @@ public class ServerConfig {
     jodaLocalTimeMode = p.get("jodaLocalTimeMode", jodaLocalTimeMode);
 
     lazyLoadBatchSize = p.getInt("lazyLoadBatchSize", lazyLoadBatchSize);
+    adaptiveLazyLoadBatchSize = p.getBoolean("adaptiveLazyLoadBatchSize", adaptiveLazyLoadBatchSize);
+    parallelQueryThreads = p.getInt("parallelQueryThreads", parallelQueryThreads);
     queryBatchSize = p.getInt("queryBatchSize", queryBatchSize);
 
     jsonInclude = p.getEnum(JsonConfig.Include.class, "jsonInclude", jsonInclude);
@@ -3050,6 +3254,59 @@ public class ServerConfig {
     this.queryPlanTTLSeconds = queryPlanTTLSeconds;
   }
 
+  /**
+   * Return the maximum number of query plans cached per bean type.
+   */
+  public int getQueryPlanCacheMaxSize() {
+    return queryPlanCacheMaxSize;
+  }
+
+  /**
+   * Set the maximum number of query plans cached per bean type (0 for unbounded).
+   * <p>
+   * When exceeded the least frequently used plans for the bean type are evicted.
+   * </p>
+   */
+  public void setQueryPlanCacheMaxSize(int queryPlanCacheMaxSize) {
+    this.queryPlanCacheMaxSize = queryPlanCacheMaxSize;
+  }
+
+  /**
+   * Return the maximum number of query plans cached across all bean types.
+   */
+  public int getQueryPlanCacheMaxSizeGlobal() {
+    return queryPlanCacheMaxSizeGlobal;
+  }
+
+  /**
+   * Set the maximum number of query plans cached across all bean types (0 for unbounded).
+   * <p>
+   * When exceeded the bean type adding a plan evicts its least frequently used plans.
+   * </p>
+   */
+  public void setQueryPlanCacheMaxSizeGlobal(int queryPlanCacheMaxSizeGlobal) {
+    this.queryPlanCacheMaxSizeGlobal = queryPlanCacheMaxSizeGlobal;
+  }
+
+  /**
+   * Return the maximum number of PreparedStatements cached per transaction.
+   */
+  public int getTransactionPstmtCacheSize() {
+    return transactionPstmtCacheSize;
+  }
+
+  /**
+   * Set the maximum number of PreparedStatements cached per transaction (0 to disable).
+   * <p>
+   * Statements for queries and non-batched inserts, updates and deletes are reused when the
+   * same SQL is executed again in the transaction. The least recently used statements are
+   * closed when over this size.
+   * </p>
+   */
+  public void setTransactionPstmtCacheSize(int transactionPstmtCacheSize) {
+    this.transactionPstmtCacheSize = transactionPstmtCacheSize;
+  }
+
   /**
    * Run the DB migration against the DataSource.
    */
@@ -194,6 +194,23 @@ public class DatabasePlatform {
    */
   protected int maxConstraintNameLength = 60;
 
+  /**
+   * The maximum number of bind values used in an IN clause (such as for batch lazy loading).
+   * Platforms with a lower (or known higher) limit set their own value.
+   */
+  protected int maxInBinding = 1000;
+
+  /**
+   * The maximum number of rows in a multi-row insert (0 for multi-row insert not used).
+   * Multi-row insert is opt-in on all platforms.
+   */
+  protected int multiRowInsertMax;
+
+  /**
+   * True if getGeneratedKeys returns the keys of all rows of a multi-row insert.
+   */
+  protected boolean multiRowInsertGeneratedKeys;
+
   protected boolean supportsNativeIlike;
 
   protected SqlExceptionTranslator exceptionTranslator = new SqlCodeTranslator();
@@ -308,6 +325,62 @@ public class DatabasePlatform {
     return maxTableNameLength;
   }
 
+  /**
+   * Return the maximum number of bind values used in an IN clause.
+   * <p>
+   * This bounds the batch size used when lazy loading (divided by the number of id columns
+   * for composite ids). For example, this is 1000 for Oracle (IN list limit) and 2000 for
+   * SQL Server (2100 parameters per statement).
+   * </p>
+   */
+  public int getMaxInBinding() {
+    return maxInBinding;
+  }
+
+  /**
+   * Return the maximum number of rows in a multi-row insert (0 when not used which is the default).
+   * <p>
+   * Multi-row insert is opt-in on all platforms (including Postgres and MySQL) as it changes
+   * saveAll() and insertAll() to use batch mode. When set the inserts of saveAll() and
+   * insertAll() are executed as multi-row <code>insert ... values (...),(...)</code>
+   * statements rather than JDBC batch. Other batched inserts continue to use JDBC batch.
+   * </p>
+   * <pre>{@code
+   *
+   *   // opt-in to multi-row insert (with Postgres or MySQL)
+   *   serverConfig.getDatabasePlatform().setMultiRowInsertMax(1000);
+   *
+   * }</pre>
+   */
+  public int getMultiRowInsertMax() {
+    return multiRowInsertMax;
+  }
+
+  /**
+   * Set the maximum number of rows in a multi-row insert (0 to not use multi-row insert).
+   */
+  public void setMultiRowInsertMax(int multiRowInsertMax) {
+    this.multiRowInsertMax = multiRowInsertMax;
+  }
+
+  /**
+   * Return true if getGeneratedKeys returns the keys for all rows of a multi-row insert.
+   * <p>
+   * When false multi-row insert is only used when the id values are already known (such
+   * as when using sequences).
+   * </p>
+   */
+  public boolean isMultiRowInsertGeneratedKeys() {
+    return multiRowInsertGeneratedKeys;
+  }
+
+  /**
+   * Set to true if getGeneratedKeys returns the keys for all rows of a multi-row insert.
+   */
+  public void setMultiRowInsertGeneratedKeys(boolean multiRowInsertGeneratedKeys) {
+    this.multiRowInsertGeneratedKeys = multiRowInsertGeneratedKeys;
+  }
+
   /**
    * Return the maximum constraint name allowed for the platform.
    */
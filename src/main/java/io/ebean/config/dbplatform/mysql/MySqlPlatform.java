@@ -27,6 +27,8 @@ public class MySqlPlatform extends DatabasePlatform {
     this.platform = Platform.MYSQL;
     this.useExtraTransactionOnIterateSecondaryQueries = true;
     this.selectCountWithAlias = true;
+    // supports multi-row insert (opt-in via setMultiRowInsertMax) with generated keys
+    this.multiRowInsertGeneratedKeys = true;
     this.dbEncrypt = new MySqlDbEncrypt();
     this.historySupport = new MySqlHistorySupport();
     this.columnAliasPrefix = null;
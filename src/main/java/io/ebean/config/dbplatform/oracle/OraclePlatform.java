@@ -25,6 +25,8 @@ public class OraclePlatform extends DatabasePlatform {
     this.platform = Platform.ORACLE;
     this.maxTableNameLength = 30;
     this.maxConstraintNameLength = 30;
+    // ORA-01795 maximum number of expressions in a list is 1000
+    this.maxInBinding = 1000;
     this.dbEncrypt = new OracleDbEncrypt();
     this.sqlLimiter = new RownumSqlLimiter();
     this.basicSqlLimiter = new BasicSqlAnsiLimiter();
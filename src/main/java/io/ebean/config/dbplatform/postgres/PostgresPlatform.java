@@ -24,11 +24,15 @@ public class PostgresPlatform extends DatabasePlatform {
   public PostgresPlatform() {
     super();
     this.platform = Platform.POSTGRES;
+    // maximum of 32767 bind values per statement (leaving room for other bind values)
+    this.maxInBinding = 32000;
     this.supportsNativeIlike = true;
     this.selectCountWithAlias = true;
     this.blobDbType = Types.LONGVARBINARY;
     this.clobDbType = Types.VARCHAR;
     this.nativeUuidType = true;
+    // supports multi-row insert (opt-in via setMultiRowInsertMax) with generated keys
+    this.multiRowInsertGeneratedKeys = true;
     this.columnAliasPrefix = null;
 
     this.dbEncrypt = new PostgresDbEncrypt();
@@ -13,6 +13,8 @@ public class SQLitePlatform extends DatabasePlatform {
   public SQLitePlatform() {
     super();
     this.platform = Platform.SQLITE;
+    // SQLITE_MAX_VARIABLE_NUMBER defaults to 999 (leaving room for other bind values)
+    this.maxInBinding = 900;
     this.dbIdentity.setIdType(IdType.IDENTITY);
     this.dbIdentity.setSupportsGetGeneratedKeys(false);
     this.dbIdentity.setSupportsSequence(false);
@@ -23,6 +23,8 @@ abstract class SqlServerBasePlatform extends DatabasePlatform {
   SqlServerBasePlatform() {
     super();
     this.platform = Platform.SQLSERVER;
+    // maximum of 2100 parameters per statement (leaving room for other bind values)
+    this.maxInBinding = 2000;
     // disable persistBatchOnCascade mode for
     // SQL Server unless we are using sequences
     this.persistBatchOnCascade = PersistBatch.NONE;
@@ -35,4 +35,40 @@ public interface MetaInfoManager {
    */
   List<MetaOrmQueryNode> collectNodeStatistics(boolean reset);
 
+  /**
+   * Collect and return the adaptive lazy loading batch sizes.
+   * <p>
+   * These show the lazy loading batch size chosen for each origin point and relative path
+   * (empty unless ServerConfig adaptiveLazyLoadBatchSize is enabled).
+   * </p>
+   */
+  List<MetaLazyLoadBatchSize> collectLazyLoadBatchSizes();
+
+  /**
+   * Collect and return the query plan cache hit, miss and eviction statistics.
+   * <p>
+   * Returns the statistics for each bean type that has used the query plan cache.
+   * </p>
+   *
+   * @param reset Set to true to reset the hit, miss and eviction counts after collection.
+   */
+  List<MetaQueryPlanCache> collectQueryPlanCacheStatistics(boolean reset);
+
+  /**
+   * Collect and return the PreparedStatement cache hit, miss and eviction statistics.
+   * <p>
+   * These are the totals across all the transactions (statements are cached per transaction).
+   * </p>
+   *
+   * @param reset Set to true to reset the hit, miss and eviction counts after collection.
+   */
+  MetaPstmtCache collectPstmtCacheStatistics(boolean reset);
+
+  /**
+   * Collect and return the post commit processing statistics including the queue depth.
+   *
+   * @param reset Set to true to reset the counts after collection.
+   */
+  MetaPostCommit collectPostCommitStatistics(boolean reset);
+
 }
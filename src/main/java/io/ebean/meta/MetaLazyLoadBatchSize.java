@@ -0,0 +1,49 @@
+package io.ebean.meta;
+
+import io.ebean.bean.ObjectGraphNode;
+
+/**
+ * The adaptive lazy loading batch size for a given object graph origin and path.
+ * <p>
+ * These show the batch size chosen for lazy loading along with the observations
+ * (number of beans or collections loaded per lazy loading query) it was based on.
+ * </p>
+ */
+public interface MetaLazyLoadBatchSize {
+
+  /**
+   * Return the ObjectGraphNode which has the origin point and relative path.
+   */
+  ObjectGraphNode getNode();
+
+  /**
+   * Return the initial (default) batch size.
+   */
+  int getInitialBatchSize();
+
+  /**
+   * Return the current batch size.
+   */
+  int getBatchSize();
+
+  /**
+   * Return the total number of lazy loading queries observed.
+   */
+  long getLoadCount();
+
+  /**
+   * Return the total number of beans or collections loaded by the lazy loading queries.
+   */
+  long getLoadedTotal();
+
+  /**
+   * Return the number of times the batch size was increased.
+   */
+  int getIncreaseCount();
+
+  /**
+   * Return the number of times the batch size was decreased.
+   */
+  int getDecreaseCount();
+
+}
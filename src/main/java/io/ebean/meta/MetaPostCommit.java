@@ -0,0 +1,38 @@
+package io.ebean.meta;
+
+/**
+ * The post commit processing statistics.
+ * <p>
+ * Post commit processing (L2 cache changes, persist listeners, cluster broadcast and document
+ * store updates) is queued and performed by a small fixed set of workers that coalesce the
+ * processing of the commits that are queued into a single batch.
+ * </p>
+ */
+public interface MetaPostCommit {
+
+  /**
+   * Return the current number of commits queued for processing.
+   */
+  int getQueueDepth();
+
+  /**
+   * Return the maximum number of commits processed together in a single batch.
+   */
+  long getMaxBatchSize();
+
+  /**
+   * Return the number of commits processed.
+   */
+  long getCommitCount();
+
+  /**
+   * Return the number of batches processed (each batch coalescing one or more commits).
+   */
+  long getBatchCount();
+
+  /**
+   * Return the number of commits where the committing thread waited due to the queue being full.
+   */
+  long getQueueFullCount();
+
+}
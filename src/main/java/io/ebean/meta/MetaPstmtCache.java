@@ -0,0 +1,32 @@
+package io.ebean.meta;
+
+/**
+ * The PreparedStatement cache statistics.
+ * <p>
+ * PreparedStatements for queries and non-batched inserts, updates and deletes are cached
+ * per transaction and reused when the same SQL is executed again in the transaction.
+ * </p>
+ */
+public interface MetaPstmtCache {
+
+  /**
+   * Return the number of times a PreparedStatement was reused.
+   */
+  long getHitCount();
+
+  /**
+   * Return the number of times a PreparedStatement was not in the cache (and was prepared).
+   */
+  long getMissCount();
+
+  /**
+   * Return the number of PreparedStatements closed due to the cache size limit.
+   */
+  long getEvictCount();
+
+  /**
+   * Return the hit ratio as a percentage (0 to 100).
+   */
+  int getHitRatio();
+
+}
@@ -0,0 +1,42 @@
+package io.ebean.meta;
+
+/**
+ * The query plan cache statistics for a given bean type.
+ * <p>
+ * The query plan cache is bounded (per bean type and globally) with the least frequently
+ * used plans evicted when over the limit.
+ * </p>
+ */
+public interface MetaQueryPlanCache {
+
+  /**
+   * Return the full name of the bean type.
+   */
+  String getName();
+
+  /**
+   * Return the maximum number of plans for the bean type (0 for unbounded).
+   */
+  int getMaxSize();
+
+  /**
+   * Return the current number of plans in the cache.
+   */
+  int getSize();
+
+  /**
+   * Return the number of times a query plan was found in the cache.
+   */
+  long getHitCount();
+
+  /**
+   * Return the number of times a query plan was not found in the cache (and was built).
+   */
+  long getMissCount();
+
+  /**
+   * Return the number of plans evicted due to the size limits.
+   */
+  long getEvictCount();
+
+}
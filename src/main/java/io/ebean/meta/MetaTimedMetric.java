@@ -46,6 +46,36 @@ public interface MetaTimedMetric {
    */
   long getMean();
 
+  /**
+   * Return the execution time in micros at the given percentile (for example 99 or 99.9).
+   * <p>
+   * This is derived from a latency histogram with buckets up to 6.25% wide and returns
+   * the upper value of the bucket (bounded by the max). Returns 0 when there are no executions.
+   * </p>
+   */
+  long getPercentile(double percentile);
+
+  /**
+   * Return the median execution time in micros.
+   */
+  default long getP50() {
+    return getPercentile(50);
+  }
+
+  /**
+   * Return the 95th percentile execution time in micros.
+   */
+  default long getP95() {
+    return getPercentile(95);
+  }
+
+  /**
+   * Return the 99th percentile execution time in micros.
+   */
+  default long getP99() {
+    return getPercentile(99);
+  }
+
   /**
    * Return the total beans or rows processed or loaded.
    *
@@ -57,7 +57,7 @@ public class BindParams implements Serializable {
    * </p>
    */
   public String calcQueryPlanHash() {
-    StringBuilder builder = new StringBuilder();
+    PlanKeyBuilder builder = new PlanKeyBuilder();
     buildQueryPlanHash(builder);
     return builder.toString();
   }
@@ -65,7 +65,7 @@ public class BindParams implements Serializable {
   /**
    * Calculate and return a query plan bind hash with total bind count.
    */
-  public void buildQueryPlanHash(StringBuilder builder) {
+  public void buildQueryPlanHash(PlanKeyBuilder builder) {
     int tempBindCount;
     int bc = 0;
     for (Param param : positionedParameters) {
@@ -43,6 +43,21 @@ public abstract class LoadRequest {
     return transaction;
   }
 
+  /**
+   * Return true if this is a secondary query executed in parallel with other secondary queries
+   * or executed prefetching the next buffer of a findEach/findIterate.
+   * <p>
+   * These run in their own transaction as they can execute in a background thread.
+   * </p>
+   */
+  public boolean isParallelSecondaryQuery() {
+    if (lazy || parentRequest == null) {
+      return false;
+    }
+    SpiQuery<?> query = parentRequest.getQuery();
+    return query.isParallelSecondaryQueries() || (query.isIteratePrefetch() && query.getType() == SpiQuery.Type.ITERATE);
+  }
+
   /**
    * Return true if the parent query is a findIterate() type query.
    * So one of - findIterate(), findEach(), findEachWhile() or findVisit().
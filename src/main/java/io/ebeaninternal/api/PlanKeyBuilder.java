@@ -0,0 +1,139 @@
+package io.ebeaninternal.api;
+
+import java.util.Arrays;
+
+/**
+ * Builds the structural part of a query plan key.
+ * <p>
+ * Rather than building a description string the appended parts (property names, sql fragments,
+ * counts etc) are held by reference and combined incrementally into a 64 bit hash. Two keys
+ * are equal when their parts are equal. The description string is only built when requested
+ * (for read audit and logging).
+ * </p>
+ * <p>
+ * Only immutable values are held (Strings, boxed primitives) as the key is cached. Enums are
+ * held by name as their hashCode is the identity hashCode (which differs across JVMs). Other
+ * objects are converted to their String form.
+ * </p>
+ */
+public final class PlanKeyBuilder {
+
+  private static final long FNV_OFFSET = 0xcbf29ce484222325L;
+
+  private static final long FNV_PRIME = 0x100000001b3L;
+
+  private static final String NULL = "null";
+
+  private Object[] parts;
+
+  private int size;
+
+  private long hash = FNV_OFFSET;
+
+  public PlanKeyBuilder() {
+    this(32);
+  }
+
+  public PlanKeyBuilder(int initialCapacity) {
+    this.parts = new Object[initialCapacity];
+  }
+
+  /**
+   * Append a String part.
+   */
+  public PlanKeyBuilder append(String value) {
+    return add(value == null ? NULL : value);
+  }
+
+  /**
+   * Append an int part.
+   */
+  public PlanKeyBuilder append(int value) {
+    return add(value);
+  }
+
+  /**
+   * Append a boolean part.
+   */
+  public PlanKeyBuilder append(boolean value) {
+    return add(value);
+  }
+
+  /**
+   * Append a char part.
+   */
+  public PlanKeyBuilder append(char value) {
+    return add(value);
+  }
+
+  /**
+   * Append a part. Enums are appended by name and mutable values are converted to their String form.
+   */
+  public PlanKeyBuilder append(Object value) {
+    if (value == null) {
+      return add(NULL);
+    }
+    if (value instanceof Enum) {
+      return add(((Enum<?>) value).name());
+    }
+    if (value instanceof String || value instanceof Integer || value instanceof Long || value instanceof Boolean || value instanceof Character) {
+      return add(value);
+    }
+    return add(value.toString());
+  }
+
+  private PlanKeyBuilder add(Object part) {
+    if (size == parts.length) {
+      parts = Arrays.copyOf(parts, size * 2);
+    }
+    parts[size++] = part;
+    hash = (hash ^ part.hashCode()) * FNV_PRIME;
+    return this;
+  }
+
+  /**
+   * Return the 64 bit hash of the parts.
+   */
+  public long hash() {
+    return hash;
+  }
+
+  /**
+   * Return true if the other builder has the same parts.
+   */
+  public boolean isSame(PlanKeyBuilder other) {
+    if (this == other) {
+      return true;
+    }
+    if (hash != other.hash || size != other.size) {
+      return false;
+    }
+    for (int i = 0; i < size; i++) {
+      Object part = parts[i];
+      Object otherPart = other.parts[i];
+      if (part != otherPart && !part.equals(otherPart)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Return true if no parts have been appended.
+   */
+  public boolean isEmpty() {
+    return size == 0;
+  }
+
+  /**
+   * Return the description (the parts as a String).
+   */
+  @Override
+  public String toString() {
+    StringBuilder sb = new StringBuilder(size * 8);
+    for (int i = 0; i < size; i++) {
+      sb.append(parts[i]);
+    }
+    return sb.toString();
+  }
+}
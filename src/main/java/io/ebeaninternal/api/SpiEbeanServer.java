@@ -19,10 +19,12 @@ import io.ebeaninternal.dbmigration.ddlgeneration.DdlHandler;
 import io.ebeaninternal.server.core.SpiResultSet;
 import io.ebeaninternal.server.core.timezone.DataTimeZone;
 import io.ebeaninternal.server.deploy.BeanDescriptor;
+import io.ebeaninternal.server.loadcontext.LazyLoadBatchSizer;
 import io.ebeaninternal.server.query.CQuery;
 import io.ebeaninternal.server.transaction.RemoteTransactionEvent;
 
 import java.util.List;
+import java.util.concurrent.Executor;
 import java.util.function.Consumer;
 import java.util.function.Predicate;
 
@@ -193,6 +195,19 @@ public interface SpiEbeanServer extends EbeanServer, BeanLoader, BeanCollectionL
    */
   void collectQueryStats(ObjectGraphNode objectGraphNode, long loadedBeanCount, long timeMicros);
 
+  /**
+   * Return the adaptive lazy loading batch sizer (null when not enabled).
+   */
+  LazyLoadBatchSizer getLazyLoadBatchSizer();
+
+  /**
+   * Return the bounded executor for parallel secondary queries and iterate prefetch.
+   * <p>
+   * When all its threads are busy the task is run by the calling thread.
+   * </p>
+   */
+  Executor getParallelQueryExecutor();
+
   /**
    * Return the ReadAuditLogger to use for logging all read audit events.
    */
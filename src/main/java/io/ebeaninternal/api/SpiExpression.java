@@ -48,7 +48,7 @@ public interface SpiExpression extends Expression {
    * from an AutoTune perspective and get different tuning.
    * </p>
    */
-  void queryPlanHash(StringBuilder builder);
+  void queryPlanHash(PlanKeyBuilder builder);
 
   /**
    * Return the hash value for the values that will be bound.
@@ -102,4 +102,12 @@ public interface SpiExpression extends Expression {
    * Check for match to a natural key query returning false if it doesn't match.
    */
   boolean naturalKey(NaturalKeyQueryData<?> data);
+
+  /**
+   * Return false if the expression can reference tables that are not known from the query joins
+   * (subqueries and raw expressions) such that query cache entries can not be invalidated by table.
+   */
+  default boolean isDependentTablesKnown() {
+    return true;
+  }
 }
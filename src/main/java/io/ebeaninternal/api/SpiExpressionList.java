@@ -5,6 +5,7 @@ import io.ebean.Junction;
 import io.ebeaninternal.server.expression.DocQueryContext;
 
 import java.io.IOException;
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -32,6 +33,11 @@ public interface SpiExpressionList<T> extends ExpressionList<T>, SpiExpression {
    */
   boolean isEmpty();
 
+  /**
+   * Return the id values when a top level expression restricts the rows to those ids (otherwise null).
+   */
+  Collection<?> idValues(String idName);
+
   /**
    * Write the top level where expressions taking into account possible extra idEquals expression.
    */
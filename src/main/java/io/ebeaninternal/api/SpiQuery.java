@@ -736,6 +736,19 @@ public interface SpiQuery<T> extends Query<T>, TxnProfileEventCodes {
    */
   boolean isDisableLazyLoading();
 
+  /**
+   * Return true if the secondary queries should be executed in parallel.
+   */
+  boolean isParallelSecondaryQueries();
+
+  /**
+   * Return true if findEach/findIterate should prefetch the next buffer in a background thread.
+   * <p>
+   * This is only true when lazy loading is also disabled.
+   * </p>
+   */
+  boolean isIteratePrefetch();
+
   /**
    * Internally set by Ebean when this query must use the DISTINCT keyword.
    * <p>
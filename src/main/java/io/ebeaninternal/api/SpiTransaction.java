@@ -15,6 +15,7 @@ import io.ebeanservice.docstore.api.DocStoreTransaction;
 
 import javax.persistence.PersistenceException;
 import java.sql.Connection;
+import java.sql.PreparedStatement;
 import java.sql.SQLException;
 
 /**
@@ -225,6 +226,20 @@ public interface SpiTransaction extends Transaction {
    */
   Connection getInternalConnection();
 
+  /**
+   * Take a cached PreparedStatement for the given SQL returning null if there is none.
+   * <p>
+   * The statement should be returned via {@link #releasePstmt(String, PreparedStatement)}
+   * after use rather than being closed.
+   * </p>
+   */
+  PreparedStatement takePstmt(String sql);
+
+  /**
+   * Release the PreparedStatement for reuse (or close it when statements are not cached).
+   */
+  void releasePstmt(String sql, PreparedStatement pstmt);
+
   /**
    * Return true if the manyToMany intersection should be persisted for this particular relationship direction.
    */
@@ -265,6 +280,11 @@ public interface SpiTransaction extends Transaction {
    */
   void flushBatchOnCollection();
 
+  /**
+   * Set to true to execute batched inserts using multi-row insert (for saveAll() and insertAll()).
+   */
+  void setBatchMultiRowInsert(boolean multiRowInsert);
+
   /**
    * Add a bean change to the change log.
    */
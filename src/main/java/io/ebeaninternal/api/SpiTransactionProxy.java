@@ -16,6 +16,7 @@ import io.ebeanservice.docstore.api.DocStoreTransaction;
 
 import javax.persistence.PersistenceException;
 import java.sql.Connection;
+import java.sql.PreparedStatement;
 import java.sql.SQLException;
 
 /**
@@ -290,6 +291,11 @@ public abstract class SpiTransactionProxy implements SpiTransaction {
     transaction.setBatchFlushOnMixed(batchFlushOnMixed);
   }
 
+  @Override
+  public void setBatchPipelined(boolean batchPipelined) {
+    transaction.setBatchPipelined(batchPipelined);
+  }
+
   @Override
   public void setBatchFlushOnQuery(boolean batchFlushOnQuery) {
     transaction.setBatchFlushOnQuery(batchFlushOnQuery);
@@ -385,6 +391,16 @@ public abstract class SpiTransactionProxy implements SpiTransaction {
     return transaction.getInternalConnection();
   }
 
+  @Override
+  public PreparedStatement takePstmt(String sql) {
+    return transaction.takePstmt(sql);
+  }
+
+  @Override
+  public void releasePstmt(String sql, PreparedStatement pstmt) {
+    transaction.releasePstmt(sql, pstmt);
+  }
+
   @Override
   public boolean isSaveAssocManyIntersection(String intersectionTable, String beanName) {
     return transaction.isSaveAssocManyIntersection(intersectionTable, beanName);
@@ -420,4 +436,9 @@ public abstract class SpiTransactionProxy implements SpiTransaction {
     transaction.flushBatchOnCollection();
   }
 
+  @Override
+  public void setBatchMultiRowInsert(boolean multiRowInsert) {
+    transaction.setBatchMultiRowInsert(multiRowInsert);
+  }
+
 }
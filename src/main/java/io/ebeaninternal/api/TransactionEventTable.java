@@ -1,6 +1,8 @@
 package io.ebeaninternal.api;
 
 import io.ebean.event.BulkTableEvent;
+import io.ebeaninternal.server.cluster.BinaryFrameReader;
+import io.ebeaninternal.server.cluster.BinaryFrameWriter;
 import io.ebeaninternal.server.cluster.BinaryMessage;
 import io.ebeaninternal.server.cluster.BinaryMessageList;
 
@@ -8,8 +10,10 @@ import java.io.DataInput;
 import java.io.DataOutputStream;
 import java.io.IOException;
 import java.io.Serializable;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 public final class TransactionEventTable implements Serializable {
@@ -51,6 +55,16 @@ public final class TransactionEventTable implements Serializable {
     add(new TableIUD(table, insert, update, delete));
   }
 
+  /**
+   * Add a table modification where the ids of the updated or deleted rows are known.
+   */
+  public void add(String table, boolean insert, boolean update, boolean delete, List<Object> ids) {
+
+    table = table.toUpperCase();
+
+    add(new TableIUD(table, insert, update, delete, ids));
+  }
+
   public void add(TableIUD newTableIUD) {
 
     TableIUD existingTableIUD = map.put(newTableIUD.getTableName(), newTableIUD);
@@ -71,16 +85,46 @@ public final class TransactionEventTable implements Serializable {
 
     private static final long serialVersionUID = -1958317571064162089L;
 
+    /**
+     * Frame has no ids (all rows may have been updated or deleted).
+     */
+    private static final int IDS_NONE = 0;
+
+    /**
+     * Frame ids of Long values written as deltas.
+     */
+    private static final int IDS_LONG = 1;
+
+    /**
+     * Frame ids of Integer values written as deltas.
+     */
+    private static final int IDS_INTEGER = 2;
+
+    /**
+     * Frame ids of String values.
+     */
+    private static final int IDS_STRING = 3;
+
     private final String table;
     private boolean insert;
     private boolean update;
     private boolean delete;
 
+    /**
+     * The ids of the updated or deleted rows when known (otherwise null).
+     */
+    private List<Object> ids;
+
     public TableIUD(String table, boolean insert, boolean update, boolean delete) {
+      this(table, insert, update, delete, null);
+    }
+
+    public TableIUD(String table, boolean insert, boolean update, boolean delete, List<Object> ids) {
       this.table = table;
       this.insert = insert;
       this.update = update;
       this.delete = delete;
+      this.ids = ids;
     }
 
     public static TableIUD readBinaryMessage(DataInput dataInput) throws IOException {
@@ -106,12 +150,116 @@ public final class TransactionEventTable implements Serializable {
       msgList.add(msg);
     }
 
+    /**
+     * Read from a (batched and compressed) cluster frame.
+     */
+    public static TableIUD readFrame(BinaryFrameReader reader) throws IOException {
+
+      String table = reader.readName();
+      int flags = reader.getIs().readUnsignedByte();
+      List<Object> ids = readFrameIds(reader);
+      return new TableIUD(table, (flags & 1) != 0, (flags & 2) != 0, (flags & 4) != 0, ids);
+    }
+
+    private static List<Object> readFrameIds(BinaryFrameReader reader) throws IOException {
+
+      int idsType = reader.getIs().readUnsignedByte();
+      if (idsType == IDS_NONE) {
+        return null;
+      }
+      int count = reader.readVarInt();
+      List<Object> ids = new ArrayList<>(count);
+      long previous = 0;
+      for (int i = 0; i < count; i++) {
+        switch (idsType) {
+          case IDS_LONG:
+            previous = reader.readDelta(previous);
+            ids.add(previous);
+            break;
+          case IDS_INTEGER:
+            previous = reader.readDelta(previous);
+            ids.add((int) previous);
+            break;
+          case IDS_STRING:
+            ids.add(reader.getIs().readUTF());
+            break;
+          default:
+            throw new IOException("Invalid ids type " + idsType);
+        }
+      }
+      return ids;
+    }
+
+    /**
+     * Write to a (batched and compressed) cluster frame.
+     * <p>
+     * The ids are included when they are all Long, Integer or String values. Otherwise
+     * they are omitted and the receiver clears the bean cache.
+     * </p>
+     */
+    public void writeFrame(BinaryFrameWriter writer) throws IOException {
+
+      writer.writeName(table);
+      writer.getOs().writeByte((insert ? 1 : 0) | (update ? 2 : 0) | (delete ? 4 : 0));
+      int idsType = idsType();
+      writer.getOs().writeByte(idsType);
+      if (idsType != IDS_NONE) {
+        writer.writeVarInt(ids.size());
+        long previous = 0;
+        for (Object id : ids) {
+          if (idsType == IDS_STRING) {
+            writer.getOs().writeUTF((String) id);
+          } else {
+            long value = ((Number) id).longValue();
+            writer.writeDelta(previous, value);
+            previous = value;
+          }
+        }
+      }
+    }
+
+    /**
+     * Return the frame ids type (IDS_NONE when the ids are not known or not of a supported type).
+     */
+    private int idsType() {
+      if (ids == null || ids.isEmpty()) {
+        return ids == null ? IDS_NONE : IDS_LONG;
+      }
+      Class<?> type = ids.get(0).getClass();
+      for (Object id : ids) {
+        if (id.getClass() != type) {
+          return IDS_NONE;
+        }
+      }
+      if (type == Long.class) {
+        return IDS_LONG;
+      } else if (type == Integer.class) {
+        return IDS_INTEGER;
+      } else if (type == String.class) {
+        return IDS_STRING;
+      }
+      return IDS_NONE;
+    }
+
     @Override
     public String toString() {
-      return "TableIUD " + table + " i:" + insert + " u:" + update + " d:" + delete;
+      return "TableIUD " + table + " i:" + insert + " u:" + update + " d:" + delete + (ids == null ? "" : " ids:" + ids);
     }
 
     private void add(TableIUD other) {
+      if (isUpdateOrDelete() && ids == null || other.isUpdateOrDelete() && other.ids == null) {
+        // any of the rows could have been modified
+        ids = null;
+      } else if (other.ids != null) {
+        if (ids == null) {
+          ids = new ArrayList<>(other.ids);
+        } else {
+          List<Object> merged = new ArrayList<>(ids.size() + other.ids.size());
+          merged.addAll(ids);
+          merged.addAll(other.ids);
+          ids = merged;
+        }
+      }
       if (other.insert) {
         insert = true;
       }
@@ -146,5 +294,15 @@ public final class TransactionEventTable implements Serializable {
     public boolean isUpdateOrDelete() {
       return update || delete;
     }
+
+    /**
+     * Return the ids of the updated or deleted rows if known.
+     * <p>
+     * When null any row of the table may have been updated or deleted.
+     * </p>
+     */
+    public List<Object> getIds() {
+      return ids;
+    }
   }
 }
@@ -42,7 +42,7 @@ public class CacheChangeSet {
    */
   public Set<String> apply() {
     for (BeanDescriptor<?> entry : queryCaches) {
-      entry.clearQueryCache();
+      entry.queryCacheInvalidate();
     }
     for (CacheChange entry : entries) {
       entry.apply();
@@ -54,7 +54,25 @@ public class CacheChangeSet {
   }
 
   /**
-   * Add an entry to clear a query cache.
+   * Merge the changes of a later transaction into this change set (such that they
+   * are applied together).
+   */
+  public void merge(CacheChangeSet other) {
+    queryCaches.addAll(other.queryCaches);
+    entries.addAll(other.entries);
+    viewInvalidation.addAll(other.viewInvalidation);
+    for (Map.Entry<ManyKey, ManyChange> entry : other.manyChangeMap.entrySet()) {
+      ManyChange existing = manyChangeMap.get(entry.getKey());
+      if (existing == null) {
+        manyChangeMap.put(entry.getKey(), entry.getValue());
+      } else {
+        existing.merge(entry.getValue());
+      }
+    }
+  }
+
+  /**
+   * Add an entry to invalidate query cache entries that depend on the table of the bean type.
    */
   public void addClearQuery(BeanDescriptor<?> descriptor) {
     queryCaches.add(descriptor);
@@ -166,6 +184,24 @@ public class CacheChangeSet {
       puts.put(parentId, entry);
     }
 
+    /**
+     * Merge the changes of a later transaction such that they take precedence.
+     */
+    void merge(ManyChange later) {
+      if (later.clear) {
+        setClear();
+      } else if (!clear) {
+        for (Map.Entry<Object, CachedManyIds> entry : later.puts.entrySet()) {
+          removes.remove(entry.getKey());
+          puts.put(entry.getKey(), entry.getValue());
+        }
+        for (Object parentId : later.removes) {
+          puts.remove(parentId);
+          removes.add(parentId);
+        }
+      }
+    }
+
     @Override
     public void apply() {
       if (clear) {
@@ -0,0 +1,70 @@
+package io.ebeaninternal.server.cache;
+
+import io.ebeaninternal.server.cache.DefaultServerCache.CacheEntry;
+
+import java.util.Map;
+
+/**
+ * Eviction policy that keeps a DefaultServerCache bounded by its max size.
+ * <p>
+ * The policy is notified of reads, writes and removals and evicts entries from the
+ * underlying map as part of the write such that the cache does not grow past its
+ * max size between periodic trims. Idle and time to live expiry remains the job of
+ * the periodic trim.
+ * </p>
+ */
+public interface CacheEviction {
+
+  /**
+   * Policy used when the cache has no max size (no size based eviction).
+   */
+  CacheEviction NONE = new NoEviction();
+
+  /**
+   * Notify that the entry was read (cache hit).
+   */
+  void onAccess(CacheEntry entry);
+
+  /**
+   * Notify that the entry was put into the map (replacing the given entry which can be null).
+   *
+   * @return The number of entries evicted from the map as a result of the write
+   */
+  int onWrite(Map<Object, CacheEntry> map, CacheEntry entry, CacheEntry replaced);
+
+  /**
+   * Notify that the entry was removed from the map (explicitly or by idle/ttl trim).
+   */
+  void onRemove(CacheEntry entry);
+
+  /**
+   * Clear the map and all the eviction state.
+   */
+  void clear(Map<Object, CacheEntry> map);
+
+  /**
+   * No size based eviction.
+   */
+  class NoEviction implements CacheEviction {
+
+    @Override
+    public void onAccess(CacheEntry entry) {
+      // do nothing
+    }
+
+    @Override
+    public int onWrite(Map<Object, CacheEntry> map, CacheEntry entry, CacheEntry replaced) {
+      return 0;
+    }
+
+    @Override
+    public void onRemove(CacheEntry entry) {
+      // do nothing
+    }
+
+    @Override
+    public void clear(Map<Object, CacheEntry> map) {
+      map.clear();
+    }
+  }
+}
@@ -0,0 +1,127 @@
+package io.ebeaninternal.server.cache;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Single flight loading for a cache.
+ * <p>
+ * On a cache miss the first caller for a key loads the value and concurrent callers for the
+ * same key wait for that load to complete (and then read the cache again) rather than all
+ * executing the same query.
+ * </p>
+ */
+final class CacheLoadFlights {
+
+  /**
+   * Maximum time to wait for an in flight load before loading without waiting.
+   */
+  static final long WAIT_MILLIS = 5000;
+
+  private final ConcurrentHashMap<Object, Flight> inFlight = new ConcurrentHashMap<>();
+
+  private final LongAdder loadCount = new LongAdder();
+
+  private final LongAdder coalescedCount = new LongAdder();
+
+  private final long waitMillis;
+
+  CacheLoadFlights() {
+    this(WAIT_MILLIS);
+  }
+
+  CacheLoadFlights(long waitMillis) {
+    this.waitMillis = waitMillis;
+  }
+
+  /**
+   * Start loading the given key.
+   * <p>
+   * Return true if the caller should load the value (and then call end()). Return false
+   * if the value was loaded by a concurrent caller (such that the cache should be read again).
+   * </p>
+   * <p>
+   * This is reentrant such that the thread loading the key (for example a nested find by id
+   * from a postLoad) loads again without waiting on its own load.
+   * </p>
+   */
+  boolean start(Object key) {
+
+    Flight flight = new Flight();
+    Flight existing = inFlight.putIfAbsent(key, flight);
+    if (existing == null) {
+      loadCount.increment();
+      return true;
+    }
+    if (existing.thread == Thread.currentThread()) {
+      // nested load by the thread already loading the key
+      existing.depth++;
+      return true;
+    }
+    coalescedCount.increment();
+    try {
+      if (existing.latch.await(waitMillis, TimeUnit.MILLISECONDS)) {
+        return false;
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      return true;
+    }
+    // the in flight load is slow or was not ended so release the
+    // other waiting callers and load without waiting
+    if (inFlight.remove(key, existing)) {
+      existing.latch.countDown();
+    }
+    return true;
+  }
+
+  /**
+   * End the load of the given key (if it was started by this thread).
+   */
+  void end(Object key) {
+    Flight flight = inFlight.get(key);
+    if (flight != null && flight.thread == Thread.currentThread()) {
+      if (flight.depth > 0) {
+        // end of a nested load
+        flight.depth--;
+      } else if (inFlight.remove(key, flight)) {
+        flight.latch.countDown();
+      }
+    }
+  }
+
+  /**
+   * Return true if the given key is currently being loaded.
+   */
+  boolean isLoading(Object key) {
+    return inFlight.containsKey(key);
+  }
+
+  /**
+   * Return the count of loads (single flight leaders).
+   */
+  long loadCount(boolean reset) {
+    return reset ? loadCount.sumThenReset() : loadCount.sum();
+  }
+
+  /**
+   * Return the count of loads that waited on an in flight load for the same key.
+   */
+  long coalescedCount(boolean reset) {
+    return reset ? coalescedCount.sumThenReset() : coalescedCount.sum();
+  }
+
+  private static final class Flight {
+
+    private final Thread thread = Thread.currentThread();
+
+    private final CountDownLatch latch = new CountDownLatch(1);
+
+    /**
+     * Nested loads of the key by the loading thread (only used by that thread).
+     */
+    private int depth;
+  }
+}
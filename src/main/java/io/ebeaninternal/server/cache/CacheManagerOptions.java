@@ -6,6 +6,9 @@ import io.ebean.config.CurrentTenantProvider;
 import io.ebean.config.ServerConfig;
 import io.ebeaninternal.server.cluster.ClusterManager;
 
+import java.util.Collections;
+import java.util.Map;
+
 /**
  * Configuration options when creating the default cache manager.
  */
@@ -82,4 +85,11 @@ public class CacheManagerOptions {
   public ClusterManager getClusterManager() {
     return clusterManager;
   }
+
+  /**
+   * Return the bean cache options explicitly set per bean type.
+   */
+  public Map<Class<?>, ServerCacheOptions> getBeanCacheOptions() {
+    return (serverConfig == null) ? Collections.emptyMap() : serverConfig.getBeanCacheOptions();
+  }
 }
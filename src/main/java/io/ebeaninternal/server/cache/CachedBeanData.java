@@ -4,25 +4,61 @@ import java.io.Externalizable;
 import java.io.IOException;
 import java.io.ObjectInput;
 import java.io.ObjectOutput;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.Map;
 
 /**
  * Data held in the bean cache for cached beans.
+ * <p>
+ * The property values are held in an array aligned with the property index of the
+ * bean type along with a bitset of the loaded properties. The property names array is
+ * the one of the enhanced bean type (shared by all the cached data of that type) such
+ * that loading the data back into a bean is by property index rather than name.
+ * </p>
+ * <p>
+ * Data built from a Map (or read via java serialisation) instead holds its own
+ * property names. The positions of the bean type properties in those names are computed
+ * once (on first load into a bean) and the data is then loaded by those positions.
+ * </p>
  */
 public class CachedBeanData implements Externalizable {
 
   private long whenCreated;
   private long version;
   private String discValue;
-  private Map<String, Object> data;
+
+  /**
+   * Property names by property index.
+   */
+  private String[] names;
+
+  /**
+   * Property values by property index.
+   */
+  private Object[] values;
+
+  /**
+   * Bitset of the loaded properties by property index.
+   */
+  private long[] loaded;
+
+  /**
+   * True when names is the property names array of the enhanced bean type.
+   */
+  private transient boolean beanLayout;
 
   /**
    * The sharable bean is effectively transient (near cache only).
    */
   private transient Object sharableBean;
 
+  /**
+   * Positions of the bean type properties in names (when not in the bean layout).
+   */
+  private transient Positions positions;
+
   /**
    * Construct from a loaded bean.
    */
@@ -30,8 +66,37 @@ public class CachedBeanData implements Externalizable {
     this.whenCreated = System.currentTimeMillis();
     this.sharableBean = sharableBean;
     this.discValue = discValue;
-    this.data = data;
     this.version = version;
+    initFromMap(data);
+  }
+
+  /**
+   * Construct from a loaded bean given values by property index.
+   *
+   * @param names  The property names of the enhanced bean type
+   * @param values The property values by property index
+   * @param loaded The bitset of loaded properties (see {@link #newLoaded(int)})
+   */
+  public CachedBeanData(Object sharableBean, String discValue, String[] names, Object[] values, long[] loaded, long version) {
+    this(sharableBean, discValue, names, values, loaded, true, version, System.currentTimeMillis());
+  }
+
+  private CachedBeanData(Object sharableBean, String discValue, String[] names, Object[] values, long[] loaded, boolean beanLayout, long version, long whenCreated) {
+    this.whenCreated = whenCreated;
+    this.sharableBean = sharableBean;
+    this.discValue = discValue;
+    this.names = names;
+    this.values = values;
+    this.loaded = loaded;
+    this.beanLayout = beanLayout;
+    this.version = version;
+  }
+
+  /**
+   * Construct from the binary (off heap) form.
+   */
+  CachedBeanData(String discValue, String[] names, Object[] values, long[] loaded, boolean beanLayout, long version, long whenCreated) {
+    this(null, discValue, names, values, loaded, beanLayout, version, whenCreated);
   }
 
   /**
@@ -40,6 +105,36 @@ public class CachedBeanData implements Externalizable {
   public CachedBeanData() {
   }
 
+  /**
+   * Return a new bitset of loaded properties for the given number of properties.
+   */
+  public static long[] newLoaded(int propertyLength) {
+    return new long[(propertyLength + 63) >>> 6];
+  }
+
+  /**
+   * Set the property index as loaded in the given bitset.
+   */
+  public static void setLoaded(long[] loaded, int propertyIndex) {
+    loaded[propertyIndex >>> 6] |= (1L << propertyIndex);
+  }
+
+  private void initFromMap(Map<String, Object> data) {
+    int size = data.size();
+    this.names = new String[size];
+    this.values = new Object[size];
+    this.loaded = newLoaded(size);
+    int pos = 0;
+    for (Map.Entry<String, Object> entry : data.entrySet()) {
+      names[pos] = entry.getKey();
+      values[pos] = entry.getValue();
+      setLoaded(loaded, pos++);
+    }
+  }
+
+  /**
+   * Written in the name keyed form such that it is readable by prior versions.
+   */
   @Override
   public void writeExternal(ObjectOutput out) throws IOException {
     out.writeLong(version);
@@ -49,10 +144,12 @@ public class CachedBeanData implements Externalizable {
     if (hasDisc) {
       out.writeUTF(discValue);
     }
-    out.writeInt(data.size());
-    for (Map.Entry<String, Object> entry : data.entrySet()) {
-      out.writeUTF(entry.getKey());
-      out.writeObject(entry.getValue());
+    out.writeInt(loadedCount());
+    for (int i = 0; i < names.length; i++) {
+      if (isLoaded(i)) {
+        out.writeUTF(names[i]);
+        out.writeObject(values[i]);
+      }
     }
   }
 
@@ -63,18 +160,20 @@ public class CachedBeanData implements Externalizable {
     if (in.readBoolean()) {
       discValue = in.readUTF();
     }
-    data = new LinkedHashMap<>();
     int count = in.readInt();
+    names = new String[count];
+    values = new Object[count];
+    loaded = newLoaded(count);
     for (int i = 0; i < count; i++) {
-      String key = in.readUTF();
-      Object val = in.readObject();
-      data.put(key, val);
+      names[i] = in.readUTF();
+      values[i] = in.readObject();
+      setLoaded(loaded, i);
     }
   }
 
   @Override
   public String toString() {
-    return data.toString();
+    return getData().toString();
   }
 
   /**
@@ -83,10 +182,27 @@ public class CachedBeanData implements Externalizable {
    */
   public CachedBeanData update(Map<String, Object> changes, long version) {
 
-    Map<String, Object> copy = new HashMap<>();
-    copy.putAll(data);
-    copy.putAll(changes);
-    return new CachedBeanData(null, discValue, copy, version);
+    String[] newNames = names;
+    Object[] newValues = Arrays.copyOf(values, values.length);
+    long[] newLoaded = Arrays.copyOf(loaded, loaded.length);
+
+    for (Map.Entry<String, Object> entry : changes.entrySet()) {
+      int pos = indexOf(newNames, entry.getKey());
+      if (pos == -1) {
+        // property not in the names so append it
+        pos = newNames.length;
+        newNames = Arrays.copyOf(newNames, pos + 1);
+        newNames[pos] = entry.getKey();
+        newValues = Arrays.copyOf(newValues, pos + 1);
+        if (newLoaded.length * 64 <= pos) {
+          newLoaded = Arrays.copyOf(newLoaded, newLoaded.length + 1);
+        }
+      }
+      newValues[pos] = entry.getValue();
+      setLoaded(newLoaded, pos);
+    }
+    boolean sameLayout = beanLayout && newNames == names;
+    return new CachedBeanData(null, discValue, newNames, newValues, newLoaded, sameLayout, version, System.currentTimeMillis());
   }
 
   /**
@@ -117,24 +233,152 @@ public class CachedBeanData implements Externalizable {
     return sharableBean;
   }
 
+  /**
+   * Return true if the data is held by property index of the bean type with the given property names.
+   */
+  public boolean isBeanLayout(String[] propertyNames) {
+    return beanLayout && names == propertyNames;
+  }
+
+  /**
+   * Return true if the data is held by property index of its bean type.
+   */
+  boolean isBeanLayout() {
+    return beanLayout;
+  }
+
+  /**
+   * Return the property names (by property index).
+   */
+  String[] getNames() {
+    return names;
+  }
+
+  /**
+   * Return true if the property is held given the bean type property names and property index.
+   */
+  public boolean isLoaded(String[] propertyNames, int propertyIndex) {
+    if (isBeanLayout(propertyNames)) {
+      return isLoaded(propertyIndex);
+    }
+    int pos = positions(propertyNames).pos[propertyIndex];
+    return pos > -1 && isLoaded(pos);
+  }
+
+  /**
+   * Return the value given the bean type property names and property index.
+   */
+  public Object getData(String[] propertyNames, int propertyIndex) {
+    if (isBeanLayout(propertyNames)) {
+      return values[propertyIndex];
+    }
+    int pos = positions(propertyNames).pos[propertyIndex];
+    return (pos > -1 && isLoaded(pos)) ? values[pos] : null;
+  }
+
+  /**
+   * Return the positions of the bean type properties in names computing them once.
+   */
+  private Positions positions(String[] propertyNames) {
+    Positions current = positions;
+    if (current == null || current.propertyNames != propertyNames) {
+      current = new Positions(propertyNames, names);
+      positions = current;
+    }
+    return current;
+  }
+
+  /**
+   * Return true if the property at the given index is held.
+   */
+  boolean isLoaded(int pos) {
+    return (loaded[pos >>> 6] & (1L << pos)) != 0;
+  }
+
+  /**
+   * Return the value at the given index.
+   */
+  Object getData(int pos) {
+    return values[pos];
+  }
+
+  /**
+   * Return the number of properties held.
+   */
+  int loadedCount() {
+    int count = 0;
+    for (long bits : loaded) {
+      count += Long.bitCount(bits);
+    }
+    return count;
+  }
+
+  /**
+   * Return the bitset of loaded properties.
+   */
+  long[] getLoaded() {
+    return loaded;
+  }
+
   /**
    * Return true if the property is held.
    */
   public boolean isLoaded(String propertyName) {
-    return data.containsKey(propertyName);
+    int pos = indexOf(names, propertyName);
+    return pos > -1 && isLoaded(pos);
   }
 
   /**
    * Return the value for a given property name.
    */
   public Object getData(String propertyName) {
-    return data.get(propertyName);
+    int pos = indexOf(names, propertyName);
+    return (pos > -1 && isLoaded(pos)) ? values[pos] : null;
   }
 
   /**
-   * Return all the property data.
+   * Return all the property data keyed by property name.
    */
   public Map<String, Object> getData() {
+    Map<String, Object> data = new LinkedHashMap<>();
+    for (int i = 0; i < names.length; i++) {
+      if (isLoaded(i)) {
+        data.put(names[i], values[i]);
+      }
+    }
     return data;
   }
+
+  /**
+   * The position in names of each property of the bean type (-1 when not held).
+   */
+  private static final class Positions {
+
+    private final String[] propertyNames;
+
+    private final int[] pos;
+
+    Positions(String[] propertyNames, String[] names) {
+      Map<String, Integer> index = new HashMap<>(names.length * 2);
+      for (int i = 0; i < names.length; i++) {
+        index.put(names[i], i);
+      }
+      this.propertyNames = propertyNames;
+      this.pos = new int[propertyNames.length];
+      for (int i = 0; i < propertyNames.length; i++) {
+        Integer position = index.get(propertyNames[i]);
+        pos[i] = (position == null) ? -1 : position;
+      }
+    }
+  }
+
+  private static int indexOf(String[] names, String propertyName) {
+    for (int i = 0; i < names.length; i++) {
+      String name = names[i];
+      if (name == propertyName || name.equals(propertyName)) {
+        return i;
+      }
+    }
+    return -1;
+  }
 }
@@ -0,0 +1,275 @@
+package io.ebeaninternal.server.cache;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Encodes CachedBeanData into a compact binary form (and back).
+ * <p>
+ * Property values are written by property index along with the loaded bitset. The
+ * property names of the bean type are not written but instead replaced by a short index
+ * into a dictionary of bean types (by their property names array) held by the encoder
+ * (one encoder per cache) such that the decoded data is again held by property index.
+ * The property values are typically Strings (formatted scalar values), byte[] for binary
+ * types or nested CachedBeanData for embedded beans with any other value written using
+ * java serialisation.
+ * </p>
+ */
+class CachedBeanDataEncoder {
+
+  private static final byte FORMAT = 1;
+
+  private static final byte TYPE_BEAN = 1;
+  private static final byte TYPE_OBJECT = 2;
+
+  private static final byte LAYOUT_BEAN = 1;
+  private static final byte LAYOUT_NAMES = 2;
+
+  private static final byte VAL_NULL = 0;
+  private static final byte VAL_STRING = 1;
+  private static final byte VAL_BYTES = 2;
+  private static final byte VAL_BEAN = 3;
+  private static final byte VAL_OBJECT = 4;
+
+  private final ConcurrentHashMap<String, Integer> propertyIndex = new ConcurrentHashMap<>();
+
+  private volatile String[] propertyNames = new String[0];
+
+  /**
+   * Property names arrays of the bean types (keyed by identity).
+   */
+  private final ConcurrentHashMap<String[], Integer> layoutIndex = new ConcurrentHashMap<>();
+
+  private volatile String[][] layouts = new String[0][];
+
+  /**
+   * Encode the cache value into bytes.
+   */
+  byte[] encode(Object value) throws IOException {
+    ByteArrayOutputStream os = new ByteArrayOutputStream(256);
+    DataOutputStream out = new DataOutputStream(os);
+    out.writeByte(FORMAT);
+    if (value instanceof CachedBeanData) {
+      out.writeByte(TYPE_BEAN);
+      writeBeanData(out, (CachedBeanData) value);
+    } else {
+      out.writeByte(TYPE_OBJECT);
+      writeObject(out, value);
+    }
+    out.flush();
+    return os.toByteArray();
+  }
+
+  /**
+   * Decode the bytes back into the cache value.
+   */
+  Object decode(byte[] bytes) throws IOException {
+    DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes));
+    int format = in.readByte();
+    if (format != FORMAT) {
+      throw new IOException("Unexpected format " + format);
+    }
+    int type = in.readByte();
+    if (type == TYPE_BEAN) {
+      return readBeanData(in);
+    }
+    return readObject(in);
+  }
+
+  private void writeBeanData(DataOutputStream out, CachedBeanData beanData) throws IOException {
+    out.writeLong(beanData.getVersion());
+    out.writeLong(beanData.getWhenCreated());
+    writeString(out, beanData.getDiscValue());
+    String[] names = beanData.getNames();
+    if (beanData.isBeanLayout()) {
+      out.writeByte(LAYOUT_BEAN);
+      out.writeShort(layout(names));
+    } else {
+      out.writeByte(LAYOUT_NAMES);
+      out.writeShort(names.length);
+      for (String name : names) {
+        out.writeShort(index(name));
+      }
+    }
+    long[] loaded = beanData.getLoaded();
+    out.writeShort(loaded.length);
+    for (long bits : loaded) {
+      out.writeLong(bits);
+    }
+    for (int i = 0; i < names.length; i++) {
+      if (beanData.isLoaded(i)) {
+        writeValue(out, beanData.getData(i));
+      }
+    }
+  }
+
+  private CachedBeanData readBeanData(DataInputStream in) throws IOException {
+    long version = in.readLong();
+    long whenCreated = in.readLong();
+    String discValue = readString(in);
+    boolean beanLayout = in.readByte() == LAYOUT_BEAN;
+    String[] names;
+    if (beanLayout) {
+      names = layouts[in.readUnsignedShort()];
+    } else {
+      String[] dictionary = propertyNames;
+      names = new String[in.readUnsignedShort()];
+      for (int i = 0; i < names.length; i++) {
+        names[i] = dictionary[in.readUnsignedShort()];
+      }
+    }
+    long[] loaded = new long[in.readUnsignedShort()];
+    for (int i = 0; i < loaded.length; i++) {
+      loaded[i] = in.readLong();
+    }
+    Object[] values = new Object[names.length];
+    for (int i = 0; i < names.length; i++) {
+      if ((loaded[i >>> 6] & (1L << i)) != 0) {
+        values[i] = readValue(in);
+      }
+    }
+    return new CachedBeanData(discValue, names, values, loaded, beanLayout, version, whenCreated);
+  }
+
+  private void writeValue(DataOutputStream out, Object value) throws IOException {
+    if (value == null) {
+      out.writeByte(VAL_NULL);
+    } else if (value instanceof String) {
+      out.writeByte(VAL_STRING);
+      writeString(out, (String) value);
+    } else if (value instanceof byte[]) {
+      byte[] bytes = (byte[]) value;
+      out.writeByte(VAL_BYTES);
+      out.writeInt(bytes.length);
+      out.write(bytes);
+    } else if (value instanceof CachedBeanData) {
+      out.writeByte(VAL_BEAN);
+      writeBeanData(out, (CachedBeanData) value);
+    } else {
+      out.writeByte(VAL_OBJECT);
+      writeObject(out, value);
+    }
+  }
+
+  private Object readValue(DataInputStream in) throws IOException {
+    int type = in.readByte();
+    switch (type) {
+      case VAL_NULL:
+        return null;
+      case VAL_STRING:
+        return readString(in);
+      case VAL_BYTES:
+        byte[] bytes = new byte[in.readInt()];
+        in.readFully(bytes);
+        return bytes;
+      case VAL_BEAN:
+        return readBeanData(in);
+      case VAL_OBJECT:
+        return readObject(in);
+      default:
+        throw new IOException("Unexpected value type " + type);
+    }
+  }
+
+  /**
+   * Write a nullable string as UTF8 bytes (not using writeUTF due to its 64K limit).
+   */
+  private void writeString(DataOutputStream out, String value) throws IOException {
+    if (value == null) {
+      out.writeInt(-1);
+    } else {
+      byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+      out.writeInt(bytes.length);
+      out.write(bytes);
+    }
+  }
+
+  private String readString(DataInputStream in) throws IOException {
+    int len = in.readInt();
+    if (len == -1) {
+      return null;
+    }
+    byte[] bytes = new byte[len];
+    in.readFully(bytes);
+    return new String(bytes, StandardCharsets.UTF_8);
+  }
+
+  private void writeObject(DataOutputStream out, Object value) throws IOException {
+    ByteArrayOutputStream os = new ByteArrayOutputStream();
+    try (ObjectOutputStream oos = new ObjectOutputStream(os)) {
+      oos.writeObject(value);
+    }
+    byte[] bytes = os.toByteArray();
+    out.writeInt(bytes.length);
+    out.write(bytes);
+  }
+
+  private Object readObject(DataInputStream in) throws IOException {
+    byte[] bytes = new byte[in.readInt()];
+    in.readFully(bytes);
+    try (ObjectInputStream ois = new ObjectInputStream(new ByteArrayInputStream(bytes))) {
+      return ois.readObject();
+    } catch (ClassNotFoundException e) {
+      throw new IOException(e);
+    }
+  }
+
+  /**
+   * Return the dictionary index for the property names array of a bean type.
+   */
+  private int layout(String[] names) {
+    Integer index = layoutIndex.get(names);
+    return (index != null) ? index : registerLayout(names);
+  }
+
+  private synchronized int registerLayout(String[] names) {
+    Integer index = layoutIndex.get(names);
+    if (index != null) {
+      return index;
+    }
+    String[][] current = layouts;
+    if (current.length > 0xFFFF) {
+      throw new IllegalStateException("Too many bean types " + current.length);
+    }
+    String[][] copy = new String[current.length + 1][];
+    System.arraycopy(current, 0, copy, 0, current.length);
+    copy[current.length] = names;
+    // publish the layout prior to the index
+    layouts = copy;
+    layoutIndex.put(names, current.length);
+    return current.length;
+  }
+
+  /**
+   * Return the dictionary index for the given property name.
+   */
+  private int index(String propertyName) {
+    Integer index = propertyIndex.get(propertyName);
+    return (index != null) ? index : register(propertyName);
+  }
+
+  private synchronized int register(String propertyName) {
+    Integer index = propertyIndex.get(propertyName);
+    if (index != null) {
+      return index;
+    }
+    String[] names = propertyNames;
+    if (names.length > 0xFFFF) {
+      throw new IllegalStateException("Too many property names " + names.length);
+    }
+    String[] copy = new String[names.length + 1];
+    System.arraycopy(names, 0, copy, 0, names.length);
+    copy[names.length] = propertyName;
+    // publish the name prior to the index
+    propertyNames = copy;
+    propertyIndex.put(propertyName, names.length);
+    return names.length;
+  }
+}
@@ -6,9 +6,6 @@ import io.ebeaninternal.server.deploy.BeanDescriptor;
 import io.ebeaninternal.server.deploy.BeanProperty;
 import io.ebeaninternal.server.deploy.BeanPropertyAssocMany;
 
-import java.util.LinkedHashMap;
-import java.util.Map;
-
 public class CachedBeanDataFromBean {
 
 
@@ -16,33 +13,41 @@ public class CachedBeanDataFromBean {
 
     EntityBeanIntercept ebi = bean._ebean_getIntercept();
 
-    Map<String, Object> data = new LinkedHashMap<>();
+    // values held by property index of the bean type
+    String[] names = bean._ebean_getPropertyNames();
+    Object[] values = new Object[names.length];
+    long[] loaded = CachedBeanData.newLoaded(names.length);
 
     BeanProperty idProperty = desc.getIdProperty();
     if (idProperty != null) {
       int propertyIndex = idProperty.getPropertyIndex();
       if (ebi.isLoadedProperty(propertyIndex)) {
-        data.put(idProperty.getName(), idProperty.getCacheDataValue(bean));
+        values[propertyIndex] = idProperty.getCacheDataValue(bean);
+        CachedBeanData.setLoaded(loaded, propertyIndex);
       }
     }
     BeanProperty[] props = desc.propertiesNonMany();
 
     // extract all the non-many properties
     for (BeanProperty prop : props) {
-      if (ebi.isLoadedProperty(prop.getPropertyIndex())) {
-        data.put(prop.getName(), prop.getCacheDataValue(bean));
+      int propertyIndex = prop.getPropertyIndex();
+      if (ebi.isLoadedProperty(propertyIndex)) {
+        values[propertyIndex] = prop.getCacheDataValue(bean);
+        CachedBeanData.setLoaded(loaded, propertyIndex);
       }
     }
 
     for (BeanPropertyAssocMany<?> prop : desc.propertiesMany()) {
       if (prop.isElementCollection()) {
-        data.put(prop.getName(), prop.getCacheDataValue(bean));
+        int propertyIndex = prop.getPropertyIndex();
+        values[propertyIndex] = prop.getCacheDataValue(bean);
+        CachedBeanData.setLoaded(loaded, propertyIndex);
       }
     }
 
     long version = desc.getVersion(bean);
     EntityBean sharableBean = createSharableBean(desc, bean, ebi);
-    return new CachedBeanData(sharableBean, desc.getDiscValue(), data, version);
+    return new CachedBeanData(sharableBean, desc.getDiscValue(), names, values, loaded, version);
   }
 
   private static EntityBean createSharableBean(BeanDescriptor<?> desc, EntityBean bean, EntityBeanIntercept beanEbi) {
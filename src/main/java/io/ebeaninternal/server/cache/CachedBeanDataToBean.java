@@ -42,9 +42,11 @@ public class CachedBeanDataToBean {
 
   private static void loadProperty(EntityBean bean, CachedBeanData cacheBeanData, EntityBeanIntercept ebi, BeanProperty prop, PersistenceContext context) {
 
-    if (cacheBeanData.isLoaded(prop.getName())) {
-      if (!ebi.isLoadedProperty(prop.getPropertyIndex())) {
-        Object value = cacheBeanData.getData(prop.getName());
+    int propertyIndex = prop.getPropertyIndex();
+    String[] names = bean._ebean_getPropertyNames();
+    if (cacheBeanData.isLoaded(names, propertyIndex)) {
+      if (!ebi.isLoadedProperty(propertyIndex)) {
+        Object value = cacheBeanData.getData(names, propertyIndex);
         prop.setCacheDataValue(bean, value, context);
       }
     }
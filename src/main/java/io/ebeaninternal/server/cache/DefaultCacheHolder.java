@@ -11,6 +11,8 @@ import io.ebean.util.AnnotationUtil;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.Collections;
+import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentSkipListSet;
@@ -33,8 +35,10 @@ class DefaultCacheHolder {
 
   private final CurrentTenantProvider tenantProvider;
 
+  private final Map<Class<?>, ServerCacheOptions> beanOptions;
+
   DefaultCacheHolder(CacheManagerOptions builder) {
-    this(builder.getCacheFactory(), builder.getBeanDefault(), builder.getQueryDefault(), builder.getCurrentTenantProvider());
+    this(builder.getCacheFactory(), builder.getBeanDefault(), builder.getQueryDefault(), builder.getCurrentTenantProvider(), builder.getBeanCacheOptions());
   }
 
   /**
@@ -45,10 +49,18 @@ class DefaultCacheHolder {
    * @param queryDefault the default options for tuning query caches
    */
   DefaultCacheHolder(ServerCacheFactory cacheFactory, ServerCacheOptions beanDefault, ServerCacheOptions queryDefault, CurrentTenantProvider tenantProvider) {
+    this(cacheFactory, beanDefault, queryDefault, tenantProvider, Collections.emptyMap());
+  }
+
+  /**
+   * Create additionally with bean cache options explicitly set per bean type.
+   */
+  DefaultCacheHolder(ServerCacheFactory cacheFactory, ServerCacheOptions beanDefault, ServerCacheOptions queryDefault, CurrentTenantProvider tenantProvider, Map<Class<?>, ServerCacheOptions> beanOptions) {
     this.cacheFactory = cacheFactory;
     this.beanDefault = beanDefault;
     this.queryDefault = queryDefault;
     this.tenantProvider = tenantProvider;
+    this.beanOptions = beanOptions;
   }
 
   ServerCache getCache(Class<?> beanType, String cacheKey, ServerCacheType type) {
@@ -76,7 +88,12 @@ class DefaultCacheHolder {
         collectIdCaches.computeIfAbsent(beanType.getName(), s -> new ConcurrentSkipListSet<>()).add(key);
       }
     }
-    return cacheFactory.createCache(type, key, tenantProvider, options);
+    ServerCache cache = cacheFactory.createCache(type, key, tenantProvider, options);
+    if (options.getNearMaxSize() > 0 && !(cache instanceof DefaultServerCache)) {
+      // small on heap near tier in front of the remote or off heap cache
+      return new TieredServerCache(key, cache, tenantProvider, options);
+    }
+    return cache;
   }
 
   void clearAll() {
@@ -129,6 +146,10 @@ class DefaultCacheHolder {
   }
 
   private ServerCacheOptions getBeanOptions(Class<?> cls) {
+    ServerCacheOptions options = beanOptions.get(cls);
+    if (options != null) {
+      return options.copy().applyDefaults(beanDefault);
+    }
     CacheBeanTuning tuning = cls.getAnnotation(CacheBeanTuning.class);
     if (tuning != null) {
       return new ServerCacheOptions(tuning).applyDefaults(beanDefault);
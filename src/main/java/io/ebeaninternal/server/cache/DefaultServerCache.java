@@ -9,32 +9,24 @@ import io.ebean.config.CurrentTenantProvider;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.io.Serializable;
-import java.util.ArrayList;
-import java.util.Comparator;
 import java.util.Iterator;
-import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.LongAdder;
 
 /**
  * The default cache implementation.
  * <p>
- * It is base on ConcurrentHashMap with periodic trimming using a TimerTask.
- * The periodic trimming means that an LRU list does not have to be maintained.
+ * It is based on ConcurrentHashMap with a CacheEviction policy (W-TinyLFU by default)
+ * that bounds the size on each put and periodic trimming for idle and time to live expiry.
  * </p>
  */
 public class DefaultServerCache implements ServerCache {
 
   protected static final Logger logger = LoggerFactory.getLogger(DefaultServerCache.class);
 
-  /**
-   * Compare by last access time (for LRU eviction).
-   */
-  public static final CompareByLastAccess BY_LAST_ACCESS = new CompareByLastAccess();
-
   /**
    * The underlying map (ConcurrentHashMap or similar)
    */
@@ -52,6 +44,9 @@ public class DefaultServerCache implements ServerCache {
   protected final LongAdder evictByLRU = new LongAdder();
   protected final LongAdder evictCount = new LongAdder();
   protected final LongAdder evictMicros = new LongAdder();
+  protected final LongAdder earlyRefreshCount = new LongAdder();
+
+  protected final CacheLoadFlights loadFlights = new CacheLoadFlights();
 
   protected final String name;
 
@@ -63,8 +58,12 @@ public class DefaultServerCache implements ServerCache {
 
   protected int maxSecsToLive;
 
+  protected int earlyRefreshSecs;
+
   protected TenantAwareKey tenantAwareKey;
 
+  protected final CacheEviction eviction;
+
   /**
    * Construct using a ConcurrentHashMap and cache options.
    */
@@ -76,14 +75,30 @@ public class DefaultServerCache implements ServerCache {
    * Construct passing in name, map and base eviction controls as ServerCacheOptions.
    */
   public DefaultServerCache(String name, Map<Object, CacheEntry> map, CurrentTenantProvider tenantProvider, ServerCacheOptions options) {
-    this(name, map, tenantProvider, options.getMaxSize(), options.getMaxIdleSecs(), options.getMaxSecsToLive(), options.getTrimFrequency());
+    this(name, map, tenantProvider, options, eviction(options.getMaxSize()));
+  }
+
+  /**
+   * Construct passing in name, map, eviction controls as ServerCacheOptions and the eviction policy.
+   */
+  public DefaultServerCache(String name, Map<Object, CacheEntry> map, CurrentTenantProvider tenantProvider, ServerCacheOptions options, CacheEviction eviction) {
+    this(name, map, tenantProvider, options.getMaxSize(), options.getMaxIdleSecs(), options.getMaxSecsToLive(), options.getTrimFrequency(), eviction);
+    this.earlyRefreshSecs = options.getEarlyRefreshSecs();
   }
 
   /**
    * Construct passing in name, map and base eviction controls.
    */
   public DefaultServerCache(String name, Map<Object, CacheEntry> map, CurrentTenantProvider tenantProvider, int maxSize, int maxIdleSecs, int maxSecsToLive, int trimFrequency) {
+    this(name, map, tenantProvider, maxSize, maxIdleSecs, maxSecsToLive, trimFrequency, eviction(maxSize));
+  }
+
+  /**
+   * Construct passing in name, map, base eviction controls and the eviction policy.
+   */
+  public DefaultServerCache(String name, Map<Object, CacheEntry> map, CurrentTenantProvider tenantProvider, int maxSize, int maxIdleSecs, int maxSecsToLive, int trimFrequency, CacheEviction eviction) {
     this.name = name;
+    this.eviction = eviction;
     this.map = map;
     this.maxSize = maxSize;
     this.tenantAwareKey = new TenantAwareKey(tenantProvider);
@@ -92,6 +107,13 @@ public class DefaultServerCache implements ServerCache {
     this.trimFrequency = determineTrim(maxIdleSecs, maxSecsToLive, trimFrequency);
   }
 
+  /**
+   * Return the default eviction policy for the given max size.
+   */
+  static CacheEviction eviction(int maxSize) {
+    return (maxSize > 0) ? new TinyLfuEviction(maxSize) : CacheEviction.NONE;
+  }
+
   /**
    * Determine a good trimFrequency as half of maxIdleSecs (or maxSecsToLive).
    */
@@ -141,6 +163,10 @@ public class DefaultServerCache implements ServerCache {
     long evictTTL = reset ? evictByTTL.sumThenReset() : evictByTTL.sum();
     long evictLRU = reset ? evictByLRU.sumThenReset() : evictByLRU.sum();
 
+    long load = loadFlights.loadCount(reset);
+    long coalescedLoad = loadFlights.coalescedCount(reset);
+    long earlyRefresh = reset ? earlyRefreshCount.sumThenReset() : earlyRefreshCount.sum();
+
     int size = size();
 
     cacheStats.setSize(size);
@@ -157,6 +183,10 @@ public class DefaultServerCache implements ServerCache {
     cacheStats.setEvictByTTL(evictTTL);
     cacheStats.setEvictByLRU(evictLRU);
 
+    cacheStats.setLoadCount(load);
+    cacheStats.setCoalescedLoadCount(coalescedLoad);
+    cacheStats.setEarlyRefreshCount(earlyRefresh);
+
     return cacheStats;
   }
 
@@ -187,7 +217,7 @@ public class DefaultServerCache implements ServerCache {
   @Override
   public void clear() {
     clearCount.increment();
-    map.clear();
+    eviction.clear(map);
   }
 
   /**
@@ -212,10 +242,56 @@ public class DefaultServerCache implements ServerCache {
       // Important that hitCount.increment() MUST be low latency under concurrent
       // use hence must use LongAdder or better here
       hitCount.increment();
+      eviction.onAccess(entry);
       return entry.getValue();
     }
   }
 
+  /**
+   * Return a value from the cache for a read through lookup.
+   * <p>
+   * When early refresh is enabled an entry within the early refresh window before its time
+   * to live expiry is returned as a miss (with increasing probability) such that it is reloaded.
+   * </p>
+   */
+  @Override
+  public Object getReadThrough(Object id) {
+
+    if (earlyRefreshSecs > 0 && maxSecsToLive > 0) {
+      Object key = key(id);
+      CacheEntry entry = map.get(key);
+      if (entry != null && isEarlyRefresh(entry) && !loadFlights.isLoading(key)) {
+        earlyRefreshCount.increment();
+        missCount.increment();
+        return null;
+      }
+    }
+    return get(id);
+  }
+
+  /**
+   * Return true if the entry should be refreshed early.
+   * <p>
+   * The probability increases from 0 at the start of the early refresh window to 1 at the
+   * time to live expiry.
+   * </p>
+   */
+  private boolean isEarlyRefresh(CacheEntry entry) {
+    long windowNanos = TimeUnit.SECONDS.toNanos(earlyRefreshSecs);
+    long remainingNanos = entry.getCreateTime() + TimeUnit.SECONDS.toNanos(maxSecsToLive) - System.nanoTime();
+    return remainingNanos < windowNanos && ThreadLocalRandom.current().nextLong(windowNanos) >= remainingNanos;
+  }
+
+  @Override
+  public boolean loadStart(Object id) {
+    return loadFlights.start(key(id));
+  }
+
+  @Override
+  public void loadEnd(Object id) {
+    loadFlights.end(key(id));
+  }
+
   @Override
   public void putAll(Map<Object, Object> keyValues) {
     keyValues.forEach(this::put);
@@ -228,12 +304,20 @@ public class DefaultServerCache implements ServerCache {
   public void put(Object id, Object value) {
 
     Object key = key(id);
-    CacheEntry entry = map.put(key, new CacheEntry(key, value));
+    CacheEntry newEntry = new CacheEntry(key, value);
+    CacheEntry entry = map.put(key, newEntry);
     if (entry == null) {
       insertCount.increment();
     } else {
       updateCount.increment();
     }
+
+    long startNanos = System.nanoTime();
+    int evicted = eviction.onWrite(map, newEntry, entry);
+    if (evicted > 0) {
+      evictByLRU.add(evicted);
+      evictMicros.add((System.nanoTime() - startNanos) / 1000L);
+    }
   }
 
   /**
@@ -245,6 +329,7 @@ public class DefaultServerCache implements ServerCache {
     CacheEntry entry = map.remove(key(id));
     if (entry != null) {
       removeCount.increment();
+      eviction.onRemove(entry);
     }
   }
 
@@ -257,28 +342,14 @@ public class DefaultServerCache implements ServerCache {
   }
 
   /**
-   * Return the size to trim to based on the max size.
+   * Run the eviction based on Idle time and Time to live.
    * <p>
-   * This returns 90% of the max size.
+   * Eviction based on max size occurs on put via the CacheEviction policy.
    * </p>
    */
-  protected int getTrimSize() {
-    return (maxSize * 90 / 100);
-  }
-
-  /**
-   * Run the eviction based on Idle time, Time to live and LRU last access.
-   */
   public void runEviction() {
 
-    long trimForMaxSize;
-    if (maxSize == 0) {
-      trimForMaxSize = 0;
-    } else {
-      trimForMaxSize = size() - maxSize;
-    }
-
-    if (maxIdleSecs == 0 && maxSecsToLive == 0 && trimForMaxSize < 0) {
+    if (maxIdleSecs == 0 && maxSecsToLive == 0) {
       // nothing to trim on this cache
       return;
     }
@@ -287,9 +358,6 @@ public class DefaultServerCache implements ServerCache {
 
     long trimmedByIdle = 0;
     long trimmedByTTL = 0;
-    long trimmedByLRU = 0;
-
-    List<CacheEntry> activeList = new ArrayList<>(map.size());
 
     long idleExpireNano =  startNanos - TimeUnit.SECONDS.toNanos(maxIdleSecs);
     long ttlExpireNano = startNanos - TimeUnit.SECONDS.toNanos(maxSecsToLive);
@@ -299,27 +367,13 @@ public class DefaultServerCache implements ServerCache {
       CacheEntry cacheEntry = it.next();
       if (maxIdleSecs > 0 && idleExpireNano > cacheEntry.getLastAccessTime()) {
         it.remove();
+        eviction.onRemove(cacheEntry);
         trimmedByIdle++;
 
       } else if (maxSecsToLive > 0 && ttlExpireNano > cacheEntry.getCreateTime()) {
         it.remove();
+        eviction.onRemove(cacheEntry);
         trimmedByTTL++;
-
-      } else if (trimForMaxSize > 0) {
-        activeList.add(cacheEntry);
-      }
-    }
-
-    if (trimForMaxSize > 0) {
-      trimmedByLRU = activeList.size() - maxSize;
-      if (trimmedByLRU > 0) {
-        // sort into last access time ascending
-        activeList.sort(BY_LAST_ACCESS);
-        int trimSize = getTrimSize();
-        for (int i = trimSize; i < activeList.size(); i++) {
-          // remove if still in the cache
-          map.remove(activeList.get(i).getKey());
-        }
       }
     }
 
@@ -331,11 +385,10 @@ public class DefaultServerCache implements ServerCache {
     evictCount.increment();
     evictByIdle.add(trimmedByIdle);
     evictByTTL.add(trimmedByTTL);
-    evictByLRU.add(trimmedByLRU);
 
     if (logger.isTraceEnabled()) {
-      logger.trace("Executed trim of cache {} in [{}]millis idle[{}] timeToLive[{}] accessTime[{}]"
-        , name, exeMicros, trimmedByIdle, trimmedByTTL, trimmedByLRU);
+      logger.trace("Executed trim of cache {} in [{}]micros idle[{}] timeToLive[{}]"
+        , name, exeMicros, trimmedByIdle, trimmedByTTL);
     }
   }
 
@@ -350,19 +403,6 @@ public class DefaultServerCache implements ServerCache {
     }
   }
 
-  /**
-   * Comparator for sorting by last access time.
-   */
-  public static class CompareByLastAccess implements Comparator<CacheEntry>, Serializable {
-
-    private static final long serialVersionUID = 1L;
-
-    @Override
-    public int compare(CacheEntry e1, CacheEntry e2) {
-      return Long.compare(e1.getLastAccessTime(), e2.getLastAccessTime());
-    }
-  }
-
   /**
    * Wraps the value to additionally hold createTime and lastAccessTime and hit counter.
    */
@@ -373,6 +413,13 @@ public class DefaultServerCache implements ServerCache {
     private final long createTime;
     private long lastAccessTime;
 
+    /**
+     * Links and queue maintained by the eviction policy (under its lock).
+     */
+    CacheEntry prev;
+    CacheEntry next;
+    int queue;
+
     public CacheEntry(Object key, Object value) {
       this.key = key;
       this.value = value;
@@ -7,6 +7,8 @@ import io.ebean.cache.ServerCacheOptions;
 import io.ebean.cache.ServerCacheType;
 import io.ebean.config.CurrentTenantProvider;
 
+import java.util.concurrent.ConcurrentHashMap;
+
 
 /**
  * Default implementation of ServerCacheFactory.
@@ -32,11 +34,27 @@ class DefaultServerCacheFactory implements ServerCacheFactory {
   @Override
   public ServerCache createCache(ServerCacheType type, String cacheKey, CurrentTenantProvider tenantProvider, ServerCacheOptions cacheOptions) {
 
-    DefaultServerCache cache = new DefaultServerCache(cacheKey, tenantProvider, cacheOptions);
+    if (type == ServerCacheType.BEAN && cacheOptions.getOffHeapMaxBytes() > 0) {
+      OffHeapServerCache cache = new OffHeapServerCache(cacheKey, tenantProvider, cacheOptions);
+      if (executor != null) {
+        cache.periodicTrim(executor);
+      }
+      return cache;
+    }
+
+    CacheEviction eviction = createEviction(cacheOptions);
+    DefaultServerCache cache = new DefaultServerCache(cacheKey, new ConcurrentHashMap<>(), tenantProvider, cacheOptions, eviction);
     if (executor != null) {
       cache.periodicTrim(executor);
     }
     return cache;
   }
 
+  /**
+   * Create the eviction policy that bounds the cache to its max size.
+   */
+  CacheEviction createEviction(ServerCacheOptions cacheOptions) {
+    return DefaultServerCache.eviction(cacheOptions.getMaxSize());
+  }
+
 }
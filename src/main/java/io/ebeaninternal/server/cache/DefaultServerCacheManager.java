@@ -17,6 +17,8 @@ public class DefaultServerCacheManager implements SpiCacheManager {
 
   private final String serverName;
 
+  private final TableModState tableModState = new TableModState();
+
   /**
    * Create with a cache factory and default cache options.
    */
@@ -86,6 +88,21 @@ public class DefaultServerCacheManager implements SpiCacheManager {
     return cacheHolder.getCache(beanType, name(beanType), ServerCacheType.QUERY);
   }
 
+  @Override
+  public long queryCacheTimestamp() {
+    return tableModState.now();
+  }
+
+  @Override
+  public void invalidateQueryCache(String tableName) {
+    tableModState.touch(tableName);
+  }
+
+  @Override
+  public boolean isQueryCacheEntryValid(QueryCacheEntry entry) {
+    return tableModState.isValid(entry.getDependentTables(), entry.getTimestamp());
+  }
+
   /**
    * Return the bean cache for a given bean type.
    */
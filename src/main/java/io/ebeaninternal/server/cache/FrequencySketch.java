@@ -0,0 +1,114 @@
+package io.ebeaninternal.server.cache;
+
+/**
+ * A probabilistic 4 bit count-min sketch used to estimate the access frequency of keys.
+ * <p>
+ * Each long holds sixteen 4 bit counters and each key maps to 4 counters (one per hash
+ * function). When the number of increments reaches the sample size all counters are
+ * halved such that the frequencies age over time.
+ * </p>
+ * <p>
+ * Not thread safe - expected to be used under the lock of the eviction policy.
+ * </p>
+ */
+final class FrequencySketch {
+
+  private static final long[] SEED = {
+    0xc3a5c85c97cb3127L, 0xb492b66fbe98f273L, 0x9ae16a3b2f90404fL, 0xcbf29ce484222325L};
+
+  private static final long RESET_MASK = 0x7777777777777777L;
+
+  private static final long ONE_MASK = 0x1111111111111111L;
+
+  private final long[] table;
+
+  private final int tableMask;
+
+  private final int sampleSize;
+
+  private int size;
+
+  /**
+   * Create for the given maximum number of entries in the cache.
+   */
+  FrequencySketch(int maximumSize) {
+    int maximum = Math.min(Math.max(maximumSize, 1), 1 << 30);
+    this.table = new long[ceilingPowerOfTwo(maximum)];
+    this.tableMask = table.length - 1;
+    this.sampleSize = (maximum > Integer.MAX_VALUE / 10) ? Integer.MAX_VALUE : 10 * maximum;
+  }
+
+  private static int ceilingPowerOfTwo(int x) {
+    return 1 << -Integer.numberOfLeadingZeros(x - 1);
+  }
+
+  /**
+   * Return the estimated frequency of the key (maximum of 15).
+   */
+  int frequency(Object key) {
+    int hash = spread(key.hashCode());
+    int start = (hash & 3) << 2;
+    int frequency = Integer.MAX_VALUE;
+    for (int i = 0; i < 4; i++) {
+      int index = indexOf(hash, i);
+      int count = (int) ((table[index] >>> ((start + i) << 2)) & 0xfL);
+      frequency = Math.min(frequency, count);
+    }
+    return frequency;
+  }
+
+  /**
+   * Increment the frequency of the key, aging all the counters periodically.
+   */
+  void increment(Object key) {
+    int hash = spread(key.hashCode());
+    int start = (hash & 3) << 2;
+    boolean added = false;
+    for (int i = 0; i < 4; i++) {
+      added |= incrementAt(indexOf(hash, i), start + i);
+    }
+    if (added && ++size == sampleSize) {
+      reset();
+    }
+  }
+
+  /**
+   * Increment the counter at the given table index and counter offset unless it is at the maximum.
+   */
+  private boolean incrementAt(int index, int counter) {
+    int offset = counter << 2;
+    long mask = (0xfL << offset);
+    if ((table[index] & mask) != mask) {
+      table[index] += (1L << offset);
+      return true;
+    }
+    return false;
+  }
+
+  /**
+   * Halve all the counters.
+   */
+  private void reset() {
+    int oddCount = 0;
+    for (int i = 0; i < table.length; i++) {
+      oddCount += Long.bitCount(table[i] & ONE_MASK);
+      table[i] = (table[i] >>> 1) & RESET_MASK;
+    }
+    size = (size >>> 1) - (oddCount >>> 2);
+  }
+
+  private int indexOf(int item, int i) {
+    long hash = (item + SEED[i]) * SEED[i];
+    hash += (hash >>> 32);
+    return ((int) hash) & tableMask;
+  }
+
+  /**
+   * Supplemental hash to protect against poor quality hashCode implementations.
+   */
+  private static int spread(int x) {
+    x = ((x >>> 16) ^ x) * 0x45d9f3b;
+    x = ((x >>> 16) ^ x) * 0x45d9f3b;
+    return (x >>> 16) ^ x;
+  }
+}
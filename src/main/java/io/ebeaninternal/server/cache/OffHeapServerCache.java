@@ -0,0 +1,503 @@
+package io.ebeaninternal.server.cache;
+
+import io.ebean.BackgroundExecutor;
+import io.ebean.cache.ServerCache;
+import io.ebean.cache.ServerCacheOptions;
+import io.ebean.cache.ServerCacheStatistics;
+import io.ebean.cache.TenantAwareKey;
+import io.ebean.config.CurrentTenantProvider;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Bean cache that holds the cached bean data in compact binary form in off heap memory.
+ * <p>
+ * The cache is split into segments (by key hash) with each segment having its own lock,
+ * key index and direct ByteBuffer. Each segment is written as a ring (log structured) such
+ * that there is no fragmentation and when the ring wraps the oldest entries are evicted.
+ * Only the keys and small slot objects (offset and length) are held on heap.
+ * </p>
+ * <p>
+ * Values are encoded via CachedBeanDataEncoder which writes property values keyed by
+ * a property index rather than property name. Note that the sharable bean of CachedBeanData
+ * is not held by this cache.
+ * </p>
+ */
+public class OffHeapServerCache implements ServerCache {
+
+  private static final Logger logger = LoggerFactory.getLogger(OffHeapServerCache.class);
+
+  /**
+   * Minimum size of a segment's buffer.
+   */
+  private static final long MIN_SEGMENT_BYTES = 1024 * 1024;
+
+  private static final int MAX_SEGMENTS = 16;
+
+  private final LongAdder missCount = new LongAdder();
+  private final LongAdder hitCount = new LongAdder();
+  private final LongAdder insertCount = new LongAdder();
+  private final LongAdder updateCount = new LongAdder();
+  private final LongAdder removeCount = new LongAdder();
+  private final LongAdder clearCount = new LongAdder();
+
+  private final LongAdder evictByIdle = new LongAdder();
+  private final LongAdder evictByTTL = new LongAdder();
+  private final LongAdder evictByLRU = new LongAdder();
+  private final LongAdder evictCount = new LongAdder();
+  private final LongAdder evictMicros = new LongAdder();
+
+  private final CacheLoadFlights loadFlights = new CacheLoadFlights();
+
+  private final String name;
+
+  private final TenantAwareKey tenantAwareKey;
+
+  private final CachedBeanDataEncoder encoder = new CachedBeanDataEncoder();
+
+  private final Segment[] segments;
+
+  private final int segmentMask;
+
+  private final int maxSize;
+
+  private final long maxBytes;
+
+  private final long maxIdleNanos;
+
+  private final long maxTtlNanos;
+
+  private final int trimFrequency;
+
+  /**
+   * Construct with name and cache options (with offHeapMaxBytes set).
+   */
+  public OffHeapServerCache(String name, CurrentTenantProvider tenantProvider, ServerCacheOptions options) {
+    this.name = name;
+    this.tenantAwareKey = new TenantAwareKey(tenantProvider);
+    this.maxSize = options.getMaxSize();
+    this.maxIdleNanos = TimeUnit.SECONDS.toNanos(options.getMaxIdleSecs());
+    this.maxTtlNanos = TimeUnit.SECONDS.toNanos(options.getMaxSecsToLive());
+    this.trimFrequency = options.getTrimFrequency();
+
+    long bytes = options.getOffHeapMaxBytes();
+    int count = MAX_SEGMENTS;
+    while (count > 1 && bytes / count < MIN_SEGMENT_BYTES) {
+      count >>= 1;
+    }
+    long segmentBytes = Math.min(bytes / count, Integer.MAX_VALUE);
+    int segmentMaxSize = (maxSize <= 0) ? Integer.MAX_VALUE : Math.max(1, maxSize / count);
+
+    this.maxBytes = segmentBytes * count;
+    this.segmentMask = count - 1;
+    this.segments = new Segment[count];
+    for (int i = 0; i < count; i++) {
+      segments[i] = new Segment((int) segmentBytes, segmentMaxSize);
+    }
+  }
+
+  /**
+   * Trim expired entries periodically.
+   */
+  public void periodicTrim(BackgroundExecutor executor) {
+    // default to trimming the cache every 60 seconds
+    long trimFreqSecs = (trimFrequency <= 0) ? 60 : trimFrequency;
+    executor.executePeriodically(this::runEviction, trimFreqSecs, TimeUnit.SECONDS);
+  }
+
+  /**
+   * Return the name of the cache.
+   */
+  public String getName() {
+    return name;
+  }
+
+  private Object key(Object id) {
+    return tenantAwareKey.key(id);
+  }
+
+  private Segment segment(Object key) {
+    int h = key.hashCode();
+    h ^= (h >>> 16);
+    return segments[h & segmentMask];
+  }
+
+  @Override
+  public boolean loadStart(Object id) {
+    return loadFlights.start(key(id));
+  }
+
+  @Override
+  public void loadEnd(Object id) {
+    loadFlights.end(key(id));
+  }
+
+  @Override
+  public Object get(Object id) {
+    Object key = key(id);
+    byte[] bytes = segment(key).get(key);
+    if (bytes == null) {
+      missCount.increment();
+      return null;
+    }
+    try {
+      Object value = encoder.decode(bytes);
+      hitCount.increment();
+      return value;
+    } catch (IOException e) {
+      logger.error("Error decoding off heap cache entry for " + name, e);
+      segment(key).remove(key);
+      missCount.increment();
+      return null;
+    }
+  }
+
+  @Override
+  public void put(Object id, Object value) {
+    Object key = key(id);
+    Segment segment = segment(key);
+    byte[] bytes;
+    try {
+      bytes = encoder.encode(value);
+    } catch (IOException e) {
+      logger.error("Error encoding off heap cache entry for " + name, e);
+      segment.remove(key);
+      return;
+    }
+    if (segment.put(key, bytes)) {
+      updateCount.increment();
+    } else {
+      insertCount.increment();
+    }
+  }
+
+  @Override
+  public void remove(Object id) {
+    Object key = key(id);
+    if (segment(key).remove(key)) {
+      removeCount.increment();
+    }
+  }
+
+  @Override
+  public void clear() {
+    clearCount.increment();
+    for (Segment segment : segments) {
+      segment.clear();
+    }
+  }
+
+  @Override
+  public int size() {
+    int size = 0;
+    for (Segment segment : segments) {
+      size += segment.size();
+    }
+    return size;
+  }
+
+  /**
+   * Return the number of bytes used by live entries.
+   */
+  public long getByteCount() {
+    long bytes = 0;
+    for (Segment segment : segments) {
+      bytes += segment.usedBytes();
+    }
+    return bytes;
+  }
+
+  @Override
+  public int getHitRatio() {
+    long mc = missCount.sum();
+    long hc = hitCount.sum();
+    long totalCount = hc + mc;
+    if (totalCount == 0) {
+      return 0;
+    } else {
+      return (int) (hc * 100 / totalCount);
+    }
+  }
+
+  @Override
+  public ServerCacheStatistics getStatistics(boolean reset) {
+
+    ServerCacheStatistics cacheStats = new ServerCacheStatistics();
+    cacheStats.setCacheName(name);
+    cacheStats.setMaxSize(maxSize);
+    cacheStats.setMaxBytes(maxBytes);
+    cacheStats.setSize(size());
+    cacheStats.setByteCount(getByteCount());
+
+    cacheStats.setHitCount(reset ? hitCount.sumThenReset() : hitCount.sum());
+    cacheStats.setMissCount(reset ? missCount.sumThenReset() : missCount.sum());
+    cacheStats.setInsertCount(reset ? insertCount.sumThenReset() : insertCount.sum());
+    cacheStats.setUpdateCount(reset ? updateCount.sumThenReset() : updateCount.sum());
+    cacheStats.setRemoveCount(reset ? removeCount.sumThenReset() : removeCount.sum());
+    cacheStats.setClearCount(reset ? clearCount.sumThenReset() : clearCount.sum());
+
+    cacheStats.setEvictionRunCount(reset ? evictCount.sumThenReset() : evictCount.sum());
+    cacheStats.setEvictionRunMicros(reset ? evictMicros.sumThenReset() : evictMicros.sum());
+    cacheStats.setEvictByIdle(reset ? evictByIdle.sumThenReset() : evictByIdle.sum());
+    cacheStats.setEvictByTTL(reset ? evictByTTL.sumThenReset() : evictByTTL.sum());
+    cacheStats.setEvictByLRU(reset ? evictByLRU.sumThenReset() : evictByLRU.sum());
+
+    cacheStats.setLoadCount(loadFlights.loadCount(reset));
+    cacheStats.setCoalescedLoadCount(loadFlights.coalescedCount(reset));
+    return cacheStats;
+  }
+
+  /**
+   * Remove the entries that have exceeded the max idle time or time to live.
+   */
+  public void runEviction() {
+    if (maxIdleNanos == 0 && maxTtlNanos == 0) {
+      return;
+    }
+    long startNanos = System.nanoTime();
+    for (Segment segment : segments) {
+      segment.trimExpired(startNanos);
+    }
+    evictCount.increment();
+    evictMicros.add(TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - startNanos));
+  }
+
+  /**
+   * Location of an entry in the segment buffer.
+   */
+  private static final class Slot {
+
+    final Object key;
+    final int offset;
+    final int length;
+    final long createTime;
+    long lastAccessTime;
+    boolean live = true;
+
+    Slot(Object key, int offset, int length, long now) {
+      this.key = key;
+      this.offset = offset;
+      this.length = length;
+      this.createTime = now;
+      this.lastAccessTime = now;
+    }
+  }
+
+  /**
+   * A segment with its own lock, key index and ring of off heap memory.
+   */
+  private final class Segment {
+
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private final Map<Object, Slot> index = new HashMap<>();
+
+    /**
+     * Slots in write order (oldest first) including dead slots not yet overwritten.
+     */
+    private final ArrayDeque<Slot> log = new ArrayDeque<>();
+
+    private final ByteBuffer buffer;
+
+    private final int capacity;
+
+    private final int maxEntries;
+
+    private int writePos;
+
+    private long usedBytes;
+
+    Segment(int capacity, int maxEntries) {
+      this.capacity = capacity;
+      this.maxEntries = maxEntries;
+      this.buffer = ByteBuffer.allocateDirect(capacity);
+    }
+
+    byte[] get(Object key) {
+      lock.lock();
+      try {
+        Slot slot = index.get(key);
+        if (slot == null) {
+          return null;
+        }
+        long now = System.nanoTime();
+        if (expired(slot, now)) {
+          return null;
+        }
+        slot.lastAccessTime = now;
+        byte[] bytes = new byte[slot.length];
+        buffer.position(slot.offset);
+        buffer.get(bytes);
+        return bytes;
+      } finally {
+        lock.unlock();
+      }
+    }
+
+    /**
+     * Put the encoded value returning true if it replaced an existing entry.
+     */
+    boolean put(Object key, byte[] bytes) {
+      lock.lock();
+      try {
+        boolean replaced = removeSlot(index.remove(key));
+        int length = bytes.length;
+        if (length > capacity) {
+          // too large to hold
+          return replaced;
+        }
+        while (index.size() >= maxEntries) {
+          evictOldest();
+        }
+        allocate(length);
+        buffer.position(writePos);
+        buffer.put(bytes);
+
+        Slot slot = new Slot(key, writePos, length, System.nanoTime());
+        writePos += length;
+        usedBytes += length;
+        log.addLast(slot);
+        index.put(key, slot);
+        return replaced;
+      } finally {
+        lock.unlock();
+      }
+    }
+
+    /**
+     * Make room for length bytes at the write position evicting the oldest entries
+     * the write position is overtaking.
+     */
+    private void allocate(int length) {
+      if (writePos + length > capacity) {
+        // evict the remaining entries from the prior lap and wrap
+        Slot head;
+        while ((head = log.peekFirst()) != null && head.offset >= writePos) {
+          evict(log.pollFirst());
+        }
+        writePos = 0;
+      }
+      int end = writePos + length;
+      Slot head;
+      while ((head = log.peekFirst()) != null && head.offset >= writePos && head.offset < end) {
+        evict(log.pollFirst());
+      }
+    }
+
+    private void evictOldest() {
+      Slot slot;
+      while ((slot = log.pollFirst()) != null) {
+        if (slot.live) {
+          evict(slot);
+          return;
+        }
+      }
+    }
+
+    private void evict(Slot slot) {
+      if (slot.live) {
+        index.remove(slot.key);
+        removeSlot(slot);
+        evictByLRU.increment();
+      }
+    }
+
+    private boolean removeSlot(Slot slot) {
+      if (slot == null) {
+        return false;
+      }
+      slot.live = false;
+      usedBytes -= slot.length;
+      return true;
+    }
+
+    boolean remove(Object key) {
+      lock.lock();
+      try {
+        return removeSlot(index.remove(key));
+      } finally {
+        lock.unlock();
+      }
+    }
+
+    /**
+     * Return true if the entry has expired (removing it in that case).
+     */
+    private boolean expired(Slot slot, long now) {
+      if (maxIdleNanos > 0 && now - slot.lastAccessTime > maxIdleNanos) {
+        index.remove(slot.key);
+        removeSlot(slot);
+        evictByIdle.increment();
+        return true;
+      }
+      if (maxTtlNanos > 0 && now - slot.createTime > maxTtlNanos) {
+        index.remove(slot.key);
+        removeSlot(slot);
+        evictByTTL.increment();
+        return true;
+      }
+      return false;
+    }
+
+    void trimExpired(long now) {
+      lock.lock();
+      try {
+        Iterator<Slot> it = index.values().iterator();
+        while (it.hasNext()) {
+          Slot slot = it.next();
+          if (maxIdleNanos > 0 && now - slot.lastAccessTime > maxIdleNanos) {
+            it.remove();
+            removeSlot(slot);
+            evictByIdle.increment();
+          } else if (maxTtlNanos > 0 && now - slot.createTime > maxTtlNanos) {
+            it.remove();
+            removeSlot(slot);
+            evictByTTL.increment();
+          }
+        }
+      } finally {
+        lock.unlock();
+      }
+    }
+
+    void clear() {
+      lock.lock();
+      try {
+        index.clear();
+        log.clear();
+        writePos = 0;
+        usedBytes = 0;
+      } finally {
+        lock.unlock();
+      }
+    }
+
+    int size() {
+      lock.lock();
+      try {
+        return index.size();
+      } finally {
+        lock.unlock();
+      }
+    }
+
+    long usedBytes() {
+      lock.lock();
+      try {
+        return usedBytes;
+      } finally {
+        lock.unlock();
+      }
+    }
+  }
+}
@@ -0,0 +1,55 @@
+package io.ebeaninternal.server.cache;
+
+import java.io.Serializable;
+import java.util.Set;
+
+/**
+ * A query result held in the L2 query cache along with the tables it depends on.
+ * <p>
+ * The entry is valid while none of its dependent tables have been modified since
+ * the query was executed.
+ * </p>
+ */
+public final class QueryCacheEntry implements Serializable {
+
+  private static final long serialVersionUID = 7344590243127465128L;
+
+  private final Object value;
+
+  private final Set<String> dependentTables;
+
+  private final long timestamp;
+
+  /**
+   * Create with the query result, dependent tables (lower case) and the timestamp taken before the query executed.
+   * <p>
+   * Null dependent tables means the tables are not known (RawSql, subqueries or raw expressions).
+   * </p>
+   */
+  public QueryCacheEntry(Object value, Set<String> dependentTables, long timestamp) {
+    this.value = value;
+    this.dependentTables = dependentTables;
+    this.timestamp = timestamp;
+  }
+
+  /**
+   * Return the query result.
+   */
+  public Object getValue() {
+    return value;
+  }
+
+  /**
+   * Return the (lower case) tables the query result depends on (null when not known).
+   */
+  public Set<String> getDependentTables() {
+    return dependentTables;
+  }
+
+  /**
+   * Return the timestamp taken before the query was executed.
+   */
+  public long getTimestamp() {
+    return timestamp;
+  }
+}
@@ -1,5 +1,7 @@
 package io.ebeaninternal.server.cache;
 
+import io.ebeaninternal.server.cluster.BinaryFrameReader;
+import io.ebeaninternal.server.cluster.BinaryFrameWriter;
 import io.ebeaninternal.server.cluster.BinaryMessage;
 import io.ebeaninternal.server.cluster.BinaryMessageList;
 
@@ -91,4 +93,39 @@ public class RemoteCacheEvent {
     msgList.add(msg);
 
   }
+
+  /**
+   * Read from a (batched and compressed) cluster frame.
+   */
+  public static RemoteCacheEvent readFrame(BinaryFrameReader reader) throws IOException {
+
+    boolean clearAll = reader.getIs().readBoolean();
+    int size = reader.readVarInt();
+
+    List<String> clearCache = null;
+    if (size > 0) {
+      clearCache = new ArrayList<>(size);
+      for (int i = 0; i < size; i++) {
+        clearCache.add(reader.readName());
+      }
+    }
+
+    return new RemoteCacheEvent(clearAll, clearCache);
+  }
+
+  /**
+   * Write to a (batched and compressed) cluster frame.
+   */
+  public void writeFrame(BinaryFrameWriter writer) throws IOException {
+
+    writer.getOs().writeBoolean(clearAll);
+    if (clearCaches == null) {
+      writer.writeVarInt(0);
+    } else {
+      writer.writeVarInt(clearCaches.size());
+      for (String cacheName : clearCaches) {
+        writer.writeName(cacheName);
+      }
+    }
+  }
 }
@@ -36,6 +36,21 @@ public interface SpiCacheManager {
    */
   ServerCache getQueryCache(Class<?> beanType);
 
+  /**
+   * Return the timestamp to take before executing a query that puts into the query cache.
+   */
+  long queryCacheTimestamp();
+
+  /**
+   * Invalidate query cache entries that depend on the given table.
+   */
+  void invalidateQueryCache(String tableName);
+
+  /**
+   * Return true if the query cache entry is valid (none of its dependent tables modified since it was loaded).
+   */
+  boolean isQueryCacheEntryValid(QueryCacheEntry entry);
+
   /**
    * Clear the caches for the given bean type.
    */
@@ -0,0 +1,64 @@
+package io.ebeaninternal.server.cache;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Holds the last modification timestamp of tables used to validate query cache entries.
+ * <p>
+ * Timestamps are wall clock based (microseconds) such that entries held in a remote query cache
+ * can be validated by other members of the cluster. They are also strictly increasing such that
+ * a table modified while the query is executing (or in the same millisecond) invalidates the entry.
+ * </p>
+ */
+final class TableModState {
+
+  private final ConcurrentHashMap<String, Long> tableModStamp = new ConcurrentHashMap<>();
+
+  private final AtomicLong clock = new AtomicLong();
+
+  /**
+   * The last modification of any table.
+   */
+  private final AtomicLong lastModified = new AtomicLong();
+
+  /**
+   * Return a new timestamp (greater than all previous timestamps).
+   */
+  long now() {
+    long wall = System.currentTimeMillis() * 1000;
+    return clock.accumulateAndGet(wall, (prev, w) -> Math.max(prev + 1, w));
+  }
+
+  /**
+   * Mark the table as modified now.
+   * <p>
+   * Concurrent touches keep the larger timestamp (the order of the writes does not matter).
+   * </p>
+   */
+  void touch(String tableName) {
+    long now = now();
+    tableModStamp.merge(tableName.toLowerCase(), now, Math::max);
+    lastModified.accumulateAndGet(now, Math::max);
+  }
+
+  /**
+   * Return true if none of the (lower case) tables have been modified since the given timestamp.
+   * <p>
+   * Null tables means the tables are not known such that a modification to any table invalidates.
+   * </p>
+   */
+  boolean isValid(Set<String> tables, long timestamp) {
+    if (tables == null) {
+      return lastModified.get() < timestamp;
+    }
+    for (String table : tables) {
+      Long modified = tableModStamp.get(table);
+      if (modified != null && modified >= timestamp) {
+        return false;
+      }
+    }
+    return true;
+  }
+}
@@ -0,0 +1,221 @@
+package io.ebeaninternal.server.cache;
+
+import io.ebean.cache.ServerCache;
+import io.ebean.cache.ServerCacheOptions;
+import io.ebean.cache.ServerCacheStatistics;
+import io.ebean.config.CurrentTenantProvider;
+
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A small on heap near cache in front of a remote (ServerCachePlugin) or off heap cache.
+ * <p>
+ * Gets are served from the near tier when possible and otherwise from the remote tier
+ * (populating the near tier). Puts, removes and clears are applied to both tiers such that
+ * the invalidation of a cache entry (local changes or the invalidation messages from other
+ * members of the cluster) keeps the near tier coherent. The near tier time to live bounds
+ * the staleness of entries changed without an invalidation message.
+ * </p>
+ * <p>
+ * The statistics are those of the remote tier with the near tier size, hits and misses
+ * additionally included.
+ * </p>
+ */
+public class TieredServerCache implements ServerCache {
+
+  private final DefaultServerCache near;
+
+  private final ServerCache remote;
+
+  private final long nearTtlNanos;
+
+  private final LongAdder nearHitCount = new LongAdder();
+  private final LongAdder nearMissCount = new LongAdder();
+  private final LongAdder remoteHitCount = new LongAdder();
+
+  /**
+   * Create with the remote (or off heap) cache and options with nearMaxSize set.
+   */
+  public TieredServerCache(String name, ServerCache remote, CurrentTenantProvider tenantProvider, ServerCacheOptions options) {
+    this.remote = remote;
+    this.nearTtlNanos = TimeUnit.SECONDS.toNanos(options.getNearMaxSecsToLive());
+    ServerCacheOptions nearOptions = new ServerCacheOptions();
+    nearOptions.setMaxSize(options.getNearMaxSize());
+    this.near = new DefaultServerCache(name + "-near", tenantProvider, nearOptions);
+  }
+
+  /**
+   * Return the near (on heap) tier.
+   */
+  public ServerCache getNear() {
+    return near;
+  }
+
+  /**
+   * Return the remote (or off heap) tier.
+   */
+  public ServerCache getRemote() {
+    return remote;
+  }
+
+  /**
+   * Return the value from the near tier (or null if not there or expired).
+   */
+  private Object nearGet(Object id) {
+    NearEntry entry = (NearEntry) near.get(id);
+    if (entry != null) {
+      if (nearTtlNanos == 0 || System.nanoTime() - entry.createTime < nearTtlNanos) {
+        nearHitCount.increment();
+        return entry.value;
+      }
+      near.remove(id);
+    }
+    nearMissCount.increment();
+    return null;
+  }
+
+  private void nearPut(Object id, Object value) {
+    near.put(id, new NearEntry(value));
+  }
+
+  /**
+   * Return the value from the remote tier putting it into the near tier.
+   */
+  private Object remoteLoaded(Object id, Object value) {
+    if (value != null) {
+      remoteHitCount.increment();
+      nearPut(id, value);
+    }
+    return value;
+  }
+
+  @Override
+  public Object get(Object id) {
+    Object value = nearGet(id);
+    return (value != null) ? value : remoteLoaded(id, remote.get(id));
+  }
+
+  @Override
+  public Object getReadThrough(Object id) {
+    Object value = nearGet(id);
+    return (value != null) ? value : remoteLoaded(id, remote.getReadThrough(id));
+  }
+
+  @Override
+  public Map<Object, Object> getAll(Set<Object> keys) {
+
+    Map<Object, Object> map = new LinkedHashMap<>();
+    Set<Object> remoteKeys = new HashSet<>();
+    for (Object key : keys) {
+      Object value = nearGet(key);
+      if (value != null) {
+        map.put(key, value);
+      } else {
+        remoteKeys.add(key);
+      }
+    }
+    if (!remoteKeys.isEmpty()) {
+      for (Map.Entry<Object, Object> entry : remote.getAll(remoteKeys).entrySet()) {
+        map.put(entry.getKey(), remoteLoaded(entry.getKey(), entry.getValue()));
+      }
+    }
+    return map;
+  }
+
+  /**
+   * Single flight loading is per member of the cluster (using the near tier).
+   */
+  @Override
+  public boolean loadStart(Object id) {
+    return near.loadStart(id);
+  }
+
+  @Override
+  public void loadEnd(Object id) {
+    near.loadEnd(id);
+  }
+
+  @Override
+  public void put(Object id, Object value) {
+    remote.put(id, value);
+    nearPut(id, value);
+  }
+
+  @Override
+  public void putAll(Map<Object, Object> keyValues) {
+    remote.putAll(keyValues);
+    keyValues.forEach(this::nearPut);
+  }
+
+  @Override
+  public void remove(Object id) {
+    remote.remove(id);
+    near.remove(id);
+  }
+
+  @Override
+  public void removeAll(Set<Object> keys) {
+    remote.removeAll(keys);
+    near.removeAll(keys);
+  }
+
+  @Override
+  public void clear() {
+    remote.clear();
+    near.clear();
+  }
+
+  @Override
+  public int size() {
+    return remote.size();
+  }
+
+  /**
+   * Return the hit ratio across both tiers.
+   */
+  @Override
+  public int getHitRatio() {
+    long nearHit = nearHitCount.sum();
+    long totalCount = nearHit + nearMissCount.sum();
+    if (totalCount == 0) {
+      return 0;
+    } else {
+      return (int) ((nearHit + remoteHitCount.sum()) * 100 / totalCount);
+    }
+  }
+
+  @Override
+  public ServerCacheStatistics getStatistics(boolean reset) {
+
+    ServerCacheStatistics cacheStats = remote.getStatistics(reset);
+    ServerCacheStatistics nearStats = near.getStatistics(reset);
+    cacheStats.setNearSize(nearStats.getSize());
+    cacheStats.setNearHitCount(reset ? nearHitCount.sumThenReset() : nearHitCount.sum());
+    cacheStats.setNearMissCount(reset ? nearMissCount.sumThenReset() : nearMissCount.sum());
+    cacheStats.setLoadCount(nearStats.getLoadCount());
+    cacheStats.setCoalescedLoadCount(nearStats.getCoalescedLoadCount());
+    if (reset) {
+      remoteHitCount.reset();
+    }
+    return cacheStats;
+  }
+
+  /**
+   * Near tier value with the time it was created.
+   */
+  private static final class NearEntry {
+
+    private final Object value;
+
+    private final long createTime = System.nanoTime();
+
+    NearEntry(Object value) {
+      this.value = value;
+    }
+  }
+}
@@ -0,0 +1,275 @@
+package io.ebeaninternal.server.cache;
+
+import io.ebeaninternal.server.cache.DefaultServerCache.CacheEntry;
+
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * W-TinyLFU eviction keeping the cache bounded to its max size on each write.
+ * <p>
+ * New entries go into a small LRU admission window. Entries leaving the window become
+ * candidates for the main space which is a segmented LRU (probation and protected). When
+ * the main space is full the candidate competes with the probation LRU victim and the
+ * entry with the lower estimated frequency (per the frequency sketch) is evicted.
+ * </p>
+ * <p>
+ * All work is O(1) per write. Reads only record the access when the lock is uncontended
+ * such that cache hits never block (a dropped access merely makes the LRU order and
+ * frequency slightly less accurate).
+ * </p>
+ */
+public class TinyLfuEviction implements CacheEviction {
+
+  static final int NEW = 0;
+  static final int WINDOW = 1;
+  static final int PROBATION = 2;
+  static final int PROTECTED = 3;
+  static final int DEAD = 4;
+
+  private final ReentrantLock lock = new ReentrantLock();
+
+  private final FrequencySketch sketch;
+
+  private final EntryQueue window = new EntryQueue(WINDOW);
+  private final EntryQueue probation = new EntryQueue(PROBATION);
+  private final EntryQueue protectedQueue = new EntryQueue(PROTECTED);
+
+  private final int maxWindow;
+  private final int maxMain;
+  private final int maxProtected;
+
+  /**
+   * Create given the maximum size of the cache.
+   */
+  public TinyLfuEviction(int maxSize) {
+    int maximum = Math.max(maxSize, 1);
+    this.maxWindow = Math.max(1, maximum / 100);
+    this.maxMain = maximum - maxWindow;
+    this.maxProtected = maxMain * 80 / 100;
+    this.sketch = new FrequencySketch(maximum);
+  }
+
+  @Override
+  public void onAccess(CacheEntry entry) {
+    if (lock.tryLock()) {
+      try {
+        sketch.increment(entry.getKey());
+        switch (entry.queue) {
+          case WINDOW:
+            window.moveToTail(entry);
+            break;
+          case PROBATION:
+            probation.remove(entry);
+            protectedQueue.add(entry);
+            demoteProtected();
+            break;
+          case PROTECTED:
+            protectedQueue.moveToTail(entry);
+            break;
+          default:
+            // not yet linked or already removed
+        }
+      } finally {
+        lock.unlock();
+      }
+    }
+  }
+
+  @Override
+  public int onWrite(Map<Object, CacheEntry> map, CacheEntry entry, CacheEntry replaced) {
+    lock.lock();
+    try {
+      if (replaced != null) {
+        unlink(replaced);
+      }
+      if (entry.queue != NEW) {
+        // already removed (or replaced) prior to being linked
+        return 0;
+      }
+      sketch.increment(entry.getKey());
+      window.add(entry);
+      while (window.size > maxWindow) {
+        probation.add(window.poll());
+      }
+      int evicted = 0;
+      while (probation.size + protectedQueue.size > maxMain) {
+        if (evictFromMain(map)) {
+          evicted++;
+        }
+      }
+      return evicted;
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  @Override
+  public void onRemove(CacheEntry entry) {
+    lock.lock();
+    try {
+      unlink(entry);
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  @Override
+  public void clear(Map<Object, CacheEntry> map) {
+    lock.lock();
+    try {
+      map.clear();
+      window.clear();
+      probation.clear();
+      protectedQueue.clear();
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /**
+   * Return the number of entries tracked by the policy.
+   */
+  int size() {
+    lock.lock();
+    try {
+      return window.size + probation.size + protectedQueue.size;
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /**
+   * Evict either the candidate (most recent entry to probation) or the victim (LRU of probation).
+   *
+   * @return true if an entry was removed from the map
+   */
+  private boolean evictFromMain(Map<Object, CacheEntry> map) {
+    CacheEntry victim = probation.head;
+    if (victim == null) {
+      // all of main is protected (maxProtected is 0 or demotion pending)
+      victim = protectedQueue.head;
+    } else {
+      CacheEntry candidate = probation.tail;
+      if (candidate != victim && sketch.frequency(candidate.getKey()) <= sketch.frequency(victim.getKey())) {
+        // candidate not admitted
+        victim = candidate;
+      }
+    }
+    unlink(victim);
+    return map.remove(victim.getKey(), victim);
+  }
+
+  /**
+   * Move the LRU of the protected segment back to probation when over capacity.
+   */
+  private void demoteProtected() {
+    while (protectedQueue.size > maxProtected) {
+      probation.add(protectedQueue.poll());
+    }
+  }
+
+  /**
+   * Unlink the entry from its queue and mark it as dead.
+   */
+  private void unlink(CacheEntry entry) {
+    switch (entry.queue) {
+      case WINDOW:
+        window.remove(entry);
+        break;
+      case PROBATION:
+        probation.remove(entry);
+        break;
+      case PROTECTED:
+        protectedQueue.remove(entry);
+        break;
+      default:
+        // not linked
+    }
+    entry.queue = DEAD;
+  }
+
+  /**
+   * Doubly linked access order queue using the links held on the cache entries.
+   */
+  private static final class EntryQueue {
+
+    private final int queue;
+
+    private CacheEntry head;
+    private CacheEntry tail;
+    private int size;
+
+    EntryQueue(int queue) {
+      this.queue = queue;
+    }
+
+    /**
+     * Add the (unlinked) entry to the tail (most recently used).
+     */
+    void add(CacheEntry entry) {
+      entry.queue = queue;
+      entry.prev = tail;
+      entry.next = null;
+      if (tail == null) {
+        head = entry;
+      } else {
+        tail.next = entry;
+      }
+      tail = entry;
+      size++;
+    }
+
+    /**
+     * Remove and return the head (least recently used).
+     */
+    CacheEntry poll() {
+      CacheEntry entry = head;
+      remove(entry);
+      return entry;
+    }
+
+    /**
+     * Unlink the entry from this queue.
+     */
+    void remove(CacheEntry entry) {
+      CacheEntry prev = entry.prev;
+      CacheEntry next = entry.next;
+      if (prev == null) {
+        head = next;
+      } else {
+        prev.next = next;
+      }
+      if (next == null) {
+        tail = prev;
+      } else {
+        next.prev = prev;
+      }
+      entry.prev = null;
+      entry.next = null;
+      entry.queue = NEW;
+      size--;
+    }
+
+    void moveToTail(CacheEntry entry) {
+      if (entry != tail) {
+        remove(entry);
+        add(entry);
+      }
+    }
+
+    void clear() {
+      CacheEntry entry = head;
+      while (entry != null) {
+        CacheEntry next = entry.next;
+        entry.prev = null;
+        entry.next = null;
+        entry.queue = DEAD;
+        entry = next;
+      }
+      head = null;
+      tail = null;
+      size = 0;
+    }
+  }
+}
@@ -0,0 +1,196 @@
+package io.ebeaninternal.server.cluster;
+
+import io.ebean.EbeanServer;
+import io.ebean.config.ContainerConfig;
+import io.ebeaninternal.api.SpiEbeanServer;
+import io.ebeaninternal.server.lib.DaemonThreadFactory;
+import io.ebeaninternal.server.transaction.RemoteTransactionEvent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * ClusterBroadcast that batches the events over a short window into compressed frames.
+ * <p>
+ * Rather than sending each transaction event as it occurs the events are collected for the
+ * window (property <code>ebean.cluster.batchWindowMillis</code>, default 20 millis) and then
+ * written as a single frame using BinaryFrameWriter (dictionary encoded names, delta encoded
+ * ids and compressed).
+ * </p>
+ * <p>
+ * Transport implementations send the frame bytes to the other members of the cluster via
+ * {@link #sendFrame(byte[])} and pass the frames they receive to {@link #receiveFrame(byte[])}.
+ * </p>
+ * <p>
+ * A received frame of another version (a member running a different version during a rolling
+ * upgrade) can not be read. Its events are unknown so the local L2 caches are cleared instead.
+ * </p>
+ */
+public abstract class BatchingClusterBroadcast implements ClusterBroadcast {
+
+  private static final Logger clusterLogger = LoggerFactory.getLogger("io.ebean.Cluster");
+
+  /**
+   * Property to set the batch window in millis.
+   */
+  public static final String BATCH_WINDOW_MILLIS = "ebean.cluster.batchWindowMillis";
+
+  protected final ClusterManager manager;
+
+  private final long windowMillis;
+
+  private final Queue<RemoteTransactionEvent> pending = new ConcurrentLinkedQueue<>();
+
+  private final AtomicBoolean scheduled = new AtomicBoolean();
+
+  private ScheduledExecutorService executor;
+
+  protected BatchingClusterBroadcast(ClusterManager manager, ContainerConfig config) {
+    this.manager = manager;
+    this.windowMillis = windowMillis(config);
+  }
+
+  private static long windowMillis(ContainerConfig config) {
+    Properties properties = config == null ? null : config.getProperties();
+    String window = properties == null ? null : properties.getProperty(BATCH_WINDOW_MILLIS);
+    return window == null ? 20 : Long.parseLong(window.trim());
+  }
+
+  /**
+   * Send the frame to all the other members of the cluster.
+   */
+  protected abstract void sendFrame(byte[] frame) throws IOException;
+
+  @Override
+  public void startup() {
+    executor = Executors.newSingleThreadScheduledExecutor(new DaemonThreadFactory("ebean-cluster-batch-"));
+  }
+
+  @Override
+  public void shutdown() {
+    if (executor != null) {
+      executor.shutdown();
+    }
+    // send what is pending
+    flush();
+  }
+
+  /**
+   * Add the event to be sent with the next frame.
+   */
+  @Override
+  public void broadcast(RemoteTransactionEvent remoteTransEvent) {
+    pending.add(remoteTransEvent);
+    if (scheduled.compareAndSet(false, true)) {
+      if (executor == null || executor.isShutdown()) {
+        flush();
+      } else {
+        executor.schedule(this::flush, windowMillis, TimeUnit.MILLISECONDS);
+      }
+    }
+  }
+
+  /**
+   * Send the pending events as a single frame.
+   */
+  void flush() {
+    scheduled.set(false);
+    List<RemoteTransactionEvent> events = new ArrayList<>();
+    RemoteTransactionEvent event;
+    while ((event = pending.poll()) != null) {
+      events.add(event);
+    }
+    if (!events.isEmpty()) {
+      try {
+        byte[] frame = encode(events);
+        if (clusterLogger.isDebugEnabled()) {
+          clusterLogger.debug("sending frame of {} events in {} bytes", events.size(), frame.length);
+        }
+        sendFrame(frame);
+      } catch (Exception e) {
+        clusterLogger.error("Error sending cluster frame of " + events.size() + " events", e);
+      }
+    }
+  }
+
+  /**
+   * Process a frame received from another member of the cluster.
+   */
+  protected void receiveFrame(byte[] frame) {
+    if (!BinaryFrameReader.isSupported(frame)) {
+      clusterLogger.warn("Received cluster frame version {} expected {}, clearing the L2 caches", BinaryFrameReader.version(frame), BinaryFrameWriter.VERSION);
+      for (EbeanServer server : manager.getServers()) {
+        server.getServerCacheManager().clearAllLocal();
+      }
+      return;
+    }
+    try {
+      for (RemoteTransactionEvent event : decode(frame)) {
+        event.run();
+      }
+    } catch (Exception e) {
+      clusterLogger.error("Error processing received cluster frame", e);
+    }
+  }
+
+  /**
+   * Encode the events into a frame grouping them by server name.
+   */
+  static byte[] encode(List<RemoteTransactionEvent> events) throws IOException {
+
+    Map<String, List<RemoteTransactionEvent>> byServer = new LinkedHashMap<>();
+    for (RemoteTransactionEvent event : events) {
+      byServer.computeIfAbsent(event.getServerName(), k -> new ArrayList<>()).add(event);
+    }
+
+    BinaryFrameWriter writer = new BinaryFrameWriter();
+    writer.writeVarInt(byServer.size());
+    for (Map.Entry<String, List<RemoteTransactionEvent>> entry : byServer.entrySet()) {
+      // a section per server such that members without the server can skip its events
+      writer.beginSection(entry.getKey());
+      writer.writeVarInt(entry.getValue().size());
+      for (RemoteTransactionEvent event : entry.getValue()) {
+        event.writeFrame(writer);
+      }
+      writer.endSection();
+    }
+    return writer.toFrame();
+  }
+
+  /**
+   * Decode the frame into events for the servers of this cluster member.
+   */
+  List<RemoteTransactionEvent> decode(byte[] frame) throws IOException {
+
+    List<RemoteTransactionEvent> events = new ArrayList<>();
+    try (BinaryFrameReader reader = new BinaryFrameReader(frame)) {
+      int serverCount = reader.readVarInt();
+      for (int i = 0; i < serverCount; i++) {
+        String serverName = reader.beginSection();
+        EbeanServer server = manager.getServer(serverName);
+        if (server == null) {
+          clusterLogger.warn("Server {} not registered, ignoring its cluster frame events", serverName);
+          reader.skipSection();
+          continue;
+        }
+        int eventCount = reader.readVarInt();
+        for (int j = 0; j < eventCount; j++) {
+          events.add(RemoteTransactionEvent.readFrame((SpiEbeanServer) server, reader));
+        }
+      }
+    }
+    return events;
+  }
+}
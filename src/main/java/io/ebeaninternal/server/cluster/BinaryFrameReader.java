@@ -0,0 +1,144 @@
+package io.ebeaninternal.server.cluster;
+
+import java.io.ByteArrayInputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.Inflater;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * Reads a compressed frame written by BinaryFrameWriter.
+ * <p>
+ * Close the reader to release the (native) Inflater.
+ * </p>
+ */
+public final class BinaryFrameReader implements Closeable {
+
+  private final Inflater inflater = new Inflater();
+
+  private final DataInputStream is;
+
+  private final List<String> names = new ArrayList<>();
+
+  private int sectionLength;
+
+  /**
+   * Create for the given frame bytes.
+   */
+  public BinaryFrameReader(byte[] frame) throws IOException {
+    ByteArrayInputStream in = new ByteArrayInputStream(frame);
+    DataInputStream header = new DataInputStream(in);
+    int magic = header.readInt();
+    int version = header.readUnsignedByte();
+    if (magic != BinaryFrameWriter.MAGIC) {
+      throw new IOException("Invalid cluster frame header " + Integer.toHexString(magic));
+    }
+    if (version != BinaryFrameWriter.VERSION) {
+      throw new IOException("Unsupported cluster frame version " + version + " expected " + BinaryFrameWriter.VERSION);
+    }
+    this.is = new DataInputStream(new InflaterInputStream(in, inflater));
+  }
+
+  /**
+   * Return the frame version or -1 if the bytes are not a frame.
+   */
+  public static int version(byte[] frame) {
+    if (frame.length < 5) {
+      return -1;
+    }
+    int magic = ((frame[0] & 0xFF) << 24) | ((frame[1] & 0xFF) << 16) | ((frame[2] & 0xFF) << 8) | (frame[3] & 0xFF);
+    return (magic == BinaryFrameWriter.MAGIC) ? frame[4] & 0xFF : -1;
+  }
+
+  /**
+   * Return true if the frame is of the version this reader supports.
+   */
+  public static boolean isSupported(byte[] frame) {
+    return version(frame) == BinaryFrameWriter.VERSION;
+  }
+
+  /**
+   * End the Inflater.
+   */
+  @Override
+  public void close() {
+    inflater.end();
+  }
+
+  /**
+   * Return the DataInputStream to read content from.
+   */
+  public DataInputStream getIs() {
+    return is;
+  }
+
+  /**
+   * Begin reading a section returning its name.
+   */
+  public String beginSection() throws IOException {
+    String name = is.readUTF();
+    sectionLength = readVarInt();
+    names.clear();
+    return name;
+  }
+
+  /**
+   * Skip the content of the section (instead of reading it).
+   */
+  public void skipSection() throws IOException {
+    int remaining = sectionLength;
+    while (remaining > 0) {
+      int skipped = is.skipBytes(remaining);
+      if (skipped <= 0) {
+        // throws EOFException at the end of the stream
+        is.readByte();
+        skipped = 1;
+      }
+      remaining -= skipped;
+    }
+  }
+
+  /**
+   * Read a dictionary encoded name.
+   */
+  public String readName() throws IOException {
+    int index = (int) readVarLong();
+    if (index > 0) {
+      return names.get(index - 1);
+    }
+    String name = is.readUTF();
+    names.add(name);
+    return name;
+  }
+
+  /**
+   * Read a non-negative int value (count, size etc).
+   */
+  public int readVarInt() throws IOException {
+    return (int) readVarLong();
+  }
+
+  /**
+   * Read a value written as the difference from the previous value.
+   */
+  public long readDelta(long previous) throws IOException {
+    long zigzag = readVarLong();
+    return previous + ((zigzag >>> 1) ^ -(zigzag & 1));
+  }
+
+  private long readVarLong() throws IOException {
+    long value = 0;
+    int shift = 0;
+    while (true) {
+      int b = is.readUnsignedByte();
+      value |= (long) (b & 0x7F) << shift;
+      if ((b & 0x80) == 0) {
+        return value;
+      }
+      shift += 7;
+    }
+  }
+}
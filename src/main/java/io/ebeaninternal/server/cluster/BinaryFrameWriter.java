@@ -0,0 +1,139 @@
+package io.ebeaninternal.server.cluster;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+
+/**
+ * Writes a compressed frame holding a batch of events for broadcast to the cluster.
+ * <p>
+ * Compared to BinaryMessage the frame uses variable length ints, dictionary encoding of
+ * names (bean types, tables, caches) such that each name is written once per frame and
+ * the frame content is compressed.
+ * </p>
+ * <p>
+ * Content can be written in named sections. A section is length prefixed (such that a
+ * reader can skip it) and has its own name dictionary.
+ * </p>
+ */
+public final class BinaryFrameWriter {
+
+  /**
+   * Marks the start of a frame ("EBCF").
+   */
+  static final int MAGIC = 0x45424346;
+
+  /**
+   * Version 2 - content in length prefixed sections per server.
+   * Version 3 - bean versions of updates and ids of bulk updates and deletes.
+   */
+  static final int VERSION = 3;
+
+  private final ByteArrayOutputStream buffer = new ByteArrayOutputStream(512);
+
+  private final DataOutputStream frameOs = new DataOutputStream(buffer);
+
+  /**
+   * The current stream (the frame or section).
+   */
+  private DataOutputStream os = frameOs;
+
+  private ByteArrayOutputStream section;
+
+  private final Map<String, Integer> names = new HashMap<>();
+
+  /**
+   * Return the DataOutputStream to write content to.
+   */
+  public DataOutputStream getOs() {
+    return os;
+  }
+
+  /**
+   * Begin a named section. The content written up to {@link #endSection()} is length prefixed.
+   */
+  public void beginSection(String name) throws IOException {
+    if (section != null) {
+      throw new IllegalStateException("Section already started");
+    }
+    os.writeUTF(name);
+    section = new ByteArrayOutputStream(256);
+    os = new DataOutputStream(section);
+    names.clear();
+  }
+
+  /**
+   * End the current section writing its length and content to the frame.
+   */
+  public void endSection() throws IOException {
+    os.flush();
+    os = frameOs;
+    writeVarLong(section.size());
+    section.writeTo(os);
+    section = null;
+  }
+
+  /**
+   * Write a name using the dictionary (such that repeated names are written as an index).
+   */
+  public void writeName(String name) throws IOException {
+    Integer index = names.get(name);
+    if (index != null) {
+      writeVarLong(index + 1);
+    } else {
+      names.put(name, names.size());
+      writeVarLong(0);
+      os.writeUTF(name);
+    }
+  }
+
+  /**
+   * Write a non-negative int value (count, size etc).
+   */
+  public void writeVarInt(int value) throws IOException {
+    writeVarLong(value & 0xFFFFFFFFL);
+  }
+
+  /**
+   * Write a value as the (zig zag encoded) difference from the previous value.
+   */
+  public void writeDelta(long previous, long value) throws IOException {
+    long delta = value - previous;
+    writeVarLong((delta << 1) ^ (delta >> 63));
+  }
+
+  private void writeVarLong(long value) throws IOException {
+    while ((value & ~0x7FL) != 0) {
+      os.writeByte((int) ((value & 0x7F) | 0x80));
+      value >>>= 7;
+    }
+    os.writeByte((int) value);
+  }
+
+  /**
+   * Return the frame as bytes with the content compressed.
+   */
+  public byte[] toFrame() throws IOException {
+    if (section != null) {
+      throw new IllegalStateException("Section not ended");
+    }
+    os.flush();
+    ByteArrayOutputStream frame = new ByteArrayOutputStream(buffer.size() / 2 + 16);
+    DataOutputStream header = new DataOutputStream(frame);
+    header.writeInt(MAGIC);
+    header.writeByte(VERSION);
+    header.flush();
+
+    Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+    try (DeflaterOutputStream out = new DeflaterOutputStream(frame, deflater)) {
+      buffer.writeTo(out);
+    } finally {
+      deflater.end();
+    }
+    return frame.toByteArray();
+  }
+}
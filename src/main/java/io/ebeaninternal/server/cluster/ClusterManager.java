@@ -6,7 +6,9 @@ import io.ebeaninternal.server.transaction.RemoteTransactionEvent;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.ArrayList;
 import java.util.Iterator;
+import java.util.List;
 import java.util.ServiceLoader;
 import java.util.concurrent.ConcurrentHashMap;
 
@@ -65,6 +67,15 @@ public class ClusterManager {
     }
   }
 
+  /**
+   * Return the registered servers.
+   */
+  public List<EbeanServer> getServers() {
+    synchronized (monitor) {
+      return new ArrayList<>(serverMap.values());
+    }
+  }
+
   private void startup() {
     started = true;
     if (broadcast != null) {
@@ -208,11 +208,12 @@ public class DefaultBeanLoader {
   }
 
   /**
-   * Execute the lazy load query taking into account MySql transaction oddness.
+   * Execute the lazy load query taking into account MySql transaction oddness
+   * and parallel secondary queries.
    */
   private List<?> executeQuery(LoadRequest loadRequest, SpiQuery<?> query) {
-    if (onIterateUseExtraTxn && loadRequest.isParentFindIterate()) {
-      // MySql - we need a different transaction to execute the secondary query
+    if ((onIterateUseExtraTxn && loadRequest.isParentFindIterate()) || loadRequest.isParallelSecondaryQuery()) {
+      // MySql or parallel - we need a different transaction to execute the secondary query
       SpiTransaction extraTxn = server.createQueryTransaction(query.getTenantId());
       try {
         return server.findList(query, extraTxn);
@@ -176,12 +176,16 @@ public class DefaultContainer implements SpiContainer {
     beanOptions.setMaxSize(serverConfig.getCacheMaxSize());
     beanOptions.setMaxIdleSecs(serverConfig.getCacheMaxIdleTime());
     beanOptions.setMaxSecsToLive(serverConfig.getCacheMaxTimeToLive());
+    beanOptions.setNearMaxSize(serverConfig.getCacheNearMaxSize());
+    beanOptions.setNearMaxSecsToLive(serverConfig.getCacheNearMaxTimeToLive());
 
     // reasonable default settings for the query cache per bean type
     ServerCacheOptions queryOptions = new ServerCacheOptions();
     queryOptions.setMaxSize(serverConfig.getQueryCacheMaxSize());
     queryOptions.setMaxIdleSecs(serverConfig.getQueryCacheMaxIdleTime());
     queryOptions.setMaxSecsToLive(serverConfig.getQueryCacheMaxTimeToLive());
+    queryOptions.setNearMaxSize(serverConfig.getCacheNearMaxSize());
+    queryOptions.setNearMaxSecsToLive(serverConfig.getCacheNearMaxTimeToLive());
 
     boolean localL2Caching = false;
     ServerCachePlugin plugin = serverConfig.getServerCachePlugin();
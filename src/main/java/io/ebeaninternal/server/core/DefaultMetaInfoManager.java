@@ -3,13 +3,20 @@ package io.ebeaninternal.server.core;
 import io.ebean.meta.AbstractMetricVisitor;
 import io.ebean.meta.BasicMetricVisitor;
 import io.ebean.meta.MetaInfoManager;
+import io.ebean.meta.MetaLazyLoadBatchSize;
 import io.ebean.meta.MetaOrmQueryMetric;
 import io.ebean.meta.MetaOrmQueryNode;
+import io.ebean.meta.MetaPostCommit;
+import io.ebean.meta.MetaPstmtCache;
 import io.ebean.meta.MetaQueryMetric;
+import io.ebean.meta.MetaQueryPlanCache;
 import io.ebean.meta.MetaTimedMetric;
 import io.ebean.meta.MetricVisitor;
+import io.ebeaninternal.server.deploy.BeanDescriptor;
+import io.ebeaninternal.server.loadcontext.LazyLoadBatchSizer;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
 /**
@@ -52,6 +59,35 @@ public class DefaultMetaInfoManager implements MetaInfoManager {
     return list;
   }
 
+  @Override
+  public List<MetaLazyLoadBatchSize> collectLazyLoadBatchSizes() {
+    LazyLoadBatchSizer sizer = server.lazyLoadBatchSizer;
+    return sizer == null ? Collections.emptyList() : sizer.collect();
+  }
+
+  @Override
+  public List<MetaQueryPlanCache> collectQueryPlanCacheStatistics(boolean reset) {
+
+    List<MetaQueryPlanCache> list = new ArrayList<>();
+    for (BeanDescriptor<?> desc : server.getBeanDescriptors()) {
+      MetaQueryPlanCache statistics = desc.getQueryPlanCacheStatistics(reset);
+      if (statistics.getSize() > 0 || statistics.getHitCount() > 0 || statistics.getMissCount() > 0) {
+        list.add(statistics);
+      }
+    }
+    return list;
+  }
+
+  @Override
+  public MetaPstmtCache collectPstmtCacheStatistics(boolean reset) {
+    return server.getPstmtCacheStatistics(reset);
+  }
+
+  @Override
+  public MetaPostCommit collectPostCommitStatistics(boolean reset) {
+    return server.getPostCommitStatistics(reset);
+  }
+
   /**
    * Visitor that resets the statistics but doesn't collect them.
    */
@@ -37,6 +37,7 @@ import io.ebean.bean.ObjectGraphNode;
 import io.ebean.bean.PersistenceContext;
 import io.ebean.bean.PersistenceContext.WithOption;
 import io.ebean.cache.ServerCacheManager;
+import io.ebean.cache.ServerCacheType;
 import io.ebean.common.CopyOnFirstWriteList;
 import io.ebean.config.CurrentTenantProvider;
 import io.ebean.config.EncryptKeyManager;
@@ -49,6 +50,8 @@ import io.ebean.event.BeanPersistController;
 import io.ebean.event.readaudit.ReadAuditLogger;
 import io.ebean.event.readaudit.ReadAuditPrepare;
 import io.ebean.meta.MetaInfoManager;
+import io.ebean.meta.MetaPostCommit;
+import io.ebean.meta.MetaPstmtCache;
 import io.ebean.meta.MetricVisitor;
 import io.ebean.plugin.BeanType;
 import io.ebean.plugin.Plugin;
@@ -81,7 +84,9 @@ import io.ebeaninternal.server.dto.DtoBeanDescriptor;
 import io.ebeaninternal.server.dto.DtoBeanManager;
 import io.ebeaninternal.server.el.ElFilter;
 import io.ebeaninternal.server.grammer.EqlParser;
+import io.ebeaninternal.server.lib.DaemonBoundedExecutorService;
 import io.ebeaninternal.server.lib.ShutdownManager;
+import io.ebeaninternal.server.loadcontext.LazyLoadBatchSizer;
 import io.ebeaninternal.server.query.CQuery;
 import io.ebeaninternal.server.query.CQueryEngine;
 import io.ebeaninternal.server.query.CallableQueryCount;
@@ -123,9 +128,12 @@ import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.Callable;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Predicate;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * The default server side implementation of EbeanServer.
@@ -177,6 +185,8 @@ public final class DefaultServer implements SpiServer, SpiEbeanServer {
 
   private final SpiBackgroundExecutor backgroundExecutor;
 
+  private final DaemonBoundedExecutorService parallelQueryExecutor;
+
   private final DefaultBeanLoader beanLoader;
 
   private final EncryptKeyManager encryptKeyManager;
@@ -224,6 +234,11 @@ public final class DefaultServer implements SpiServer, SpiEbeanServer {
    */
   protected final ConcurrentHashMap<ObjectGraphNode, CObjectGraphNodeStatistics> objectGraphStats;
 
+  /**
+   * Adaptive lazy loading batch sizes by ObjectGraphNode (null when not enabled).
+   */
+  protected final LazyLoadBatchSizer lazyLoadBatchSizer;
+
   /**
    * Create the DefaultServer.
    */
@@ -236,6 +251,9 @@ public final class DefaultServer implements SpiServer, SpiEbeanServer {
     this.serverCacheManager = cache;
     this.databasePlatform = config.getDatabasePlatform();
     this.backgroundExecutor = config.getBackgroundExecutor();
+    this.parallelQueryExecutor = new DaemonBoundedExecutorService(serverConfig.getParallelQueryThreads(),
+      serverConfig.getBackgroundExecutorShutdownSecs(), "ebean-" + serverConfig.getName() + "-query-");
+    this.lazyLoadBatchSizer = !serverConfig.isAdaptiveLazyLoadBatchSize() ? null : new LazyLoadBatchSizer(databasePlatform.getMaxInBinding());
 
     this.serverName = serverConfig.getName();
     this.lazyLoadBatchSize = serverConfig.getLazyLoadBatchSize();
@@ -290,6 +308,9 @@ public final class DefaultServer implements SpiServer, SpiEbeanServer {
       // use a common CallStack for performance as we don't care with no AutoTune
       return new NoopCallStackFactory();
     }
+    if (serverConfig.isCallStackWalker() && StackWalkerCallStackFactory.isSupported()) {
+      return new StackWalkerCallStackFactory(serverConfig.getMaxCallStack());
+    }
     return new DefaultCallStackFactory(serverConfig.getMaxCallStack());
   }
 
@@ -459,6 +480,7 @@ public final class DefaultServer implements SpiServer, SpiEbeanServer {
     autoTuneService.shutdown();
     // shutdown background threads
     backgroundExecutor.shutdown();
+    parallelQueryExecutor.shutdown();
     // shutdown DataSource (if its an Ebean one)
     transactionManager.shutdown(shutdownDataSource, deregisterDriver);
     shutdown = true;
@@ -1154,7 +1176,6 @@ public final class DefaultServer implements SpiServer, SpiEbeanServer {
     return (scope != null) ? scope : defaultPersistenceContextScope;
   }
 
-  @SuppressWarnings("unchecked")
   private <T> T findId(Query<T> query, Transaction t) {
 
     SpiQuery<T> spiQuery = (SpiQuery<T>) query;
@@ -1166,7 +1187,43 @@ public final class DefaultServer implements SpiServer, SpiEbeanServer {
       if (bean != null) {
         return bean;
       }
+      if (isBeanCacheLoad(t, spiQuery)) {
+        // single flight such that concurrent bean cache misses for the same id wait on one load
+        BeanDescriptor<T> desc = spiQuery.getBeanDescriptor();
+        Object id = desc.convertId(spiQuery.getId());
+        if (desc.cacheLoadStart(ServerCacheType.BEAN, id)) {
+          try {
+            return findIdLoad(spiQuery, t);
+          } finally {
+            desc.cacheLoadEnd(ServerCacheType.BEAN, id);
+          }
+        }
+        // loaded by a concurrent request so check the bean cache again
+        bean = findIdCheckPersistenceContextAndCache(t, spiQuery, spiQuery.getId());
+        if (bean != null) {
+          return bean;
+        }
+      }
+    }
+    return findIdLoad(spiQuery, t);
+  }
+
+  /**
+   * Return true if a find by id miss loads the bean into the bean cache.
+   */
+  private <T> boolean isBeanCacheLoad(Transaction t, SpiQuery<T> query) {
+    if (!query.isBeanCacheGet() || !query.isBeanCachePut()) {
+      return false;
     }
+    SpiTransaction txn = (t != null) ? (SpiTransaction) t : currentServerTransaction();
+    return txn == null || !txn.isSkipCache();
+  }
+
+  /**
+   * Execute the find by id query.
+   */
+  @SuppressWarnings("unchecked")
+  private <T> T findIdLoad(SpiQuery<T> spiQuery, Transaction t) {
 
     SpiOrmQueryRequest<T> request = createQueryRequest(spiQuery, t);
     request.profileLocationById();
@@ -1447,6 +1504,12 @@ public final class DefaultServer implements SpiServer, SpiEbeanServer {
     }
   }
 
+  @Override
+  public <T> Stream<T> findStream(Query<T> query, Transaction t) {
+    QueryIteratorSpliterator<T> spliterator = new QueryIteratorSpliterator<>(findIterate(query, t));
+    return StreamSupport.stream(spliterator, false).onClose(spliterator::close);
+  }
+
   @Override
   public <T> void findEach(Query<T> query, Consumer<T> consumer, Transaction t) {
 
@@ -1720,9 +1783,27 @@ public final class DefaultServer implements SpiServer, SpiEbeanServer {
       return;
     }
 
+    if (databasePlatform.getMultiRowInsertMax() < 2) {
+      executeInTrans((txn) -> {
+        for (Object bean : beans) {
+          persister.insert(checkEntityBean(bean), txn);
+        }
+        return 0;
+      }, transaction);
+      return;
+    }
+
+    // multi-row insert enabled so use batch mode
     executeInTrans((txn) -> {
-      for (Object bean : beans) {
-        persister.insert(checkEntityBean(bean), txn);
+      txn.checkBatchEscalationOnCollection();
+      txn.setBatchMultiRowInsert(true);
+      try {
+        for (Object bean : beans) {
+          persister.insert(checkEntityBean(bean), txn);
+        }
+        txn.flushBatchOnCollection();
+      } finally {
+        txn.setBatchMultiRowInsert(false);
       }
       return 0;
     }, transaction);
@@ -1803,13 +1884,18 @@ public final class DefaultServer implements SpiServer, SpiEbeanServer {
 
     return executeInTrans((txn) -> {
       txn.checkBatchEscalationOnCollection();
+      txn.setBatchMultiRowInsert(true);
       int saveCount = 0;
-      while (it.hasNext()) {
-        persister.save(checkEntityBean(it.next()), txn);
-        saveCount++;
-      }
+      try {
+        while (it.hasNext()) {
+          persister.save(checkEntityBean(it.next()), txn);
+          saveCount++;
+        }
 
-      txn.flushBatchOnCollection();
+        txn.flushBatchOnCollection();
+      } finally {
+        txn.setBatchMultiRowInsert(false);
+      }
       return saveCount;
     }, transaction);
   }
@@ -2216,6 +2302,16 @@ public final class DefaultServer implements SpiServer, SpiEbeanServer {
     }
   }
 
+  @Override
+  public LazyLoadBatchSizer getLazyLoadBatchSizer() {
+    return lazyLoadBatchSizer;
+  }
+
+  @Override
+  public Executor getParallelQueryExecutor() {
+    return parallelQueryExecutor;
+  }
+
   @Override
   public void slowQueryCheck(long timeMicros, int rowCount, SpiQuery<?> query) {
     if (timeMicros > slowQueryMicros) {
@@ -2294,6 +2390,20 @@ public final class DefaultServer implements SpiServer, SpiEbeanServer {
     return null;
   }
 
+  /**
+   * Return the PreparedStatement cache statistics.
+   */
+  MetaPstmtCache getPstmtCacheStatistics(boolean reset) {
+    return transactionManager.getPstmtCacheStatistics(reset);
+  }
+
+  /**
+   * Return the post commit processing statistics.
+   */
+  MetaPostCommit getPostCommitStatistics(boolean reset) {
+    return transactionManager.getPostCommitStatistics(reset);
+  }
+
   @Override
   public void visitMetrics(MetricVisitor visitor) {
     visitor.visitStart();
@@ -8,6 +8,7 @@ import io.ebean.Version;
 import io.ebean.bean.BeanCollection;
 import io.ebean.bean.EntityBean;
 import io.ebean.bean.PersistenceContext;
+import io.ebean.cache.ServerCacheType;
 import io.ebean.common.BeanList;
 import io.ebean.common.CopyOnFirstWriteList;
 import io.ebean.event.BeanFindController;
@@ -20,10 +21,12 @@ import io.ebeaninternal.api.LoadContext;
 import io.ebeaninternal.api.NaturalKeyQueryData;
 import io.ebeaninternal.api.NaturalKeySet;
 import io.ebeaninternal.api.SpiEbeanServer;
+import io.ebeaninternal.api.SpiExpressionList;
 import io.ebeaninternal.api.SpiQuery;
 import io.ebeaninternal.api.SpiQuery.Type;
 import io.ebeaninternal.api.SpiQuerySecondary;
 import io.ebeaninternal.api.SpiTransaction;
+import io.ebeaninternal.server.cache.QueryCacheEntry;
 import io.ebeaninternal.server.deploy.BeanDescriptor;
 import io.ebeaninternal.server.deploy.BeanProperty;
 import io.ebeaninternal.server.deploy.BeanPropertyAssocMany;
@@ -40,6 +43,7 @@ import javax.persistence.PersistenceException;
 import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
@@ -73,6 +77,28 @@ public final class OrmQueryRequest<T> extends BeanRequest implements SpiOrmQuery
 
   private HashQuery cacheKey;
 
+  /**
+   * The cache type and key of a single flight load started on a cache miss.
+   */
+  private ServerCacheType cacheLoadType;
+
+  private Object cacheLoadKey;
+
+  /**
+   * The timestamp prior to executing the query used to validate the query cache entry.
+   */
+  private long cacheTimestamp;
+
+  /**
+   * The tables the query depends on for putting the result into the query cache.
+   */
+  private Set<String> dependentTables;
+
+  /**
+   * Set when the tables the query depends on are not known (RawSql, subqueries or raw expressions).
+   */
+  private boolean dependentTablesUnknown;
+
   private CQueryPlanKey queryPlanKey;
 
   private SpiQuerySecondary secondaryQueries;
@@ -343,8 +369,39 @@ public final class OrmQueryRequest<T> extends BeanRequest implements SpiOrmQuery
    */
   @Override
   public void endTransIfRequired() {
-    if (createdTransaction && transaction.isActive()) {
-      transaction.commit();
+    try {
+      if (createdTransaction && transaction.isActive()) {
+        transaction.commit();
+      }
+    } finally {
+      cacheLoadEnd();
+    }
+  }
+
+  /**
+   * Start a single flight load after a cache miss.
+   * <p>
+   * Return false if a concurrent request for the same key has loaded it (such that the cache
+   * should be read again).
+   * </p>
+   */
+  private boolean cacheLoadStart(ServerCacheType type, Object key) {
+    if (beanDescriptor.cacheLoadStart(type, key)) {
+      cacheLoadType = type;
+      cacheLoadKey = key;
+      return true;
+    }
+    return false;
+  }
+
+  /**
+   * End the single flight load if one was started (releasing the waiting requests).
+   */
+  private void cacheLoadEnd() {
+    if (cacheLoadType != null) {
+      beanDescriptor.cacheLoadEnd(cacheLoadType, cacheLoadKey);
+      cacheLoadType = null;
+      cacheLoadKey = null;
     }
   }
 
@@ -380,11 +437,39 @@ public final class OrmQueryRequest<T> extends BeanRequest implements SpiOrmQuery
 
   private int notifyCache(int rows, boolean update) {
     if (rows > 0 && beanDescriptor.isCaching()) {
-      transaction.getEvent().add(beanDescriptor.getBaseTable(), false, update, !update);
+      transaction.getEvent().add(beanDescriptor.getBaseTable(), false, update, !update, modifiedIds());
     }
     return rows;
   }
 
+  /**
+   * Return the ids of the rows the update or delete query is limited to (by id or idIn) if known.
+   * <p>
+   * This allows the bean cache to remove just those entries rather than being cleared.
+   * </p>
+   */
+  private List<Object> modifiedIds() {
+    if (beanDescriptor.getIdBinder().isComplexId()) {
+      return null;
+    }
+    Collection<?> idValues;
+    Object id = query.getId();
+    if (id != null) {
+      idValues = Collections.singletonList(id);
+    } else {
+      SpiExpressionList<T> where = query.getWhereExpressions();
+      idValues = (where == null) ? null : where.idValues(beanDescriptor.getIdName());
+    }
+    if (idValues == null) {
+      return null;
+    }
+    List<Object> ids = new ArrayList<>(idValues.size());
+    for (Object idValue : idValues) {
+      ids.add(beanDescriptor.convertId(idValue));
+    }
+    return ids;
+  }
+
   @Override
   public SpiResultSet findResultSet() {
     return queryEngine.findResultSet(this);
@@ -604,10 +689,22 @@ public final class OrmQueryRequest<T> extends BeanRequest implements SpiOrmQuery
       NaturalKeySet naturalKeySet = data.buildKeys();
       if (naturalKeySet != null) {
         // use the natural keys to lookup Ids to then hit the bean cache
-        BeanCacheResult<T> cacheResult = beanDescriptor.naturalKeyLookup(persistenceContext, naturalKeySet.keys());
+        Set<Object> keys = naturalKeySet.keys();
+        BeanCacheResult<T> cacheResult = beanDescriptor.naturalKeyLookup(persistenceContext, keys);
+        if (cacheResult.hits().isEmpty() && keys.size() == 1 && cacheLoadType == null && query.isBeanCachePut()) {
+          // single flight such that concurrent misses for the same natural key wait on one load
+          if (!cacheLoadStart(ServerCacheType.NATURAL_KEY, keys.iterator().next())) {
+            cacheResult = beanDescriptor.naturalKeyLookup(persistenceContext, keys);
+          }
+        }
         // adjust the query (IN clause) based on the cache hits
         this.cacheBeans = data.removeHits(cacheResult);
-        return data.allHits();
+        boolean allHits = data.allHits();
+        if (allHits) {
+          // not executing the query
+          cacheLoadEnd();
+        }
+        return allHits;
       }
     }
 
@@ -625,6 +722,7 @@ public final class OrmQueryRequest<T> extends BeanRequest implements SpiOrmQuery
       return null;
     } else {
       cacheKey = query.queryHash();
+      cacheTimestamp = beanDescriptor.queryCacheTimestamp();
     }
 
     if (!query.getUseQueryCache().isGet()) {
@@ -632,6 +730,12 @@ public final class OrmQueryRequest<T> extends BeanRequest implements SpiOrmQuery
     }
 
     Object cached = beanDescriptor.queryCacheGet(cacheKey);
+    if (cached == null && query.getUseQueryCache().isPut() && !isUseDocStore()) {
+      // single flight such that concurrent misses for the same query wait on one execution
+      if (!cacheLoadStart(ServerCacheType.QUERY, cacheKey)) {
+        cached = beanDescriptor.queryCacheGet(cacheKey);
+      }
+    }
 
     if (cached != null && isAuditReads() && readAuditQueryType()) {
       if (cached instanceof BeanCollection) {
@@ -678,8 +782,34 @@ public final class OrmQueryRequest<T> extends BeanRequest implements SpiOrmQuery
     }
   }
 
+  /**
+   * Set the tables the query depends on (for putting the result into the query cache).
+   */
+  public void setDependentTables(Set<String> dependentTables) {
+    if (dependentTables == null || !isDependentTablesKnown(query.getWhereExpressions()) || !isDependentTablesKnown(query.getHavingExpressions())) {
+      // RawSql, subqueries or raw expressions can reference other tables
+      this.dependentTablesUnknown = true;
+    } else {
+      this.dependentTables = dependentTables;
+    }
+  }
+
+  private boolean isDependentTablesKnown(SpiExpressionList<?> expressions) {
+    return expressions == null || expressions.isDependentTablesKnown();
+  }
+
   public void putToQueryCache(Object queryResult) {
-    beanDescriptor.queryCachePut(cacheKey, queryResult);
+    Set<String> tables = dependentTables;
+    if (dependentTablesUnknown) {
+      // entry is invalidated by a change to any query cache dependent table
+      tables = null;
+    } else if (tables == null) {
+      // query not executed via the query engine (e.g. BeanFindController)
+      String baseTable = beanDescriptor.getBaseTable();
+      tables = (baseTable == null) ? Collections.emptySet() : Collections.singleton(baseTable.toLowerCase());
+    }
+    beanDescriptor.queryCachePut(cacheKey, new QueryCacheEntry(queryResult, tables, cacheTimestamp));
+    cacheLoadEnd();
   }
 
   /**
@@ -22,6 +22,7 @@ import io.ebeaninternal.server.deploy.BeanPropertyAssocMany;
 import io.ebeaninternal.server.deploy.generatedproperty.GeneratedProperty;
 import io.ebeaninternal.server.deploy.id.ImportedId;
 import io.ebeaninternal.server.persist.BatchControl;
+import io.ebeaninternal.server.persist.BeanPersister;
 import io.ebeaninternal.server.persist.BatchedSqlException;
 import io.ebeaninternal.server.persist.Flags;
 import io.ebeaninternal.server.persist.PersistExecute;
@@ -509,7 +510,7 @@ public final class PersistRequestBean<T> extends PersistRequest implements BeanP
 
   public void addToPersistMap(BeanPersistIdMap beanPersistMap) {
 
-    beanPersistMap.add(beanDescriptor, type, idValue);
+    beanPersistMap.add(beanDescriptor, type, idValue, version);
   }
 
   public void notifyLocalPersistListener() {
@@ -1212,12 +1213,36 @@ public final class PersistRequestBean<T> extends PersistRequest implements BeanP
   }
 
   private void executeInsert() {
-    setTenantId();
-    if (controller == null || controller.preInsert(this)) {
+    if (preInsert()) {
       beanManager.getBeanPersister().insert(this);
     }
   }
 
+  private boolean preInsert() {
+    setTenantId();
+    return controller == null || controller.preInsert(this);
+  }
+
+  /**
+   * Prepare the insert for execution as part of a multi-row insert.
+   * <p>
+   * Returns false if the insert was vetoed by the BeanPersistController.
+   * </p>
+   */
+  public boolean prepareMultiRowInsert() {
+    if (getterCallback) {
+      intercept.clearGetterCallback();
+    }
+    return preInsert();
+  }
+
+  /**
+   * Return the BeanPersister for the bean type.
+   */
+  public BeanPersister getBeanPersister() {
+    return beanManager.getBeanPersister();
+  }
+
   private void executeUpdate() {
     setTenantId();
     if (controller == null || controller.preUpdate(this)) {
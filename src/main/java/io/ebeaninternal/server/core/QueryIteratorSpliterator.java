@@ -0,0 +1,102 @@
+package io.ebeaninternal.server.core;
+
+import io.ebean.QueryIterator;
+
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+
+/**
+ * Lazy Spliterator over a QueryIterator used for findStream().
+ * <p>
+ * Beans are read from the underlying resultSet as the stream is consumed. For parallel
+ * streams trySplit() reads the next chunk of beans into an array which is handed off to
+ * fork join workers while this spliterator continues reading the resultSet. Chunks grow
+ * in size with each split (in the same manner as the JDK iterator based spliterator).
+ * </p>
+ * <p>
+ * The QueryIterator (resultSet, statement and transaction if required) is closed when the
+ * beans are exhausted or when the stream is closed.
+ * </p>
+ */
+final class QueryIteratorSpliterator<T> implements Spliterator<T> {
+
+  private static final int CHARACTERISTICS = ORDERED | NONNULL;
+
+  private static final int BATCH_UNIT = 1 << 10;
+
+  private static final int MAX_BATCH = 1 << 16;
+
+  private final QueryIterator<T> iterator;
+
+  private final AtomicBoolean closed = new AtomicBoolean();
+
+  private int batch;
+
+  QueryIteratorSpliterator(QueryIterator<T> iterator) {
+    this.iterator = iterator;
+  }
+
+  @Override
+  public boolean tryAdvance(Consumer<? super T> action) {
+    if (!closed.get() && iterator.hasNext()) {
+      action.accept(iterator.next());
+      return true;
+    }
+    close();
+    return false;
+  }
+
+  @Override
+  public void forEachRemaining(Consumer<? super T> action) {
+    try {
+      while (!closed.get() && iterator.hasNext()) {
+        action.accept(iterator.next());
+      }
+    } finally {
+      close();
+    }
+  }
+
+  @Override
+  public Spliterator<T> trySplit() {
+    if (closed.get()) {
+      return null;
+    }
+    int size = Math.min(batch + BATCH_UNIT, MAX_BATCH);
+    Object[] chunk = new Object[size];
+    int count = 0;
+    while (count < size && iterator.hasNext()) {
+      chunk[count++] = iterator.next();
+    }
+    if (count < size) {
+      // no more rows so release the resultSet now
+      close();
+    }
+    if (count == 0) {
+      return null;
+    }
+    batch = count;
+    return Spliterators.spliterator(chunk, 0, count, CHARACTERISTICS);
+  }
+
+  @Override
+  public long estimateSize() {
+    return Long.MAX_VALUE;
+  }
+
+  @Override
+  public int characteristics() {
+    return CHARACTERISTICS;
+  }
+
+  /**
+   * Close the underlying QueryIterator (once).
+   */
+  void close() {
+    if (closed.compareAndSet(false, true)) {
+      iterator.close();
+    }
+  }
+}
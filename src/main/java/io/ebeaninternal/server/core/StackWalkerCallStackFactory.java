@@ -0,0 +1,229 @@
+package io.ebeaninternal.server.core;
+
+import io.ebean.bean.CallStack;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.Iterator;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/**
+ * CallStackFactory using StackWalker (Java 9+) to lazily walk only the frames needed.
+ * <p>
+ * Rather than materialising the entire stack trace this walks the frames skipping the
+ * leading ebean frames and stops after maxCallStack frames. The resulting CallStack
+ * is cached per call site (keyed by the class name, method name and bytecode index of
+ * the frames) such that repeated queries from the same code share the same CallStack
+ * without converting the frames to StackTraceElements or rebuilding its hashes.
+ * </p>
+ * <p>
+ * This is used when ServerConfig callStackWalker is set (as it is slower than the default
+ * on shallow stacks). StackWalker is used via method handles as the code is compiled for
+ * Java 8. Use {@link #isSupported()} to check that StackWalker is available.
+ * </p>
+ */
+class StackWalkerCallStackFactory implements CallStackFactory {
+
+  private static final String IO_EBEAN = "io.ebean";
+
+  /**
+   * Maximum number of call sites cached (protecting against an unbounded number of call sites).
+   */
+  private static final int MAX_CACHED = 10000;
+
+  private static final MethodHandle WALK;
+  private static final MethodHandle CLASS_NAME;
+  private static final MethodHandle METHOD_NAME;
+  private static final MethodHandle BYTECODE_INDEX;
+  private static final MethodHandle TO_ELEMENT;
+
+  static {
+    MethodHandle walk = null;
+    MethodHandle className = null;
+    MethodHandle methodName = null;
+    MethodHandle bytecodeIndex = null;
+    MethodHandle toElement = null;
+    try {
+      Class<?> walkerClass = Class.forName("java.lang.StackWalker");
+      Class<?> frameClass = Class.forName("java.lang.StackWalker$StackFrame");
+      MethodHandles.Lookup lookup = MethodHandles.lookup();
+      Object walker = lookup.findStatic(walkerClass, "getInstance", MethodType.methodType(walkerClass)).invoke();
+      walk = lookup.findVirtual(walkerClass, "walk", MethodType.methodType(Object.class, Function.class))
+        .bindTo(walker);
+      className = lookup.findVirtual(frameClass, "getClassName", MethodType.methodType(String.class))
+        .asType(MethodType.methodType(String.class, Object.class));
+      methodName = lookup.findVirtual(frameClass, "getMethodName", MethodType.methodType(String.class))
+        .asType(MethodType.methodType(String.class, Object.class));
+      bytecodeIndex = lookup.findVirtual(frameClass, "getByteCodeIndex", MethodType.methodType(int.class))
+        .asType(MethodType.methodType(int.class, Object.class));
+      toElement = lookup.findVirtual(frameClass, "toStackTraceElement", MethodType.methodType(StackTraceElement.class))
+        .asType(MethodType.methodType(StackTraceElement.class, Object.class));
+    } catch (Throwable e) {
+      // StackWalker not available (Java 8)
+      walk = null;
+    }
+    WALK = walk;
+    CLASS_NAME = className;
+    METHOD_NAME = methodName;
+    BYTECODE_INDEX = bytecodeIndex;
+    TO_ELEMENT = toElement;
+  }
+
+  /**
+   * Return true if StackWalker is available.
+   */
+  static boolean isSupported() {
+    return WALK != null;
+  }
+
+  private final int maxCallStack;
+
+  private final Function<Stream<?>, Object> walkFunction = this::walk;
+
+  private final ConcurrentHashMap<CallSite, CallStack> cache = new ConcurrentHashMap<>();
+
+  StackWalkerCallStackFactory(int maxCallStack) {
+    this.maxCallStack = Math.max(maxCallStack, 1);
+  }
+
+  @Override
+  public CallStack createCallStack() {
+    try {
+      return (CallStack) (Object) WALK.invokeExact(walkFunction);
+    } catch (RuntimeException | Error e) {
+      throw e;
+    } catch (Throwable e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  /**
+   * Skip the leading ebean frames and return the CallStack for the next maxCallStack frames.
+   * <p>
+   * The frames are only converted to StackTraceElements when the call site is not cached.
+   * </p>
+   */
+  private Object walk(Stream<?> frames) {
+    Object[] callFrames = new Object[maxCallStack];
+    String[] classNames = new String[maxCallStack];
+    String[] methodNames = new String[maxCallStack];
+    int[] bytecodeIndexes = new int[maxCallStack];
+    int count = 0;
+    boolean leading = true;
+    try {
+      Iterator<?> it = frames.iterator();
+      while (count < maxCallStack && it.hasNext()) {
+        Object frame = it.next();
+        String className = (String) CLASS_NAME.invokeExact(frame);
+        if (leading) {
+          if (className.startsWith(IO_EBEAN)) {
+            continue;
+          }
+          leading = false;
+        }
+        callFrames[count] = frame;
+        classNames[count] = className;
+        methodNames[count] = (String) METHOD_NAME.invokeExact(frame);
+        bytecodeIndexes[count] = (int) BYTECODE_INDEX.invokeExact(frame);
+        count++;
+      }
+      if (count < 1) {
+        // this should not really happen
+        throw new RuntimeException("StackTraceElement size 0?");
+      }
+      CallSite callSite = new CallSite(count, classNames, methodNames, bytecodeIndexes);
+      CallStack callStack = cache.get(callSite);
+      if (callStack == null) {
+        StackTraceElement[] trace = new StackTraceElement[count];
+        for (int i = 0; i < count; i++) {
+          trace[i] = (StackTraceElement) TO_ELEMENT.invokeExact(callFrames[i]);
+        }
+        callStack = new CallStack(trace, trace[0].hashCode(), pathHash(trace));
+        if (cache.size() < MAX_CACHED) {
+          CallStack existing = cache.putIfAbsent(callSite, callStack);
+          if (existing != null) {
+            callStack = existing;
+          }
+        }
+      }
+      return callStack;
+    } catch (RuntimeException | Error e) {
+      throw e;
+    } catch (Throwable e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  /**
+   * Return the hash code for the path excluding the first element.
+   */
+  private int pathHash(StackTraceElement[] callStack) {
+
+    int hc = 0;
+    for (int i = 1; i < callStack.length; i++) {
+      hc = 92821 * hc + callStack[i].hashCode();
+    }
+    return hc;
+  }
+
+  /**
+   * Key for caching the CallStack by call site using the raw frame data (class name,
+   * method name and bytecode index).
+   */
+  private static final class CallSite {
+
+    private final int count;
+
+    private final String[] classNames;
+
+    private final String[] methodNames;
+
+    private final int[] bytecodeIndexes;
+
+    private final int hash;
+
+    CallSite(int count, String[] classNames, String[] methodNames, int[] bytecodeIndexes) {
+      this.count = count;
+      this.classNames = classNames;
+      this.methodNames = methodNames;
+      this.bytecodeIndexes = bytecodeIndexes;
+      int hc = count;
+      for (int i = 0; i < count; i++) {
+        hc = 31 * hc + classNames[i].hashCode();
+        hc = 31 * hc + methodNames[i].hashCode();
+        hc = 31 * hc + bytecodeIndexes[i];
+      }
+      this.hash = hc;
+    }
+
+    @Override
+    public int hashCode() {
+      return hash;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+      if (obj == this) {
+        return true;
+      }
+      if (!(obj instanceof CallSite)) {
+        return false;
+      }
+      CallSite other = (CallSite) obj;
+      if (count != other.count || hash != other.hash) {
+        return false;
+      }
+      for (int i = 0; i < count; i++) {
+        if (bytecodeIndexes[i] != other.bytecodeIndexes[i]
+          || !classNames[i].equals(other.classNames[i])
+          || !methodNames[i].equals(other.methodNames[i])) {
+          return false;
+        }
+      }
+      return true;
+    }
+  }
+}
@@ -8,9 +8,12 @@ import io.ebean.Transaction;
 import io.ebean.ValuePair;
 import io.ebean.annotation.DocStoreMode;
 import io.ebean.bean.BeanCollection;
+import io.ebean.bean.CallStack;
 import io.ebean.bean.EntityBean;
 import io.ebean.bean.EntityBeanIntercept;
+import io.ebean.bean.ObjectGraphOrigin;
 import io.ebean.bean.PersistenceContext;
+import io.ebean.cache.ServerCacheType;
 import io.ebean.config.EncryptKey;
 import io.ebean.config.ServerConfig;
 import io.ebean.config.dbplatform.IdType;
@@ -27,6 +30,7 @@ import io.ebean.event.changelog.ChangeType;
 import io.ebean.event.readaudit.ReadAuditLogger;
 import io.ebean.event.readaudit.ReadAuditPrepare;
 import io.ebean.event.readaudit.ReadEvent;
+import io.ebean.meta.MetaQueryPlanCache;
 import io.ebean.meta.MetricVisitor;
 import io.ebean.plugin.BeanDocType;
 import io.ebean.plugin.BeanType;
@@ -46,6 +50,7 @@ import io.ebeaninternal.api.json.SpiJsonWriter;
 import io.ebeaninternal.server.cache.CacheChangeSet;
 import io.ebeaninternal.server.cache.CachedBeanData;
 import io.ebeaninternal.server.cache.CachedManyIds;
+import io.ebeaninternal.server.cache.QueryCacheEntry;
 import io.ebeaninternal.server.core.CacheOptions;
 import io.ebeaninternal.server.core.DefaultSqlUpdate;
 import io.ebeaninternal.server.core.InternString;
@@ -97,7 +102,6 @@ import java.sql.Types;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
-import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
@@ -111,9 +115,16 @@ public class BeanDescriptor<T> implements BeanType<T>, STreeType {
 
   private static final Logger logger = LoggerFactory.getLogger(BeanDescriptor.class);
 
+  /**
+   * Maximum number of AutoTune origins cached per bean type.
+   */
+  private static final int MAX_ORIGINS = 1000;
+
   private final ConcurrentHashMap<String, SpiUpdatePlan> updatePlanCache = new ConcurrentHashMap<>();
 
-  private final ConcurrentHashMap<CQueryPlanKey, CQueryPlan> queryPlanCache = new ConcurrentHashMap<>();
+  private final QueryPlanCache queryPlanCache;
+
+  private final ObjectGraphOriginCache originCache;
 
   private final ConcurrentHashMap<String, ElPropertyValue> elCache = new ConcurrentHashMap<>();
 
@@ -429,10 +440,12 @@ public class BeanDescriptor<T> implements BeanType<T>, STreeType {
     this.name = InternString.intern(deploy.getName());
     this.baseTableAlias = "t0";
     this.fullName = InternString.intern(deploy.getFullName());
+    this.queryPlanCache = owner.createQueryPlanCache(fullName);
     this.locationById = ProfileLocation.createAt(fullName + ".byId");
     this.locationAll = ProfileLocation.createAt(fullName + ".all");
     this.profileBeanId = deploy.getProfileId();
     this.beanType = deploy.getBeanType();
+    this.originCache = new ObjectGraphOriginCache(beanType.getName(), MAX_ORIGINS);
     this.rootBeanType = PersistenceContextUtil.root(beanType);
     this.prototypeEntityBean = createPrototypeEntityBean(beanType);
 
@@ -1354,8 +1367,29 @@ public class BeanDescriptor<T> implements BeanType<T>, STreeType {
   /**
    * Put a query result into the query cache.
    */
-  public void queryCachePut(Object id, Object queryResult) {
-    cacheHelp.queryCachePut(id, queryResult);
+  public void queryCachePut(Object id, QueryCacheEntry entry) {
+    cacheHelp.queryCachePut(id, entry);
+  }
+
+  /**
+   * Invalidate the query cache entries that depend on the base table of this type.
+   */
+  public void queryCacheInvalidate() {
+    cacheHelp.queryCacheInvalidate();
+  }
+
+  /**
+   * Return the timestamp to take before executing a query that puts into the query cache.
+   */
+  public long queryCacheTimestamp() {
+    return cacheHelp.queryCacheTimestamp();
+  }
+
+  /**
+   * Set when query cache entries can depend on the base table of this type.
+   */
+  public void setQueryCacheDependent() {
+    cacheHelp.setQueryCacheDependent();
   }
 
   /**
@@ -1454,6 +1488,24 @@ public class BeanDescriptor<T> implements BeanType<T>, STreeType {
     cacheHelp.beanCachePutDirect(bean);
   }
 
+  /**
+   * Start a single flight load for the given key after a miss on the cache of the given type.
+   * <p>
+   * Return true if the caller should load (and then call cacheLoadEnd()) and false if
+   * a concurrent load for the same key has completed such that the cache should be read again.
+   * </p>
+   */
+  public boolean cacheLoadStart(ServerCacheType type, Object key) {
+    return cacheHelp.cacheLoadStart(type, key);
+  }
+
+  /**
+   * End the single flight load for the given key.
+   */
+  public void cacheLoadEnd(ServerCacheType type, Object key) {
+    cacheHelp.cacheLoadEnd(type, key);
+  }
+
   /**
    * Return a bean from the bean cache (or null).
    */
@@ -1468,6 +1520,16 @@ public class BeanDescriptor<T> implements BeanType<T>, STreeType {
     cacheHelp.beanCacheRemove(id);
   }
 
+  /**
+   * Remove a bean from the cache given its Id and the version of an update from another server.
+   * <p>
+   * A cached entry with the same or newer version is kept.
+   * </p>
+   */
+  public void cacheHandleRemoteUpdate(Object id, long version) {
+    cacheHelp.beanCacheRemoveIfOlder(id, version);
+  }
+
   /**
    * Returns true if it managed to populate/load the bean from the cache.
    */
@@ -1620,7 +1682,7 @@ public class BeanDescriptor<T> implements BeanType<T>, STreeType {
    * Visit all the ORM query plan metrics (includes UpdateQuery with updates and deletes).
    */
   public void visitMetrics(MetricVisitor visitor) {
-    for (CQueryPlan queryPlan : queryPlanCache.values()) {
+    for (CQueryPlan queryPlan : queryPlanCache.plans()) {
       if (!queryPlan.isEmptyStats()) {
         visitor.visitOrmQuery(queryPlan.getSnapshot(visitor.isReset()));
       }
@@ -1631,7 +1693,7 @@ public class BeanDescriptor<T> implements BeanType<T>, STreeType {
    * Reset the statistics on all the query plans.
    */
   public void clearQueryStatistics() {
-    for (CQueryPlan queryPlan : queryPlanCache.values()) {
+    for (CQueryPlan queryPlan : queryPlanCache.plans()) {
       queryPlan.resetStatistics();
     }
   }
@@ -1640,18 +1702,14 @@ public class BeanDescriptor<T> implements BeanType<T>, STreeType {
    * Trim query plans not used since the passed in epoch time.
    */
   public List<CQueryPlan> trimQueryPlans(long unusedSince) {
+    return queryPlanCache.trim(unusedSince);
+  }
 
-    List<CQueryPlan> list = new ArrayList<>();
-
-    Iterator<CQueryPlan> it = queryPlanCache.values().iterator();
-    while (it.hasNext()) {
-      CQueryPlan queryPlan = it.next();
-      if (queryPlan.getLastQueryTime() < unusedSince) {
-        it.remove();
-        list.add(queryPlan);
-      }
-    }
-    return list;
+  /**
+   * Return the query plan cache hit, miss and eviction statistics.
+   */
+  public MetaQueryPlanCache getQueryPlanCacheStatistics(boolean reset) {
+    return queryPlanCache.getStatistics(reset);
   }
 
   /**
@@ -1664,6 +1722,13 @@ public class BeanDescriptor<T> implements BeanType<T>, STreeType {
     }
   }
 
+  /**
+   * Return the AutoTune origin for the call stack and query hash.
+   */
+  public ObjectGraphOrigin getOrigin(CallStack callStack, int queryHash) {
+    return originCache.get(callStack, queryHash);
+  }
+
   public CQueryPlan getQueryPlan(CQueryPlanKey key) {
     return queryPlanCache.get(key);
   }
@@ -2805,6 +2870,18 @@ public class BeanDescriptor<T> implements BeanType<T>, STreeType {
     return baseTable != null && entityType == EntityType.ORM;
   }
 
+  @Override
+  public void addDependentTables(Set<String> tables) {
+    if (dependentTables != null && dependentTables.length > 0) {
+      // entity based on a view
+      for (String dependentTable : dependentTables) {
+        tables.add(dependentTable.toLowerCase());
+      }
+    } else if (baseTable != null) {
+      tables.add(baseTable.toLowerCase());
+    }
+  }
+
   /**
    * Return the base table to use given the query temporal mode.
    */
@@ -5,6 +5,7 @@ import io.ebean.bean.EntityBean;
 import io.ebean.bean.EntityBeanIntercept;
 import io.ebean.bean.PersistenceContext;
 import io.ebean.cache.ServerCache;
+import io.ebean.cache.ServerCacheType;
 import io.ebeaninternal.api.BeanCacheResult;
 import io.ebeaninternal.api.TransactionEventTable.TableIUD;
 import io.ebeaninternal.server.cache.CacheChangeSet;
@@ -12,6 +13,7 @@ import io.ebeaninternal.server.cache.CachedBeanData;
 import io.ebeaninternal.server.cache.CachedBeanDataFromBean;
 import io.ebeaninternal.server.cache.CachedBeanDataToBean;
 import io.ebeaninternal.server.cache.CachedManyIds;
+import io.ebeaninternal.server.cache.QueryCacheEntry;
 import io.ebeaninternal.server.cache.SpiCacheManager;
 import io.ebeaninternal.server.core.CacheOptions;
 import io.ebeaninternal.server.core.PersistRequest;
@@ -76,6 +78,11 @@ final class BeanDescriptorCacheHelp<T> {
    */
   private boolean cacheNotifyOnDelete;
 
+  /**
+   * Set to true if query cache entries (of this or other bean types) can depend on the base table.
+   */
+  private boolean queryCacheDependent;
+
   BeanDescriptorCacheHelp(BeanDescriptor<T> desc, SpiCacheManager cacheManager, CacheOptions cacheOptions,
                           boolean cacheSharableBeans, BeanPropertyAssocOne<?>[] propertiesOneImported) {
 
@@ -123,6 +130,15 @@ final class BeanDescriptorCacheHelp<T> {
     }
   }
 
+  /**
+   * Set when query cache entries can depend on the base table of this type such that
+   * all changes need to notify (to invalidate those entries).
+   */
+  void setQueryCacheDependent() {
+    queryCacheDependent = true;
+    cacheNotifyOnAll = true;
+  }
+
   /**
    * Return true if there is an imported bi-directional relationship to a bea
    * that does have bean caching enabled.
@@ -184,7 +200,10 @@ final class BeanDescriptorCacheHelp<T> {
   }
 
   /**
-   * Clear the query cache.
+   * Clear the query cache and invalidate query cache entries of other types that depend on the base table.
+   * <p>
+   * Changes to the bean type use {@link #queryCacheInvalidate()} rather than clearing.
+   * </p>
    */
   void queryCacheClear() {
     if (queryCache != null) {
@@ -193,17 +212,79 @@ final class BeanDescriptorCacheHelp<T> {
       }
       queryCache.clear();
     }
+    queryCacheInvalidate();
+  }
+
+  /**
+   * Invalidate query cache entries (of this and other types) that depend on the base table.
+   * <p>
+   * Entries that do not depend on the base table remain valid.
+   * </p>
+   */
+  void queryCacheInvalidate() {
+    String baseTable = desc.getBaseTable();
+    if (queryCacheDependent && baseTable != null) {
+      if (queryLog.isDebugEnabled()) {
+        queryLog.debug("   INVALIDATE {} table:{}", cacheName, baseTable);
+      }
+      cacheManager.invalidateQueryCache(baseTable);
+    }
+  }
+
+  /**
+   * Return the timestamp to take before executing a query that puts into the query cache.
+   */
+  long queryCacheTimestamp() {
+    return cacheManager.queryCacheTimestamp();
   }
 
   /**
-   * Add query cache clear to the changeSet.
+   * Add query cache invalidation to the changeSet.
    */
   void queryCacheClear(CacheChangeSet changeSet) {
-    if (queryCache != null) {
+    if (queryCache != null || queryCacheDependent) {
       changeSet.addClearQuery(desc);
     }
   }
 
+  /**
+   * Return the cache of the given type (or null if not cached).
+   */
+  private ServerCache cache(ServerCacheType type) {
+    switch (type) {
+      case BEAN:
+        return beanCache;
+      case NATURAL_KEY:
+        return naturalKeyCache;
+      case QUERY:
+        return queryCache;
+      default:
+        return null;
+    }
+  }
+
+  /**
+   * Start a single flight load for the given key after a cache miss.
+   * <p>
+   * Return true if the caller should load (and then call cacheLoadEnd()) and false if
+   * a concurrent load for the same key has completed such that the cache should be read again.
+   * </p>
+   */
+  boolean cacheLoadStart(ServerCacheType type, Object key) {
+    ServerCache cache = cache(type);
+    return cache == null || cache.loadStart(key);
+  }
+
+  /**
+   * End the single flight load for the given key.
+   */
+  void cacheLoadEnd(ServerCacheType type, Object key) {
+    ServerCache cache = cache(type);
+    if (cache != null) {
+      cache.loadEnd(key);
+    }
+  }
+
   /**
    * Get a query result from the query cache.
    */
@@ -211,28 +292,38 @@ final class BeanDescriptorCacheHelp<T> {
     if (queryCache == null) {
       throw new IllegalStateException("No query cache enabled on " + desc + ". Need explicit @Cache(enableQueryCache=true)");
     }
-    Object queryResult = queryCache.get(id);
-    if (queryLog.isDebugEnabled()) {
-      if (queryResult == null) {
+    QueryCacheEntry entry = (QueryCacheEntry) queryCache.getReadThrough(id);
+    if (entry == null) {
+      if (queryLog.isDebugEnabled()) {
         queryLog.debug("   GET {}({}) - cache miss", cacheName, id);
-      } else {
-        queryLog.debug("   GET {}({}) - hit", cacheName, id);
       }
+      return null;
+    }
+    if (!cacheManager.isQueryCacheEntryValid(entry)) {
+      // a dependent table has been modified since the query was executed
+      if (queryLog.isDebugEnabled()) {
+        queryLog.debug("   GET {}({}) - cache miss, invalidated by {}", cacheName, id, entry.getDependentTables());
+      }
+      queryCache.remove(id);
+      return null;
+    }
+    if (queryLog.isDebugEnabled()) {
+      queryLog.debug("   GET {}({}) - hit", cacheName, id);
     }
-    return queryResult;
+    return entry.getValue();
   }
 
   /**
    * Put a query result into the query cache.
    */
-  void queryCachePut(Object id, Object queryResult) {
+  void queryCachePut(Object id, QueryCacheEntry entry) {
     if (queryCache == null) {
       throw new IllegalStateException("No query cache enabled on " + desc + ". Need explicit @Cache(enableQueryCache=true)");
     }
     if (queryLog.isDebugEnabled()) {
-      queryLog.debug("   PUT {}({})", cacheName, id);
+      queryLog.debug("   PUT {}({}) tables:{}", cacheName, id, entry.getDependentTables());
     }
-    queryCache.put(id, queryResult);
+    queryCache.put(id, entry);
   }
 
 
@@ -574,7 +665,7 @@ final class BeanDescriptorCacheHelp<T> {
    */
   private T beanCacheGetInternal(Object id, Boolean readOnly, PersistenceContext context) {
 
-    CachedBeanData data = (CachedBeanData) getBeanCache().get(id);
+    CachedBeanData data = (CachedBeanData) getBeanCache().getReadThrough(id);
     if (data == null) {
       if (beanLog.isTraceEnabled()) {
         beanLog.trace("   GET {}({}) - cache miss", cacheName, id);
@@ -692,6 +783,31 @@ final class BeanDescriptorCacheHelp<T> {
     }
   }
 
+  /**
+   * Remove a bean from the cache given its Id unless the cached version is the same or newer.
+   */
+  void beanCacheRemoveIfOlder(Object id, long version) {
+    if (beanCache != null) {
+      CachedBeanData existingData = (CachedBeanData) beanCache.get(id);
+      if (existingData != null) {
+        long currentVersion = existingData.getVersion();
+        if (currentVersion > 0 && currentVersion >= version) {
+          if (beanLog.isDebugEnabled()) {
+            beanLog.debug("   KEEP {}({}) - cached version:{} remote version:{}", cacheName, id, currentVersion, version);
+          }
+        } else {
+          if (beanLog.isDebugEnabled()) {
+            beanLog.debug("   REMOVE {}({}) - cached version:{} remote version:{}", cacheName, id, currentVersion, version);
+          }
+          beanCache.remove(id);
+        }
+      }
+    }
+    for (BeanPropertyAssocOne<?> imported : propertiesOneImported) {
+      imported.cacheClear();
+    }
+  }
+
   /**
    * Returns true if it managed to populate/load the bean from the cache.
    */
@@ -705,7 +821,7 @@ final class BeanDescriptorCacheHelp<T> {
       return false;
     }
     int lazyLoadProperty = ebi.getLazyLoadPropertyIndex();
-    if (lazyLoadProperty > -1 && !cacheData.isLoaded(ebi.getLazyLoadProperty())) {
+    if (lazyLoadProperty > -1 && !cacheData.isLoaded(bean._ebean_getPropertyNames(), lazyLoadProperty)) {
       if (beanLog.isTraceEnabled()) {
         beanLog.trace("   LOAD {}({}) - cache miss on property({})", cacheName, id, ebi.getLazyLoadProperty());
       }
@@ -789,10 +905,23 @@ final class BeanDescriptorCacheHelp<T> {
   void handleBulkUpdate(TableIUD tableIUD) {
     // inserts don't invalidate the bean cache
     if (tableIUD.isUpdateOrDelete()) {
-      beanCacheClear();
+      List<Object> ids = tableIUD.getIds();
+      if (ids != null && tableIUD.getTableName().equalsIgnoreCase(desc.getBaseTable())) {
+        // only the rows with these ids were modified
+        if (beanCache != null) {
+          for (Object id : ids) {
+            if (beanLog.isDebugEnabled()) {
+              beanLog.debug("   REMOVE {}({}) - bulk update", cacheName, id);
+            }
+            beanCache.remove(id);
+          }
+        }
+      } else {
+        beanCacheClear();
+      }
     }
-    // any change invalidates the query cache
-    queryCacheClear();
+    // invalidates query cache entries that depend on the table
+    queryCacheInvalidate();
     // any change invalidates the collection IDs cache
     for (BeanPropertyAssocOne<?> imported : propertiesOneImported) {
       imported.cacheClear();
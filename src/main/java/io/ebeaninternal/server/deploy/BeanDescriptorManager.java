@@ -161,6 +161,11 @@ public class BeanDescriptorManager implements BeanDescriptorMap {
 
   private final Map<String, List<BeanDescriptor<?>>> tableToViewDescMap = new HashMap<>();
 
+  /**
+   * The (lower case) tables that query cache entries can depend on.
+   */
+  private final Set<String> queryCacheTables = new HashSet<>();
+
   private List<BeanDescriptor<?>> immutableDescriptorList;
 
   private final DbIdentity dbIdentity;
@@ -193,6 +198,13 @@ public class BeanDescriptorManager implements BeanDescriptorMap {
 
   private final int queryPlanTTLSeconds;
 
+  private final int queryPlanCacheMaxSize;
+
+  /**
+   * Global limit and count of query plans across all the bean types.
+   */
+  private final QueryPlanCache.Global queryPlanCacheGlobal;
+
   /**
    * Create for a given database dbConfig.
    */
@@ -209,6 +221,8 @@ public class BeanDescriptorManager implements BeanDescriptorMap {
     this.multiValueBind = config.getMultiValueBind();
     this.idBinderFactory = new IdBinderFactory(databasePlatform.isIdInExpandedForm(), multiValueBind);
     this.queryPlanTTLSeconds = serverConfig.getQueryPlanTTLSeconds();
+    this.queryPlanCacheMaxSize = serverConfig.getQueryPlanCacheMaxSize();
+    this.queryPlanCacheGlobal = new QueryPlanCache.Global(serverConfig.getQueryPlanCacheMaxSizeGlobal());
 
     this.asOfViewSuffix = getAsOfViewSuffix(databasePlatform, serverConfig);
     String versionsBetweenSuffix = getVersionsBetweenSuffix(databasePlatform, serverConfig);
@@ -258,6 +272,11 @@ public class BeanDescriptorManager implements BeanDescriptorMap {
     }
   }
 
+  @Override
+  public QueryPlanCache createQueryPlanCache(String fullName) {
+    return new QueryPlanCache(fullName, queryPlanCacheMaxSize, queryPlanCacheGlobal);
+  }
+
   @Override
   public ScalarType<?> getScalarType(String cast) {
     return typeManager.getScalarType(cast);
@@ -379,6 +398,7 @@ public class BeanDescriptorManager implements BeanDescriptorMap {
       readForeignKeys();
 
       readTableToDescriptor();
+      readQueryCacheDependents();
 
       logStatus();
 
@@ -453,6 +473,8 @@ public class BeanDescriptorManager implements BeanDescriptorMap {
   public void cacheNotify(TransactionEventTable.TableIUD tableIUD) {
 
     String tableName = tableIUD.getTableName().toLowerCase();
+    // invalidate query cache entries that depend on this table (or on unknown tables)
+    cacheManager.invalidateQueryCache(tableName);
     List<BeanDescriptor<?>> normalBeanTypes = tableToDescMap.get(tableName);
     if (normalBeanTypes != null) {
       // 'normal' entity beans based on a "base table"
@@ -492,7 +514,7 @@ public class BeanDescriptorManager implements BeanDescriptorMap {
       List<BeanDescriptor<?>> list = tableToViewDescMap.get(depTable.toLowerCase());
       if (list != null) {
         for (BeanDescriptor<?> desc : list) {
-          desc.clearQueryCache();
+          desc.queryCacheInvalidate();
         }
       }
     }
@@ -528,6 +550,43 @@ public class BeanDescriptorManager implements BeanDescriptorMap {
     }
   }
 
+  /**
+   * Determine the tables that query cache entries can depend on (via joins) and mark the
+   * bean types based on those tables such that their changes invalidate those entries.
+   */
+  private void readQueryCacheDependents() {
+
+    Set<BeanDescriptor<?>> dependents = new HashSet<>();
+    for (BeanDescriptor<?> desc : descMap.values()) {
+      if (desc.isQueryCaching()) {
+        addQueryCacheDependents(desc, dependents);
+      }
+    }
+    for (BeanDescriptor<?> desc : dependents) {
+      desc.addDependentTables(queryCacheTables);
+    }
+    for (BeanDescriptor<?> desc : descMap.values()) {
+      String baseTable = desc.getBaseTable();
+      if (baseTable != null && queryCacheTables.contains(baseTable.toLowerCase())) {
+        desc.setQueryCacheDependent();
+      }
+    }
+  }
+
+  private void addQueryCacheDependents(BeanDescriptor<?> desc, Set<BeanDescriptor<?>> dependents) {
+    if (desc != null && dependents.add(desc)) {
+      for (BeanPropertyAssocOne<?> one : desc.propertiesOne()) {
+        addQueryCacheDependents(one.getTargetDescriptor(), dependents);
+      }
+      for (BeanPropertyAssocMany<?> many : desc.propertiesMany()) {
+        addQueryCacheDependents(many.getTargetDescriptor(), dependents);
+        if (many.hasJoinTable()) {
+          queryCacheTables.add(many.getIntersectionTableJoin().getTable().toLowerCase());
+        }
+      }
+    }
+  }
+
   private void readForeignKeys() {
 
     for (BeanDescriptor<?> d : descMap.values()) {
@@ -71,4 +71,9 @@ public interface BeanDescriptorMap {
    * Return the scalarType for the given logical type.
    */
   ScalarType<?> getScalarType(String cast);
+
+  /**
+   * Create the (size bounded) query plan cache for the given bean type.
+   */
+  QueryPlanCache createQueryPlanCache(String fullName);
 }
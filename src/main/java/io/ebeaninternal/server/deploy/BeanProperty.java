@@ -24,6 +24,7 @@ import io.ebeaninternal.server.el.ElPropertyChainBuilder;
 import io.ebeaninternal.server.el.ElPropertyValue;
 import io.ebeaninternal.server.properties.BeanPropertyGetter;
 import io.ebeaninternal.server.properties.BeanPropertySetter;
+import io.ebeaninternal.server.properties.PrimitiveFieldSetter;
 import io.ebeaninternal.server.query.STreeProperty;
 import io.ebeaninternal.server.query.SqlBeanLoad;
 import io.ebeaninternal.server.query.SqlJoinType;
@@ -32,6 +33,7 @@ import io.ebeaninternal.server.type.ScalarType;
 import io.ebeaninternal.server.type.ScalarTypeBoolean;
 import io.ebeaninternal.server.type.ScalarTypeEnum;
 import io.ebeaninternal.server.type.ScalarTypeLogicalType;
+import io.ebeaninternal.server.type.ScalarTypePrimitive;
 import io.ebeaninternal.util.ValueUtil;
 import io.ebeanservice.docstore.api.mapping.DocMappingBuilder;
 import io.ebeanservice.docstore.api.mapping.DocPropertyMapping;
@@ -215,6 +217,11 @@ public class BeanProperty implements ElPropertyValue, Property, STreeProperty {
   @SuppressWarnings("rawtypes")
   final ScalarType scalarType;
 
+  /**
+   * Set when the property is a primitive that is read and set without boxing.
+   */
+  final ScalarTypePrimitive primitiveType;
+
   final DocPropertyOptions docOptions;
 
   /**
@@ -321,7 +328,7 @@ public class BeanProperty implements ElPropertyValue, Property, STreeProperty {
     this.id = deploy.isId();
     this.generatedProperty = deploy.getGeneratedProperty();
     this.getter = deploy.getGetter();
-    this.setter = deploy.getSetter();
+    this.setter = PrimitiveFieldSetter.of(deploy.getSetter(), deploy.getField(), deploy.getOwningType());
 
     this.dbColumn = tableAliasIntern(descriptor, deploy.getDbColumn(), false, null);
     this.dbComment = deploy.getDbComment();
@@ -332,6 +339,7 @@ public class BeanProperty implements ElPropertyValue, Property, STreeProperty {
 
     this.dbType = deploy.getDbType();
     this.scalarType = deploy.getScalarType();
+    this.primitiveType = initPrimitiveType(scalarType, setter);
     this.lob = isLobType(dbType);
     this.propertyType = deploy.getPropertyType();
     this.field = deploy.getField();
@@ -436,6 +444,7 @@ public class BeanProperty implements ElPropertyValue, Property, STreeProperty {
     this.setter = source.setter;
     this.dbType = source.getDbType(true);
     this.scalarType = source.scalarType;
+    this.primitiveType = source.primitiveType;
     this.lob = isLobType(dbType);
     this.propertyType = source.getPropertyType();
     this.field = source.getField();
@@ -639,10 +648,33 @@ public class BeanProperty implements ElPropertyValue, Property, STreeProperty {
     }
   }
 
+  private static ScalarTypePrimitive initPrimitiveType(ScalarType<?> scalarType, BeanPropertySetter setter) {
+    if (scalarType instanceof ScalarTypePrimitive && setter instanceof PrimitiveFieldSetter) {
+      return (ScalarTypePrimitive) scalarType;
+    }
+    return null;
+  }
+
   public Object read(DbReadContext ctx) throws SQLException {
     return scalarType.read(ctx.getDataReader());
   }
 
+  /**
+   * Return true if the property is a primitive that is read and set without boxing.
+   */
+  public boolean isPrimitiveRead() {
+    return primitiveType != null;
+  }
+
+  /**
+   * Read and set the primitive property value without boxing.
+   */
+  public void readSetPrimitive(DbReadContext ctx, EntityBean bean) throws SQLException {
+    if (!primitiveType.readSetPrimitive(ctx.getDataReader(), bean, setter)) {
+      setValue(bean, null);
+    }
+  }
+
   public Object readSet(DbReadContext ctx, EntityBean bean) throws SQLException {
 
     try {
@@ -0,0 +1,81 @@
+package io.ebeaninternal.server.deploy;
+
+import io.ebean.bean.CallStack;
+import io.ebean.bean.ObjectGraphOrigin;
+
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Bounded cache of the ObjectGraphOrigin for a bean type keyed by CallStack and query hash.
+ * <p>
+ * Repeated queries from the same call site resolve to the same origin rather than creating
+ * it (and its key) per query. Once the maximum size is reached new origins are not cached.
+ * </p>
+ */
+final class ObjectGraphOriginCache {
+
+  private final int maxSize;
+
+  private final String beanType;
+
+  private final ConcurrentHashMap<Key, ObjectGraphOrigin> map = new ConcurrentHashMap<>();
+
+  ObjectGraphOriginCache(String beanType, int maxSize) {
+    this.beanType = beanType;
+    this.maxSize = maxSize;
+  }
+
+  /**
+   * Return the origin for the call stack and query hash.
+   */
+  ObjectGraphOrigin get(CallStack callStack, int queryHash) {
+    Key key = new Key(callStack, queryHash);
+    ObjectGraphOrigin origin = map.get(key);
+    if (origin == null) {
+      origin = new ObjectGraphOrigin(queryHash, callStack, beanType);
+      if (map.size() < maxSize) {
+        ObjectGraphOrigin existing = map.putIfAbsent(key, origin);
+        if (existing != null) {
+          origin = existing;
+        }
+      }
+    }
+    return origin;
+  }
+
+  /**
+   * Return the number of origins cached.
+   */
+  int size() {
+    return map.size();
+  }
+
+  private static final class Key {
+
+    private final CallStack callStack;
+
+    private final int queryHash;
+
+    Key(CallStack callStack, int queryHash) {
+      this.callStack = callStack;
+      this.queryHash = queryHash;
+    }
+
+    @Override
+    public int hashCode() {
+      return 92821 * callStack.hashCode() + queryHash;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+      if (obj == this) {
+        return true;
+      }
+      if (!(obj instanceof Key)) {
+        return false;
+      }
+      Key other = (Key) obj;
+      return queryHash == other.queryHash && callStack.equals(other.callStack);
+    }
+  }
+}
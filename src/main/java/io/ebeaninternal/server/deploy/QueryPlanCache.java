@@ -0,0 +1,386 @@
+package io.ebeaninternal.server.deploy;
+
+import io.ebean.meta.MetaQueryPlanCache;
+import io.ebeaninternal.api.CQueryPlanKey;
+import io.ebeaninternal.server.query.CQueryPlan;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Size bounded cache of query plans for a bean type.
+ * <p>
+ * The cache is bounded by a maximum number of plans per bean type and a global maximum
+ * shared by all the bean types. When a put takes a bean type over its limit the least
+ * frequently used plans (least recently used for plans with the same frequency) of that bean
+ * type are evicted down to 75% of the bean type limit. When a put takes the plans over the
+ * global limit the least frequently used plans across all the bean types are evicted down to
+ * 75% of the global limit. The plan just put is never evicted. Frequencies are halved on each
+ * eviction such that plans used heavily in the past do not stay protected forever.
+ * </p>
+ * <p>
+ * Plans that are unused for the query plan time to live are removed by the periodic trim.
+ * </p>
+ */
+public final class QueryPlanCache {
+
+  private final String name;
+
+  private final int maxSize;
+
+  /**
+   * The global limit shared by all the bean types.
+   */
+  private final Global global;
+
+  private final ConcurrentHashMap<CQueryPlanKey, Entry> map = new ConcurrentHashMap<>();
+
+  private final ReentrantLock evictLock = new ReentrantLock();
+
+  private final LongAdder hitCount = new LongAdder();
+
+  private final LongAdder missCount = new LongAdder();
+
+  private final LongAdder evictCount = new LongAdder();
+
+  /**
+   * Create with the max size per bean type (0 for unbounded) and the shared global limit.
+   */
+  QueryPlanCache(String name, int maxSize, Global global) {
+    this.name = name;
+    this.maxSize = maxSize;
+    this.global = global;
+    global.register(this);
+  }
+
+  /**
+   * Return the query plan for the given key or null if not in the cache.
+   */
+  public CQueryPlan get(CQueryPlanKey key) {
+    Entry entry = map.get(key);
+    if (entry == null) {
+      missCount.increment();
+      return null;
+    }
+    hitCount.increment();
+    entry.access();
+    return entry.plan;
+  }
+
+  /**
+   * Put the query plan into the cache evicting plans if over the limits.
+   */
+  public void put(CQueryPlanKey key, CQueryPlan plan) {
+    Entry entry = new Entry(plan);
+    if (map.put(key, entry) == null) {
+      boolean overGlobal = global.increment();
+      if (maxSize > 0 && map.size() > maxSize) {
+        evict(entry);
+      }
+      if (overGlobal) {
+        global.evict(entry);
+      }
+    }
+  }
+
+  /**
+   * Evict the least frequently used plans of this bean type down to 75% of the max size.
+   * <p>
+   * Skipped when another thread is already evicting (the cache can briefly exceed the limit).
+   * </p>
+   */
+  private void evict(Entry inserted) {
+    if (!evictLock.tryLock()) {
+      return;
+    }
+    try {
+      int size = map.size();
+      if (size <= maxSize) {
+        return;
+      }
+      List<Candidate> candidates = new ArrayList<>(size);
+      addCandidates(candidates, inserted);
+      evictCandidates(candidates, size - maxSize * 3 / 4);
+    } finally {
+      evictLock.unlock();
+    }
+  }
+
+  /**
+   * Add the plans as eviction candidates (excluding the plan just inserted).
+   */
+  private void addCandidates(List<Candidate> candidates, Entry inserted) {
+    for (Map.Entry<CQueryPlanKey, Entry> entry : map.entrySet()) {
+      if (entry.getValue() != inserted) {
+        candidates.add(new Candidate(this, entry.getKey(), entry.getValue()));
+      }
+    }
+  }
+
+  /**
+   * Evict the given number of least frequently used candidates decaying the frequency of the others.
+   */
+  private static void evictCandidates(List<Candidate> candidates, int toEvict) {
+    // snapshot frequency and last access as they change concurrently
+    candidates.sort(null);
+    for (Candidate candidate : candidates) {
+      if (toEvict > 0) {
+        if (candidate.evict()) {
+          toEvict--;
+        }
+      } else {
+        candidate.entry.decay();
+      }
+    }
+  }
+
+  /**
+   * Remove the evicted plan returning true if it was removed.
+   */
+  private boolean remove(CQueryPlanKey key, Entry entry) {
+    if (map.remove(key, entry)) {
+      global.decrement();
+      evictCount.increment();
+      return true;
+    }
+    return false;
+  }
+
+  /**
+   * Remove plans not used since the passed in epoch time returning the removed plans.
+   */
+  public List<CQueryPlan> trim(long unusedSince) {
+
+    List<CQueryPlan> list = new ArrayList<>();
+
+    Iterator<Entry> it = map.values().iterator();
+    while (it.hasNext()) {
+      CQueryPlan queryPlan = it.next().plan;
+      if (queryPlan.getLastQueryTime() < unusedSince) {
+        it.remove();
+        global.decrement();
+        list.add(queryPlan);
+      }
+    }
+    return list;
+  }
+
+  /**
+   * Return the query plans currently in the cache.
+   */
+  public List<CQueryPlan> plans() {
+    List<CQueryPlan> list = new ArrayList<>(map.size());
+    for (Entry entry : map.values()) {
+      list.add(entry.plan);
+    }
+    return list;
+  }
+
+  /**
+   * Return the number of plans in the cache.
+   */
+  public int size() {
+    return map.size();
+  }
+
+  /**
+   * Return the hit, miss and eviction statistics optionally resetting the counters.
+   */
+  public MetaQueryPlanCache getStatistics(boolean reset) {
+    long hits = reset ? hitCount.sumThenReset() : hitCount.sum();
+    long misses = reset ? missCount.sumThenReset() : missCount.sum();
+    long evictions = reset ? evictCount.sumThenReset() : evictCount.sum();
+    return new Statistics(name, maxSize, map.size(), hits, misses, evictions);
+  }
+
+  /**
+   * A cached plan with its (approximate) use frequency and last access time.
+   */
+  private static final class Entry {
+
+    private final CQueryPlan plan;
+
+    /**
+     * Approximate as increments are not atomic (a lost increment is harmless).
+     */
+    private volatile int frequency = 1;
+
+    private volatile long lastAccess = System.nanoTime();
+
+    Entry(CQueryPlan plan) {
+      this.plan = plan;
+    }
+
+    void access() {
+      frequency++;
+      lastAccess = System.nanoTime();
+    }
+
+    void decay() {
+      frequency = frequency >> 1;
+    }
+  }
+
+  /**
+   * Eviction candidate ordered by frequency and then last access.
+   */
+  private static final class Candidate implements Comparable<Candidate> {
+
+    private final QueryPlanCache cache;
+    private final CQueryPlanKey key;
+    private final Entry entry;
+    private final int frequency;
+    private final long lastAccess;
+
+    Candidate(QueryPlanCache cache, CQueryPlanKey key, Entry entry) {
+      this.cache = cache;
+      this.key = key;
+      this.entry = entry;
+      this.frequency = entry.frequency;
+      this.lastAccess = entry.lastAccess;
+    }
+
+    boolean evict() {
+      return cache.remove(key, entry);
+    }
+
+    @Override
+    public int compareTo(Candidate other) {
+      int cmp = Integer.compare(frequency, other.frequency);
+      return cmp != 0 ? cmp : Long.compare(lastAccess, other.lastAccess);
+    }
+  }
+
+  /**
+   * The global limit and count of plans shared by all the bean types.
+   */
+  static final class Global {
+
+    private final int maxSize;
+
+    private final AtomicInteger count = new AtomicInteger();
+
+    private final List<QueryPlanCache> caches = new CopyOnWriteArrayList<>();
+
+    private final ReentrantLock evictLock = new ReentrantLock();
+
+    /**
+     * Create with the global max size (0 for unbounded).
+     */
+    Global(int maxSize) {
+      this.maxSize = maxSize;
+    }
+
+    private void register(QueryPlanCache cache) {
+      caches.add(cache);
+    }
+
+    /**
+     * Return the number of plans across all the bean types.
+     */
+    int count() {
+      return count.get();
+    }
+
+    /**
+     * Increment the count returning true if this takes it over the global limit.
+     */
+    private boolean increment() {
+      int global = count.incrementAndGet();
+      return maxSize > 0 && global > maxSize;
+    }
+
+    private void decrement() {
+      count.decrementAndGet();
+    }
+
+    /**
+     * Evict the least frequently used plans across all the bean types down to 75% of the max size.
+     * <p>
+     * Skipped when another thread is already evicting (the cache can briefly exceed the limit).
+     * </p>
+     */
+    private void evict(Entry inserted) {
+      if (!evictLock.tryLock()) {
+        return;
+      }
+      try {
+        int size = count.get();
+        if (size <= maxSize) {
+          return;
+        }
+        List<Candidate> candidates = new ArrayList<>(size);
+        for (QueryPlanCache cache : caches) {
+          cache.addCandidates(candidates, inserted);
+        }
+        evictCandidates(candidates, size - maxSize * 3 / 4);
+      } finally {
+        evictLock.unlock();
+      }
+    }
+  }
+
+  /**
+   * Snapshot of the plan cache statistics.
+   */
+  private static final class Statistics implements MetaQueryPlanCache {
+
+    private final String name;
+    private final int maxSize;
+    private final int size;
+    private final long hitCount;
+    private final long missCount;
+    private final long evictCount;
+
+    Statistics(String name, int maxSize, int size, long hitCount, long missCount, long evictCount) {
+      this.name = name;
+      this.maxSize = maxSize;
+      this.size = size;
+      this.hitCount = hitCount;
+      this.missCount = missCount;
+      this.evictCount = evictCount;
+    }
+
+    @Override
+    public String getName() {
+      return name;
+    }
+
+    @Override
+    public int getMaxSize() {
+      return maxSize;
+    }
+
+    @Override
+    public int getSize() {
+      return size;
+    }
+
+    @Override
+    public long getHitCount() {
+      return hitCount;
+    }
+
+    @Override
+    public long getMissCount() {
+      return missCount;
+    }
+
+    @Override
+    public long getEvictCount() {
+      return evictCount;
+    }
+
+    @Override
+    public String toString() {
+      return name + " size:" + size + " hits:" + hitCount + " misses:" + missCount + " evicts:" + evictCount;
+    }
+  }
+}
@@ -66,6 +66,11 @@ public interface IdBinder {
    */
   boolean isComplexId();
 
+  /**
+   * Return the number of id columns (bind values per id in an IN clause).
+   */
+  int getIdColumnCount();
+
   /**
    * Return the default order by that may need to be used if the query includes
    * a many property.
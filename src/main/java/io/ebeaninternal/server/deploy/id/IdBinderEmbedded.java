@@ -143,6 +143,11 @@ public final class IdBinderEmbedded implements IdBinder {
     return true;
   }
 
+  @Override
+  public int getIdColumnCount() {
+    return props.length;
+  }
+
   @Override
   public String getDefaultOrderBy() {
 
@@ -65,6 +65,11 @@ public final class IdBinderEmpty implements IdBinder {
     return true;
   }
 
+  @Override
+  public int getIdColumnCount() {
+    return 1;
+  }
+
   @Override
   public String getDefaultOrderBy() {
     // this should never happen?
@@ -98,6 +98,11 @@ public final class IdBinderSimple implements IdBinder {
     return false;
   }
 
+  @Override
+  public int getIdColumnCount() {
+    return 1;
+  }
+
   @Override
   public String getDefaultOrderBy() {
     return idProperty.getName();
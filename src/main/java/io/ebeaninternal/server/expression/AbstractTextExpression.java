@@ -1,5 +1,6 @@
 package io.ebeaninternal.server.expression;
 
+import io.ebeaninternal.api.PlanKeyBuilder;
 import io.ebeaninternal.api.SpiExpression;
 import io.ebeaninternal.api.SpiExpressionRequest;
 
@@ -32,7 +33,7 @@ public abstract class AbstractTextExpression extends AbstractExpression {
   }
 
   @Override
-  public void queryPlanHash(StringBuilder builder) {
+  public void queryPlanHash(PlanKeyBuilder builder) {
     // do nothing, only execute against document store
   }
 
@@ -1,6 +1,7 @@
 package io.ebeaninternal.server.expression;
 
 import io.ebeaninternal.api.ManyWhereJoins;
+import io.ebeaninternal.api.PlanKeyBuilder;
 import io.ebeaninternal.api.SpiExpression;
 import io.ebeaninternal.api.SpiExpressionRequest;
 import io.ebeaninternal.api.SpiExpressionValidation;
@@ -104,7 +105,7 @@ class AllEqualsExpression extends NonPrepareExpression {
    * </p>
    */
   @Override
-  public void queryPlanHash(StringBuilder builder) {
+  public void queryPlanHash(PlanKeyBuilder builder) {
 
     builder.append("AllEquals[");
     for (Entry<String, Object> entry : propMap.entrySet()) {
@@ -1,5 +1,6 @@
 package io.ebeaninternal.server.expression;
 
+import io.ebeaninternal.api.PlanKeyBuilder;
 import io.ebeaninternal.api.SpiExpression;
 import io.ebeaninternal.api.SpiExpressionRequest;
 
@@ -42,7 +43,7 @@ public class ArrayContainsExpression extends AbstractExpression {
   }
 
   @Override
-  public void queryPlanHash(StringBuilder builder) {
+  public void queryPlanHash(PlanKeyBuilder builder) {
     builder.append("ArrayContains[").append(propName)
       .append(" b:").append(contains)
       .append(" ?:").append(values.length).append("]");
@@ -1,5 +1,6 @@
 package io.ebeaninternal.server.expression;
 
+import io.ebeaninternal.api.PlanKeyBuilder;
 import io.ebeaninternal.api.SpiExpression;
 import io.ebeaninternal.api.SpiExpressionRequest;
 
@@ -23,7 +24,7 @@ public class ArrayIsEmptyExpression extends AbstractExpression {
   }
 
   @Override
-  public void queryPlanHash(StringBuilder builder) {
+  public void queryPlanHash(PlanKeyBuilder builder) {
     if (empty) {
       builder.append("ArrayIsEmpty[");
     } else {
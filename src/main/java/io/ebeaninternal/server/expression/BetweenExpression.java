@@ -1,5 +1,6 @@
 package io.ebeaninternal.server.expression;
 
+import io.ebeaninternal.api.PlanKeyBuilder;
 import io.ebeaninternal.api.SpiExpression;
 import io.ebeaninternal.api.SpiExpressionRequest;
 
@@ -44,7 +45,7 @@ class BetweenExpression extends AbstractExpression {
   }
 
   @Override
-  public void queryPlanHash(StringBuilder builder) {
+  public void queryPlanHash(PlanKeyBuilder builder) {
     builder.append("Between[").append(propName).append("]");
   }
 
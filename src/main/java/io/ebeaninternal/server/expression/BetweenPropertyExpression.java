@@ -1,6 +1,7 @@
 package io.ebeaninternal.server.expression;
 
 import io.ebeaninternal.api.ManyWhereJoins;
+import io.ebeaninternal.api.PlanKeyBuilder;
 import io.ebeaninternal.api.SpiExpression;
 import io.ebeaninternal.api.SpiExpressionRequest;
 import io.ebeaninternal.api.SpiExpressionValidation;
@@ -84,7 +85,7 @@ class BetweenPropertyExpression extends NonPrepareExpression {
   }
 
   @Override
-  public void queryPlanHash(StringBuilder builder) {
+  public void queryPlanHash(PlanKeyBuilder builder) {
     builder.append("BetweenProperties[").append("low:").append(lowProperty).append(" high:").append(highProperty).append("]");
   }
 
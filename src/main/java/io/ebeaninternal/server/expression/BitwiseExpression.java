@@ -1,5 +1,6 @@
 package io.ebeaninternal.server.expression;
 
+import io.ebeaninternal.api.PlanKeyBuilder;
 import io.ebeaninternal.api.SpiExpression;
 import io.ebeaninternal.api.SpiExpressionRequest;
 
@@ -32,7 +33,7 @@ class BitwiseExpression extends AbstractExpression {
   }
 
   @Override
-  public void queryPlanHash(StringBuilder builder) {
+  public void queryPlanHash(PlanKeyBuilder builder) {
     builder.append("Bitwise[");
     builder.append(propName).append(" op:").append(operator).append(" cp:").append(compare);
     builder.append(" ?2]");
@@ -7,6 +7,7 @@ import io.ebean.event.BeanQueryRequest;
 import io.ebean.util.SplitName;
 import io.ebeaninternal.api.ManyWhereJoins;
 import io.ebeaninternal.api.NaturalKeyQueryData;
+import io.ebeaninternal.api.PlanKeyBuilder;
 import io.ebeaninternal.api.SpiExpression;
 import io.ebeaninternal.api.SpiExpressionRequest;
 import io.ebeaninternal.api.SpiExpressionValidation;
@@ -220,7 +221,7 @@ public class DefaultExampleExpression implements SpiExpression, ExampleExpressio
    * Return a hash for AutoTune query identification.
    */
   @Override
-  public void queryPlanHash(StringBuilder builder) {
+  public void queryPlanHash(PlanKeyBuilder builder) {
 
     builder.append("Example[");
     for (SpiExpression aList : list) {
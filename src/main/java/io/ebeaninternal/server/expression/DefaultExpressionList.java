@@ -24,6 +24,7 @@ import io.ebean.search.TextQueryString;
 import io.ebean.search.TextSimple;
 import io.ebeaninternal.api.ManyWhereJoins;
 import io.ebeaninternal.api.NaturalKeyQueryData;
+import io.ebeaninternal.api.PlanKeyBuilder;
 import io.ebeaninternal.api.SpiExpression;
 import io.ebeaninternal.api.SpiExpressionList;
 import io.ebeaninternal.api.SpiExpressionRequest;
@@ -35,12 +36,14 @@ import java.io.IOException;
 import java.sql.Timestamp;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.function.Consumer;
 import java.util.function.Predicate;
+import java.util.stream.Stream;
 
 /**
  * Default implementation of ExpressionList.
@@ -261,6 +264,16 @@ public class DefaultExpressionList<T> implements SpiExpressionList<T> {
     return null;
   }
 
+  @Override
+  public boolean isDependentTablesKnown() {
+    for (SpiExpression expr : list) {
+      if (!expr.isDependentTablesKnown()) {
+        return false;
+      }
+    }
+    return true;
+  }
+
   /**
    * Return true if one of the expressions is related to a Many property.
    */
@@ -389,6 +402,11 @@ public class DefaultExpressionList<T> implements SpiExpressionList<T> {
     return query.findIterate();
   }
 
+  @Override
+  public Stream<T> findStream() {
+    return query.findStream();
+  }
+
   @Override
   public void findEach(Consumer<T> consumer) {
     query.findEach(consumer);
@@ -577,7 +595,7 @@ public class DefaultExpressionList<T> implements SpiExpressionList<T> {
    * values.
    */
   @Override
-  public void queryPlanHash(StringBuilder builder) {
+  public void queryPlanHash(PlanKeyBuilder builder) {
     builder.append("List[");
     if (textRoot) {
       builder.append("textRoot:true ");
@@ -1147,4 +1165,25 @@ public class DefaultExpressionList<T> implements SpiExpressionList<T> {
     }
     return null;
   }
+
+  @Override
+  public Collection<?> idValues(String idName) {
+    if (idName == null) {
+      return null;
+    }
+    // top level expressions are a conjunction so any id expression limits the rows
+    for (SpiExpression expr : list) {
+      if (expr instanceof IdInExpression) {
+        return ((IdInExpression) expr).getIdCollection();
+      }
+      if (expr instanceof IdExpression) {
+        return Collections.singletonList(((IdExpression) expr).getValue());
+      }
+      Object id = expr.getIdEqualTo(idName);
+      if (id != null) {
+        return Collections.singletonList(id);
+      }
+    }
+    return null;
+  }
 }
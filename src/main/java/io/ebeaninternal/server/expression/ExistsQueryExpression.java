@@ -2,6 +2,7 @@ package io.ebeaninternal.server.expression;
 
 import io.ebean.event.BeanQueryRequest;
 import io.ebeaninternal.api.ManyWhereJoins;
+import io.ebeaninternal.api.PlanKeyBuilder;
 import io.ebeaninternal.api.SpiEbeanServer;
 import io.ebeaninternal.api.SpiExpression;
 import io.ebeaninternal.api.SpiExpressionRequest;
@@ -80,7 +81,7 @@ class ExistsQueryExpression implements SpiExpression, UnsupportedDocStoreExpress
   }
 
   @Override
-  public void queryPlanHash(StringBuilder builder) {
+  public void queryPlanHash(PlanKeyBuilder builder) {
     builder.append("ExistsQuery[").append(" not:").append(not);
     builder.append(" sql:").append(sql).append(" ?:").append(bindParams.size()).append("]");
   }
@@ -137,4 +138,9 @@ class ExistsQueryExpression implements SpiExpression, UnsupportedDocStoreExpress
   public void validate(SpiExpressionValidation validation) {
     // Nothing to do for exists expression
   }
+
+  @Override
+  public boolean isDependentTablesKnown() {
+    return false;
+  }
 }
@@ -1,6 +1,7 @@
 package io.ebeaninternal.server.expression;
 
 import io.ebeaninternal.api.ManyWhereJoins;
+import io.ebeaninternal.api.PlanKeyBuilder;
 import io.ebeaninternal.api.SpiExpression;
 import io.ebeaninternal.api.SpiExpressionRequest;
 import io.ebeaninternal.api.SpiExpressionValidation;
@@ -19,6 +20,13 @@ class IdExpression extends NonPrepareExpression implements SpiExpression {
     this.value = value;
   }
 
+  /**
+   * Return the id value.
+   */
+  Object getValue() {
+    return value;
+  }
+
   @Override
   public void writeDocQuery(DocQueryContext context) throws IOException {
     context.writeId(value);
@@ -67,7 +75,7 @@ class IdExpression extends NonPrepareExpression implements SpiExpression {
    * No properties so this is just a unique static number.
    */
   @Override
-  public void queryPlanHash(StringBuilder builder) {
+  public void queryPlanHash(PlanKeyBuilder builder) {
     builder.append("Id[]");
   }
 
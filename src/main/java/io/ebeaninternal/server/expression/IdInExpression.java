@@ -2,6 +2,7 @@ package io.ebeaninternal.server.expression;
 
 import io.ebean.event.BeanQueryRequest;
 import io.ebeaninternal.api.ManyWhereJoins;
+import io.ebeaninternal.api.PlanKeyBuilder;
 import io.ebeaninternal.api.SpiExpression;
 import io.ebeaninternal.api.SpiExpressionRequest;
 import io.ebeaninternal.api.SpiExpressionValidation;
@@ -25,6 +26,13 @@ public class IdInExpression extends NonPrepareExpression {
     this.idCollection = idCollection;
   }
 
+  /**
+   * Return the id values.
+   */
+  Collection<?> getIdCollection() {
+    return idCollection;
+  }
+
   @Override
   public void prepareExpression(BeanQueryRequest<?> request) {
     multiValueIdSupported = request.isMultiValueIdSupported();
@@ -96,7 +104,7 @@ public class IdInExpression extends NonPrepareExpression {
    * Incorporates the number of Id values to bind.
    */
   @Override
-  public void queryPlanHash(StringBuilder builder) {
+  public void queryPlanHash(PlanKeyBuilder builder) {
     builder.append("IdIn[?");
     if (!multiValueIdSupported) {
       // query plan specific to the number of parameters in the IN clause
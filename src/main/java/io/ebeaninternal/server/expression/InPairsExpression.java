@@ -3,6 +3,7 @@ package io.ebeaninternal.server.expression;
 import io.ebean.Pairs;
 import io.ebean.event.BeanQueryRequest;
 import io.ebeaninternal.api.NaturalKeyQueryData;
+import io.ebeaninternal.api.PlanKeyBuilder;
 import io.ebeaninternal.api.SpiExpression;
 import io.ebeaninternal.api.SpiExpressionRequest;
 import io.ebeaninternal.server.persist.MultiValueWrapper;
@@ -107,7 +108,7 @@ class InPairsExpression extends AbstractExpression {
    * Based on the number of values in the in clause.
    */
   @Override
-  public void queryPlanHash(StringBuilder builder) {
+  public void queryPlanHash(PlanKeyBuilder builder) {
     if (not) {
       builder.append("NotInPairs[");
     } else {
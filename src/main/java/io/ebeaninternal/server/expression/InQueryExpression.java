@@ -1,6 +1,7 @@
 package io.ebeaninternal.server.expression;
 
 import io.ebean.event.BeanQueryRequest;
+import io.ebeaninternal.api.PlanKeyBuilder;
 import io.ebeaninternal.api.SpiEbeanServer;
 import io.ebeaninternal.api.SpiExpression;
 import io.ebeaninternal.api.SpiExpressionRequest;
@@ -56,7 +57,7 @@ class InQueryExpression extends AbstractExpression implements UnsupportedDocStor
   }
 
   @Override
-  public void queryPlanHash(StringBuilder builder) {
+  public void queryPlanHash(PlanKeyBuilder builder) {
     builder.append("InQuery[").append(propName)
       .append(" not:").append(not).append(" sql:").append(sql)
       .append(" ?:").append(bindParams.size()).append("]");
@@ -109,4 +110,9 @@ class InQueryExpression extends AbstractExpression implements UnsupportedDocStor
     }
     return true;
   }
+
+  @Override
+  public boolean isDependentTablesKnown() {
+    return false;
+  }
 }
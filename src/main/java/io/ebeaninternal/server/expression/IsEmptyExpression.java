@@ -1,6 +1,7 @@
 package io.ebeaninternal.server.expression;
 
 import io.ebeaninternal.api.ManyWhereJoins;
+import io.ebeaninternal.api.PlanKeyBuilder;
 import io.ebeaninternal.api.SpiExpression;
 import io.ebeaninternal.api.SpiExpressionRequest;
 import io.ebeaninternal.server.deploy.BeanDescriptor;
@@ -93,7 +94,7 @@ class IsEmptyExpression extends AbstractExpression {
    * Based on the type and propertyName.
    */
   @Override
-  public void queryPlanHash(StringBuilder builder) {
+  public void queryPlanHash(PlanKeyBuilder builder) {
     if (empty) {
       builder.append("IsEmpty[");
     } else {
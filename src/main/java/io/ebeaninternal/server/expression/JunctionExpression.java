@@ -23,6 +23,7 @@ import io.ebean.search.TextQueryString;
 import io.ebean.search.TextSimple;
 import io.ebeaninternal.api.ManyWhereJoins;
 import io.ebeaninternal.api.NaturalKeyQueryData;
+import io.ebeaninternal.api.PlanKeyBuilder;
 import io.ebeaninternal.api.SpiExpression;
 import io.ebeaninternal.api.SpiExpressionRequest;
 import io.ebeaninternal.api.SpiExpressionValidation;
@@ -38,6 +39,7 @@ import java.util.Optional;
 import java.util.Set;
 import java.util.function.Consumer;
 import java.util.function.Predicate;
+import java.util.stream.Stream;
 
 /**
  * Junction implementation.
@@ -126,6 +128,11 @@ class JunctionExpression<T> implements SpiJunction<T>, SpiExpression, Expression
     return null;
   }
 
+  @Override
+  public boolean isDependentTablesKnown() {
+    return exprList.isDependentTablesKnown();
+  }
+
   @Override
   public void containsMany(BeanDescriptor<?> desc, ManyWhereJoins manyWhereJoin) {
 
@@ -204,8 +211,8 @@ class JunctionExpression<T> implements SpiJunction<T>, SpiExpression, Expression
    * Based on Junction type and all the expression contained.
    */
   @Override
-  public void queryPlanHash(StringBuilder builder) {
-    builder.append(type).append("[");
+  public void queryPlanHash(PlanKeyBuilder builder) {
+    builder.append(type.name()).append("[");
     List<SpiExpression> list = exprList.internalList();
     for (SpiExpression aList : list) {
       aList.queryPlanHash(builder);
@@ -376,6 +383,11 @@ class JunctionExpression<T> implements SpiJunction<T>, SpiExpression, Expression
     return exprList.findIterate();
   }
 
+  @Override
+  public Stream<T> findStream() {
+    return exprList.findStream();
+  }
+
   @Override
   public void findEach(Consumer<T> consumer) {
     exprList.findEach(consumer);
@@ -1,6 +1,7 @@
 package io.ebeaninternal.server.expression;
 
 import io.ebean.LikeType;
+import io.ebeaninternal.api.PlanKeyBuilder;
 import io.ebeaninternal.api.SpiExpression;
 import io.ebeaninternal.api.SpiExpressionRequest;
 import io.ebeaninternal.server.el.ElPropertyValue;
@@ -62,11 +63,11 @@ class LikeExpression extends AbstractValueExpression {
    * Based on caseInsensitive and the property name.
    */
   @Override
-  public void queryPlanHash(StringBuilder builder) {
+  public void queryPlanHash(PlanKeyBuilder builder) {
     if (caseInsensitive){
       builder.append("I");
     }
-    builder.append("Like[").append(type).append(" ").append(propName).append("]");
+    builder.append("Like[").append(type.name()).append(" ").append(propName).append("]");
   }
 
   @Override
@@ -4,6 +4,7 @@ import io.ebean.Expression;
 import io.ebean.Junction;
 import io.ebean.event.BeanQueryRequest;
 import io.ebeaninternal.api.ManyWhereJoins;
+import io.ebeaninternal.api.PlanKeyBuilder;
 import io.ebeaninternal.api.SpiExpression;
 import io.ebeaninternal.api.SpiExpressionRequest;
 import io.ebeaninternal.api.SpiExpressionValidation;
@@ -105,6 +106,11 @@ abstract class LogicExpression implements SpiExpression {
     return null;
   }
 
+  @Override
+  public boolean isDependentTablesKnown() {
+    return expOne.isDependentTablesKnown() && expTwo.isDependentTablesKnown();
+  }
+
   @Override
   public void containsMany(BeanDescriptor<?> desc, ManyWhereJoins manyWhereJoin) {
     expOne.containsMany(desc, manyWhereJoin);
@@ -143,7 +149,7 @@ abstract class LogicExpression implements SpiExpression {
    * Based on the joinType plus the two expressions.
    */
   @Override
-  public void queryPlanHash(StringBuilder builder) {
+  public void queryPlanHash(PlanKeyBuilder builder) {
     builder.append("Logic").append(joinType).append("[");
     expOne.queryPlanHash(builder);
     builder.append(",");
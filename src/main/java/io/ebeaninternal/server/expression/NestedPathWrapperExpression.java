@@ -2,6 +2,7 @@ package io.ebeaninternal.server.expression;
 
 import io.ebean.event.BeanQueryRequest;
 import io.ebeaninternal.api.ManyWhereJoins;
+import io.ebeaninternal.api.PlanKeyBuilder;
 import io.ebeaninternal.api.SpiExpression;
 import io.ebeaninternal.api.SpiExpressionRequest;
 import io.ebeaninternal.api.SpiExpressionValidation;
@@ -48,6 +49,11 @@ class NestedPathWrapperExpression implements SpiExpression {
     return null;
   }
 
+  @Override
+  public boolean isDependentTablesKnown() {
+    return delegate.isDependentTablesKnown();
+  }
+
   @Override
   public String nestedPath(BeanDescriptor<?> desc) {
     return nestedPath;
@@ -64,7 +70,7 @@ class NestedPathWrapperExpression implements SpiExpression {
   }
 
   @Override
-  public void queryPlanHash(StringBuilder builder) {
+  public void queryPlanHash(PlanKeyBuilder builder) {
     builder.append("NestedPath[");
     if (nestedPath != null) {
       builder.append("path:").append(nestedPath).append(" ");
@@ -3,6 +3,7 @@ package io.ebeaninternal.server.expression;
 import io.ebean.Expression;
 import io.ebean.event.BeanQueryRequest;
 import io.ebeaninternal.api.ManyWhereJoins;
+import io.ebeaninternal.api.PlanKeyBuilder;
 import io.ebeaninternal.api.SpiExpression;
 import io.ebeaninternal.api.SpiExpressionRequest;
 import io.ebeaninternal.api.SpiExpressionValidation;
@@ -46,6 +47,11 @@ final class NotExpression implements SpiExpression {
     return null;
   }
 
+  @Override
+  public boolean isDependentTablesKnown() {
+    return exp.isDependentTablesKnown();
+  }
+
   @Override
   public SpiExpression copyForPlanKey() {
     return new NotExpression(exp.copyForPlanKey());
@@ -87,7 +93,7 @@ final class NotExpression implements SpiExpression {
    * Based on the expression.
    */
   @Override
-  public void queryPlanHash(StringBuilder builder) {
+  public void queryPlanHash(PlanKeyBuilder builder) {
     builder.append("Not[");
     exp.queryPlanHash(builder);
     builder.append("]");
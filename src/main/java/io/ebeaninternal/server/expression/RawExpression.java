@@ -1,6 +1,7 @@
 package io.ebeaninternal.server.expression;
 
 import io.ebeaninternal.api.ManyWhereJoins;
+import io.ebeaninternal.api.PlanKeyBuilder;
 import io.ebeaninternal.api.SpiExpression;
 import io.ebeaninternal.api.SpiExpressionRequest;
 import io.ebeaninternal.api.SpiExpressionValidation;
@@ -64,7 +65,7 @@ class RawExpression extends NonPrepareExpression {
    * Based on the sql.
    */
   @Override
-  public void queryPlanHash(StringBuilder builder) {
+  public void queryPlanHash(PlanKeyBuilder builder) {
     builder.append("Raw[").append(sql);
     if (values != null) {
       builder.append(" ?").append(values.length);
@@ -94,4 +95,9 @@ class RawExpression extends NonPrepareExpression {
     }
     return true;
   }
+
+  @Override
+  public boolean isDependentTablesKnown() {
+    return false;
+  }
 }
@@ -0,0 +1,75 @@
+package io.ebeaninternal.server.lib;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A pool of at most maxThreads Daemon threads.
+ * <p>
+ * When all the threads are busy (or the pool is shut down) the task is run by the
+ * calling thread. The Threads are created as needed and once idle live for 60 seconds.
+ * </p>
+ */
+public final class DaemonBoundedExecutorService implements Executor {
+
+  private static final Logger logger = LoggerFactory.getLogger(DaemonBoundedExecutorService.class);
+
+  private final String namePrefix;
+
+  private final int shutdownWaitSeconds;
+
+  private final ThreadPoolExecutor service;
+
+  /**
+   * Construct with the maximum number of threads.
+   *
+   * @param maxThreads          the maximum number of threads
+   * @param shutdownWaitSeconds the time in seconds allowed for the pool to shutdown nicely. After
+   *                            this the pool is forced to shutdown.
+   */
+  public DaemonBoundedExecutorService(int maxThreads, int shutdownWaitSeconds, String namePrefix) {
+    int max = Math.max(1, maxThreads);
+    this.service = new ThreadPoolExecutor(max, max, 60, TimeUnit.SECONDS, new SynchronousQueue<>(),
+      new DaemonThreadFactory(namePrefix), (r, executor) -> r.run());
+    this.service.allowCoreThreadTimeOut(true);
+    this.shutdownWaitSeconds = shutdownWaitSeconds;
+    this.namePrefix = namePrefix;
+  }
+
+  /**
+   * Execute the Runnable using a pool thread or the calling thread if all pool threads are busy.
+   */
+  @Override
+  public void execute(Runnable runnable) {
+    service.execute(runnable);
+  }
+
+  /**
+   * Shutdown this thread pool nicely if possible.
+   */
+  public void shutdown() {
+    synchronized (this) {
+      if (service.isShutdown()) {
+        logger.debug("DaemonBoundedExecutorService[{}] already shut down", namePrefix);
+        return;
+      }
+      try {
+        logger.debug("DaemonBoundedExecutorService[{}] shutting down...", namePrefix);
+        service.shutdown();
+        if (!service.awaitTermination(shutdownWaitSeconds, TimeUnit.SECONDS)) {
+          logger.info("DaemonBoundedExecutorService[{}] shut down timeout exceeded. Terminating running threads.", namePrefix);
+          service.shutdownNow();
+        }
+
+      } catch (Exception e) {
+        logger.error("Error during shutdown of DaemonBoundedExecutorService[" + namePrefix + "]", e);
+      }
+    }
+  }
+
+}
@@ -31,6 +31,10 @@ public abstract class DLoadBaseContext {
 
   protected final boolean queryFetch;
 
+  /**
+   * Adaptive batch size control (null when not adapting the batch size).
+   */
+  protected final LazyLoadBatchSizer.Control batchControl;
 
   public DLoadBaseContext(DLoadContext parent, BeanDescriptor<?> desc, String path, int defaultBatchSize, OrmQueryProperties queryProps) {
 
@@ -43,6 +47,10 @@ public abstract class DLoadBaseContext {
     this.objectGraphNode = parent.getObjectGraphNode(path);
 
     this.queryFetch = queryProps != null && queryProps.isQueryFetch();
+    this.batchControl = (queryProps != null) ? null : parent.getBatchControl(objectGraphNode, defaultBatchSize, desc);
+    if (batchControl != null) {
+      defaultBatchSize = batchControl.getBatchSize();
+    }
     this.firstBatchSize = initFirstBatchSize(defaultBatchSize, queryProps);
     this.secondaryBatchSize = initSecondaryBatchSize(defaultBatchSize, firstBatchSize, queryProps);
   }
@@ -77,6 +85,22 @@ public abstract class DLoadBaseContext {
     return (lazyBatchSize > 1) ? lazyBatchSize : defaultBatchSize;
   }
 
+  /**
+   * Return the batch size for the next load buffer.
+   */
+  protected int nextBatchSize() {
+    return (batchControl != null) ? batchControl.getBatchSize() : secondaryBatchSize;
+  }
+
+  /**
+   * Register the number of beans or collections lazy loaded by a load buffer.
+   */
+  protected void lazyLoaded(int count, int bufferSize) {
+    if (batchControl != null) {
+      batchControl.loaded(count, bufferSize);
+    }
+  }
+
   protected PersistenceContext getPersistenceContext() {
     return parent.getPersistenceContext();
   }
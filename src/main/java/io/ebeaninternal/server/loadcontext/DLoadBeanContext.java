@@ -37,7 +37,7 @@ public class DLoadBeanContext extends DLoadBaseContext implements LoadBeanContex
     if (bufferList != null) {
       bufferList.clear();
     }
-    currentBuffer = createBuffer(secondaryBatchSize);
+    currentBuffer = createBuffer(nextBatchSize());
   }
 
   protected void configureQuery(SpiQuery<?> query, String lazyLoadProperty) {
@@ -53,7 +53,7 @@ public class DLoadBeanContext extends DLoadBaseContext implements LoadBeanContex
   protected void register(EntityBeanIntercept ebi) {
 
     if (currentBuffer.isFull()) {
-      currentBuffer = createBuffer(secondaryBatchSize);
+      currentBuffer = createBuffer(nextBatchSize());
     }
     ebi.setBeanLoader(currentBuffer, getPersistenceContext());
     currentBuffer.add(ebi);
@@ -186,6 +186,7 @@ public class DLoadBeanContext extends DLoadBaseContext implements LoadBeanContex
         list.removeIf(batchEbi -> batchEbi != ebi && context.desc.cacheBeanLoad(batchEbi, persistenceContext));
       }
 
+      context.lazyLoaded(list.size(), batchSize);
       LoadBeanRequest req = new LoadBeanRequest(this, ebi.getLazyLoadProperty(), context.hitCache);
       context.desc.getEbeanServer().loadBean(req);
     }
@@ -20,16 +20,26 @@ import io.ebeaninternal.server.deploy.BeanPropertyAssocMany;
 import io.ebeaninternal.server.el.ElPropertyValue;
 import io.ebeaninternal.server.querydefn.OrmQueryProperties;
 
+import javax.persistence.PersistenceException;
 import java.sql.Timestamp;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
 
 /**
  * Default implementation of LoadContext.
  */
 public class DLoadContext implements LoadContext {
 
+  /**
+   * The maximum number of secondary queries of a query executed by background threads at a time.
+   */
+  private static final int MAX_PARALLEL = 4;
+
   private final SpiEbeanServer ebeanServer;
 
   private final BeanDescriptor<?> rootDescriptor;
@@ -47,6 +57,7 @@ public class DLoadContext implements LoadContext {
   private final boolean disableLazyLoading;
   private final boolean disableReadAudit;
   private final boolean includeSoftDeletes;
+  private final boolean parallelSecondaryQueries;
   protected final boolean useDocStore;
 
   /**
@@ -56,7 +67,10 @@ public class DLoadContext implements LoadContext {
   private final ObjectGraphOrigin origin;
   private final boolean useProfiling;
 
-  private final Map<String, ObjectGraphNode> nodePathMap = new HashMap<>();
+  /**
+   * Concurrent as the secondary queries can execute in parallel.
+   */
+  private final Map<String, ObjectGraphNode> nodePathMap = new ConcurrentHashMap<>();
 
   private PersistenceContext persistenceContext;
 
@@ -82,6 +96,7 @@ public class DLoadContext implements LoadContext {
     this.disableLazyLoading = false;
     this.disableReadAudit = false;
     this.includeSoftDeletes = false;
+    this.parallelSecondaryQueries = false;
     this.relativePath = null;
     this.useProfiling = false;
     this.rootBeanContext = new DLoadBeanContext(this, rootDescriptor, null, defaultBatchSize, null);
@@ -105,6 +120,7 @@ public class DLoadContext implements LoadContext {
     this.asOf = query.getAsOf();
     this.asDraft = query.isAsDraft();
     this.includeSoftDeletes = query.isIncludeSoftDeletes();
+    this.parallelSecondaryQueries = query.isParallelSecondaryQueries();
     this.readOnly = query.isReadOnly();
     this.disableReadAudit = query.isDisableReadAudit();
     this.disableLazyLoading = query.isDisableLazyLoading();
@@ -191,11 +207,81 @@ public class DLoadContext implements LoadContext {
   public void executeSecondaryQueries(OrmQueryRequest<?> parentRequest, boolean forEach) {
 
     if (secQuery != null) {
-      for (OrmQueryProperties aSecQuery : secQuery) {
-        LoadSecondaryQuery load = getLoadSecondaryQuery(aSecQuery.getPath());
-        load.loadSecondaryQuery(parentRequest, forEach);
+      if (parallelSecondaryQueries && secQuery.size() > 1) {
+        executeParallel(parentRequest, forEach);
+      } else {
+        for (OrmQueryProperties aSecQuery : secQuery) {
+          LoadSecondaryQuery load = getLoadSecondaryQuery(aSecQuery.getPath());
+          load.loadSecondaryQuery(parentRequest, forEach);
+        }
+      }
+    }
+  }
+
+  /**
+   * Execute the independent secondary queries in parallel.
+   * <p>
+   * Secondary queries on a path nested under another secondary query path depend on
+   * the beans that query loads and are executed afterwards (in order). Some of the
+   * independent secondary queries are executed using the bounded parallel query executor
+   * with the remaining ones (and those not yet started) executed by the calling thread.
+   * When the executor threads are all busy the calling thread executes them instead.
+   * </p>
+   */
+  private void executeParallel(OrmQueryRequest<?> parentRequest, boolean forEach) {
+
+    List<FutureTask<Void>> tasks = new ArrayList<>(secQuery.size());
+    List<LoadSecondaryQuery> dependent = new ArrayList<>();
+    for (OrmQueryProperties aSecQuery : secQuery) {
+      LoadSecondaryQuery load = getLoadSecondaryQuery(aSecQuery.getPath());
+      if (isNestedPath(aSecQuery.getPath())) {
+        dependent.add(load);
+      } else {
+        tasks.add(new FutureTask<>(() -> load.loadSecondaryQuery(parentRequest, forEach), null));
+      }
+    }
+
+    int background = Math.min(tasks.size() - 1, MAX_PARALLEL);
+    for (int i = 1; i <= background; i++) {
+      ebeanServer.getParallelQueryExecutor().execute(tasks.get(i));
+    }
+    // run the tasks not started by a background thread (no-op when already started)
+    for (FutureTask<Void> task : tasks) {
+      task.run();
+    }
+    for (FutureTask<Void> task : tasks) {
+      await(task);
+    }
+    for (LoadSecondaryQuery load : dependent) {
+      load.loadSecondaryQuery(parentRequest, forEach);
+    }
+  }
+
+  /**
+   * Return true if the path is nested under another secondary query path.
+   */
+  private boolean isNestedPath(String path) {
+    for (OrmQueryProperties aSecQuery : secQuery) {
+      if (path.startsWith(aSecQuery.getPath() + ".")) {
+        return true;
       }
     }
+    return false;
+  }
+
+  private void await(FutureTask<Void> task) {
+    try {
+      task.get();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new PersistenceException("Interrupted executing secondary query", e);
+    } catch (ExecutionException e) {
+      Throwable cause = e.getCause();
+      if (cause instanceof RuntimeException) {
+        throw (RuntimeException) cause;
+      }
+      throw new PersistenceException("Error executing secondary query", cause);
+    }
   }
 
   /**
@@ -229,6 +315,17 @@ public class DLoadContext implements LoadContext {
     return new ObjectGraphNode(origin, path);
   }
 
+  /**
+   * Return the adaptive batch size control for the given node (null when not enabled).
+   */
+  LazyLoadBatchSizer.Control getBatchControl(ObjectGraphNode node, int defaultBatchSize, BeanDescriptor<?> desc) {
+    LazyLoadBatchSizer sizer = ebeanServer.getLazyLoadBatchSizer();
+    if (sizer == null || node.getOriginQueryPoint() == null) {
+      return null;
+    }
+    return sizer.control(node, defaultBatchSize, desc.getIdBinder().getIdColumnCount());
+  }
+
   protected String getFullPath(String path) {
     if (relativePath == null) {
       return path;
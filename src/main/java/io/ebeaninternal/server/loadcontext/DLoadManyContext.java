@@ -54,7 +54,7 @@ public class DLoadManyContext extends DLoadBaseContext implements LoadManyContex
     if (bufferList != null) {
       bufferList.clear();
     }
-    currentBuffer = createBuffer(secondaryBatchSize);
+    currentBuffer = createBuffer(nextBatchSize());
   }
 
   public void configureQuery(SpiQuery<?> query) {
@@ -82,7 +82,7 @@ public class DLoadManyContext extends DLoadBaseContext implements LoadManyContex
   public void register(BeanCollection<?> bc) {
 
     if (currentBuffer.isFull()) {
-      currentBuffer = createBuffer(secondaryBatchSize);
+      currentBuffer = createBuffer(nextBatchSize());
     }
     currentBuffer.add(bc);
     bc.setLoader(currentBuffer);
@@ -225,6 +225,7 @@ public class DLoadManyContext extends DLoadBaseContext implements LoadManyContex
 
         // Should reduce the list by checking each beanCollection in the L2 first before executing the query
 
+        context.lazyLoaded(list.size(), batchSize);
         LoadManyRequest req = new LoadManyRequest(this, onlyIds, useCache);
         context.parent.getEbeanServer().loadMany(req);
       }
@@ -0,0 +1,232 @@
+package io.ebeaninternal.server.loadcontext;
+
+import io.ebean.bean.ObjectGraphNode;
+import io.ebean.meta.MetaLazyLoadBatchSize;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Adapts the lazy loading batch size per object graph node (origin and path).
+ * <p>
+ * Each lazy loading query reports the number of beans or collections in the batch
+ * it loaded. After a sample of lazy loading queries the batch size is increased when
+ * most batches were full (so more lazy loading queries than needed) or decreased when
+ * batches were mostly empty. Batch sizes move between fixed steps such that the lazy
+ * loading queries keep using a small number of distinct statements.
+ * </p>
+ */
+public final class LazyLoadBatchSizer {
+
+  /**
+   * The batch sizes used (matching the batch sizes used for statement re-use).
+   */
+  private static final int[] STEPS = {5, 10, 20, 50, 100, 200, 500, 1000};
+
+  /**
+   * The number of lazy loading queries observed before adjusting the batch size.
+   */
+  static final int SAMPLE_SIZE = 20;
+
+  private final int maxBatchSize;
+
+  private final ConcurrentHashMap<ObjectGraphNode, Control> controls = new ConcurrentHashMap<>();
+
+  /**
+   * Create with the maximum batch size (typically the platform max IN binding).
+   */
+  public LazyLoadBatchSizer(int maxBatchSize) {
+    this.maxBatchSize = Math.max(maxBatchSize, 1);
+  }
+
+  /**
+   * Return the control for the given node creating it if necessary.
+   * <p>
+   * The max batch size is divided by the number of id columns (for composite ids each id
+   * binds a value per column).
+   * </p>
+   */
+  Control control(ObjectGraphNode node, int initialBatchSize, int idColumns) {
+    Control control = controls.get(node);
+    if (control == null) {
+      int max = Math.max(maxBatchSize / Math.max(idColumns, 1), 1);
+      control = controls.computeIfAbsent(node, n -> new Control(n, Math.min(initialBatchSize, max), max));
+    }
+    return control;
+  }
+
+  /**
+   * Return the current batch sizes for the nodes with lazy loading.
+   */
+  public List<MetaLazyLoadBatchSize> collect() {
+    List<MetaLazyLoadBatchSize> list = new ArrayList<>(controls.size());
+    for (Control control : controls.values()) {
+      Snapshot snapshot = control.snapshot();
+      if (snapshot.loadCount > 0) {
+        list.add(snapshot);
+      }
+    }
+    return list;
+  }
+
+  /**
+   * Controls the batch size for a given node.
+   */
+  static final class Control {
+
+    private final ObjectGraphNode node;
+    private final int initialBatchSize;
+    private final int maxBatchSize;
+
+    private volatile int batchSize;
+
+    private long loadCount;
+    private long loadedTotal;
+    private int increaseCount;
+    private int decreaseCount;
+
+    private int sampleCount;
+    private int sampleFull;
+    private int sampleTotal;
+
+    Control(ObjectGraphNode node, int initialBatchSize, int maxBatchSize) {
+      this.node = node;
+      this.initialBatchSize = initialBatchSize;
+      this.maxBatchSize = maxBatchSize;
+      this.batchSize = initialBatchSize;
+    }
+
+    /**
+     * Return the batch size to use for a new load buffer.
+     */
+    int getBatchSize() {
+      return batchSize;
+    }
+
+    /**
+     * Observe a lazy loading query given the number loaded and the batch size of the buffer.
+     */
+    synchronized void loaded(int count, int bufferSize) {
+      loadCount++;
+      loadedTotal += count;
+      sampleCount++;
+      sampleTotal += count;
+      if (count >= bufferSize) {
+        sampleFull++;
+      }
+      if (sampleCount == SAMPLE_SIZE) {
+        adjust();
+        sampleCount = 0;
+        sampleFull = 0;
+        sampleTotal = 0;
+      }
+    }
+
+    private void adjust() {
+      int current = batchSize;
+      if (sampleFull * 4 >= sampleCount * 3) {
+        // mostly full batches so increase
+        int next = Math.min(stepAbove(current), maxBatchSize);
+        if (next > current) {
+          batchSize = next;
+          increaseCount++;
+        }
+      } else {
+        int average = (sampleTotal + sampleCount - 1) / sampleCount;
+        if (average * 4 <= current) {
+          // mostly empty batches so decrease leaving room for twice the average
+          int next = stepAtLeast(average * 2);
+          if (next < current) {
+            batchSize = next;
+            decreaseCount++;
+          }
+        }
+      }
+    }
+
+    private static int stepAbove(int size) {
+      for (int step : STEPS) {
+        if (step > size) {
+          return step;
+        }
+      }
+      return size;
+    }
+
+    private static int stepAtLeast(int size) {
+      for (int step : STEPS) {
+        if (step >= size) {
+          return step;
+        }
+      }
+      return size;
+    }
+
+    synchronized Snapshot snapshot() {
+      return new Snapshot(node, initialBatchSize, batchSize, loadCount, loadedTotal, increaseCount, decreaseCount);
+    }
+  }
+
+  private static final class Snapshot implements MetaLazyLoadBatchSize {
+
+    private final ObjectGraphNode node;
+    private final int initialBatchSize;
+    private final int batchSize;
+    private final long loadCount;
+    private final long loadedTotal;
+    private final int increaseCount;
+    private final int decreaseCount;
+
+    Snapshot(ObjectGraphNode node, int initialBatchSize, int batchSize, long loadCount, long loadedTotal, int increaseCount, int decreaseCount) {
+      this.node = node;
+      this.initialBatchSize = initialBatchSize;
+      this.batchSize = batchSize;
+      this.loadCount = loadCount;
+      this.loadedTotal = loadedTotal;
+      this.increaseCount = increaseCount;
+      this.decreaseCount = decreaseCount;
+    }
+
+    @Override
+    public String toString() {
+      return node + " batchSize[" + batchSize + "] initial[" + initialBatchSize + "] loads[" + loadCount
+        + "] loaded[" + loadedTotal + "] increase[" + increaseCount + "] decrease[" + decreaseCount + "]";
+    }
+
+    @Override
+    public ObjectGraphNode getNode() {
+      return node;
+    }
+
+    @Override
+    public int getInitialBatchSize() {
+      return initialBatchSize;
+    }
+
+    @Override
+    public int getBatchSize() {
+      return batchSize;
+    }
+
+    @Override
+    public long getLoadCount() {
+      return loadCount;
+    }
+
+    @Override
+    public long getLoadedTotal() {
+      return loadedTotal;
+    }
+
+    @Override
+    public int getIncreaseCount() {
+      return increaseCount;
+    }
+
+    @Override
+    public int getDecreaseCount() {
+      return decreaseCount;
+    }
+  }
+}
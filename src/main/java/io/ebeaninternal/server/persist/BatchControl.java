@@ -6,9 +6,12 @@ import io.ebeaninternal.server.core.PersistRequestBean;
 import io.ebeaninternal.server.deploy.BeanDescriptor;
 import io.ebeaninternal.server.deploy.BeanPropertyAssocOne;
 
+import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
+import java.util.List;
+import java.util.concurrent.Executor;
 
 /**
  * Controls the batch ordering of persist requests.
@@ -45,6 +48,11 @@ public final class BatchControl {
 
   private final SpiTransaction transaction;
 
+  /**
+   * Executor used for pipelined batch execution (can be null).
+   */
+  private final Executor executor;
+
   /**
    * The size at which the batch queue will flush. This should be close to the
    * number of statements that are batched into a single PreparedStatement. This
@@ -60,6 +68,16 @@ public final class BatchControl {
 
   private boolean batchFlushOnMixed = true;
 
+  /**
+   * If true execute batched inserts using multi-row insert where supported.
+   */
+  private boolean multiRowInsert;
+
+  /**
+   * The maximum number of rows in a multi-row insert (0 for not used).
+   */
+  private int multiRowInsertMax;
+
   private int maxDepth;
 
   /**
@@ -71,9 +89,17 @@ public final class BatchControl {
    * Create for a given transaction, PersistExecute, default size and getGeneratedKeys.
    */
   public BatchControl(SpiTransaction t, int batchSize, boolean getGenKeys) {
+    this(t, batchSize, getGenKeys, null);
+  }
+
+  /**
+   * Create additionally with an executor used for pipelined batch execution.
+   */
+  public BatchControl(SpiTransaction t, int batchSize, boolean getGenKeys, Executor executor) {
     this.transaction = t;
     this.batchSize = batchSize;
     this.getGeneratedKeys = getGenKeys;
+    this.executor = executor;
     transaction.setBatchControl(this);
   }
 
@@ -91,6 +117,30 @@ public final class BatchControl {
     this.batchFlushOnMixed = flushBatchOnMixed;
   }
 
+  /**
+   * Set to true to execute batched inserts using multi-row insert statements where supported.
+   * <p>
+   * This is set for the duration of saveAll() and insertAll().
+   * </p>
+   */
+  public void setMultiRowInsert(boolean multiRowInsert) {
+    this.multiRowInsert = multiRowInsert;
+  }
+
+  /**
+   * Set the maximum number of rows in a multi-row insert (0 for not used).
+   */
+  void setMultiRowInsertMax(int multiRowInsertMax) {
+    this.multiRowInsertMax = multiRowInsertMax;
+  }
+
+  /**
+   * Return true if batched inserts are executed using multi-row insert.
+   */
+  public boolean isMultiRowInsert() {
+    return multiRowInsert && multiRowInsertMax > 1;
+  }
+
   /**
    * Return the batchSize.
    */
@@ -122,6 +172,28 @@ public final class BatchControl {
     }
   }
 
+  /**
+   * Set whether batches execute in the background (pipelined) when the batch size is hit.
+   * <p>
+   * When pipelined a batch that is flushed due to hitting the batch size executes in the
+   * background while the next batch is bound. Batches still execute in order and at most
+   * one batch is pending. Explicit flushes (including commit, flush on query and non-batched
+   * statements) wait for the pending batch to complete.
+   * </p>
+   * <p>
+   * This has no effect when there is no executor. Batches that require getGeneratedKeys
+   * execute synchronously (as the keys may be needed to bind the following batch).
+   * </p>
+   */
+  public void setPipelined(boolean pipelined) {
+    if (executor != null) {
+      if (pipelined) {
+        pstmtHolder.setPipeline(new BatchPipeline(executor));
+      }
+      pstmtHolder.setPipelined(pipelined);
+    }
+  }
+
   /**
    * Execute a Orm Update, SqlUpdate or CallableSql.
    * <p>
@@ -141,7 +213,7 @@ public final class BatchControl {
     }
 
     if (pstmtHolder.getMaxSize() >= batchSize) {
-      flush();
+      flushPipelined();
     }
     // for OrmUpdate, SqlUpdate, CallableSql there is no queue...
     // so straight to jdbc prepared statement and use addBatch().
@@ -166,7 +238,7 @@ public final class BatchControl {
     }
     if (addToBatch(request)) {
       // flush as the top level has hit the batch size
-      flush();
+      flushPipelined();
     }
     return -1;
   }
@@ -202,13 +274,59 @@ public final class BatchControl {
    * Flush any batched PreparedStatements.
    */
   private void flushPstmtHolder() throws BatchedSqlException {
+    pstmtHolder.flushPipelined(getGeneratedKeys);
+  }
+
+  /**
+   * Execute the insert requests using multi-row insert where supported.
+   * <p>
+   * Consecutive requests of the same bean type are given to its BeanPersister to execute
+   * as multi-row inserts and otherwise are executed via JDBC batch.
+   * </p>
+   */
+  void executeInserts(ArrayList<PersistRequest> list) throws BatchedSqlException {
+    if (!isMultiRowInsert() || list.size() < 2) {
+      executeNow(list);
+      return;
+    }
+    // execute prior batched statements (in order) prior to the multi-row inserts
     pstmtHolder.flush(getGeneratedKeys);
+
+    List<PersistRequestBean<?>> sameType = new ArrayList<>();
+    BeanPersister persister = null;
+    for (PersistRequest request : list) {
+      PersistRequestBean<?> beanRequest = (PersistRequestBean<?>) request;
+      BeanPersister beanPersister = beanRequest.getBeanPersister();
+      if (beanPersister != persister) {
+        executeMultiRow(persister, sameType);
+        sameType.clear();
+        persister = beanPersister;
+      }
+      sameType.add(beanRequest);
+    }
+    executeMultiRow(persister, sameType);
+  }
+
+  private void executeMultiRow(BeanPersister persister, List<PersistRequestBean<?>> requests) throws BatchedSqlException {
+    if (requests.isEmpty()) {
+      return;
+    }
+    boolean executed;
+    try {
+      executed = persister.insertMultiRow(requests, getGeneratedKeys);
+    } catch (SQLException e) {
+      String msg = "Error when multi-row insert of " + requests.get(0).getBeanDescriptor().getFullName();
+      throw new BatchedSqlException(msg, e);
+    }
+    if (!executed) {
+      executeNow(requests);
+    }
   }
 
   /**
    * Execute all the requests contained in the list.
    */
-  void executeNow(ArrayList<PersistRequest> list) throws BatchedSqlException {
+  void executeNow(List<? extends PersistRequest> list) throws BatchedSqlException {
     for (int i = 0; i < list.size(); i++) {
       if (i % batchSize == 0) {
         // hit the batch size so flush
@@ -223,20 +341,28 @@ public final class BatchControl {
    * Flush without resetting the topOrder (maintains the depth info).
    */
   public void flush() throws BatchedSqlException {
-    flush(false);
+    flush(false, true);
   }
 
   /**
    * Flush with a reset the topOrder (fully empty the batch).
    */
   public void flushReset() throws BatchedSqlException {
-    flush(true);
+    flush(true, true);
+  }
+
+  /**
+   * Flush due to hitting the batch size leaving the last batch executing when pipelined.
+   */
+  private void flushPipelined() throws BatchedSqlException {
+    flush(false, false);
   }
 
   /**
    * Clears the batch, discarding all batched statements.
    */
   public void clear() {
+    pstmtHolder.discard();
     pstmtHolder.clear();
     beanHoldMap.clear();
     maxDepth = 0;
@@ -245,34 +371,13 @@ public final class BatchControl {
   /**
    * execute all the requests currently queued or batched.
    */
-  private void flush(boolean resetTop) throws BatchedSqlException {
+  private void flush(boolean resetTop, boolean await) throws BatchedSqlException {
 
     try {
-      bufferMax = 0;
-      if (!pstmtHolder.isEmpty()) {
-        // Flush existing pstmts (updateSql or callableSql)
-        flushPstmtHolder();
-      }
-      if (isEmpty()) {
-        // Nothing in queue to flush
-        return;
-      }
-
-      // convert entry map to array for sorting
-      BatchedBeanHolder[] bsArray = getBeanHolderArray();
-      // sort the entries by depth
-      Arrays.sort(bsArray, depthComparator);
-
-      if (transaction.isLogSummary()) {
-        transaction.logSummary("BatchControl flush " + Arrays.toString(bsArray));
-      }
-      for (BatchedBeanHolder aBsArray : bsArray) {
-        aBsArray.executeNow();
-      }
-
-      if (resetTop) {
-        beanHoldMap.clear();
-        maxDepth = 0;
+      flushBuffers(resetTop);
+      if (await) {
+        // wait for any batch executing in the background
+        pstmtHolder.await();
       }
     } catch (BatchedSqlException e) {
       // clear the batch on error in case we want to
@@ -282,6 +387,36 @@ public final class BatchControl {
     }
   }
 
+  private void flushBuffers(boolean resetTop) throws BatchedSqlException {
+
+    bufferMax = 0;
+    if (!pstmtHolder.isEmpty()) {
+      // Flush existing pstmts (updateSql or callableSql)
+      flushPstmtHolder();
+    }
+    if (isEmpty()) {
+      // Nothing in queue to flush
+      return;
+    }
+
+    // convert entry map to array for sorting
+    BatchedBeanHolder[] bsArray = getBeanHolderArray();
+    // sort the entries by depth
+    Arrays.sort(bsArray, depthComparator);
+
+    if (transaction.isLogSummary()) {
+      transaction.logSummary("BatchControl flush " + Arrays.toString(bsArray));
+    }
+    for (BatchedBeanHolder aBsArray : bsArray) {
+      aBsArray.executeNow();
+    }
+
+    if (resetTop) {
+      beanHoldMap.clear();
+      maxDepth = 0;
+    }
+  }
+
   /**
    * Return an entry for the given type description. The type description is
    * typically the bean class name (or table name for MapBeans).
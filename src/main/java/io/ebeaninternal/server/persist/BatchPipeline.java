@@ -0,0 +1,168 @@
+package io.ebeaninternal.server.persist;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.sql.SQLException;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.FutureTask;
+
+/**
+ * Executes batched statements in the background such that binding the next batch
+ * overlaps with the execution of the prior batch.
+ * <p>
+ * At most one batch is pending at any time and batches execute in the order they are
+ * submitted (hence the depth ordering of the batch is maintained). The row counts are
+ * checked and then the bean post execute processing is run on the calling thread when the
+ * batch is awaited with any failure reported as a BatchedSqlException in the same way as
+ * a synchronous flush.
+ * </p>
+ */
+final class BatchPipeline {
+
+  private static final Logger logger = LoggerFactory.getLogger(BatchPipeline.class);
+
+  private final Executor executor;
+
+  /**
+   * The batch currently executing (or null).
+   */
+  private Pending pending;
+
+  BatchPipeline(Executor executor) {
+    this.executor = executor;
+  }
+
+  /**
+   * Return true if there is a batch pending.
+   */
+  boolean isPending() {
+    return pending != null;
+  }
+
+  /**
+   * Submit the statements for background execution.
+   * <p>
+   * This first waits for any prior batch such that batches execute in order.
+   * </p>
+   */
+  void submit(List<BatchedPstmt> statements) throws BatchedSqlException {
+    try {
+      await();
+    } catch (BatchedSqlException e) {
+      for (BatchedPstmt statement : statements) {
+        close(statement);
+      }
+      throw e;
+    }
+    for (BatchedPstmt statement : statements) {
+      statement.startPipelined();
+    }
+    Pending next = new Pending(statements);
+    executor.execute(next.task);
+    pending = next;
+  }
+
+  /**
+   * Wait for the pending batch to complete checking the row counts.
+   */
+  void await() throws BatchedSqlException {
+    Pending current = pending;
+    if (current != null) {
+      pending = null;
+      current.complete();
+    }
+  }
+
+  /**
+   * Wait for the pending batch to complete ignoring any error (on rollback).
+   */
+  void discard() {
+    try {
+      await();
+    } catch (BatchedSqlException e) {
+      logger.debug("Discarding error from pipelined batch", e);
+    }
+  }
+
+  private static void close(BatchedPstmt statement) {
+    try {
+      statement.close();
+    } catch (SQLException ex) {
+      logger.error("Error closing batched PreparedStatement", ex);
+    }
+  }
+
+  /**
+   * A submitted batch of statements.
+   */
+  private static final class Pending {
+
+    private final List<BatchedPstmt> statements;
+
+    private final int[][] results;
+
+    private final FutureTask<Void> task;
+
+    private SQLException error;
+
+    private String errorSql;
+
+    Pending(List<BatchedPstmt> statements) {
+      this.statements = statements;
+      this.results = new int[statements.size()][];
+      this.task = new FutureTask<>(this::execute, null);
+    }
+
+    /**
+     * Execute the statements in order stopping on the first error (background thread).
+     */
+    private void execute() {
+      for (int i = 0; i < statements.size(); i++) {
+        BatchedPstmt bs = statements.get(i);
+        try {
+          if (error == null) {
+            results[i] = bs.executeBatchOnly();
+          }
+        } catch (SQLException ex) {
+          SQLException next = ex.getNextException();
+          while (next != null) {
+            logger.trace("Next Exception during batch execution", next);
+            next = next.getNextException();
+          }
+          error = ex;
+          errorSql = bs.getSql();
+        } finally {
+          close(bs);
+        }
+      }
+    }
+
+    /**
+     * Wait for execution, check the row counts and post execute (calling thread).
+     */
+    private void complete() throws BatchedSqlException {
+      try {
+        task.get();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new BatchedSqlException("Interrupted waiting for batch flush", new SQLException(e));
+      } catch (ExecutionException e) {
+        throw new BatchedSqlException("Error when batch flush", new SQLException(e.getCause()));
+      }
+      if (error != null) {
+        throw new BatchedSqlException("Error when batch flush on sql: " + errorSql, error);
+      }
+      for (int i = 0; i < statements.size(); i++) {
+        BatchedPstmt bs = statements.get(i);
+        try {
+          bs.complete(results[i]);
+        } catch (SQLException ex) {
+          throw new BatchedSqlException("Error when batch flush on sql: " + bs.getSql(), ex);
+        }
+      }
+    }
+  }
+}
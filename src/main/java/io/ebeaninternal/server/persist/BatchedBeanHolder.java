@@ -92,7 +92,7 @@ public class BatchedBeanHolder {
     if (inserts != null && !inserts.isEmpty()) {
       ArrayList<PersistRequest> bufferedInserts = inserts;
       inserts = new ArrayList<>();
-      control.executeNow(bufferedInserts);
+      control.executeInserts(bufferedInserts);
     }
     if (updates != null && !updates.isEmpty()) {
       ArrayList<PersistRequest> bufferedUpdates = updates;
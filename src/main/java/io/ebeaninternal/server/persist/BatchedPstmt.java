@@ -92,6 +92,38 @@ public class BatchedPstmt implements SpiProfileTransactionEvent {
     transaction.profileEvent(this);
   }
 
+  /**
+   * Return true if executing requires getGeneratedKeys.
+   */
+  boolean isGenKeys(boolean getGeneratedKeys) {
+    return isGenKeys && getGeneratedKeys;
+  }
+
+  /**
+   * Pipelined execution - start (on the calling thread) prior to the statement being executed
+   * by the pipeline thread with the row counts checked and post execute processing run later
+   * via {@link #complete(int[])}.
+   */
+  void startPipelined() {
+    this.profileStart = transaction.profileOffset();
+  }
+
+  /**
+   * Pipelined execution - execute the batch returning the row counts (on the pipeline thread).
+   */
+  int[] executeBatchOnly() throws SQLException {
+    return pstmt.executeBatch();
+  }
+
+  /**
+   * Pipelined execution - check the row counts and run the post execute processing on the calling thread.
+   */
+  void complete(int[] results) throws SQLException {
+    checkRowCounts(results);
+    postExecute();
+    transaction.profileEvent(this);
+  }
+
   @Override
   public void profile() {
     // just use the first to add the event
@@ -116,7 +148,10 @@ public class BatchedPstmt implements SpiProfileTransactionEvent {
 
   private void executeAndCheckRowCounts() throws SQLException {
 
-    int[] results = pstmt.executeBatch();
+    checkRowCounts(pstmt.executeBatch());
+  }
+
+  private void checkRowCounts(int[] results) throws SQLException {
     if (results.length != list.size()) {
       String s = "results array error " + results.length + " " + list.size();
       throw new SQLException(s);
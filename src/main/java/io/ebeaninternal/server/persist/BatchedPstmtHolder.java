@@ -5,7 +5,9 @@ import org.slf4j.LoggerFactory;
 
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
+import java.util.ArrayList;
 import java.util.LinkedHashMap;
+import java.util.List;
 
 /**
  * Used to hold BatchedPstmt objects for batch based execution.
@@ -30,9 +32,32 @@ public class BatchedPstmtHolder {
    */
   private int maxSize;
 
+  /**
+   * Executes batches in the background when pipelined (otherwise null).
+   */
+  private BatchPipeline pipeline;
+
+  private boolean pipelined;
+
   public BatchedPstmtHolder() {
   }
 
+  /**
+   * Set the pipeline used to execute batches in the background.
+   */
+  void setPipeline(BatchPipeline pipeline) {
+    if (this.pipeline == null) {
+      this.pipeline = pipeline;
+    }
+  }
+
+  /**
+   * Set whether flushing the batch may execute in the background (requires a pipeline).
+   */
+  void setPipelined(boolean pipelined) {
+    this.pipelined = pipelined;
+  }
+
   /**
    * Return the PreparedStatement if it has already been used in this Batch.
    * This will return null if no matching PreparedStatement is found.
@@ -80,6 +105,16 @@ public class BatchedPstmtHolder {
    */
   public void flush(boolean getGeneratedKeys) throws BatchedSqlException {
 
+    if (pipeline != null && pipeline.isPending()) {
+      try {
+        pipeline.await();
+      } catch (BatchedSqlException e) {
+        closeAll();
+        clear();
+        throw e;
+      }
+    }
+
     SQLException firstError = null;
     String errorSql = null;
 
@@ -125,6 +160,62 @@ public class BatchedPstmtHolder {
     }
   }
 
+  /**
+   * Execute all batched PreparedStatements in the background when pipelined.
+   * <p>
+   * The statements are handed to the pipeline (after any prior batch completes) such that
+   * the caller can continue binding the next batch. This falls back to {@link #flush(boolean)}
+   * when not pipelined or when any statement requires getGeneratedKeys (as the keys may be
+   * required to bind the next batch).
+   * </p>
+   */
+  void flushPipelined(boolean getGeneratedKeys) throws BatchedSqlException {
+    if (!pipelined || pipeline == null || isGenKeys(getGeneratedKeys)) {
+      flush(getGeneratedKeys);
+    } else if (!stmtMap.isEmpty()) {
+      List<BatchedPstmt> statements = new ArrayList<>(stmtMap.values());
+      clear();
+      pipeline.submit(statements);
+    }
+  }
+
+  /**
+   * Wait for any batch executing in the background to complete.
+   */
+  void await() throws BatchedSqlException {
+    if (pipeline != null) {
+      pipeline.await();
+    }
+  }
+
+  /**
+   * Wait for any batch executing in the background ignoring errors (discarding the batch).
+   */
+  void discard() {
+    if (pipeline != null) {
+      pipeline.discard();
+    }
+  }
+
+  private boolean isGenKeys(boolean getGeneratedKeys) {
+    for (BatchedPstmt bs : stmtMap.values()) {
+      if (bs.isGenKeys(getGeneratedKeys)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private void closeAll() {
+    for (BatchedPstmt bs : stmtMap.values()) {
+      try {
+        bs.close();
+      } catch (SQLException ex) {
+        logger.error("Error closing batched PreparedStatement", ex);
+      }
+    }
+  }
+
   public void clear() {
     stmtMap.clear();
     maxSize = 0;
@@ -3,6 +3,8 @@ package io.ebeaninternal.server.persist;
 import io.ebeaninternal.server.core.PersistRequestBean;
 
 import javax.persistence.PersistenceException;
+import java.sql.SQLException;
+import java.util.List;
 
 /**
  * Defines bean insert update and delete implementation.
@@ -24,4 +26,13 @@ public interface BeanPersister {
    */
   int delete(PersistRequestBean<?> request) throws PersistenceException;
 
+  /**
+   * Execute the insert requests (of this bean type) using multi-row insert statements.
+   * <p>
+   * Returns false without executing any of the requests when multi-row insert is not
+   * supported for these requests (in which case they are executed via JDBC batch).
+   * </p>
+   */
+  boolean insertMultiRow(List<PersistRequestBean<?>> requests, boolean getGeneratedKeys) throws SQLException;
+
 }
@@ -1,5 +1,6 @@
 package io.ebeaninternal.server.persist;
 
+import io.ebean.config.dbplatform.DatabasePlatform;
 import io.ebean.meta.MetricType;
 import io.ebean.meta.MetricVisitor;
 import io.ebeaninternal.api.SpiTransaction;
@@ -9,6 +10,8 @@ import io.ebeaninternal.server.core.PersistRequestCallableSql;
 import io.ebeaninternal.server.core.PersistRequestOrmUpdate;
 import io.ebeaninternal.server.core.PersistRequestUpdateSql;
 
+import java.util.concurrent.Executor;
+
 /**
  * Default PersistExecute implementation using DML statements.
  * <p>
@@ -28,6 +31,13 @@ final class DefaultPersistExecute implements PersistExecute {
    */
   private final int defaultBatchSize;
 
+  /**
+   * Executor used for pipelined batch execution.
+   */
+  private final Executor batchExecutor;
+
+  private final DatabasePlatform databasePlatform;
+
   private final TimedMetricMap ormUpdateMetric;
 
   private final TimedMetricMap sqlUpdateMetric;
@@ -37,11 +47,13 @@ final class DefaultPersistExecute implements PersistExecute {
   /**
    * Construct this DmlPersistExecute.
    */
-  DefaultPersistExecute(Binder binder, int defaultBatchSize) {
+  DefaultPersistExecute(Binder binder, int defaultBatchSize, Executor batchExecutor, DatabasePlatform databasePlatform) {
     this.exeOrmUpdate = new ExeOrmUpdate(binder);
     this.exeUpdateSql = new ExeUpdateSql(binder);
     this.exeCallableSql = new ExeCallableSql(binder);
     this.defaultBatchSize = defaultBatchSize;
+    this.batchExecutor = batchExecutor;
+    this.databasePlatform = databasePlatform;
     this.ormUpdateMetric = MetricFactory.get().createTimedMetricMap(MetricType.SQL, "orm.update.");
     this.sqlUpdateMetric = MetricFactory.get().createTimedMetricMap(MetricType.SQL, "sql.update.");
     this.sqlCallMetric = MetricFactory.get().createTimedMetricMap(MetricType.SQL, "sql.call.");
@@ -76,7 +88,9 @@ final class DefaultPersistExecute implements PersistExecute {
   public BatchControl createBatchControl(SpiTransaction t) {
 
     // create a BatchControl and set its defaults
-    return new BatchControl(t, defaultBatchSize, true);
+    BatchControl control = new BatchControl(t, defaultBatchSize, true, batchExecutor);
+    control.setMultiRowInsertMax(databasePlatform.getMultiRowInsertMax());
+    return control;
   }
 
   /**
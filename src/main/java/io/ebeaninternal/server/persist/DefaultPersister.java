@@ -76,7 +76,7 @@ public final class DefaultPersister implements Persister {
     this.server = server;
     this.updatesDeleteMissingChildren = server.getServerConfig().isUpdatesDeleteMissingChildren();
     this.beanDescriptorManager = descMgr;
-    this.persistExecute = new DefaultPersistExecute(binder, server.getServerConfig().getPersistBatchSize());
+    this.persistExecute = new DefaultPersistExecute(binder, server.getServerConfig().getPersistBatchSize(), server.getBackgroundExecutor()::execute, server.getDatabasePlatform());
   }
 
   @Override
@@ -44,7 +44,7 @@ public class DeleteHandler extends DmlHandler {
    */
   @Override
   public int execute() throws SQLException, OptimisticLockException {
-    int rowCount = dataBind.executeUpdate();
+    int rowCount = executeUpdate();
     checkRowCount(rowCount);
     return rowCount;
   }
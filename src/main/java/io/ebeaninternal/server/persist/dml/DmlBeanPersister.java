@@ -6,6 +6,7 @@ import io.ebeaninternal.server.core.PersistRequestBean;
 import io.ebeaninternal.server.persist.BeanPersister;
 
 import java.sql.SQLException;
+import java.util.List;
 
 /**
  * Bean persister that uses the Handler and Meta objects.
@@ -26,11 +27,14 @@ public final class DmlBeanPersister implements BeanPersister {
 
   private final DeleteMeta deleteMeta;
 
+  private final InsertMultiRow insertMultiRow;
+
   public DmlBeanPersister(DatabasePlatform dbPlatform, UpdateMeta updateMeta, InsertMeta insertMeta, DeleteMeta deleteMeta) {
     this.dbPlatform = dbPlatform;
     this.updateMeta = updateMeta;
     this.insertMeta = insertMeta;
     this.deleteMeta = deleteMeta;
+    this.insertMultiRow = new InsertMultiRow(dbPlatform, insertMeta);
   }
 
   /**
@@ -49,6 +53,14 @@ public final class DmlBeanPersister implements BeanPersister {
     execute(request, new InsertHandler(request, insertMeta));
   }
 
+  /**
+   * execute the bean insert requests using multi-row insert if supported.
+   */
+  @Override
+  public boolean insertMultiRow(List<PersistRequestBean<?>> requests, boolean getGeneratedKeys) throws SQLException {
+    return insertMultiRow.execute(requests, getGeneratedKeys);
+  }
+
   /**
    * execute the bean update request.
    */
@@ -53,6 +53,16 @@ public abstract class DmlHandler implements PersistHandler, BindableRequest {
    */
   protected Object versionValue;
 
+  /**
+   * True when the statement is released to the transaction for reuse rather than closed.
+   */
+  private boolean pstmtReuse;
+
+  /**
+   * True when the statement executed successfully (and so can be reused).
+   */
+  private boolean executed;
+
   protected DmlHandler(PersistRequestBean<?> persistRequest, boolean emptyStringToNull) {
     this.now = System.currentTimeMillis();
     this.persistRequest = persistRequest;
@@ -125,7 +135,11 @@ public abstract class DmlHandler implements PersistHandler, BindableRequest {
   public void close() {
     try {
       if (dataBind != null) {
-        dataBind.close();
+        if (pstmtReuse && executed) {
+          transaction.releasePstmt(sql, dataBind.getPstmt());
+        } else {
+          dataBind.close();
+        }
       }
     } catch (SQLException ex) {
       logger.error(null, ex);
@@ -265,10 +279,32 @@ public abstract class DmlHandler implements PersistHandler, BindableRequest {
       return conn.prepareStatement(sql, GENERATED_KEY_COLUMNS);
 
     } else {
-      return conn.prepareStatement(sql);
+      return reusablePstmt(t, sql);
     }
   }
 
+  /**
+   * Execute the (non-batch) statement returning the row count.
+   * <p>
+   * A statement that failed to bind or execute is closed rather than released for reuse.
+   * </p>
+   */
+  protected int executeUpdate() throws SQLException {
+    int rowCount = dataBind.executeUpdate();
+    executed = true;
+    return rowCount;
+  }
+
+  /**
+   * Return a PreparedStatement (without generated keys) that is released to the transaction
+   * for reuse after successful execution.
+   */
+  protected PreparedStatement reusablePstmt(SpiTransaction t, String sql) throws SQLException {
+    pstmtReuse = true;
+    PreparedStatement pstmt = t.takePstmt(sql);
+    return (pstmt != null) ? pstmt : t.getInternalConnection().prepareStatement(sql);
+  }
+
   /**
    * Return a prepared statement taking into account batch requirements.
    */
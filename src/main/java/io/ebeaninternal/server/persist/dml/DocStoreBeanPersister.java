@@ -4,6 +4,7 @@ import io.ebeaninternal.server.core.PersistRequestBean;
 import io.ebeaninternal.server.persist.BeanPersister;
 
 import javax.persistence.PersistenceException;
+import java.util.List;
 
 /**
  * Document store based BeanPersister.
@@ -34,4 +35,9 @@ class DocStoreBeanPersister implements BeanPersister {
     request.docStorePersist();
     return 0;
   }
+
+  @Override
+  public boolean insertMultiRow(List<PersistRequestBean<?>> requests, boolean getGeneratedKeys) {
+    return false;
+  }
 }
@@ -7,6 +7,7 @@ import io.ebeaninternal.server.core.Message;
 import io.ebeaninternal.server.core.PersistRequestBean;
 import io.ebeaninternal.server.deploy.BeanDescriptor;
 import io.ebeaninternal.server.persist.DmlUtil;
+import io.ebeaninternal.server.type.DataBind;
 
 import javax.persistence.OptimisticLockException;
 import javax.persistence.PersistenceException;
@@ -95,17 +96,48 @@ public class InsertHandler extends DmlHandler {
     logSql(sql);
   }
 
+  /**
+   * Return true if the id value is bound (otherwise generated by the database).
+   */
+  boolean isWithId() {
+    BeanDescriptor<?> desc = persistRequest.getBeanDescriptor();
+    return !DmlUtil.isNullOrZero(desc.getId(persistRequest.getEntityBean()));
+  }
+
+  /**
+   * Bind this row of a multi-row insert to the shared statement.
+   */
+  void bindRow(DataBind rowBind, boolean withId) throws SQLException {
+    sql = meta.getSql(withId, persistRequest.isPublish());
+    dataBind = rowBind;
+    meta.bind(this, persistRequest.getEntityBean(), withId, persistRequest.isPublish());
+    logSql(sql);
+  }
+
+  /**
+   * Set the generated key for this row of a multi-row insert.
+   */
+  void setGeneratedKeyRow(ResultSet rset) throws SQLException {
+    setGeneratedKey(rset);
+  }
+
+  /**
+   * Check the row count and perform post execute for this row of a multi-row insert.
+   */
+  void postExecuteRow() {
+    checkRowCount(1);
+  }
+
   /**
    * Check with useGeneratedKeys to get appropriate PreparedStatement.
    */
   @Override
   protected PreparedStatement getPstmt(SpiTransaction t, String sql, boolean useGeneratedKeys) throws SQLException {
-    Connection conn = t.getInternalConnection();
     if (useGeneratedKeys) {
-      return conn.prepareStatement(sql, meta.getIdentityDbColumns());
+      return t.getInternalConnection().prepareStatement(sql, meta.getIdentityDbColumns());
 
     } else {
-      return conn.prepareStatement(sql);
+      return reusablePstmt(t, sql);
     }
   }
 
@@ -115,7 +147,7 @@ public class InsertHandler extends DmlHandler {
    */
   @Override
   public int execute() throws SQLException, OptimisticLockException {
-    int rowCount = dataBind.executeUpdate();
+    int rowCount = executeUpdate();
     if (useGeneratedKeys) {
       // get the auto-increment value back and set into the bean
       getGeneratedKeys();
@@ -18,10 +18,10 @@ import java.sql.SQLException;
  */
 public final class InsertMeta {
 
-  private final String sqlNullId;
-  private final String sqlWithId;
-  private final String sqlDraftNullId;
-  private final String sqlDraftWithId;
+  private final InsertSql sqlNullId;
+  private final InsertSql sqlWithId;
+  private final InsertSql sqlDraftNullId;
+  private final InsertSql sqlDraftWithId;
 
   private final BindableId id;
 
@@ -163,10 +163,38 @@ public final class InsertMeta {
     }
   }
 
+  /**
+   * Return the multi-row insert sql for the given number of rows.
+   */
+  String getSqlMultiRow(boolean withId, boolean publish, int rows) {
+
+    InsertSql insertSql = getInsertSql(withId, publish);
+    String sql = insertSql.sql;
+    String values = insertSql.values;
+    StringBuilder sb = new StringBuilder(sql.length() + (rows - 1) * (values.length() + 1));
+    sb.append(sql);
+    for (int i = 1; i < rows; i++) {
+      sb.append(',').append(values);
+    }
+    return sb.toString();
+  }
+
+  /**
+   * Return the number of bind parameters per row.
+   */
+  int getBindCount(boolean withId, boolean publish) {
+    return getInsertSql(withId, publish).bindCount;
+  }
+
   /**
    * get the sql based whether the id value(s) are null.
    */
   public String getSql(boolean withId, boolean publish) {
+    InsertSql insertSql = getInsertSql(withId, publish);
+    return insertSql == null ? null : insertSql.sql;
+  }
+
+  private InsertSql getInsertSql(boolean withId, boolean publish) {
 
     if (withId) {
       return publish ? sqlWithId : sqlDraftWithId;
@@ -175,7 +203,7 @@ public final class InsertMeta {
     }
   }
 
-  private String genSql(boolean nullId, String table, boolean draftTable) {
+  private InsertSql genSql(boolean nullId, String table, boolean draftTable) {
 
     GenerateDmlRequest request = new GenerateDmlRequest();
     request.setInsertSetMode();
@@ -201,11 +229,35 @@ public final class InsertMeta {
       allExcludeDraftOnly.dmlAppend(request);
     }
 
-    request.append(") values (");
-    request.append(request.getInsertBindBuffer());
-    request.append(")");
+    String values = "(" + request.getInsertBindBuffer() + ")";
+    request.append(") values ");
+    request.append(values);
 
-    return request.toString();
+    return new InsertSql(request.toString(), values);
+  }
+
+  /**
+   * The insert sql with the values tuple (for multi-row insert) and number of bind parameters.
+   */
+  private static final class InsertSql {
+
+    private final String sql;
+
+    private final String values;
+
+    private final int bindCount;
+
+    InsertSql(String sql, String values) {
+      this.sql = sql;
+      this.values = values;
+      int count = 0;
+      for (int i = 0; i < values.length(); i++) {
+        if (values.charAt(i) == '?') {
+          count++;
+        }
+      }
+      this.bindCount = count;
+    }
   }
 
 }
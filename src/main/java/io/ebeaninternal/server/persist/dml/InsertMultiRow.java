@@ -0,0 +1,131 @@
+package io.ebeaninternal.server.persist.dml;
+
+import io.ebean.config.dbplatform.DatabasePlatform;
+import io.ebeaninternal.api.SpiTransaction;
+import io.ebeaninternal.server.core.PersistRequestBean;
+import io.ebeaninternal.server.type.DataBind;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Executes inserts of a bean type as multi-row <code>insert ... values (...),(...)</code> statements.
+ * <p>
+ * Consecutive requests that use the same insert sql (with or without the id) are combined into
+ * a statement of up to the platform maximum number of rows. Generated keys are obtained via
+ * getGeneratedKeys (which drivers implement via RETURNING) and set to the beans in row order
+ * (only when the transaction batch getGeneratedKeys is true as per JDBC batch).
+ * </p>
+ */
+final class InsertMultiRow {
+
+  /**
+   * Maximum number of bind parameters in a statement (the Postgres limit).
+   */
+  private static final int MAX_BIND = 32767;
+
+  private final DatabasePlatform dbPlatform;
+
+  private final InsertMeta meta;
+
+  InsertMultiRow(DatabasePlatform dbPlatform, InsertMeta meta) {
+    this.dbPlatform = dbPlatform;
+    this.meta = meta;
+  }
+
+  /**
+   * Execute the requests returning false if multi-row insert is not supported for them.
+   */
+  boolean execute(List<PersistRequestBean<?>> requests, boolean getGeneratedKeys) throws SQLException {
+
+    int maxRows = dbPlatform.getMultiRowInsertMax();
+    if (maxRows < 2 || requests.size() < 2 || meta.isConcatenatedKey()) {
+      return false;
+    }
+    List<InsertHandler> handlers = new ArrayList<>(requests.size());
+    for (PersistRequestBean<?> request : requests) {
+      InsertHandler handler = new InsertHandler(request, meta);
+      if (!handler.isWithId() && !supportsGenerated(getGeneratedKeys)) {
+        // need the generated keys from a single row insert
+        return false;
+      }
+      handlers.add(handler);
+    }
+
+    List<InsertHandler> chunk = new ArrayList<>();
+    boolean chunkWithId = false;
+    boolean chunkPublish = false;
+    int chunkMax = 0;
+    for (InsertHandler handler : handlers) {
+      PersistRequestBean<?> request = handler.getPersistRequest();
+      if (!request.prepareMultiRowInsert()) {
+        // insert vetoed by BeanPersistController
+        continue;
+      }
+      boolean withId = handler.isWithId();
+      boolean publish = request.isPublish();
+      if (!chunk.isEmpty() && (withId != chunkWithId || publish != chunkPublish || chunk.size() >= chunkMax)) {
+        executeChunk(chunk, chunkWithId, chunkPublish, getGeneratedKeys);
+        chunk.clear();
+      }
+      if (chunk.isEmpty()) {
+        chunkWithId = withId;
+        chunkPublish = publish;
+        chunkMax = Math.min(maxRows, MAX_BIND / Math.max(1, meta.getBindCount(withId, publish)));
+      }
+      chunk.add(handler);
+    }
+    if (!chunk.isEmpty()) {
+      executeChunk(chunk, chunkWithId, chunkPublish, getGeneratedKeys);
+    }
+    return true;
+  }
+
+  /**
+   * Return true if the generated keys can be obtained from a multi-row insert (or are not wanted).
+   */
+  private boolean supportsGenerated(boolean getGeneratedKeys) {
+    if (meta.getIdentityDbColumns().length == 0 || !getGeneratedKeys) {
+      return true;
+    }
+    return meta.supportsGetGeneratedKeys() && dbPlatform.isMultiRowInsertGeneratedKeys();
+  }
+
+  private void executeChunk(List<InsertHandler> chunk, boolean withId, boolean publish, boolean getGeneratedKeys) throws SQLException {
+
+    String sql = meta.getSqlMultiRow(withId, publish, chunk.size());
+    boolean genKeys = !withId && getGeneratedKeys && meta.getIdentityDbColumns().length > 0;
+
+    PersistRequestBean<?> first = chunk.get(0).getPersistRequest();
+    SpiTransaction transaction = first.getTransaction();
+    long profileStart = transaction.profileOffset();
+    int rows = chunk.size();
+    Connection conn = transaction.getInternalConnection();
+    try (PreparedStatement pstmt = genKeys ? conn.prepareStatement(sql, meta.getIdentityDbColumns()) : conn.prepareStatement(sql)) {
+      DataBind dataBind = new DataBind(first.getDataTimeZone(), pstmt, conn);
+      for (InsertHandler handler : chunk) {
+        handler.bindRow(dataBind, withId);
+      }
+      int rowCount = pstmt.executeUpdate();
+      if (rowCount != rows) {
+        throw new SQLException("Multi-row insert rowCount " + rowCount + " expected " + rows);
+      }
+      if (genKeys) {
+        try (ResultSet rset = pstmt.getGeneratedKeys()) {
+          for (InsertHandler handler : chunk) {
+            handler.setGeneratedKeyRow(rset);
+          }
+        }
+      }
+    }
+    for (InsertHandler handler : chunk) {
+      handler.postExecuteRow();
+    }
+    // profile as a batch (like JDBC batch) using the first request
+    transaction.profileEvent(() -> first.profile(profileStart, rows));
+  }
+}
@@ -66,7 +66,7 @@ public class UpdateHandler extends DmlHandler {
   @Override
   public int execute() throws SQLException, OptimisticLockException {
     if (!emptySetClause) {
-      int rowCount = dataBind.executeUpdate();
+      int rowCount = executeUpdate();
       checkRowCount(rowCount);
       return rowCount;
     }
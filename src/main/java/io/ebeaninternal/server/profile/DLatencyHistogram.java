@@ -0,0 +1,161 @@
+package io.ebeaninternal.server.profile;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * HDR style (log linear) latency histogram with lock free recording.
+ * <p>
+ * Values (usually micros) below 16 have their own bucket and larger values are grouped by
+ * power of 2 with 16 linear sub buckets per power such that a bucket is at most 6.25% wide.
+ * Values of 2^32 and above (over an hour in micros) are counted in the last bucket.
+ * </p>
+ * <p>
+ * The buckets are allocated on the first recorded value so that metrics that are never
+ * used (for example query plans that are built but rarely executed) do not hold the array.
+ * </p>
+ */
+final class DLatencyHistogram {
+
+  private static final int SUB_BITS = 4;
+
+  private static final int SUB_COUNT = 1 << SUB_BITS;
+
+  private static final int MAX_VALUE_BITS = 32;
+
+  static final int BUCKETS = SUB_COUNT + (MAX_VALUE_BITS - SUB_BITS) * SUB_COUNT;
+
+  private final AtomicReference<AtomicLongArray> buckets = new AtomicReference<>();
+
+  /**
+   * Record a value.
+   */
+  void record(long value) {
+    AtomicLongArray counts = buckets.get();
+    if (counts == null) {
+      buckets.compareAndSet(null, new AtomicLongArray(BUCKETS));
+      counts = buckets.get();
+    }
+    counts.incrementAndGet(index(value));
+  }
+
+  /**
+   * Reset all the bucket counts.
+   */
+  void reset() {
+    snapshot(true);
+  }
+
+  /**
+   * Return a snapshot of the bucket counts additionally resetting them if reset is true.
+   */
+  Snapshot snapshot(boolean reset) {
+    AtomicLongArray counts = buckets.get();
+    if (counts == null) {
+      return Snapshot.EMPTY;
+    }
+    long[] copy = new long[BUCKETS];
+    for (int i = 0; i < BUCKETS; i++) {
+      copy[i] = reset ? counts.getAndSet(i, 0) : counts.get(i);
+    }
+    return new Snapshot(copy);
+  }
+
+  /**
+   * Return the bucket index for the given value.
+   */
+  static int index(long value) {
+    if (value < SUB_COUNT) {
+      return value < 0 ? 0 : (int) value;
+    }
+    int msb = 63 - Long.numberOfLeadingZeros(value);
+    if (msb >= MAX_VALUE_BITS) {
+      return BUCKETS - 1;
+    }
+    int shift = msb - SUB_BITS;
+    int sub = (int) (value >>> shift) & (SUB_COUNT - 1);
+    return SUB_COUNT + shift * SUB_COUNT + sub;
+  }
+
+  /**
+   * Return the highest value that maps to the given bucket index.
+   */
+  static long highestValue(int index) {
+    if (index < SUB_COUNT) {
+      return index;
+    }
+    int shift = (index - SUB_COUNT) / SUB_COUNT;
+    int sub = (index - SUB_COUNT) % SUB_COUNT;
+    long lowest = ((long) (SUB_COUNT + sub)) << shift;
+    return lowest + (1L << shift) - 1;
+  }
+
+  /**
+   * Snapshot of the bucket counts that can be merged with other snapshots.
+   */
+  static final class Snapshot {
+
+    static final Snapshot EMPTY = new Snapshot(null);
+
+    private final long[] counts;
+
+    private final long total;
+
+    Snapshot(long[] counts) {
+      this.counts = counts;
+      long sum = 0;
+      if (counts != null) {
+        for (long count : counts) {
+          sum += count;
+        }
+      }
+      this.total = sum;
+    }
+
+    /**
+     * Return the total number of recorded values.
+     */
+    long getTotal() {
+      return total;
+    }
+
+    /**
+     * Return the value at the given percentile (0 to 100) or 0 if no values were recorded.
+     * <p>
+     * This returns the highest value of the bucket containing the percentile.
+     * </p>
+     */
+    long valueAt(double percentile) {
+      if (total == 0) {
+        return 0;
+      }
+      double fraction = Math.min(Math.max(percentile, 0), 100) / 100;
+      long target = Math.max(1, (long) Math.ceil(fraction * total));
+      long cumulative = 0;
+      for (int i = 0; i < counts.length; i++) {
+        cumulative += counts[i];
+        if (cumulative >= target) {
+          return highestValue(i);
+        }
+      }
+      return highestValue(counts.length - 1);
+    }
+
+    /**
+     * Return a new snapshot combining the counts of this and the other snapshot.
+     */
+    Snapshot merge(Snapshot other) {
+      if (other.total == 0) {
+        return this;
+      }
+      if (total == 0) {
+        return other;
+      }
+      long[] merged = new long[BUCKETS];
+      for (int i = 0; i < BUCKETS; i++) {
+        merged[i] = counts[i] + other.counts[i];
+      }
+      return new Snapshot(merged);
+    }
+  }
+}
@@ -104,5 +104,10 @@ class DQueryPlanMetric implements QueryPlanMetric {
     public long getBeanCount() {
       return stats.getBeanCount();
     }
+
+    @Override
+    public long getPercentile(double percentile) {
+      return stats.getPercentile(percentile);
+    }
   }
 }
@@ -24,7 +24,10 @@ class DTimeMetricStats implements TimedMetricStats {
 
   private final long beanCount;
 
-  DTimeMetricStats(MetricType metricType, String name, long collectionStart, long count, long total, long max, long beanCount) {
+  private final DLatencyHistogram.Snapshot histogram;
+
+  DTimeMetricStats(MetricType metricType, String name, long collectionStart, long count, long total, long max, long beanCount,
+                   DLatencyHistogram.Snapshot histogram) {
     this.metricType = metricType;
     this.name = name;
     this.startTime = collectionStart;
@@ -34,6 +37,7 @@ class DTimeMetricStats implements TimedMetricStats {
     // this most likely would happen when count = 1 so max = mean
     this.max = max != Long.MIN_VALUE ? max : (count < 1 ? 0 : Math.round(total / count));
     this.beanCount = beanCount;
+    this.histogram = histogram;
   }
 
   @Override
@@ -48,6 +52,7 @@ class DTimeMetricStats implements TimedMetricStats {
     sb.append("count:").append(count)
       .append(" total:").append(total)
       .append(" max:").append(max)
+      .append(" p99:").append(getPercentile(99))
       .append(" beanCount:").append(beanCount);
     return sb.toString();
   }
@@ -116,4 +121,12 @@ class DTimeMetricStats implements TimedMetricStats {
   public long getBeanCount() {
     return beanCount;
   }
+
+  /**
+   * Return the value at the percentile from the histogram (bounded by the max).
+   */
+  @Override
+  public long getPercentile(double percentile) {
+    return Math.min(histogram.valueAt(percentile), max);
+  }
 }
@@ -13,6 +13,9 @@ import java.util.concurrent.atomic.LongAdder;
  * <p>
  * It is intended for high concurrent updates to the statistics and relatively infrequent reads.
  * </p>
+ * <p>
+ * Values are additionally recorded into a latency histogram to provide percentiles.
+ * </p>
  */
 class DTimedMetric implements TimedMetric {
 
@@ -30,6 +33,8 @@ class DTimedMetric implements TimedMetric {
 
   private final AtomicLong startTime = new AtomicLong(System.currentTimeMillis());
 
+  private final DLatencyHistogram histogram = new DLatencyHistogram();
+
   DTimedMetric(MetricType metricType, String name) {
     this.metricType = metricType;
     this.name = name;
@@ -44,6 +49,7 @@ class DTimedMetric implements TimedMetric {
     count.increment();
     total.add(value);
     max.accumulate(value);
+    histogram.record(value);
   }
 
   @Override
@@ -67,6 +73,7 @@ class DTimedMetric implements TimedMetric {
     count.reset();
     total.reset();
     beanCount.reset();
+    histogram.reset();
   }
 
   @Override
@@ -103,10 +110,11 @@ class DTimedMetric implements TimedMetric {
       final long totalVal = total.sumThenReset();
       final long countVal = count.sumThenReset();
       final long startTimeVal = startTime.getAndSet(System.currentTimeMillis());
-      return new DTimeMetricStats(metricType, name, startTimeVal, countVal, totalVal, maxVal, beans);
+      final DLatencyHistogram.Snapshot histogramVal = histogram.snapshot(true);
+      return new DTimeMetricStats(metricType, name, startTimeVal, countVal, totalVal, maxVal, beans, histogramVal);
 
     } else {
-      return new DTimeMetricStats(metricType, name, startTime.get(), count.sum(), total.sum(), max.get(), beanCount.sum());
+      return new DTimeMetricStats(metricType, name, startTime.get(), count.sum(), total.sum(), max.get(), beanCount.sum(), histogram.snapshot(false));
     }
   }
 
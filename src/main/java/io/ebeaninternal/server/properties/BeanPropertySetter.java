@@ -20,4 +20,32 @@ public interface BeanPropertySetter {
    */
   void setIntercept(EntityBean bean, Object value);
 
+  /**
+   * Set a primitive boolean property value of a bean (without interception).
+   */
+  default void setBoolean(EntityBean bean, boolean value) {
+    set(bean, value);
+  }
+
+  /**
+   * Set a primitive int property value of a bean (without interception).
+   */
+  default void setInt(EntityBean bean, int value) {
+    set(bean, value);
+  }
+
+  /**
+   * Set a primitive long property value of a bean (without interception).
+   */
+  default void setLong(EntityBean bean, long value) {
+    set(bean, value);
+  }
+
+  /**
+   * Set a primitive double property value of a bean (without interception).
+   */
+  default void setDouble(EntityBean bean, double value) {
+    set(bean, value);
+  }
+
 }
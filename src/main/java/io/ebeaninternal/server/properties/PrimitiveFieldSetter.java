@@ -0,0 +1,95 @@
+package io.ebeaninternal.server.properties;
+
+import io.ebean.bean.EntityBean;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+
+/**
+ * Setter for a primitive field that sets primitive values directly on the field (without boxing).
+ * <p>
+ * The enhanced <code>_ebean_setField()</code> takes an Object so setting a primitive through it
+ * boxes the value. Loading a bean does not use interception so the primitive values read are
+ * instead set directly on the field. Other sets are delegated to the enhanced setter.
+ * </p>
+ */
+public final class PrimitiveFieldSetter implements BeanPropertySetter {
+
+  private static final Logger logger = LoggerFactory.getLogger(PrimitiveFieldSetter.class);
+
+  private final BeanPropertySetter setter;
+
+  private final Field field;
+
+  /**
+   * Return a setter supporting primitive sets on the field or the given setter if that is not possible.
+   */
+  public static BeanPropertySetter of(BeanPropertySetter setter, Field field, Class<?> beanType) {
+    if (setter == null || field == null || beanType == null || !field.getType().isPrimitive()
+      || Modifier.isStatic(field.getModifiers()) || Modifier.isFinal(field.getModifiers())
+      || !field.getDeclaringClass().isAssignableFrom(beanType)) {
+      return setter;
+    }
+    try {
+      field.setAccessible(true);
+      return new PrimitiveFieldSetter(setter, field);
+    } catch (RuntimeException e) {
+      // not accessible (e.g. module without opens) so set via enhanced setter
+      logger.debug("Field " + field + " not accessible, primitive values set via enhanced setter", e);
+      return setter;
+    }
+  }
+
+  private PrimitiveFieldSetter(BeanPropertySetter setter, Field field) {
+    this.setter = setter;
+    this.field = field;
+  }
+
+  @Override
+  public void set(EntityBean bean, Object value) {
+    setter.set(bean, value);
+  }
+
+  @Override
+  public void setIntercept(EntityBean bean, Object value) {
+    setter.setIntercept(bean, value);
+  }
+
+  @Override
+  public void setBoolean(EntityBean bean, boolean value) {
+    try {
+      field.setBoolean(bean, value);
+    } catch (IllegalAccessException | IllegalArgumentException e) {
+      setter.set(bean, value);
+    }
+  }
+
+  @Override
+  public void setInt(EntityBean bean, int value) {
+    try {
+      field.setInt(bean, value);
+    } catch (IllegalAccessException | IllegalArgumentException e) {
+      setter.set(bean, value);
+    }
+  }
+
+  @Override
+  public void setLong(EntityBean bean, long value) {
+    try {
+      field.setLong(bean, value);
+    } catch (IllegalAccessException | IllegalArgumentException e) {
+      setter.set(bean, value);
+    }
+  }
+
+  @Override
+  public void setDouble(EntityBean bean, double value) {
+    try {
+      field.setDouble(bean, value);
+    } catch (IllegalAccessException | IllegalArgumentException e) {
+      setter.set(bean, value);
+    }
+  }
+}
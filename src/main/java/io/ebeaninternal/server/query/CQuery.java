@@ -38,6 +38,7 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.NoSuchElementException;
+import java.util.Set;
 
 /**
  * An object that represents a SqlSelect statement.
@@ -157,6 +158,12 @@ public class CQuery<T> implements DbReadContext, CancelableQuery, SpiProfileTran
    */
   private PreparedStatement pstmt;
 
+  /**
+   * True when the statement is released to the transaction for reuse rather than closed
+   * (set once the query has executed successfully).
+   */
+  private boolean pstmtReuse;
+
   private boolean cancelled;
 
   private String bindLog;
@@ -343,6 +350,7 @@ public class CQuery<T> implements DbReadContext, CancelableQuery, SpiProfileTran
       // prepare
       SpiTransaction t = request.getTransaction();
       profileOffset = t.profileOffset();
+      boolean reuse = false;
       Connection conn = t.getInternalConnection();
 
       if (query.isRawSql()) {
@@ -358,6 +366,13 @@ public class CQuery<T> implements DbReadContext, CancelableQuery, SpiProfileTran
         // Use forward only hints for large resultSet processing (Issue 56, MySql specific)
         pstmt = conn.prepareStatement(sql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
         pstmt.setFetchSize(Integer.MIN_VALUE);
+      } else if (query.getTimeout() == 0 && query.getBufferFetchSizeHint() == 0) {
+        // plain statement that can be reused in the transaction
+        reuse = true;
+        pstmt = t.takePstmt(sql);
+        if (pstmt == null) {
+          pstmt = conn.prepareStatement(sql);
+        }
       } else {
         pstmt = conn.prepareStatement(sql);
       }
@@ -373,7 +388,9 @@ public class CQuery<T> implements DbReadContext, CancelableQuery, SpiProfileTran
       bindLog = predicates.bind(dataBind);
 
       // executeQuery
-      return pstmt.executeQuery();
+      ResultSet resultSet = pstmt.executeQuery();
+      pstmtReuse = reuse;
+      return resultSet;
     }
   }
 
@@ -399,8 +416,14 @@ public class CQuery<T> implements DbReadContext, CancelableQuery, SpiProfileTran
     } catch (SQLException e) {
       logger.error("Error closing dataReader", e);
     }
-    JdbcClose.close(pstmt);
-    pstmt = null;
+    if (pstmt != null) {
+      if (pstmtReuse && !cancelled) {
+        request.getTransaction().releasePstmt(sql, pstmt);
+      } else {
+        JdbcClose.close(pstmt);
+      }
+      pstmt = null;
+    }
   }
 
   /**
@@ -618,6 +641,9 @@ public class CQuery<T> implements DbReadContext, CancelableQuery, SpiProfileTran
   QueryIterator<T> readIterate(int bufferSize, OrmQueryRequest<T> request) {
 
     if (bufferSize > 0) {
+      if (query.isIteratePrefetch()) {
+        return new CQueryIteratorWithPrefetch<>(this, request, bufferSize);
+      }
       return new CQueryIteratorWithBuffer<>(this, request, bufferSize);
 
     } else {
@@ -693,6 +719,13 @@ public class CQuery<T> implements DbReadContext, CancelableQuery, SpiProfileTran
     return sql;
   }
 
+  /**
+   * Return the tables the query depends on.
+   */
+  Set<String> getDependentTables() {
+    return queryPlan.getDependentTables();
+  }
+
   /**
    * Create a PersistenceException including interesting information like the bindLog and sql used.
    */
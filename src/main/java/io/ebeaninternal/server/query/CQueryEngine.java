@@ -106,6 +106,9 @@ public class CQueryEngine {
 
   @SuppressWarnings("unchecked")
   private <A> List<A> findAttributeList(OrmQueryRequest<?> request, CQueryFetchSingleAttribute rcQuery) {
+    if (request.isQueryCachePut()) {
+      request.setDependentTables(rcQuery.getDependentTables());
+    }
     try {
       List<A> list = (List<A>) rcQuery.findList();
       if (request.isLogSql()) {
@@ -164,6 +167,9 @@ public class CQueryEngine {
   public <T> int findCount(OrmQueryRequest<T> request) {
 
     CQueryRowCount rcQuery = queryBuilder.buildRowCountQuery(request);
+    if (request.isQueryCachePut()) {
+      request.setDependentTables(rcQuery.getDependentTables());
+    }
     try {
 
       int count = rcQuery.findCount();
@@ -367,6 +373,9 @@ public class CQueryEngine {
 
     CQuery<T> cquery = queryBuilder.buildQuery(request);
     request.setCancelableQuery(cquery);
+    if (request.isQueryCachePut()) {
+      request.setDependentTables(cquery.getDependentTables());
+    }
 
     try {
       if (defaultFetchSizeFindList > 0) {
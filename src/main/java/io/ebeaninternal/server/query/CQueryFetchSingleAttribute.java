@@ -17,6 +17,7 @@ import java.sql.PreparedStatement;
 import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
 
 /**
  * Base compiled query request for single attribute queries.
@@ -144,6 +145,13 @@ class CQueryFetchSingleAttribute implements SpiProfileTransactionEvent {
     return sql;
   }
 
+  /**
+   * Return the tables the query depends on.
+   */
+  Set<String> getDependentTables() {
+    return queryPlan.getDependentTables();
+  }
+
   private void prepareExecute() throws SQLException {
 
     SpiTransaction t = getTransaction();
@@ -17,6 +17,8 @@ class CQueryIteratorWithBuffer<T> implements QueryIterator<T> {
   private final OrmQueryRequest<T> request;
   private final ArrayList<T> buffer;
 
+  private int index;
+
   private boolean moreToLoad = true;
 
   CQueryIteratorWithBuffer(CQuery<T> cquery, OrmQueryRequest<T> request, int bufferSize) {
@@ -30,8 +32,10 @@ class CQueryIteratorWithBuffer<T> implements QueryIterator<T> {
   @SuppressWarnings("unchecked")
   public boolean hasNext() {
     try {
-      if (buffer.isEmpty() && moreToLoad) {
+      if (index == buffer.size() && moreToLoad) {
         // load buffer
+        buffer.clear();
+        index = 0;
         request.flushPersistenceContextOnIterate();
 
         int i = -1;
@@ -44,7 +48,7 @@ class CQueryIteratorWithBuffer<T> implements QueryIterator<T> {
         }
         request.executeSecondaryQueries(true);
       }
-      return !buffer.isEmpty();
+      return index < buffer.size();
 
     } catch (SQLException e) {
       throw cquery.createPersistenceException(e);
@@ -53,7 +57,7 @@ class CQueryIteratorWithBuffer<T> implements QueryIterator<T> {
 
   @Override
   public T next() {
-    return buffer.remove(0);
+    return buffer.get(index++);
   }
 
   @Override
@@ -0,0 +1,151 @@
+package io.ebeaninternal.server.query;
+
+import io.ebean.QueryIterator;
+import io.ebeaninternal.server.core.OrmQueryRequest;
+
+import javax.persistence.PersistenceException;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+
+/**
+ * A double buffered QueryIterator that loads the next buffer using a background thread.
+ * <p>
+ * While the beans of the current buffer are consumed the rows of the next buffer are read
+ * and its secondary queries executed (using their own transaction) by a background thread.
+ * At most one buffer is loading at a time and the buffers are loaded in order.
+ * </p>
+ * <p>
+ * The next buffer is loaded into the persistence context and load context while the beans of
+ * the current buffer are consumed so this is only used when lazy loading is disabled. The
+ * buffer is loaded using the bounded parallel query executor (or by the consuming thread when
+ * its threads are all busy).
+ * </p>
+ */
+class CQueryIteratorWithPrefetch<T> implements QueryIterator<T> {
+
+  private final CQuery<T> cquery;
+  private final int bufferSize;
+  private final OrmQueryRequest<T> request;
+
+  private List<T> buffer = Collections.emptyList();
+
+  private int index;
+
+  private FutureTask<List<T>> prefetch;
+
+  /**
+   * Only read and written by the thread loading a buffer (loads do not overlap).
+   */
+  private boolean moreToLoad = true;
+
+  private boolean closed;
+
+  CQueryIteratorWithPrefetch(CQuery<T> cquery, OrmQueryRequest<T> request, int bufferSize) {
+    this.cquery = cquery;
+    this.request = request;
+    this.bufferSize = bufferSize;
+  }
+
+  @Override
+  public boolean hasNext() {
+    if (index < buffer.size()) {
+      return true;
+    }
+    try {
+      if (prefetch == null) {
+        // first buffer (or the end of the rows)
+        buffer = moreToLoad ? load() : Collections.emptyList();
+      } else {
+        buffer = awaitPrefetch();
+      }
+      index = 0;
+      if (moreToLoad && !buffer.isEmpty()) {
+        prefetch = new FutureTask<>(this::load);
+        request.getServer().getParallelQueryExecutor().execute(prefetch);
+      }
+      return !buffer.isEmpty();
+
+    } catch (SQLException e) {
+      throw cquery.createPersistenceException(e);
+    }
+  }
+
+  @Override
+  public T next() {
+    if (index >= buffer.size()) {
+      throw new NoSuchElementException();
+    }
+    return buffer.get(index++);
+  }
+
+  /**
+   * Load the next buffer reading rows and then executing the secondary queries.
+   */
+  @SuppressWarnings("unchecked")
+  private List<T> load() throws SQLException {
+    request.flushPersistenceContextOnIterate();
+    List<T> list = new ArrayList<>(bufferSize);
+    while (list.size() < bufferSize) {
+      if (cquery.hasNext()) {
+        list.add((T) cquery.next());
+      } else {
+        moreToLoad = false;
+        break;
+      }
+    }
+    request.executeSecondaryQueries(true);
+    return list;
+  }
+
+  /**
+   * Wait for the prefetch of the next buffer to complete.
+   */
+  private List<T> awaitPrefetch() throws SQLException {
+    try {
+      List<T> list = prefetch.get();
+      prefetch = null;
+      return list;
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new PersistenceException("Interrupted waiting for findEach buffer", e);
+    } catch (ExecutionException e) {
+      prefetch = null;
+      Throwable cause = e.getCause();
+      if (cause instanceof SQLException) {
+        throw (SQLException) cause;
+      }
+      if (cause instanceof RuntimeException) {
+        throw (RuntimeException) cause;
+      }
+      throw new PersistenceException(cause);
+    }
+  }
+
+  @Override
+  public void close() {
+    if (!closed) {
+      closed = true;
+      if (prefetch != null) {
+        // iteration stopped early so wait for the loading buffer before closing the resultSet
+        try {
+          awaitPrefetch();
+        } catch (SQLException | RuntimeException e) {
+          // ignore as the iteration has already stopped
+        }
+      }
+      cquery.updateExecutionStatisticsIterator();
+      cquery.close();
+      request.endTransIfRequired();
+    }
+  }
+
+  @Override
+  public void remove() {
+    throw new PersistenceException("Remove not allowed");
+  }
+}
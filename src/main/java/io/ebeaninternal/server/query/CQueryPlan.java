@@ -24,6 +24,7 @@ import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.Set;
 
 /**
  * Represents a query for a given SQL statement.
@@ -75,6 +76,11 @@ public class CQueryPlan {
    */
   private final STreeProperty[] encryptedProps;
 
+  /**
+   * The tables the query depends on (used to invalidate query cache entries, null when not known).
+   */
+  private final Set<String> dependentTables;
+
   private final CQueryPlanStats stats;
 
   private final Class<?> beanType;
@@ -109,6 +115,7 @@ public class CQueryPlan {
     this.rawSql = rawSql;
     this.logWhereSql = logWhereSql;
     this.encryptedProps = sqlTree.getEncryptedProps();
+    this.dependentTables = rawSql ? null : sqlTree.dependentTables();
     this.stats = new CQueryPlanStats(this, server.isCollectQueryOrigins());
   }
 
@@ -133,6 +140,7 @@ public class CQueryPlan {
     this.rowNumberIncluded = rowNumberIncluded;
     this.logWhereSql = logWhereSql;
     this.encryptedProps = sqlTree.getEncryptedProps();
+    this.dependentTables = rawSql ? null : sqlTree.dependentTables();
     this.stats = new CQueryPlanStats(this, server.isCollectQueryOrigins());
   }
 
@@ -231,6 +239,13 @@ public class CQueryPlan {
     return sqlTree;
   }
 
+  /**
+   * Return the (lower case) tables the query depends on (null for RawSql as the tables are not known).
+   */
+  Set<String> getDependentTables() {
+    return dependentTables;
+  }
+
   public boolean isRawSql() {
     return rawSql;
   }
@@ -222,6 +222,11 @@ public final class CQueryPlanStats {
       return metrics.getMean();
     }
 
+    @Override
+    public long getPercentile(double percentile) {
+      return metrics.getPercentile(percentile);
+    }
+
     @Override
     public long getStartTime() {
       return metrics.getStartTime();
@@ -12,6 +12,7 @@ import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.Set;
 
 /**
  * Executes the select row count query.
@@ -99,6 +100,13 @@ class CQueryRowCount implements SpiProfileTransactionEvent {
     return sql;
   }
 
+  /**
+   * Return the tables the query depends on.
+   */
+  Set<String> getDependentTables() {
+    return queryPlan.getDependentTables();
+  }
+
   /**
    * Execute the query returning the row count.
    */
@@ -7,6 +7,8 @@ import io.ebeaninternal.server.deploy.DbReadContext;
 import io.ebeaninternal.server.deploy.InheritInfo;
 import io.ebeaninternal.server.deploy.id.IdBinder;
 
+import java.util.Set;
+
 /**
  * Bean type interface for Sql query tree.
  */
@@ -102,6 +104,11 @@ public interface STreeType {
    */
   String getBaseTable(SpiQuery.TemporalMode temporalMode);
 
+  /**
+   * Add the (lower case) tables this type depends on (the base table or dependent tables of a view).
+   */
+  void addDependentTables(Set<String> tables);
+
   /**
    * Return true if the given path is an embedded bean.
    */
@@ -78,6 +78,11 @@ public class SqlBeanLoad {
     }
 
     try {
+      if (!refreshLoading && prop.isPrimitiveRead()) {
+        // read and set the primitive value without boxing
+        prop.readSetPrimitive(ctx, bean);
+        return null;
+      }
       Object dbVal = prop.read(ctx);
       if (!refreshLoading) {
         prop.setValue(bean, dbVal);
@@ -3,6 +3,8 @@ package io.ebeaninternal.server.query;
 import io.ebeaninternal.api.SpiQuery;
 
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 
@@ -159,4 +161,13 @@ class SqlTree {
   boolean hasMany() {
     return manyProperty != null || rootNode.hasMany();
   }
+
+  /**
+   * Return the (lower case) tables the query depends on including joined and intersection tables.
+   */
+  Set<String> dependentTables() {
+    Set<String> tables = new HashSet<>();
+    rootNode.dependentTables(tables);
+    return Collections.unmodifiableSet(tables);
+  }
 }
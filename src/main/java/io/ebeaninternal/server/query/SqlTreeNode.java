@@ -9,6 +9,7 @@ import io.ebeaninternal.server.type.ScalarType;
 
 import java.sql.SQLException;
 import java.util.List;
+import java.util.Set;
 
 interface SqlTreeNode {
 
@@ -78,6 +79,11 @@ interface SqlTreeNode {
    */
   boolean hasMany();
 
+  /**
+   * Add the (lower case) tables this node and its children depend on.
+   */
+  void dependentTables(Set<String> tables);
+
   /**
    * Return the property for singleAttribute query.
    */
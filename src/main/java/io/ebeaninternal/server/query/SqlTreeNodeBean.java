@@ -21,6 +21,7 @@ import java.sql.Timestamp;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 /**
  * Normal bean included in the query.
@@ -45,6 +46,13 @@ class SqlTreeNodeBean implements SqlTreeNode {
 
   protected final STreeProperty[] properties;
 
+  /**
+   * Precompiled readers of the properties (null with inheritance or non-scalar properties).
+   */
+  private final SqlTreePropertyReader propertyReader;
+
+  private final SqlTreePropertyReader propertyReaderDraft;
+
   /**
    * Extra where clause added by Where annotation on associated many.
    */
@@ -129,6 +137,8 @@ class SqlTreeNodeBean implements SqlTreeNode {
 
     this.partialObject = props.isPartialObject();
     this.properties = props.getProps();
+    this.propertyReader = (inheritInfo != null) ? null : SqlTreePropertyReader.of(properties, false);
+    this.propertyReaderDraft = (propertyReader == null) ? null : SqlTreePropertyReader.of(properties, true);
     this.children = myChildren == null ? NO_CHILDREN : myChildren.toArray(new SqlTreeNode[myChildren.size()]);
 
     pathMap = createPathMap(prefix, desc);
@@ -280,15 +290,19 @@ class SqlTreeNodeBean implements SqlTreeNode {
 
     ctx.propagateState(localBean);
 
-    SqlBeanLoad sqlBeanLoad = new SqlBeanLoad(ctx, localType, localBean, queryMode);
+    if (propertyReader != null && localBean != null && !queryMode.isLoadContextBean() && !ctx.isRawSql()) {
+      // precompiled read of the scalar properties into the new bean
+      (ctx.isDraftQuery() ? propertyReaderDraft : propertyReader).load(ctx, localBean);
 
-    if (inheritInfo == null) {
+    } else if (inheritInfo == null) {
       // normal behavior with no inheritance
+      SqlBeanLoad sqlBeanLoad = new SqlBeanLoad(ctx, localType, localBean, queryMode);
       for (STreeProperty property : properties) {
         property.load(sqlBeanLoad);
       }
 
     } else {
+      SqlBeanLoad sqlBeanLoad = new SqlBeanLoad(ctx, localType, localBean, queryMode);
       // take account of inheritance and due to subclassing approach
       // need to get a 'local' version of the property
       for (STreeProperty property : properties) {
@@ -612,6 +626,20 @@ class SqlTreeNodeBean implements SqlTreeNode {
     return nodeBeanProp.addJoin(joinType, prefix, ctx);
   }
 
+  @Override
+  public void dependentTables(Set<String> tables) {
+    desc.addDependentTables(tables);
+    if (nodeBeanProp instanceof STreePropertyAssocMany) {
+      STreePropertyAssocMany manyProp = (STreePropertyAssocMany) nodeBeanProp;
+      if (manyProp.hasJoinTable()) {
+        tables.add(manyProp.getIntersectionTableJoin().getTable().toLowerCase());
+      }
+    }
+    for (SqlTreeNode child : children) {
+      child.dependentTables(tables);
+    }
+  }
+
   /**
    * Summary description.
    */
@@ -11,6 +11,7 @@ import io.ebeaninternal.server.type.ScalarType;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
 
 /**
  * The purpose is to add an extra join to the query.
@@ -143,6 +144,22 @@ class SqlTreeNodeExtraJoin implements SqlTreeNode {
     }
   }
 
+  @Override
+  public void dependentTables(Set<String> tables) {
+    assocBeanProperty.target().addDependentTables(tables);
+    if (manyJoin) {
+      STreePropertyAssocMany manyProp = (STreePropertyAssocMany) assocBeanProperty;
+      if (manyProp.hasJoinTable()) {
+        tables.add(manyProp.getIntersectionTableJoin().getTable().toLowerCase());
+      }
+    }
+    if (children != null) {
+      for (SqlTreeNodeExtraJoin child : children) {
+        child.dependentTables(tables);
+      }
+    }
+  }
+
   /**
    * Does nothing.
    */
@@ -10,6 +10,7 @@ import io.ebeaninternal.server.deploy.TableJoin;
 import io.ebeaninternal.server.type.ScalarType;
 
 import java.util.List;
+import java.util.Set;
 
 /**
  * Join to Many (or child of a many) to support where clause predicates on many properties.
@@ -104,6 +105,17 @@ class SqlTreeNodeManyWhereJoin implements SqlTreeNode {
     }
   }
 
+  @Override
+  public void dependentTables(Set<String> tables) {
+    nodeBeanProp.target().addDependentTables(tables);
+    if (nodeBeanProp instanceof STreePropertyAssocMany) {
+      STreePropertyAssocMany manyProp = (STreePropertyAssocMany) nodeBeanProp;
+      if (manyProp.hasJoinTable()) {
+        tables.add(manyProp.getIntersectionTableJoin().getTable().toLowerCase());
+      }
+    }
+  }
+
   @Override
   public void buildRawSqlSelectChain(List<String> selectChain) {
     // nothing to add
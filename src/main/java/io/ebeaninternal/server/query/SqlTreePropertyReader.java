@@ -0,0 +1,72 @@
+package io.ebeaninternal.server.query;
+
+import io.ebean.bean.EntityBean;
+import io.ebeaninternal.server.deploy.BeanProperty;
+import io.ebeaninternal.server.deploy.DbReadContext;
+
+import javax.persistence.PersistenceException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Precompiled reader of the scalar properties of a bean node.
+ * <p>
+ * Built once with the SqlTree (per query plan) this is a flat array of the scalar properties
+ * that are selected by the query. For a newly created bean the row is read by a tight loop over
+ * the array rather than via SqlBeanLoad which per row and property checks the load mode,
+ * draft, inheritance and dispatches via STreeProperty.
+ * </p>
+ */
+final class SqlTreePropertyReader {
+
+  private final BeanProperty[] props;
+
+  private final boolean[] primitive;
+
+  private SqlTreePropertyReader(BeanProperty[] props) {
+    this.props = props;
+    this.primitive = new boolean[props.length];
+    for (int i = 0; i < props.length; i++) {
+      primitive[i] = props[i].isPrimitiveRead();
+    }
+  }
+
+  /**
+   * Return the reader for the properties or null if they are not all scalar properties.
+   */
+  static SqlTreePropertyReader of(STreeProperty[] properties, boolean draftQuery) {
+    List<BeanProperty> list = new ArrayList<>(properties.length);
+    for (STreeProperty property : properties) {
+      if (property.getClass() != BeanProperty.class) {
+        // associated, embedded, order column or dynamic property
+        return null;
+      }
+      BeanProperty prop = (BeanProperty) property;
+      if (prop.isLoadProperty(draftQuery)) {
+        // otherwise not included in the sql select
+        list.add(prop);
+      }
+    }
+    return new SqlTreePropertyReader(list.toArray(new BeanProperty[list.size()]));
+  }
+
+  /**
+   * Read the properties from the current row setting them into the (newly created) bean.
+   */
+  void load(DbReadContext ctx, EntityBean bean) {
+    BeanProperty prop = null;
+    try {
+      for (int i = 0; i < props.length; i++) {
+        prop = props[i];
+        if (primitive[i]) {
+          prop.readSetPrimitive(ctx, bean);
+        } else {
+          prop.setValue(bean, prop.read(ctx));
+        }
+      }
+    } catch (Exception e) {
+      String msg = "Error loading on " + prop.getFullBeanName();
+      throw new PersistenceException(msg, e);
+    }
+  }
+}
@@ -33,6 +33,7 @@ import io.ebeaninternal.api.CQueryPlanKey;
 import io.ebeaninternal.api.HashQuery;
 import io.ebeaninternal.api.ManyWhereJoins;
 import io.ebeaninternal.api.NaturalKeyQueryData;
+import io.ebeaninternal.api.PlanKeyBuilder;
 import io.ebeaninternal.api.SpiEbeanServer;
 import io.ebeaninternal.api.SpiExpression;
 import io.ebeaninternal.api.SpiExpressionList;
@@ -62,6 +63,7 @@ import java.util.Optional;
 import java.util.Set;
 import java.util.function.Consumer;
 import java.util.function.Predicate;
+import java.util.stream.Stream;
 
 /**
  * Default implementation of an Object Relational query.
@@ -116,6 +118,16 @@ public class DefaultOrmQuery<T> implements SpiQuery<T> {
    */
   private boolean disableLazyLoading;
 
+  /**
+   * Set to true to execute the secondary queries in parallel.
+   */
+  private boolean parallelSecondaryQueries;
+
+  /**
+   * Set to true to prefetch the next buffer of findEach/findIterate in a background thread.
+   */
+  private boolean iteratePrefetch;
+
   /**
    * Lazy loading batch size (can override server wide default).
    */
@@ -770,6 +782,8 @@ public class DefaultOrmQuery<T> implements SpiQuery<T> {
     copy.useBeanCache = useBeanCache;
     copy.useQueryCache = useQueryCache;
     copy.readOnly = readOnly;
+    copy.parallelSecondaryQueries = parallelSecondaryQueries;
+    copy.iteratePrefetch = iteratePrefetch;
     if (detail != null) {
       copy.detail = detail.copy();
     }
@@ -1020,7 +1034,7 @@ public class DefaultOrmQuery<T> implements SpiQuery<T> {
   public ObjectGraphNode setOrigin(CallStack callStack) {
 
     // create a 'origin' which links this query to the profiling information
-    ObjectGraphOrigin o = new ObjectGraphOrigin(calculateOriginQueryHash(), callStack, beanType.getName());
+    ObjectGraphOrigin o = beanDescriptor.getOrigin(callStack, calculateOriginQueryHash());
     parentNode = new ObjectGraphNode(o, null);
     return parentNode;
   }
@@ -1055,80 +1069,80 @@ public class DefaultOrmQuery<T> implements SpiQuery<T> {
     return queryPlanKey;
   }
 
-  private String planDescription() {
+  private PlanKeyBuilder planDescription() {
 
-    StringBuilder sb = new StringBuilder(300);
+    PlanKeyBuilder key = new PlanKeyBuilder();
     if (type != null) {
-      sb.append("t:").append(type.ordinal());
+      key.append("t:").append(type.ordinal());
     }
     if (useDocStore) {
-      sb.append(",ds:");
+      key.append(",ds:");
     }
     if (beanDescriptor.getDiscValue() != null) {
-      sb.append(",disc:").append(beanDescriptor.getDiscValue());
+      key.append(",disc:").append(beanDescriptor.getDiscValue());
     }
     if (temporalMode != SpiQuery.TemporalMode.CURRENT) {
-      sb.append(",temp:").append(temporalMode.ordinal());
+      key.append(",temp:").append(temporalMode.ordinal());
     }
     if (forUpdate != null) {
-      sb.append(",forUpd:").append(forUpdate.ordinal());
+      key.append(",forUpd:").append(forUpdate.ordinal());
     }
     if (id != null) {
-      sb.append(",id:");
+      key.append(",id:");
     }
     if (manualId) {
-      sb.append(",manId:");
+      key.append(",manId:");
     }
     if (distinct) {
-      sb.append(",dist:");
+      key.append(",dist:");
     }
     if (sqlDistinct) {
-      sb.append(",sqlD:");
+      key.append(",sqlD:");
     }
     if (disableLazyLoading) {
-      sb.append(",disLazy:");
+      key.append(",disLazy:");
     }
     if (rootTableAlias != null) {
-      sb.append(",root:").append(rootTableAlias);
+      key.append(",root:").append(rootTableAlias);
     }
     if (orderBy != null) {
-      sb.append(",orderBy:").append(orderBy.toStringFormat());
+      key.append(",orderBy:").append(orderBy.toStringFormat());
     }
     if (m2mIncludeJoin != null) {
-      sb.append(",m2m:").append(m2mIncludeJoin.getTable());
+      key.append(",m2m:").append(m2mIncludeJoin.getTable());
     }
     if (mapKey != null) {
-      sb.append(",mapKey:").append(mapKey);
+      key.append(",mapKey:").append(mapKey);
     }
     if (countDistinctOrder != null) {
-      sb.append(",countDistOrd:").append(countDistinctOrder.name());
+      key.append(",countDistOrd:").append(countDistinctOrder.name());
     }
     if (detail != null) {
-      sb.append(" detail[");
-      detail.queryPlanHash(sb);
-      sb.append("]");
+      key.append(" detail[");
+      detail.queryPlanHash(key);
+      key.append("]");
     }
     if (bindParams != null) {
-      sb.append(" bindParams[");
-      bindParams.buildQueryPlanHash(sb);
-      sb.append("]");
+      key.append(" bindParams[");
+      bindParams.buildQueryPlanHash(key);
+      key.append("]");
     }
     if (whereExpressions != null) {
-      sb.append(" where[");
-      whereExpressions.queryPlanHash(sb);
-      sb.append("]");
+      key.append(" where[");
+      whereExpressions.queryPlanHash(key);
+      key.append("]");
     }
     if (havingExpressions != null) {
-      sb.append(" having[");
-      havingExpressions.queryPlanHash(sb);
-      sb.append("]");
+      key.append(" having[");
+      havingExpressions.queryPlanHash(key);
+      key.append("]");
     }
     if (updateProperties != null) {
-      sb.append(" update[");
-      updateProperties.buildQueryPlanHash(sb);
-      sb.append("]");
+      key.append(" update[");
+      updateProperties.buildQueryPlanHash(key);
+      key.append("]");
     }
-    return sb.toString();
+    return key;
   }
 
   @Override
@@ -1411,6 +1425,11 @@ public class DefaultOrmQuery<T> implements SpiQuery<T> {
     return server.findIterate(this, null);
   }
 
+  @Override
+  public Stream<T> findStream() {
+    return server.findStream(this, null);
+  }
+
   @Override
   public List<Version<T>> findVersions() {
     this.temporalMode = TemporalMode.VERSIONS;
@@ -1668,6 +1687,29 @@ public class DefaultOrmQuery<T> implements SpiQuery<T> {
     return disableLazyLoading;
   }
 
+  @Override
+  public DefaultOrmQuery<T> setParallelSecondaryQueries(boolean parallelSecondaryQueries) {
+    this.parallelSecondaryQueries = parallelSecondaryQueries;
+    return this;
+  }
+
+  @Override
+  public boolean isParallelSecondaryQueries() {
+    return parallelSecondaryQueries;
+  }
+
+  @Override
+  public DefaultOrmQuery<T> setIteratePrefetch(boolean iteratePrefetch) {
+    this.iteratePrefetch = iteratePrefetch;
+    return this;
+  }
+
+  @Override
+  public boolean isIteratePrefetch() {
+    // the next buffer loads into the load context so only prefetch when lazy loading is disabled
+    return iteratePrefetch && disableLazyLoading;
+  }
+
   @Override
   public int getFirstRow() {
     return firstRow;
@@ -2,6 +2,7 @@ package io.ebeaninternal.server.querydefn;
 
 import io.ebean.FetchConfig;
 import io.ebean.util.SplitName;
+import io.ebeaninternal.api.PlanKeyBuilder;
 import io.ebeaninternal.server.deploy.BeanDescriptor;
 import io.ebeaninternal.server.deploy.BeanPropertyAssoc;
 import io.ebeaninternal.server.el.ElPropertyDeploy;
@@ -58,7 +59,7 @@ public class OrmQueryDetail implements Serializable {
   /**
    * Calculate the hash for the query plan.
    */
-  public void queryPlanHash(StringBuilder builder) {
+  public void queryPlanHash(PlanKeyBuilder builder) {
     baseProps.queryPlanHash(builder);
     if (fetchPaths != null) {
       for (OrmQueryProperties p : fetchPaths.values()) {
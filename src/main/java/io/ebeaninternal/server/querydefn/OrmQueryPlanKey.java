@@ -1,10 +1,15 @@
 package io.ebeaninternal.server.querydefn;
 
 import io.ebeaninternal.api.CQueryPlanKey;
+import io.ebeaninternal.api.PlanKeyBuilder;
 import io.ebeaninternal.server.rawsql.SpiRawSql;
 
 /**
  * Query plan key for ORM queries.
+ * <p>
+ * The key is structural holding the plan description parts with equality checked part by
+ * part. The description string is only built for read audit and logging.
+ * </p>
  */
 class OrmQueryPlanKey implements CQueryPlanKey {
 
@@ -12,14 +17,16 @@ class OrmQueryPlanKey implements CQueryPlanKey {
   private final int maxRows;
   private final int firstRow;
   private final int planHash;
-  private final String description;
+  private final PlanKeyBuilder description;
+  private String partialKey;
 
-  OrmQueryPlanKey(String description, int maxRows, int firstRow, SpiRawSql rawSql) {
+  OrmQueryPlanKey(PlanKeyBuilder description, int maxRows, int firstRow, SpiRawSql rawSql) {
     this.description = description;
     this.maxRows = maxRows;
     this.firstRow = firstRow;
     this.rawSqlKey = (rawSql == null) ? null : rawSql.getKey();
-    int hc = description.hashCode();
+    long hash = description.hash();
+    int hc = (int) (hash ^ (hash >>> 32));
     hc = hc * 92821 + (maxRows);
     hc = hc * 92821 + (firstRow);
     this.planHash = hc;
@@ -27,7 +34,13 @@ class OrmQueryPlanKey implements CQueryPlanKey {
 
   @Override
   public String getPartialKey() {
-    return description;
+    String key = partialKey;
+    if (key == null) {
+      // benign race, the same value is computed
+      key = description.toString();
+      partialKey = key;
+    }
+    return key;
   }
 
   @Override
@@ -37,7 +50,7 @@ class OrmQueryPlanKey implements CQueryPlanKey {
 
   @Override
   public String toString() {
-    return description + " maxRows:" + maxRows + " firstRow:" + firstRow + " rawSqlKey:" + rawSqlKey + " planHash:" + planHash;
+    return getPartialKey() + " maxRows:" + maxRows + " firstRow:" + firstRow + " rawSqlKey:" + rawSqlKey + " planHash:" + planHash;
   }
 
   @Override
@@ -47,9 +60,10 @@ class OrmQueryPlanKey implements CQueryPlanKey {
 
     OrmQueryPlanKey that = (OrmQueryPlanKey) o;
 
+    if (planHash != that.planHash) return false;
     if (maxRows != that.maxRows) return false;
     if (firstRow != that.firstRow) return false;
-    if (!description.equals(that.description)) return false;
+    if (!description.isSame(that.description)) return false;
     return rawSqlKey != null ? rawSqlKey.equals(that.rawSqlKey) : that.rawSqlKey == null;
   }
 }
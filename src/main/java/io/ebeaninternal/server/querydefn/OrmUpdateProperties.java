@@ -1,5 +1,6 @@
 package io.ebeaninternal.server.querydefn;
 
+import io.ebeaninternal.api.PlanKeyBuilder;
 import io.ebeaninternal.server.deploy.DeployParser;
 import io.ebeaninternal.server.persist.Binder;
 import io.ebeaninternal.server.type.DataBind;
@@ -151,7 +152,7 @@ public class OrmUpdateProperties {
   /**
    * Build the hash for the query plan caching.
    */
-  void buildQueryPlanHash(StringBuilder builder) {
+  void buildQueryPlanHash(PlanKeyBuilder builder) {
     Set<Map.Entry<String, Value>> entries = values.entrySet();
     for (Map.Entry<String, Value> entry : entries) {
       builder.append("key:").append(entry.getKey());
@@ -33,8 +33,16 @@ public final class BeanPersistIdMap {
    */
   public void add(BeanDescriptor<?> desc, PersistRequest.Type type, Object id) {
 
+    add(desc, type, id, 0);
+  }
+
+  /**
+   * Add a Insert Update or Delete payload including the version of the bean.
+   */
+  public void add(BeanDescriptor<?> desc, PersistRequest.Type type, Object id, long version) {
+
     BeanPersistIds r = getPersistIds(desc);
-    r.addId(type, (Serializable) id);
+    r.addId(type, (Serializable) id, version);
   }
 
   private BeanPersistIds getPersistIds(BeanDescriptor<?> desc) {
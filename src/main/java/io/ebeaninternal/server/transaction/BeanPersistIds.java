@@ -1,6 +1,8 @@
 package io.ebeaninternal.server.transaction;
 
 import io.ebeaninternal.api.SpiEbeanServer;
+import io.ebeaninternal.server.cluster.BinaryFrameReader;
+import io.ebeaninternal.server.cluster.BinaryFrameWriter;
 import io.ebeaninternal.server.cluster.BinaryMessage;
 import io.ebeaninternal.server.cluster.BinaryMessageList;
 import io.ebeaninternal.server.core.PersistRequest;
@@ -12,6 +14,7 @@ import java.io.DataOutputStream;
 import java.io.IOException;
 import java.io.Serializable;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
 /**
@@ -29,6 +32,21 @@ import java.util.List;
  */
 public class BeanPersistIds {
 
+  /**
+   * Frame id list written using the IdBinder.
+   */
+  private static final int IDS_BINDER = 0;
+
+  /**
+   * Frame id list of Long values written as deltas.
+   */
+  private static final int IDS_LONG = 1;
+
+  /**
+   * Frame id list of Integer values written as deltas.
+   */
+  private static final int IDS_INTEGER = 2;
+
   private final BeanDescriptor<?> beanDescriptor;
 
   private final String descriptorId;
@@ -37,6 +55,11 @@ public class BeanPersistIds {
   private List<Object> updateIds;
   private List<Object> deleteIds;
 
+  /**
+   * The versions of the updated beans (aligned with updateIds) when known.
+   */
+  private long[] updateVersions;
+
   /**
    * Create the payload.
    */
@@ -147,6 +170,125 @@ public class BeanPersistIds {
     }
   }
 
+  /**
+   * Read from a (batched and compressed) cluster frame.
+   */
+  static BeanPersistIds readFrame(SpiEbeanServer server, BinaryFrameReader reader) throws IOException {
+
+    String descriptorId = reader.readName();
+    BeanDescriptor<?> desc = server.getBeanDescriptorById(descriptorId);
+    if (desc == null) {
+      throw new IOException("No bean type for descriptorId " + descriptorId + " in cluster frame");
+    }
+    BeanPersistIds bp = new BeanPersistIds(desc);
+    IdBinder idBinder = desc.getIdBinder();
+    bp.insertIds = readFrameIds(reader, idBinder);
+    bp.updateIds = readFrameIds(reader, idBinder);
+    if (bp.updateIds != null && reader.getIs().readBoolean()) {
+      long[] versions = new long[bp.updateIds.size()];
+      long previous = 0;
+      for (int i = 0; i < versions.length; i++) {
+        previous = reader.readDelta(previous);
+        versions[i] = previous;
+      }
+      bp.updateVersions = versions;
+    }
+    bp.deleteIds = readFrameIds(reader, idBinder);
+    return bp;
+  }
+
+  /**
+   * Write to a (batched and compressed) cluster frame.
+   * <p>
+   * Unlike the BinaryMessage form all the ids are written together and Long and Integer
+   * ids are written as variable length differences (typically 1 or 2 bytes per id).
+   * The versions of updated beans are included such that the receiver can keep cached
+   * beans that are already at that version (or newer).
+   * </p>
+   */
+  void writeFrame(BinaryFrameWriter writer) throws IOException {
+
+    writer.writeName(descriptorId);
+    IdBinder idBinder = beanDescriptor.getIdBinder();
+    writeFrameIds(writer, idBinder, insertIds);
+    writeFrameIds(writer, idBinder, updateIds);
+    if (updateIds != null) {
+      writer.getOs().writeBoolean(updateVersions != null);
+      if (updateVersions != null) {
+        long previous = 0;
+        for (int i = 0; i < updateIds.size(); i++) {
+          writer.writeDelta(previous, updateVersions[i]);
+          previous = updateVersions[i];
+        }
+      }
+    }
+    writeFrameIds(writer, idBinder, deleteIds);
+  }
+
+  private static void writeFrameIds(BinaryFrameWriter writer, IdBinder idBinder, List<Object> idList) throws IOException {
+
+    int count = idList == null ? 0 : idList.size();
+    writer.writeVarInt(count);
+    if (count > 0) {
+      int idsType = idsType(idList);
+      writer.getOs().writeByte(idsType);
+      if (idsType == IDS_BINDER) {
+        for (Object id : idList) {
+          idBinder.writeData(writer.getOs(), id);
+        }
+      } else {
+        long previous = 0;
+        for (Object id : idList) {
+          long value = ((Number) id).longValue();
+          writer.writeDelta(previous, value);
+          previous = value;
+        }
+      }
+    }
+  }
+
+  private static List<Object> readFrameIds(BinaryFrameReader reader, IdBinder idBinder) throws IOException {
+
+    int count = reader.readVarInt();
+    if (count < 1) {
+      return null;
+    }
+    int idsType = reader.getIs().readUnsignedByte();
+    List<Object> idList = new ArrayList<>(count);
+    long previous = 0;
+    for (int i = 0; i < count; i++) {
+      switch (idsType) {
+        case IDS_LONG:
+          previous = reader.readDelta(previous);
+          idList.add(previous);
+          break;
+        case IDS_INTEGER:
+          previous = reader.readDelta(previous);
+          idList.add((int) previous);
+          break;
+        default:
+          idList.add(idBinder.readData(reader.getIs()));
+      }
+    }
+    return idList;
+  }
+
+  /**
+   * Return IDS_LONG or IDS_INTEGER if all the ids are of that type.
+   */
+  private static int idsType(List<Object> idList) {
+    Class<?> type = idList.get(0).getClass();
+    if (type != Long.class && type != Integer.class) {
+      return IDS_BINDER;
+    }
+    for (Object id : idList) {
+      if (id.getClass() != type) {
+        return IDS_BINDER;
+      }
+    }
+    return type == Long.class ? IDS_LONG : IDS_INTEGER;
+  }
+
   @Override
   public String toString() {
     StringBuilder sb = new StringBuilder();
@@ -168,12 +310,19 @@ public class BeanPersistIds {
   }
 
   void addId(PersistRequest.Type type, Serializable id) {
+    addId(type, id, 0);
+  }
+
+  /**
+   * Add the id with the version of the bean (0 when the bean type has no version property).
+   */
+  void addId(PersistRequest.Type type, Serializable id, long version) {
     switch (type) {
       case INSERT:
         addInsertId(id);
         break;
       case UPDATE:
-        addUpdateId(id);
+        addUpdateId(id, version);
         break;
       case DELETE:
       case SOFT_DELETE:
@@ -192,10 +341,20 @@ public class BeanPersistIds {
     insertIds.add(id);
   }
 
-  private void addUpdateId(Serializable id) {
+  private void addUpdateId(Serializable id, long version) {
     if (updateIds == null) {
       updateIds = new ArrayList<>();
     }
+    if (version > 0 && updateVersions == null) {
+      // versions of the prior updates are unknown (0)
+      updateVersions = new long[Math.max(8, updateIds.size() + 1)];
+    }
+    if (updateVersions != null) {
+      if (updateIds.size() >= updateVersions.length) {
+        updateVersions = Arrays.copyOf(updateVersions, updateVersions.length * 2);
+      }
+      updateVersions[updateIds.size()] = version;
+    }
     updateIds.add(id);
   }
 
@@ -219,12 +378,17 @@ public class BeanPersistIds {
    */
   void notifyCacheAndListener() {
 
-    // any change invalidates the query cache
-    beanDescriptor.clearQueryCache();
+    // invalidates query cache entries that depend on the table
+    beanDescriptor.queryCacheInvalidate();
 
     if (updateIds != null) {
-      for (Object id : updateIds) {
-        beanDescriptor.cacheHandleDeleteById(id);
+      for (int i = 0; i < updateIds.size(); i++) {
+        long version = updateVersions == null ? 0 : updateVersions[i];
+        if (version > 0) {
+          beanDescriptor.cacheHandleRemoteUpdate(updateIds.get(i), version);
+        } else {
+          beanDescriptor.cacheHandleDeleteById(updateIds.get(i));
+        }
       }
     }
     if (deleteIds != null) {
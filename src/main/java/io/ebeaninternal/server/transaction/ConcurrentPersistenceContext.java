@@ -0,0 +1,187 @@
+package io.ebeaninternal.server.transaction;
+
+import io.ebean.bean.PersistenceContext;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * PersistenceContext supporting concurrent access.
+ * <p>
+ * Has the same semantics as DefaultPersistenceContext (including WithOption and the
+ * tracking of deleted beans) but holds a ConcurrentHashMap per root type rather than
+ * guarding all access with a single monitor. This is intended for use when multiple
+ * threads load beans into the same persistence context (such as parallel secondary
+ * queries and lazy loading) where they would otherwise serialise on the monitor.
+ * </p>
+ */
+public final class ConcurrentPersistenceContext implements PersistenceContext {
+
+  /**
+   * Map used hold caches. One cache per bean type.
+   */
+  private final ConcurrentHashMap<Class<?>, ClassContext> typeCache = new ConcurrentHashMap<>();
+
+  /**
+   * Create a new PersistenceContext.
+   */
+  public ConcurrentPersistenceContext() {
+  }
+
+  /**
+   * Set an object into the PersistenceContext.
+   */
+  @Override
+  public void put(Class<?> rootType, Object id, Object bean) {
+    getClassContext(rootType).put(id, bean);
+  }
+
+  @Override
+  public Object putIfAbsent(Class<?> rootType, Object id, Object bean) {
+    return getClassContext(rootType).putIfAbsent(id, bean);
+  }
+
+  /**
+   * Return an object given its type and unique id.
+   */
+  @Override
+  public Object get(Class<?> rootType, Object id) {
+    ClassContext classMap = typeCache.get(rootType);
+    return classMap == null ? null : classMap.get(id);
+  }
+
+  @Override
+  public WithOption getWithOption(Class<?> rootType, Object id) {
+    ClassContext classMap = typeCache.get(rootType);
+    return classMap == null ? null : classMap.getWithOption(id);
+  }
+
+  /**
+   * Return the number of beans of the given type in the persistence context.
+   */
+  @Override
+  public int size(Class<?> rootType) {
+    ClassContext classMap = typeCache.get(rootType);
+    return classMap == null ? 0 : classMap.size();
+  }
+
+  /**
+   * Clear the PersistenceContext.
+   */
+  @Override
+  public void clear() {
+    typeCache.clear();
+  }
+
+  @Override
+  public void clear(Class<?> rootType) {
+    ClassContext classMap = typeCache.get(rootType);
+    if (classMap != null) {
+      classMap.clear();
+    }
+  }
+
+  @Override
+  public void deleted(Class<?> rootType, Object id) {
+    ClassContext classMap = typeCache.get(rootType);
+    if (classMap != null && id != null) {
+      classMap.deleted(id);
+    }
+  }
+
+  @Override
+  public void clear(Class<?> rootType, Object id) {
+    ClassContext classMap = typeCache.get(rootType);
+    if (classMap != null && id != null) {
+      classMap.remove(id);
+    }
+  }
+
+  @Override
+  public String toString() {
+    return typeCache.toString();
+  }
+
+  private ClassContext getClassContext(Class<?> rootType) {
+    ClassContext classMap = typeCache.get(rootType);
+    return classMap != null ? classMap : typeCache.computeIfAbsent(rootType, k -> new ClassContext());
+  }
+
+  private static class ClassContext {
+
+    private final ConcurrentHashMap<Object, Object> map = new ConcurrentHashMap<>();
+
+    private volatile Set<Object> deleteSet;
+
+    private ClassContext() {
+    }
+
+    @Override
+    public String toString() {
+      return "size:" + map.size();
+    }
+
+    private WithOption getWithOption(Object id) {
+      if (id == null) {
+        return null;
+      }
+      Set<Object> deleted = deleteSet;
+      if (deleted != null && deleted.contains(id)) {
+        return WithOption.DELETED;
+      }
+      Object bean = map.get(id);
+      return (bean == null) ? null : new WithOption(bean);
+    }
+
+    private Object get(Object id) {
+      return id == null ? null : map.get(id);
+    }
+
+    private Object putIfAbsent(Object id, Object bean) {
+      if (id == null || bean == null) {
+        // not supported by ConcurrentHashMap and not expected
+        return null;
+      }
+      // returns null when the put was successful
+      return map.putIfAbsent(id, bean);
+    }
+
+    private void put(Object id, Object b) {
+      if (id != null && b != null) {
+        map.put(id, b);
+      }
+    }
+
+    private int size() {
+      return map.size();
+    }
+
+    private void clear() {
+      map.clear();
+    }
+
+    private void remove(Object id) {
+      map.remove(id);
+    }
+
+    private void deleted(Object id) {
+      deletedSet().add(id);
+      map.remove(id);
+    }
+
+    private Set<Object> deletedSet() {
+      Set<Object> deleted = deleteSet;
+      if (deleted == null) {
+        synchronized (this) {
+          deleted = deleteSet;
+          if (deleted == null) {
+            deleted = ConcurrentHashMap.newKeySet();
+            deleteSet = deleted;
+          }
+        }
+      }
+      return deleted;
+    }
+  }
+
+}
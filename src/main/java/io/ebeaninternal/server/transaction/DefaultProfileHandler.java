@@ -8,16 +8,14 @@ import io.ebeaninternal.api.SpiProfileHandler;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.io.BufferedWriter;
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
 import java.io.File;
-import java.io.FileWriter;
+import java.io.FileOutputStream;
 import java.io.IOException;
-import java.io.Writer;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeFormatterBuilder;
-import java.util.Queue;
-import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
@@ -33,10 +31,12 @@ import static java.time.temporal.ChronoField.YEAR;
 /**
  * Default profile handler.
  * <p>
- * Uses ConcurrentLinkedQueue to minimise contention on threads calling collectTransactionProfile().
+ * Uses a preallocated lock free ring buffer to minimise allocation and contention on threads ending
+ * profiled transactions. Profiles are dropped rather than blocking when the ring buffer is full.
  * </p>
  * <p>
- * Uses a sleep backoff on the single threaded consumer that reads the profiles and writes them to files.
+ * Uses a sleep backoff on the single threaded consumer that drains the ring buffer and writes the
+ * profiles in a compact binary form (see {@link ProfileRecord}) to rolling files.
  * </p>
  */
 public class DefaultProfileHandler implements SpiProfileHandler, Plugin {
@@ -61,9 +61,14 @@ public class DefaultProfileHandler implements SpiProfileHandler, Plugin {
   }
 
   /**
-   * Low contention choice.
+   * Low contention and preallocated.
    */
-  private final Queue<TransactionProfile> queue = new ConcurrentLinkedQueue<>();
+  private final ProfileRingBuffer ringBuffer;
+
+  /**
+   * Reused by the consumer thread to read profiles from the ring buffer.
+   */
+  private final ProfileRecord record = new ProfileRecord();
 
   private final ExecutorService executor;
 
@@ -86,13 +91,16 @@ public class DefaultProfileHandler implements SpiProfileHandler, Plugin {
    */
   private int sleepBackoff;
 
-  private Writer out;
+  private DataOutputStream out;
+
+  private boolean unflushed;
 
   public DefaultProfileHandler(ProfilingConfig config) {
     this.verbose = config.isVerbose();
     this.minMicros = config.getMinimumMicros();
     this.includeIds = config.getIncludeProfileIds();
     this.profilesPerFile = config.getProfilesPerFile();
+    this.ringBuffer = new ProfileRingBuffer(config.getBufferSize());
 
     // dedicated single threaded executor for consuming the
     // profiling and writing it to file(s)
@@ -105,12 +113,18 @@ public class DefaultProfileHandler implements SpiProfileHandler, Plugin {
   }
 
   /**
-   * Low contention adding the transaction profile to the queue.
+   * Low contention adding the transaction profile (summary) to the ring buffer.
    * Minimise the impact to the normal transaction processing (threads).
+   * <p>
+   * Note that DefaultProfileStream publishes directly to the ring buffer including verbose events.
+   * </p>
    */
   @Override
   public void collectTransactionProfile(TransactionProfile transactionProfile) {
-    queue.add(transactionProfile);
+    if (include(transactionProfile.getTotalMicros())) {
+      ringBuffer.publish(transactionProfile.getProfileId(), transactionProfile.getStartTime(),
+        transactionProfile.getTotalMicros(), transactionProfile.getSummary(), null, 0);
+    }
   }
 
   /**
@@ -125,14 +139,14 @@ public class DefaultProfileHandler implements SpiProfileHandler, Plugin {
     }
 
     if (includeIds.length == 0) {
-      return new DefaultProfileStream(profileId, verbose);
+      return new DefaultProfileStream(profileId, verbose, minMicros, ringBuffer);
     }
 
     // check if we are profiling this specific transaction profileId, just
     // perform linear search as this is expected to be a small array
     for (int includeId : includeIds) {
       if (includeId == profileId) {
-        return new DefaultProfileStream(profileId, verbose);
+        return new DefaultProfileStream(profileId, verbose, minMicros, ringBuffer);
       }
     }
     return null;
@@ -160,7 +174,9 @@ public class DefaultProfileHandler implements SpiProfileHandler, Plugin {
       try {
         String now = DTF.format(LocalDateTime.now());
         File file = new File(dir, "txprofile-" + now + ".tprofile");
-        out = new BufferedWriter(new FileWriter(file));
+        out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(file), 8192));
+        out.writeInt(ProfileRecord.MAGIC);
+        out.writeByte(ProfileRecord.VERSION);
       } catch (IOException e) {
         log.error("Not expected", e);
       }
@@ -168,19 +184,26 @@ public class DefaultProfileHandler implements SpiProfileHandler, Plugin {
   }
 
   /**
-   * Main loop for polling the queue and processing profiling messages.
+   * Main loop for draining the ring buffer and writing the profiles.
    */
   private void collect() {
     try {
       while (!shutdown) {
-        TransactionProfile profile = queue.poll();
-        if (profile == null) {
+        if (ringBuffer.poll(record)) {
+          write();
+        } else {
+          flushIdle();
           sleep();
-
-        } else if (include(profile)) {
-          write(profile);
         }
       }
+      // drain what remains on shutdown
+      while (ringBuffer.poll(record)) {
+        write();
+      }
+      long dropped = ringBuffer.dropped();
+      if (dropped > 0) {
+        log.info("Transaction profiling dropped {} profiles with the ring buffer full", dropped);
+      }
       flushCurrentFile();
     } catch (Exception e) {
       log.warn("Error on collect", e);
@@ -188,30 +211,18 @@ public class DefaultProfileHandler implements SpiProfileHandler, Plugin {
   }
 
   /**
-   * Write the profile to the current file.
+   * Write the profile record to the current file.
    */
-  private void write(TransactionProfile profile) {
+  private void write() {
     try {
       sleepBackoff = 0;
       ++profileCounter;
-
-      StringBuilder sb = new StringBuilder(80);
-
-      // header
-      sb.append(profile.getStartTime()).append(' ')
-        .append(profile.getProfileId()).append(' ')
-        .append(profile.getTotalMicros()).append(' ');
-
-      // summary
-      appendSummary(profile, sb);
-
-      out.write(sb.toString());
-      if (verbose) {
-        out.write(' ');
-        out.write(profile.getData());
+      synchronized (this) {
+        if (out != null) {
+          record.write(out);
+          unflushed = true;
+        }
       }
-      out.write('\n');
-
       if (profileCounter % profilesPerFile == 0) {
         incrementFile();
         log.debug("profiled {} transactions", profileCounter);
@@ -221,35 +232,29 @@ public class DefaultProfileHandler implements SpiProfileHandler, Plugin {
     }
   }
 
-  private void appendSummary(TransactionProfile profile, StringBuilder sb) {
-
-    TransactionProfile.Summary summary = profile.getSummary();
-
-    sb.append("z:").append(rate(profile.getTotalMicros(), summary.persistCount + summary.queryCount)).append(' ');
-    sb.append("p:").append(rate(summary.persistMicros, summary.persistBeans)).append(' ');
-    sb.append("q:").append(rate(summary.queryMicros, summary.queryCount)).append(' ');
-
-    sb.append("qm:").append(summary.queryMax).append(' ');
-    sb.append("qt:").append(summary.queryMicros).append(' ');
-    sb.append("qc:").append(summary.queryCount).append(' ');
-    sb.append("qb:").append(summary.queryBeans).append(' ');
-
-    sb.append("pt:").append(summary.persistMicros).append(' ');
-    sb.append("pc:").append(summary.persistCount).append(' ');
-    sb.append("pb:").append(summary.persistBeans).append(' ');
-    sb.append("po:").append(summary.persistOneCount).append(' ');
-    sb.append("pz:").append(rate(summary.persistBeans, summary.persistCount));
-  }
-
-  private int rate(long micros, long count) {
-    return count < 1 ? 0 : (int) (micros / count);
+  /**
+   * Flush written profiles when the ring buffer is empty.
+   */
+  private void flushIdle() {
+    if (unflushed) {
+      synchronized (this) {
+        unflushed = false;
+        if (out != null) {
+          try {
+            out.flush();
+          } catch (IOException e) {
+            log.warn("Error flushing transaction profiling", e);
+          }
+        }
+      }
+    }
   }
 
   /**
    * Return true if the profile should be included (or false for ignored).
    */
-  private boolean include(TransactionProfile profile) {
-    return profile.getTotalMicros() >= minMicros;
+  private boolean include(long totalMicros) {
+    return totalMicros >= minMicros;
   }
 
   /**
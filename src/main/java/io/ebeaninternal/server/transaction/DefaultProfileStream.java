@@ -2,19 +2,30 @@ package io.ebeaninternal.server.transaction;
 
 /**
  * Default transaction profiling event collection.
+ * <p>
+ * Events are collected as primitive fields (into a long array in verbose mode) and on end
+ * the profile is published to the ring buffer of the profile handler.
+ * </p>
  */
 public class DefaultProfileStream implements ProfileStream {
 
   private final long startNanos;
-  private final StringBuilder buffer;
-  private final TransactionProfile profile;
+  private final long startTime;
+  private final int profileId;
+  private final long minMicros;
+  private final ProfileRingBuffer ringBuffer;
   private final TransactionProfile.Summary summary;
+  private long[] events;
+  private int eventCount;
 
-  DefaultProfileStream(int profId, boolean verbose) {
+  DefaultProfileStream(int profId, boolean verbose, long minMicros, ProfileRingBuffer ringBuffer) {
     this.startNanos = System.nanoTime();
-    this.profile = new TransactionProfile(System.currentTimeMillis(), profId);
-    this.summary = profile.getSummary();
-    this.buffer = (verbose) ? new StringBuilder(200) : null;
+    this.startTime = System.currentTimeMillis();
+    this.profileId = profId;
+    this.minMicros = minMicros;
+    this.ringBuffer = ringBuffer;
+    this.summary = new TransactionProfile.Summary();
+    this.events = (verbose) ? new long[ProfileRingBuffer.STRIDE * 2] : null;
   }
 
   /**
@@ -36,7 +47,7 @@ public class DefaultProfileStream implements ProfileStream {
   public void addQueryEvent(String event, long offset, short beanTypeId, int beanCount, short queryId) {
     long micros = exeMicros(offset);
     summary.addQuery(micros, beanCount);
-    if (buffer != null) {
+    if (events != null) {
       add(micros, event, offset, beanTypeId, beanCount, queryId);
     }
   }
@@ -48,7 +59,7 @@ public class DefaultProfileStream implements ProfileStream {
   public void addPersistEvent(String event, long offset, short beanTypeId, int beanCount) {
     long micros = exeMicros(offset);
     summary.addPersist(micros, beanCount);
-    if (buffer != null) {
+    if (events != null) {
       add(micros, event, offset, beanTypeId, beanCount, (short) 0);
     }
   }
@@ -60,20 +71,23 @@ public class DefaultProfileStream implements ProfileStream {
   public void addEvent(String event, long offset) {
     long micros = exeMicros(offset);
     summary.commitMicros = micros;
-    if (buffer != null) {
-      buffer.append(event).append(',');
-      buffer.append(offset).append(',');
-      buffer.append(micros).append(';');
+    if (events != null) {
+      add(micros, event, offset, (short) 0, 0, (short) 0);
     }
   }
 
   private void add(long micros, String event, long offset, short beanTypeId, int beanCount, short queryId) {
-    buffer.append(event).append(',');
-    buffer.append(offset).append(',');
-    buffer.append(micros).append(',');
-    buffer.append(beanTypeId).append(',');
-    buffer.append(beanCount).append(',');
-    buffer.append(queryId).append(";");
+    int pos = eventCount * ProfileRingBuffer.EVENT_LONGS;
+    if (pos == events.length) {
+      long[] larger = new long[events.length * 2];
+      System.arraycopy(events, 0, larger, 0, pos);
+      events = larger;
+    }
+    events[pos] = ProfileRecord.eventHeader(event, beanTypeId, queryId);
+    events[pos + 1] = offset;
+    events[pos + 2] = micros;
+    events[pos + 3] = beanCount;
+    eventCount++;
   }
 
   /**
@@ -82,11 +96,10 @@ public class DefaultProfileStream implements ProfileStream {
   @Override
   public void end(TransactionManager manager) {
 
-    profile.setTotalMicros(offset());
-    if (buffer != null) {
-      profile.setData(buffer.toString());
+    long totalMicros = offset();
+    if (totalMicros >= minMicros) {
+      ringBuffer.publish(profileId, startTime, totalMicros, summary, events, eventCount);
     }
-    manager.profileCollect(profile);
   }
 
 }
@@ -35,6 +35,14 @@ public class ExternalJdbcTransaction extends JdbcTransaction {
     super(id, explicit, connection, manager);
   }
 
+  /**
+   * Statements are not cached as the connection is closed externally.
+   */
+  @Override
+  protected boolean isPstmtCacheSupported() {
+    return false;
+  }
+
   /**
    * This will always throw a PersistenceException.
    * <p>
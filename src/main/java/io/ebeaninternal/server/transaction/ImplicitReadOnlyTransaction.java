@@ -7,6 +7,7 @@ import io.ebean.annotation.PersistBatch;
 import io.ebean.bean.PersistenceContext;
 import io.ebean.event.changelog.BeanChange;
 import io.ebean.event.changelog.ChangeSet;
+import io.ebean.util.JdbcClose;
 import io.ebeaninternal.api.SpiProfileTransactionEvent;
 import io.ebeaninternal.api.SpiTransaction;
 import io.ebeaninternal.api.TransactionEvent;
@@ -21,6 +22,7 @@ import org.slf4j.LoggerFactory;
 
 import javax.persistence.PersistenceException;
 import java.sql.Connection;
+import java.sql.PreparedStatement;
 import java.sql.SQLException;
 import java.util.HashMap;
 import java.util.Map;
@@ -311,6 +313,10 @@ class ImplicitReadOnlyTransaction implements SpiTransaction, TxnProfileEventCode
   public void setBatchFlushOnMixed(boolean batchFlushOnMixed) {
   }
 
+  @Override
+  public void setBatchPipelined(boolean batchPipelined) {
+  }
+
   /**
    * Return the batchSize specifically set for this transaction or 0.
    * <p>
@@ -352,6 +358,10 @@ class ImplicitReadOnlyTransaction implements SpiTransaction, TxnProfileEventCode
   public void flushBatchOnCollection() {
   }
 
+  @Override
+  public void setBatchMultiRowInsert(boolean multiRowInsert) {
+  }
+
   @Override
   public PersistenceException translate(String message, SQLException cause) {
     return new PersistenceException(message, cause);
@@ -488,6 +498,19 @@ class ImplicitReadOnlyTransaction implements SpiTransaction, TxnProfileEventCode
     return connection;
   }
 
+  /**
+   * Statements are not cached as the transaction is only used for a single query.
+   */
+  @Override
+  public PreparedStatement takePstmt(String sql) {
+    return null;
+  }
+
+  @Override
+  public void releasePstmt(String sql, PreparedStatement pstmt) {
+    JdbcClose.close(pstmt);
+  }
+
   /**
    * Return the underlying connection for public use.
    */
@@ -9,6 +9,7 @@ import io.ebean.config.ServerConfig;
 import io.ebean.config.dbplatform.DatabasePlatform.OnQueryOnly;
 import io.ebean.event.changelog.BeanChange;
 import io.ebean.event.changelog.ChangeSet;
+import io.ebean.util.JdbcClose;
 import io.ebeaninternal.api.SpiProfileTransactionEvent;
 import io.ebeaninternal.api.SpiTransaction;
 import io.ebeaninternal.api.TransactionEvent;
@@ -26,6 +27,7 @@ import org.slf4j.LoggerFactory;
 import javax.persistence.PersistenceException;
 import javax.persistence.RollbackException;
 import java.sql.Connection;
+import java.sql.PreparedStatement;
 import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.HashMap;
@@ -129,6 +131,8 @@ public class JdbcTransaction implements SpiTransaction, TxnProfileEventCodes {
 
   protected Boolean batchFlushOnMixed;
 
+  protected boolean batchPipelined;
+
   protected String logPrefix;
 
   private Object tenantId;
@@ -155,6 +159,8 @@ public class JdbcTransaction implements SpiTransaction, TxnProfileEventCodes {
 
   protected boolean batchOnCascadeSet;
 
+  protected boolean batchMultiRowInsert;
+
   protected TChangeLogHolder changeLogHolder;
 
   protected List<PersistDeferredRelationship> deferredList;
@@ -185,6 +191,13 @@ public class JdbcTransaction implements SpiTransaction, TxnProfileEventCodes {
 
   protected final long startNanos;
 
+  /**
+   * PreparedStatements cached for reuse (created on first use).
+   */
+  private PstmtCache pstmtCache;
+
+  private boolean pstmtCacheInit;
+
   /**
    * Create a new JdbcTransaction.
    */
@@ -608,6 +621,14 @@ public class JdbcTransaction implements SpiTransaction, TxnProfileEventCodes {
     }
   }
 
+  @Override
+  public void setBatchPipelined(boolean batchPipelined) {
+    this.batchPipelined = batchPipelined;
+    if (batchControl != null) {
+      batchControl.setPipelined(batchPipelined);
+    }
+  }
+
   /**
    * Return the batchSize specifically set for this transaction or 0.
    * <p>
@@ -682,6 +703,17 @@ public class JdbcTransaction implements SpiTransaction, TxnProfileEventCodes {
       batchFlushReset();
       // restore the previous batch mode of NONE
       batchMode = PersistBatch.NONE;
+    } else if (batchControl != null && batchControl.isMultiRowInsert()) {
+      // execute the inserts of saveAll() or insertAll() as multi-row inserts
+      batchFlush();
+    }
+  }
+
+  @Override
+  public void setBatchMultiRowInsert(boolean multiRowInsert) {
+    this.batchMultiRowInsert = multiRowInsert;
+    if (batchControl != null) {
+      batchControl.setMultiRowInsert(multiRowInsert);
     }
   }
 
@@ -780,6 +812,12 @@ public class JdbcTransaction implements SpiTransaction, TxnProfileEventCodes {
     if (batchFlushOnMixed != null) {
       batchControl.setBatchFlushOnMixed(batchFlushOnMixed);
     }
+    if (batchPipelined) {
+      batchControl.setPipelined(true);
+    }
+    if (batchMultiRowInsert) {
+      batchControl.setMultiRowInsert(true);
+    }
   }
 
   /**
@@ -908,6 +946,43 @@ public class JdbcTransaction implements SpiTransaction, TxnProfileEventCodes {
     return connection;
   }
 
+  @Override
+  public PreparedStatement takePstmt(String sql) {
+    if (!pstmtCacheInit) {
+      pstmtCacheInit = true;
+      if (manager != null && isPstmtCacheSupported()) {
+        pstmtCache = manager.createPstmtCache();
+      }
+    }
+    return (pstmtCache == null) ? null : pstmtCache.take(sql);
+  }
+
+  @Override
+  public void releasePstmt(String sql, PreparedStatement pstmt) {
+    if (pstmtCache == null || !active) {
+      JdbcClose.close(pstmt);
+    } else {
+      pstmtCache.release(sql, pstmt);
+    }
+  }
+
+  /**
+   * Return true if PreparedStatements can be cached (closed prior to the connection being closed).
+   */
+  protected boolean isPstmtCacheSupported() {
+    return true;
+  }
+
+  /**
+   * Close the cached PreparedStatements.
+   */
+  protected void closePstmtCache() {
+    if (pstmtCache != null) {
+      pstmtCache.close();
+      pstmtCache = null;
+    }
+  }
+
   /**
    * Return the underlying connection for public use.
    */
@@ -918,6 +993,7 @@ public class JdbcTransaction implements SpiTransaction, TxnProfileEventCodes {
   }
 
   protected void deactivate() {
+    closePstmtCache();
     try {
       if (localReadOnly) {
         // reset readOnly status prior to returning to pool
@@ -105,6 +105,7 @@ public class JtaTransaction extends JdbcTransaction {
    * Close the underlying connection.
    */
   private void closeConnection() throws SQLException {
+    closePstmtCache();
     if (connection != null) {
       connection.close();
       connection = null;
@@ -7,6 +7,7 @@ import io.ebean.annotation.PersistBatch;
 import io.ebean.bean.PersistenceContext;
 import io.ebean.event.changelog.BeanChange;
 import io.ebean.event.changelog.ChangeSet;
+import io.ebean.util.JdbcClose;
 import io.ebeaninternal.api.SpiProfileTransactionEvent;
 import io.ebeaninternal.api.SpiTransaction;
 import io.ebeaninternal.api.TransactionEvent;
@@ -18,6 +19,7 @@ import io.ebeanservice.docstore.api.DocStoreTransaction;
 
 import javax.persistence.PersistenceException;
 import java.sql.Connection;
+import java.sql.PreparedStatement;
 import java.sql.SQLException;
 
 /**
@@ -260,6 +262,11 @@ class NoTransaction implements SpiTransaction {
 
   }
 
+  @Override
+  public void setBatchPipelined(boolean batchPipelined) {
+
+  }
+
   @Override
   public void setBatchFlushOnQuery(boolean batchFlushOnQuery) {
 
@@ -360,6 +367,16 @@ class NoTransaction implements SpiTransaction {
     return null;
   }
 
+  @Override
+  public PreparedStatement takePstmt(String sql) {
+    return null;
+  }
+
+  @Override
+  public void releasePstmt(String sql, PreparedStatement pstmt) {
+    JdbcClose.close(pstmt);
+  }
+
   @Override
   public boolean isSaveAssocManyIntersection(String intersectionTable, String beanName) {
     return false;
@@ -400,6 +417,11 @@ class NoTransaction implements SpiTransaction {
 
   }
 
+  @Override
+  public void setBatchMultiRowInsert(boolean multiRowInsert) {
+
+  }
+
   @Override
   public void addBeanChange(BeanChange beanChange) {
 
@@ -0,0 +1,355 @@
+package io.ebeaninternal.server.transaction;
+
+import io.ebean.meta.MetaPostCommit;
+import io.ebeaninternal.server.cache.CacheChangeSet;
+import io.ebeaninternal.server.cluster.ClusterManager;
+import io.ebeaninternal.server.lib.DaemonThreadFactory;
+import io.ebeanservice.docstore.api.DocStoreUpdates;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Performs the background post commit processing using a bounded queue and a small fixed
+ * set of worker threads.
+ * <p>
+ * Each worker takes the commits that are queued (up to a maximum batch size) and coalesces
+ * them such that the L2 cache changes are applied together, a single event is broadcast to
+ * the cluster and the document store updates are processed together.
+ * </p>
+ * <p>
+ * The L2 cache changes, persist listener notification and cluster broadcast must be applied in
+ * commit order (otherwise an earlier commit can overwrite the cache with stale data). Taking
+ * commits from the queue and this ordered processing is performed by one worker at a time with
+ * additional workers only processing the document store updates concurrently.
+ * </p>
+ * <p>
+ * When the queue is full the committing thread waits for space in the queue. This provides
+ * backpressure to bursts of writes rather than creating more threads.
+ * </p>
+ */
+final class PostCommitPipeline {
+
+  private static final Logger logger = LoggerFactory.getLogger(PostCommitPipeline.class);
+
+  private static final int MAX_BATCH = 500;
+
+  private static final long QUEUE_FULL_WARN_MILLIS = 5000;
+
+  private final TransactionManager manager;
+
+  private final ClusterManager clusterManager;
+
+  private final BlockingQueue<PostCommitProcessing> queue;
+
+  private final Thread[] workers;
+
+  /**
+   * Held while taking commits from the queue and applying them in commit order.
+   */
+  private final ReentrantLock orderedLock = new ReentrantLock();
+
+  private final int shutdownSecs;
+
+  private final LongAdder commitCount = new LongAdder();
+
+  private final LongAdder batchCount = new LongAdder();
+
+  private final LongAdder queueFullCount = new LongAdder();
+
+  private final LongAccumulator maxBatchSize = new LongAccumulator(Math::max, 0);
+
+  private volatile boolean shutdown;
+
+  PostCommitPipeline(TransactionManager manager, ClusterManager clusterManager, String serverName, int workerCount, int queueCapacity, int shutdownSecs) {
+    this.manager = manager;
+    this.clusterManager = clusterManager;
+    this.shutdownSecs = shutdownSecs;
+    this.queue = new ArrayBlockingQueue<>(Math.max(1, queueCapacity));
+    this.workers = new Thread[Math.max(1, workerCount)];
+    DaemonThreadFactory threadFactory = new DaemonThreadFactory("ebean-postcommit-" + serverName + "-");
+    for (int i = 0; i < workers.length; i++) {
+      workers[i] = threadFactory.newThread(this::run);
+      workers[i].start();
+    }
+  }
+
+  /**
+   * Queue the post commit processing waiting for space in the queue when it is full.
+   */
+  void submit(PostCommitProcessing postCommit) {
+    boolean queued = queue.offer(postCommit);
+    if (!queued) {
+      queueFullCount.increment();
+      queued = offerWait(postCommit);
+    }
+    if (!queued || shutdown) {
+      // the workers may have stopped so process with the calling thread after the queued commits
+      processQueue(queued ? null : postCommit);
+    }
+  }
+
+  /**
+   * Wait for space in the queue returning false if shutdown or interrupted.
+   */
+  private boolean offerWait(PostCommitProcessing postCommit) {
+    try {
+      while (!shutdown) {
+        if (queue.offer(postCommit, QUEUE_FULL_WARN_MILLIS, TimeUnit.MILLISECONDS)) {
+          return true;
+        }
+        logger.warn("Post commit queue full, waiting to queue commit");
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      logger.warn("Interrupted waiting to queue post commit processing");
+    }
+    return false;
+  }
+
+  /**
+   * Stop the workers after they have processed the queued commits.
+   */
+  void shutdown() {
+    shutdown = true;
+    long until = System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(shutdownSecs);
+    try {
+      for (Thread worker : workers) {
+        long wait = until - System.currentTimeMillis();
+        if (wait > 0) {
+          worker.join(wait);
+        }
+        if (worker.isAlive()) {
+          logger.info("Shut down timeout exceeded. Interrupting post commit worker {}", worker.getName());
+          worker.interrupt();
+        }
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      logger.warn("Interrupt on shutdown", e);
+    }
+  }
+
+  /**
+   * Return the statistics optionally resetting the counters.
+   */
+  MetaPostCommit getStatistics(boolean reset) {
+    int depth = queue.size();
+    long commits = reset ? commitCount.sumThenReset() : commitCount.sum();
+    long batches = reset ? batchCount.sumThenReset() : batchCount.sum();
+    long queueFull = reset ? queueFullCount.sumThenReset() : queueFullCount.sum();
+    long maxBatch = reset ? maxBatchSize.getThenReset() : maxBatchSize.get();
+    return new Statistics(depth, maxBatch, commits, batches, queueFull);
+  }
+
+  /**
+   * Worker loop taking batches of commits from the queue.
+   */
+  private void run() {
+    List<PostCommitProcessing> batch = new ArrayList<>();
+    try {
+      while (true) {
+        orderedLock.lockInterruptibly();
+        try {
+          PostCommitProcessing first = queue.poll(250, TimeUnit.MILLISECONDS);
+          if (first == null) {
+            if (shutdown) {
+              return;
+            }
+          } else {
+            batch.add(first);
+            queue.drainTo(batch, MAX_BATCH - 1);
+            processOrdered(batch);
+          }
+        } finally {
+          orderedLock.unlock();
+        }
+        if (!batch.isEmpty()) {
+          processDocStore(batch);
+          batch.clear();
+        }
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  /**
+   * Process the queued commits (and then the given commit if not null) with the calling thread.
+   */
+  private void processQueue(PostCommitProcessing last) {
+    List<PostCommitProcessing> batch = new ArrayList<>();
+    orderedLock.lock();
+    try {
+      queue.drainTo(batch);
+      if (last != null) {
+        batch.add(last);
+      }
+      if (!batch.isEmpty()) {
+        processOrdered(batch);
+      }
+    } finally {
+      orderedLock.unlock();
+    }
+    if (!batch.isEmpty()) {
+      processDocStore(batch);
+    }
+  }
+
+  /**
+   * Process the batch of commits (in commit order) coalescing the cache changes and cluster event.
+   */
+  private void processOrdered(List<PostCommitProcessing> batch) {
+
+    commitCount.add(batch.size());
+    batchCount.increment();
+    maxBatchSize.accumulate(batch.size());
+
+    CacheChangeSet cacheChanges = null;
+    RemoteTransactionEvent remoteEvent = null;
+
+    for (PostCommitProcessing postCommit : batch) {
+      try {
+        CacheChangeSet changes = postCommit.cacheChanges();
+        if (changes != null) {
+          if (cacheChanges == null) {
+            cacheChanges = changes;
+          } else {
+            cacheChanges.merge(changes);
+          }
+        }
+        RemoteTransactionEvent event = postCommit.remoteTransactionEvent();
+        if (event != null) {
+          if (remoteEvent == null) {
+            remoteEvent = event;
+          } else {
+            remoteEvent.merge(event);
+          }
+        }
+      } catch (Exception e) {
+        logger.error("Error collecting post commit changes", e);
+      }
+    }
+
+    if (cacheChanges != null) {
+      try {
+        manager.processViewInvalidation(cacheChanges.apply());
+      } catch (Exception e) {
+        logger.error("Error applying L2 cache changes", e);
+      }
+    }
+
+    for (PostCommitProcessing postCommit : batch) {
+      try {
+        postCommit.localPersistListenersNotify();
+      } catch (Exception e) {
+        logger.error("Error notifying persist listeners", e);
+      }
+    }
+
+    if (remoteEvent != null && !remoteEvent.isEmpty()) {
+      try {
+        // send the interesting events to the cluster
+        if (logger.isDebugEnabled()) {
+          logger.debug("Cluster Send: {}", remoteEvent);
+        }
+        clusterManager.broadcast(remoteEvent);
+      } catch (Exception e) {
+        logger.error("Error broadcasting to the cluster", e);
+      }
+    }
+  }
+
+  /**
+   * Process the document store updates of the batch of commits combined per batch size.
+   */
+  private void processDocStore(List<PostCommitProcessing> batch) {
+
+    Map<Integer, DocStoreUpdates> docStoreUpdates = null;
+    for (PostCommitProcessing postCommit : batch) {
+      try {
+        DocStoreUpdates updates = postCommit.docStoreUpdates();
+        if (updates != null) {
+          if (docStoreUpdates == null) {
+            docStoreUpdates = new LinkedHashMap<>();
+          }
+          DocStoreUpdates existing = docStoreUpdates.putIfAbsent(postCommit.docStoreBatchSize(), updates);
+          if (existing != null) {
+            existing.addAll(updates);
+          }
+        }
+      } catch (Exception e) {
+        logger.error("Error collecting document store updates", e);
+      }
+    }
+
+    if (docStoreUpdates != null) {
+      for (Map.Entry<Integer, DocStoreUpdates> entry : docStoreUpdates.entrySet()) {
+        try {
+          // send to docstore / ElasticSearch and/or queue
+          manager.processDocStoreUpdates(entry.getValue(), entry.getKey());
+        } catch (Exception e) {
+          logger.error("Error processing document store updates", e);
+        }
+      }
+    }
+  }
+
+  private static final class Statistics implements MetaPostCommit {
+
+    private final int queueDepth;
+    private final long maxBatchSize;
+    private final long commitCount;
+    private final long batchCount;
+    private final long queueFullCount;
+
+    Statistics(int queueDepth, long maxBatchSize, long commitCount, long batchCount, long queueFullCount) {
+      this.queueDepth = queueDepth;
+      this.maxBatchSize = maxBatchSize;
+      this.commitCount = commitCount;
+      this.batchCount = batchCount;
+      this.queueFullCount = queueFullCount;
+    }
+
+    @Override
+    public int getQueueDepth() {
+      return queueDepth;
+    }
+
+    @Override
+    public long getMaxBatchSize() {
+      return maxBatchSize;
+    }
+
+    @Override
+    public long getCommitCount() {
+      return commitCount;
+    }
+
+    @Override
+    public long getBatchCount() {
+      return batchCount;
+    }
+
+    @Override
+    public long getQueueFullCount() {
+      return queueFullCount;
+    }
+
+    @Override
+    public String toString() {
+      return "queueDepth:" + queueDepth + " maxBatch:" + maxBatchSize + " commits:" + commitCount
+        + " batches:" + batchCount + " queueFull:" + queueFullCount;
+    }
+  }
+}
@@ -10,21 +10,18 @@ import io.ebeaninternal.server.cluster.ClusterManager;
 import io.ebeaninternal.server.core.PersistRequestBean;
 import io.ebeaninternal.server.deploy.BeanDescriptorManager;
 import io.ebeanservice.docstore.api.DocStoreUpdates;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
 
 import java.util.List;
 
 /**
  * Performs post commit processing using a background thread.
  * <p>
- * This includes Cluster notification, and BeanPersistListeners.
+ * This includes Cluster notification, and BeanPersistListeners. The background part is
+ * performed by the PostCommitPipeline which coalesces the processing of many commits.
  * </p>
  */
 public final class PostCommitProcessing {
 
-  private static final Logger logger = LoggerFactory.getLogger(PostCommitProcessing.class);
-
   private final ClusterManager clusterManager;
 
   private final TransactionEvent event;
@@ -111,9 +108,9 @@ public final class PostCommitProcessing {
   }
 
   /**
-   * Process any document store updates.
+   * Return the document store updates or null if there are none.
    */
-  private void processDocStoreUpdates() {
+  DocStoreUpdates docStoreUpdates() {
 
     if (isDocStoreUpdate()) {
       // collect 'bulk update' and 'queue' events
@@ -122,12 +119,18 @@ public final class PostCommitProcessing {
       if (deleteByIdMap != null) {
         deleteByIdMap.addDocStoreUpdates(docStoreUpdates, txnDocStoreMode);
       }
-
       if (!docStoreUpdates.isEmpty()) {
-        // send to docstore / ElasticSearch and/or queue
-        manager.processDocStoreUpdates(docStoreUpdates, txnDocStoreBatchSize);
+        return docStoreUpdates;
       }
     }
+    return null;
+  }
+
+  /**
+   * Return the batch size to use for document store updates.
+   */
+  int docStoreBatchSize() {
+    return txnDocStoreBatchSize;
   }
 
   /**
@@ -137,27 +140,18 @@ public final class PostCommitProcessing {
     return manager.isDocStoreActive() && (txnDocStoreMode == null || txnDocStoreMode != DocStoreMode.IGNORE);
   }
 
-  private void notifyCluster() {
-    if (remoteTransactionEvent != null && !remoteTransactionEvent.isEmpty()) {
-      // send the interesting events to the cluster
-      if (logger.isDebugEnabled()) {
-        logger.debug("Cluster Send: {}", remoteTransactionEvent);
-      }
-
-      clusterManager.broadcast(remoteTransactionEvent);
-    }
+  /**
+   * Return the events to send to the cluster (null when not clustering).
+   */
+  RemoteTransactionEvent remoteTransactionEvent() {
+    return remoteTransactionEvent;
   }
 
   /**
-   * In background notify persist listeners, cluster and document store.
+   * Return the L2 cache changes for background processing (null when processed in foreground).
    */
-  Runnable backgroundNotify() {
-    return () -> {
-      processCacheChanges(cacheChanges);
-      localPersistListenersNotify();
-      notifyCluster();
-      processDocStoreUpdates();
-    };
+  CacheChangeSet cacheChanges() {
+    return cacheChanges;
   }
 
   /**
@@ -169,7 +163,10 @@ public final class PostCommitProcessing {
     }
   }
 
-  private void localPersistListenersNotify() {
+  /**
+   * Notify the local persist listeners and bulk table event listeners.
+   */
+  void localPersistListenersNotify() {
     if (persistBeanRequests != null) {
       for (PersistRequestBean<?> persistBeanRequest : persistBeanRequests) {
         persistBeanRequest.notifyLocalPersistListener();
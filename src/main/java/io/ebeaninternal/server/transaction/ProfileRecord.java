@@ -0,0 +1,186 @@
+package io.ebeaninternal.server.transaction;
+
+import io.ebeaninternal.api.TxnProfileEventCodes;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.EOFException;
+import java.io.IOException;
+
+/**
+ * Reusable holder of a transaction profile read from the ring buffer with the compact
+ * binary encoding used for the profiling files.
+ * <p>
+ * A profiling file starts with the {@link #MAGIC} int and {@link #VERSION} byte followed by
+ * the profile records. A record is encoded as variable length longs:
+ * </p>
+ * <pre>{@code
+ *
+ *   profileId startTime totalMicros
+ *   queryMicros queryCount queryBeans queryMax
+ *   persistMicros persistCount persistBeans persistOneCount commitMicros
+ *   eventCount (code offset micros beanTypeId beanCount queryId)*
+ *
+ * }</pre>
+ */
+final class ProfileRecord {
+
+  /**
+   * Marks the start of a binary profiling file ("EBTP").
+   */
+  static final int MAGIC = 0x45425450;
+
+  static final int VERSION = 1;
+
+  int profileId;
+
+  long startTime;
+
+  long totalMicros;
+
+  final long[] summary = new long[9];
+
+  int eventCount;
+
+  private long[] events = new long[ProfileRingBuffer.STRIDE * 4];
+
+  /**
+   * Return the event buffer with capacity for the given number of events.
+   */
+  long[] events(int count) {
+    int required = count * ProfileRingBuffer.EVENT_LONGS;
+    if (events.length < required) {
+      events = new long[Math.max(required, events.length * 2)];
+    }
+    return events;
+  }
+
+  /**
+   * Encode the event code (up to 2 chars), beanTypeId and queryId into a single long.
+   */
+  static long eventHeader(String event, short beanTypeId, short queryId) {
+    long code = event.charAt(0);
+    if (event.length() > 1) {
+      code |= ((long) event.charAt(1)) << 16;
+    }
+    return (code << 32) | ((beanTypeId & 0xFFFFL) << 16) | (queryId & 0xFFFFL);
+  }
+
+  private static String eventCode(long code) {
+    char first = (char) (code & 0xFFFF);
+    char second = (char) ((code >>> 16) & 0xFFFF);
+    return second == 0 ? String.valueOf(first) : new String(new char[]{first, second});
+  }
+
+  /**
+   * Write the record in the compact binary form.
+   */
+  void write(DataOutput out) throws IOException {
+    writeLong(out, profileId & 0xFFFFFFFFL);
+    writeLong(out, startTime);
+    writeLong(out, totalMicros);
+    for (long value : summary) {
+      writeLong(out, value);
+    }
+    writeLong(out, eventCount);
+    for (int i = 0; i < eventCount; i++) {
+      int pos = i * ProfileRingBuffer.EVENT_LONGS;
+      long header = events[pos];
+      writeLong(out, header >>> 32);
+      writeLong(out, events[pos + 1]);
+      writeLong(out, events[pos + 2]);
+      writeLong(out, (header >>> 16) & 0xFFFF);
+      writeLong(out, events[pos + 3]);
+      writeLong(out, header & 0xFFFF);
+    }
+  }
+
+  /**
+   * Read the next record returning false at the end of the input.
+   */
+  boolean read(DataInput in) throws IOException {
+    try {
+      profileId = (int) readLong(in);
+    } catch (EOFException e) {
+      return false;
+    }
+    startTime = readLong(in);
+    totalMicros = readLong(in);
+    for (int i = 0; i < summary.length; i++) {
+      summary[i] = readLong(in);
+    }
+    eventCount = (int) readLong(in);
+    long[] buffer = events(eventCount);
+    for (int i = 0; i < eventCount; i++) {
+      int pos = i * ProfileRingBuffer.EVENT_LONGS;
+      long code = readLong(in);
+      buffer[pos + 1] = readLong(in);
+      buffer[pos + 2] = readLong(in);
+      long beanTypeId = readLong(in);
+      buffer[pos + 3] = readLong(in);
+      long queryId = readLong(in);
+      buffer[pos] = (code << 32) | (beanTypeId << 16) | queryId;
+    }
+    return true;
+  }
+
+  /**
+   * Return as a TransactionProfile with the events in the verbose text form.
+   */
+  TransactionProfile toProfile() {
+
+    TransactionProfile profile = new TransactionProfile(startTime, profileId);
+    profile.setTotalMicros(totalMicros);
+
+    TransactionProfile.Summary sum = profile.getSummary();
+    sum.queryMicros = summary[0];
+    sum.queryCount = summary[1];
+    sum.queryBeans = summary[2];
+    sum.queryMax = summary[3];
+    sum.persistMicros = summary[4];
+    sum.persistCount = summary[5];
+    sum.persistBeans = summary[6];
+    sum.persistOneCount = summary[7];
+    sum.commitMicros = summary[8];
+
+    if (eventCount > 0) {
+      StringBuilder sb = new StringBuilder(eventCount * 20);
+      for (int i = 0; i < eventCount; i++) {
+        int pos = i * ProfileRingBuffer.EVENT_LONGS;
+        long header = events[pos];
+        String event = eventCode(header >>> 32);
+        sb.append(event).append(',').append(events[pos + 1]).append(',').append(events[pos + 2]);
+        if (TxnProfileEventCodes.EVT_COMMIT.equals(event) || TxnProfileEventCodes.EVT_ROLLBACK.equals(event)) {
+          sb.append(';');
+        } else {
+          sb.append(',').append((short) (header >>> 16))
+            .append(',').append(events[pos + 3])
+            .append(',').append((short) header).append(';');
+        }
+      }
+      profile.setData(sb.toString());
+    }
+    return profile;
+  }
+
+  private static void writeLong(DataOutput out, long value) throws IOException {
+    while ((value & ~0x7FL) != 0) {
+      out.writeByte((int) ((value & 0x7F) | 0x80));
+      value >>>= 7;
+    }
+    out.writeByte((int) value);
+  }
+
+  private static long readLong(DataInput in) throws IOException {
+    long value = 0;
+    int shift = 0;
+    while (true) {
+      int b = in.readUnsignedByte();
+      value |= (long) (b & 0x7F) << shift;
+      if ((b & 0x80) == 0) {
+        return value;
+      }
+      shift += 7;
+    }
+  }
+}
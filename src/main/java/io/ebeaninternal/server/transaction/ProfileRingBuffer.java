@@ -0,0 +1,176 @@
+package io.ebeaninternal.server.transaction;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Preallocated lock free multi producer, single consumer ring buffer of transaction profiles.
+ * <p>
+ * Profiles are recorded as primitive fields into a preallocated long array. Each slot holds
+ * {@link #STRIDE} longs. A transaction profile takes one slot for the summary followed by a slot
+ * per {@link #EVENTS_PER_SLOT} verbose events. Producers claim the slots by CAS on the head
+ * sequence, write the fields and then publish the first slot (with release semantics) such
+ * that the consumer sees the entire record.
+ * </p>
+ * <p>
+ * When the buffer is full the profile is dropped (and counted) rather than blocking the
+ * transaction.
+ * </p>
+ */
+final class ProfileRingBuffer {
+
+  /**
+   * Number of longs per slot.
+   */
+  static final int STRIDE = 16;
+
+  /**
+   * Number of longs per event.
+   */
+  static final int EVENT_LONGS = 4;
+
+  static final int EVENTS_PER_SLOT = STRIDE / EVENT_LONGS;
+
+  private static final int SUMMARY_LONGS = 12;
+
+  private final int capacity;
+
+  private final int mask;
+
+  private final long[] data;
+
+  /**
+   * Holds sequence + 1 for the first slot of a published record.
+   */
+  private final AtomicLongArray published;
+
+  /**
+   * Next sequence to claim by producers.
+   */
+  private final AtomicLong head = new AtomicLong();
+
+  /**
+   * Next sequence to read by the consumer.
+   */
+  private final AtomicLong tail = new AtomicLong();
+
+  private final LongAdder dropped = new LongAdder();
+
+  /**
+   * Create with the given number of slots (rounded up to a power of 2).
+   */
+  ProfileRingBuffer(int slots) {
+    int size = Integer.highestOneBit(Math.max(2, slots - 1)) << 1;
+    this.capacity = size;
+    this.mask = size - 1;
+    this.data = new long[size * STRIDE];
+    this.published = new AtomicLongArray(size);
+  }
+
+  /**
+   * Return the number of slots.
+   */
+  int capacity() {
+    return capacity;
+  }
+
+  /**
+   * Return the number of profiles dropped due to the buffer being full.
+   */
+  long dropped() {
+    return dropped.sum();
+  }
+
+  private int offset(long sequence) {
+    return (int) (sequence & mask) * STRIDE;
+  }
+
+  /**
+   * Claim the given number of slots returning the first sequence or -1 if the buffer is full.
+   */
+  private long claim(int slots) {
+    while (true) {
+      long current = head.get();
+      if (current + slots - tail.get() > capacity) {
+        return -1;
+      }
+      if (head.compareAndSet(current, current + slots)) {
+        return current;
+      }
+    }
+  }
+
+  /**
+   * Publish a transaction profile returning false if it was dropped.
+   *
+   * @param events     The verbose events with {@link #EVENT_LONGS} per event (can be null)
+   * @param eventCount The number of events
+   */
+  boolean publish(int profileId, long startTime, long totalMicros, TransactionProfile.Summary summary, long[] events, int eventCount) {
+
+    int eventSlots = (eventCount + EVENTS_PER_SLOT - 1) / EVENTS_PER_SLOT;
+    long sequence = claim(1 + eventSlots);
+    if (sequence < 0) {
+      dropped.increment();
+      return false;
+    }
+
+    int pos = offset(sequence);
+    data[pos] = ((long) eventCount << 32) | (profileId & 0xFFFFFFFFL);
+    data[pos + 1] = startTime;
+    data[pos + 2] = totalMicros;
+    data[pos + 3] = summary.queryMicros;
+    data[pos + 4] = summary.queryCount;
+    data[pos + 5] = summary.queryBeans;
+    data[pos + 6] = summary.queryMax;
+    data[pos + 7] = summary.persistMicros;
+    data[pos + 8] = summary.persistCount;
+    data[pos + 9] = summary.persistBeans;
+    data[pos + 10] = summary.persistOneCount;
+    data[pos + 11] = summary.commitMicros;
+
+    int remaining = eventCount * EVENT_LONGS;
+    for (int i = 0; i < eventSlots; i++) {
+      int from = i * STRIDE;
+      System.arraycopy(events, from, data, offset(sequence + 1 + i), Math.min(STRIDE, remaining - from));
+    }
+    published.lazySet((int) (sequence & mask), sequence + 1);
+    return true;
+  }
+
+  /**
+   * Read the next profile into the record returning false if there is none available.
+   * <p>
+   * Only to be called by the single consumer thread.
+   * </p>
+   */
+  boolean poll(ProfileRecord record) {
+
+    long sequence = tail.get();
+    if (published.get((int) (sequence & mask)) != sequence + 1) {
+      return false;
+    }
+
+    int pos = offset(sequence);
+    long header = data[pos];
+    int eventCount = (int) (header >>> 32);
+    record.profileId = (int) header;
+    record.startTime = data[pos + 1];
+    record.totalMicros = data[pos + 2];
+    System.arraycopy(data, pos + 3, record.summary, 0, SUMMARY_LONGS - 3);
+
+    int eventSlots = (eventCount + EVENTS_PER_SLOT - 1) / EVENTS_PER_SLOT;
+    long[] events = record.events(eventCount);
+    int remaining = eventCount * EVENT_LONGS;
+    for (int i = 0; i < eventSlots; i++) {
+      int to = i * STRIDE;
+      System.arraycopy(data, offset(sequence + 1 + i), events, to, Math.min(STRIDE, remaining - to));
+    }
+    record.eventCount = eventCount;
+
+    // release the slots back to the producers
+    tail.lazySet(sequence + 1 + eventSlots);
+    return true;
+  }
+}
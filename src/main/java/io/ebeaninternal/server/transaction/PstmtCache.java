@@ -0,0 +1,78 @@
+package io.ebeaninternal.server.transaction;
+
+import io.ebean.util.JdbcClose;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * LRU cache of PreparedStatements keyed by SQL for reuse on the connection of a transaction.
+ * <p>
+ * A statement is taken out of the cache while it is in use and released back to the cache
+ * after use such that a statement is never shared (e.g. nested queries with the same SQL
+ * while iterating). When over the max size the least recently released statement is closed.
+ * All the cached statements are closed prior to the connection being closed.
+ * </p>
+ */
+final class PstmtCache {
+
+  private final PstmtCacheMetrics metrics;
+
+  private final LinkedHashMap<String, PreparedStatement> map;
+
+  PstmtCache(int maxSize, PstmtCacheMetrics metrics) {
+    this.metrics = metrics;
+    this.map = new LinkedHashMap<String, PreparedStatement>(maxSize * 2, 0.75f, true) {
+      @Override
+      protected boolean removeEldestEntry(Map.Entry<String, PreparedStatement> eldest) {
+        if (size() > maxSize) {
+          JdbcClose.close(eldest.getValue());
+          metrics.evict();
+          return true;
+        }
+        return false;
+      }
+    };
+  }
+
+  /**
+   * Take the statement for the given SQL out of the cache returning null if there is none.
+   */
+  synchronized PreparedStatement take(String sql) {
+    PreparedStatement pstmt = map.remove(sql);
+    if (pstmt == null) {
+      metrics.miss();
+    } else {
+      metrics.hit();
+    }
+    return pstmt;
+  }
+
+  /**
+   * Release the statement back into the cache.
+   */
+  synchronized void release(String sql, PreparedStatement pstmt) {
+    try {
+      pstmt.clearParameters();
+    } catch (SQLException e) {
+      JdbcClose.close(pstmt);
+      return;
+    }
+    PreparedStatement replaced = map.put(sql, pstmt);
+    if (replaced != null && replaced != pstmt) {
+      JdbcClose.close(replaced);
+    }
+  }
+
+  /**
+   * Close all the cached statements.
+   */
+  synchronized void close() {
+    for (PreparedStatement pstmt : map.values()) {
+      JdbcClose.close(pstmt);
+    }
+    map.clear();
+  }
+}
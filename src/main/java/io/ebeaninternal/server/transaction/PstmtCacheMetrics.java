@@ -0,0 +1,78 @@
+package io.ebeaninternal.server.transaction;
+
+import io.ebean.meta.MetaPstmtCache;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Hit, miss and eviction counts of the transaction PreparedStatement caches.
+ */
+final class PstmtCacheMetrics {
+
+  private final LongAdder hitCount = new LongAdder();
+
+  private final LongAdder missCount = new LongAdder();
+
+  private final LongAdder evictCount = new LongAdder();
+
+  void hit() {
+    hitCount.increment();
+  }
+
+  void miss() {
+    missCount.increment();
+  }
+
+  void evict() {
+    evictCount.increment();
+  }
+
+  /**
+   * Return the statistics optionally resetting the counters.
+   */
+  MetaPstmtCache getStatistics(boolean reset) {
+    long hits = reset ? hitCount.sumThenReset() : hitCount.sum();
+    long misses = reset ? missCount.sumThenReset() : missCount.sum();
+    long evictions = reset ? evictCount.sumThenReset() : evictCount.sum();
+    return new Statistics(hits, misses, evictions);
+  }
+
+  private static final class Statistics implements MetaPstmtCache {
+
+    private final long hitCount;
+    private final long missCount;
+    private final long evictCount;
+
+    Statistics(long hitCount, long missCount, long evictCount) {
+      this.hitCount = hitCount;
+      this.missCount = missCount;
+      this.evictCount = evictCount;
+    }
+
+    @Override
+    public long getHitCount() {
+      return hitCount;
+    }
+
+    @Override
+    public long getMissCount() {
+      return missCount;
+    }
+
+    @Override
+    public long getEvictCount() {
+      return evictCount;
+    }
+
+    @Override
+    public int getHitRatio() {
+      long total = hitCount + missCount;
+      return total == 0 ? 0 : (int) (hitCount * 100 / total);
+    }
+
+    @Override
+    public String toString() {
+      return "hits:" + hitCount + " misses:" + missCount + " evicts:" + evictCount + " hitRatio:" + getHitRatio();
+    }
+  }
+}
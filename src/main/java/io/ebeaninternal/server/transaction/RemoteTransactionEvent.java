@@ -3,6 +3,8 @@ package io.ebeaninternal.server.transaction;
 import io.ebeaninternal.api.SpiEbeanServer;
 import io.ebeaninternal.api.TransactionEventTable.TableIUD;
 import io.ebeaninternal.server.cache.RemoteCacheEvent;
+import io.ebeaninternal.server.cluster.BinaryFrameReader;
+import io.ebeaninternal.server.cluster.BinaryFrameWriter;
 import io.ebeaninternal.server.cluster.BinaryMessageList;
 
 import java.io.IOException;
@@ -73,12 +75,81 @@ public class RemoteTransactionEvent implements Runnable {
     }
   }
 
+  /**
+   * Write the event to a (batched and compressed) cluster frame.
+   * <p>
+   * Note that DeleteById is written as BeanPersistIds.
+   * </p>
+   */
+  public void writeFrame(BinaryFrameWriter writer) throws IOException {
+
+    int tableCount = tableList == null ? 0 : tableList.size();
+    writer.writeVarInt(tableCount);
+    for (int i = 0; i < tableCount; i++) {
+      tableList.get(i).writeFrame(writer);
+    }
+
+    int deleteCount = deleteByIdMap == null ? 0 : deleteByIdMap.values().size();
+    writer.writeVarInt(deleteCount + beanPersistList.size());
+    if (deleteByIdMap != null) {
+      for (BeanPersistIds deleteIds : deleteByIdMap.values()) {
+        deleteIds.writeFrame(writer);
+      }
+    }
+    for (BeanPersistIds beanPersist : beanPersistList) {
+      beanPersist.writeFrame(writer);
+    }
+
+    writer.getOs().writeBoolean(remoteCacheEvent != null);
+    if (remoteCacheEvent != null) {
+      remoteCacheEvent.writeFrame(writer);
+    }
+  }
+
+  /**
+   * Read an event from a (batched and compressed) cluster frame.
+   */
+  public static RemoteTransactionEvent readFrame(SpiEbeanServer server, BinaryFrameReader reader) throws IOException {
+
+    RemoteTransactionEvent event = new RemoteTransactionEvent(server);
+    int tableCount = reader.readVarInt();
+    for (int i = 0; i < tableCount; i++) {
+      event.addTableIUD(TableIUD.readFrame(reader));
+    }
+    int persistCount = reader.readVarInt();
+    for (int i = 0; i < persistCount; i++) {
+      event.addBeanPersistIds(BeanPersistIds.readFrame(server, reader));
+    }
+    if (reader.getIs().readBoolean()) {
+      event.addRemoteCacheEvent(RemoteCacheEvent.readFrame(reader));
+    }
+    return event;
+  }
+
   public boolean isEmpty() {
     return beanPersistList.isEmpty()
       && (tableList == null || tableList.isEmpty())
       && (deleteByIdMap == null || deleteByIdMap.isEmpty());
   }
 
+  /**
+   * Merge the events of another (later) transaction such that they are broadcast together.
+   * <p>
+   * Note that DeleteById is written as BeanPersistIds so are merged into the bean persist list.
+   * </p>
+   */
+  void merge(RemoteTransactionEvent other) {
+    if (other.tableList != null) {
+      for (TableIUD tableIUD : other.tableList) {
+        addTableIUD(tableIUD);
+      }
+    }
+    if (other.deleteByIdMap != null) {
+      beanPersistList.addAll(other.deleteByIdMap.values());
+    }
+    beanPersistList.addAll(other.beanPersistList);
+  }
+
   public void addBeanPersistIds(BeanPersistIds beanPersist) {
     beanPersistList.add(beanPersist);
   }
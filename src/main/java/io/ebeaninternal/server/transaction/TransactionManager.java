@@ -11,6 +11,8 @@ import io.ebean.config.dbplatform.DatabasePlatform.OnQueryOnly;
 import io.ebean.event.changelog.ChangeLogListener;
 import io.ebean.event.changelog.ChangeLogPrepare;
 import io.ebean.event.changelog.ChangeSet;
+import io.ebean.meta.MetaPostCommit;
+import io.ebean.meta.MetaPstmtCache;
 import io.ebean.meta.MetricType;
 import io.ebean.meta.MetricVisitor;
 import io.ebeaninternal.api.ScopeTrans;
@@ -137,6 +139,18 @@ public class TransactionManager implements SpiTransactionManager {
   private final TimedMetricMap txnNamed;
   private final TransactionScopeManager scopeManager;
 
+  /**
+   * Max number of PreparedStatements cached per transaction (0 for no caching).
+   */
+  private final int pstmtCacheSize;
+
+  private final PstmtCacheMetrics pstmtCacheMetrics = new PstmtCacheMetrics();
+
+  /**
+   * Performs the background post commit processing.
+   */
+  private final PostCommitPipeline postCommitPipeline;
+
   /**
    * Create the TransactionManager
    */
@@ -144,6 +158,7 @@ public class TransactionManager implements SpiTransactionManager {
 
     this.databasePlatform = options.config.getDatabasePlatform();
     this.skipCacheAfterWrite = options.config.isSkipCacheAfterWrite();
+    this.pstmtCacheSize = options.config.getTransactionPstmtCacheSize();
     this.notifyL2CacheInForeground = options.notifyL2CacheInForeground;
     this.persistBatch = options.config.getPersistBatch();
     this.persistBatchOnCascade = options.config.appliedPersistBatchOnCascade();
@@ -174,6 +189,9 @@ public class TransactionManager implements SpiTransactionManager {
     this.txnReadOnly = metricFactory.createTimedMetric(MetricType.TXN, "txn.readonly");
     this.txnNamed = metricFactory.createTimedMetricMap(MetricType.TXN, "txn.named.");
 
+    this.postCommitPipeline = new PostCommitPipeline(this, clusterManager, serverName, options.config.getPostCommitWorkers(),
+      options.config.getPostCommitQueueCapacity(), options.config.getBackgroundExecutorShutdownSecs());
+
     scopeManager.register(this);
   }
 
@@ -228,6 +246,7 @@ public class TransactionManager implements SpiTransactionManager {
   }
 
   public void shutdown(boolean shutdownDataSource, boolean deregisterDriver) {
+    postCommitPipeline.shutdown();
     if (shutdownDataSource) {
       dataSourceSupplier.shutdown(deregisterDriver);
     }
@@ -299,6 +318,27 @@ public class TransactionManager implements SpiTransactionManager {
     return dataSourceSupplier.getReadOnlyDataSource();
   }
 
+  /**
+   * Create a PreparedStatement cache for a transaction returning null if statement caching is disabled.
+   */
+  PstmtCache createPstmtCache() {
+    return pstmtCacheSize <= 0 ? null : new PstmtCache(pstmtCacheSize, pstmtCacheMetrics);
+  }
+
+  /**
+   * Return the PreparedStatement cache hit, miss and eviction statistics.
+   */
+  public MetaPstmtCache getPstmtCacheStatistics(boolean reset) {
+    return pstmtCacheMetrics.getStatistics(reset);
+  }
+
+  /**
+   * Return the post commit processing statistics.
+   */
+  public MetaPostCommit getPostCommitStatistics(boolean reset) {
+    return postCommitPipeline.getStatistics(reset);
+  }
+
   /**
    * Defines the type of behavior to use when closing a transaction that was used to query data only.
    */
@@ -415,7 +455,7 @@ public class TransactionManager implements SpiTransactionManager {
 
       PostCommitProcessing postCommit = new PostCommitProcessing(clusterManager, this, transaction);
       postCommit.notifyLocalCache();
-      backgroundExecutor.execute(postCommit.backgroundNotify());
+      postCommitPipeline.submit(postCommit);
 
     } catch (Exception ex) {
       logger.error("NotifyOfCommit failed. L2 Cache potentially not notified.", ex);
@@ -438,7 +478,7 @@ public class TransactionManager implements SpiTransactionManager {
 
     PostCommitProcessing postCommit = new PostCommitProcessing(clusterManager, this, event);
     postCommit.notifyLocalCache();
-    backgroundExecutor.execute(postCommit.backgroundNotify());
+    postCommitPipeline.submit(postCommit);
   }
 
   /**
@@ -641,6 +681,9 @@ public class TransactionManager implements SpiTransactionManager {
     if (txScope.isSkipCache()) {
       transaction.setSkipCache(true);
     }
+    if (txScope.isConcurrentPersistenceContext()) {
+      transaction.setPersistenceContext(new ConcurrentPersistenceContext());
+    }
     String label = txScope.getLabel();
     if (label != null) {
       transaction.setLabel(label);
@@ -35,6 +35,31 @@ public interface DataReader {
 
   Double getDouble() throws SQLException;
 
+  /**
+   * Read a boolean without boxing (use wasNull() to check for null).
+   */
+  boolean getBooleanValue() throws SQLException;
+
+  /**
+   * Read an int without boxing (use wasNull() to check for null).
+   */
+  int getIntValue() throws SQLException;
+
+  /**
+   * Read a long without boxing (use wasNull() to check for null).
+   */
+  long getLongValue() throws SQLException;
+
+  /**
+   * Read a double without boxing (use wasNull() to check for null).
+   */
+  double getDoubleValue() throws SQLException;
+
+  /**
+   * Return true if the last value read was null.
+   */
+  boolean wasNull() throws SQLException;
+
   byte[] getBytes() throws SQLException;
 
   java.sql.Date getDate() throws SQLException;
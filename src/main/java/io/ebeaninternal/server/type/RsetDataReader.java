@@ -147,6 +147,31 @@ public class RsetDataReader implements DataReader {
   }
 
 
+  @Override
+  public boolean getBooleanValue() throws SQLException {
+    return rset.getBoolean(pos());
+  }
+
+  @Override
+  public int getIntValue() throws SQLException {
+    return rset.getInt(pos());
+  }
+
+  @Override
+  public long getLongValue() throws SQLException {
+    return rset.getLong(pos());
+  }
+
+  @Override
+  public double getDoubleValue() throws SQLException {
+    return rset.getDouble(pos());
+  }
+
+  @Override
+  public boolean wasNull() throws SQLException {
+    return rset.wasNull();
+  }
+
   public Ref getRef() throws SQLException {
     return rset.getRef(pos());
   }
@@ -1,7 +1,9 @@
 package io.ebeaninternal.server.type;
 
+import io.ebean.bean.EntityBean;
 import io.ebean.text.TextException;
 import io.ebeaninternal.server.core.BasicTypeConverter;
+import io.ebeaninternal.server.properties.BeanPropertySetter;
 import io.ebeanservice.docstore.api.mapping.DocPropertyType;
 import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.core.JsonParser;
@@ -21,7 +23,7 @@ import java.sql.Types;
  */
 public class ScalarTypeBoolean {
 
-  public static class Native extends BooleanBase {
+  public static class Native extends BooleanBase implements ScalarTypePrimitive {
 
     /**
      * Native Boolean database type.
@@ -64,6 +66,16 @@ public class ScalarTypeBoolean {
     public Boolean read(DataReader dataReader) throws SQLException {
       return dataReader.getBoolean();
     }
+
+    @Override
+    public boolean readSetPrimitive(DataReader dataReader, EntityBean bean, BeanPropertySetter setter) throws SQLException {
+      boolean value = dataReader.getBooleanValue();
+      if (dataReader.wasNull()) {
+        return false;
+      }
+      setter.setBoolean(bean, value);
+      return true;
+    }
   }
 
   /**
@@ -74,7 +86,7 @@ public class ScalarTypeBoolean {
    * type.boolean.dbtype="bit" in the ebean configuration
    * </p>
    */
-  static class BitBoolean extends BooleanBase {
+  static class BitBoolean extends BooleanBase implements ScalarTypePrimitive {
 
     /**
      * Native Boolean database type.
@@ -119,6 +131,16 @@ public class ScalarTypeBoolean {
       return dataReader.getBoolean();
     }
 
+    @Override
+    public boolean readSetPrimitive(DataReader dataReader, EntityBean bean, BeanPropertySetter setter) throws SQLException {
+      boolean value = dataReader.getBooleanValue();
+      if (dataReader.wasNull()) {
+        return false;
+      }
+      setter.setBoolean(bean, value);
+      return true;
+    }
+
   }
 
   /**
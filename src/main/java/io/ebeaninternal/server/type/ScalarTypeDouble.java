@@ -1,6 +1,8 @@
 package io.ebeaninternal.server.type;
 
+import io.ebean.bean.EntityBean;
 import io.ebeaninternal.server.core.BasicTypeConverter;
+import io.ebeaninternal.server.properties.BeanPropertySetter;
 import io.ebeanservice.docstore.api.mapping.DocPropertyType;
 import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.core.JsonParser;
@@ -14,7 +16,7 @@ import java.sql.Types;
 /**
  * ScalarType for Double and double.
  */
-public class ScalarTypeDouble extends ScalarTypeBase<Double> {
+public class ScalarTypeDouble extends ScalarTypeBase<Double> implements ScalarTypePrimitive {
 
   public ScalarTypeDouble() {
     super(Double.class, true, Types.DOUBLE);
@@ -34,6 +36,16 @@ public class ScalarTypeDouble extends ScalarTypeBase<Double> {
     return dataReader.getDouble();
   }
 
+  @Override
+  public boolean readSetPrimitive(DataReader dataReader, EntityBean bean, BeanPropertySetter setter) throws SQLException {
+    double value = dataReader.getDoubleValue();
+    if (dataReader.wasNull()) {
+      return false;
+    }
+    setter.setDouble(bean, value);
+    return true;
+  }
+
   @Override
   public Object toJdbcType(Object value) {
     return BasicTypeConverter.toDouble(value);
@@ -2,8 +2,10 @@ package io.ebeaninternal.server.type;
 
 import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.core.JsonParser;
+import io.ebean.bean.EntityBean;
 import io.ebean.text.TextException;
 import io.ebeaninternal.server.core.BasicTypeConverter;
+import io.ebeaninternal.server.properties.BeanPropertySetter;
 import io.ebeanservice.docstore.api.mapping.DocPropertyType;
 
 import java.io.DataInput;
@@ -15,7 +17,7 @@ import java.sql.Types;
 /**
  * ScalarType for Integer and int.
  */
-public class ScalarTypeInteger extends ScalarTypeBase<Integer> {
+public class ScalarTypeInteger extends ScalarTypeBase<Integer> implements ScalarTypePrimitive {
 
   public static ScalarTypeInteger INSTANCE = new ScalarTypeInteger();
 
@@ -37,6 +39,16 @@ public class ScalarTypeInteger extends ScalarTypeBase<Integer> {
     return dataReader.getInt();
   }
 
+  @Override
+  public boolean readSetPrimitive(DataReader dataReader, EntityBean bean, BeanPropertySetter setter) throws SQLException {
+    int value = dataReader.getIntValue();
+    if (dataReader.wasNull()) {
+      return false;
+    }
+    setter.setInt(bean, value);
+    return true;
+  }
+
   @Override
   public Integer readData(DataInput dataInput) throws IOException {
     if (!dataInput.readBoolean()) {
@@ -1,6 +1,8 @@
 package io.ebeaninternal.server.type;
 
+import io.ebean.bean.EntityBean;
 import io.ebeaninternal.server.core.BasicTypeConverter;
+import io.ebeaninternal.server.properties.BeanPropertySetter;
 import io.ebeanservice.docstore.api.mapping.DocPropertyType;
 import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.core.JsonParser;
@@ -14,7 +16,7 @@ import java.sql.Types;
 /**
  * ScalarType for Long and long.
  */
-public class ScalarTypeLong extends ScalarTypeBase<Long> {
+public class ScalarTypeLong extends ScalarTypeBase<Long> implements ScalarTypePrimitive {
 
   public ScalarTypeLong() {
     super(Long.class, true, Types.BIGINT);
@@ -34,6 +36,16 @@ public class ScalarTypeLong extends ScalarTypeBase<Long> {
     return dataReader.getLong();
   }
 
+  @Override
+  public boolean readSetPrimitive(DataReader dataReader, EntityBean bean, BeanPropertySetter setter) throws SQLException {
+    long value = dataReader.getLongValue();
+    if (dataReader.wasNull()) {
+      return false;
+    }
+    setter.setLong(bean, value);
+    return true;
+  }
+
   @Override
   public Object toJdbcType(Object value) {
     return BasicTypeConverter.toLong(value);
@@ -0,0 +1,20 @@
+package io.ebeaninternal.server.type;
+
+import io.ebean.bean.EntityBean;
+import io.ebeaninternal.server.properties.BeanPropertySetter;
+
+import java.sql.SQLException;
+
+/**
+ * ScalarType that can read and set a primitive property value without boxing.
+ */
+public interface ScalarTypePrimitive {
+
+  /**
+   * Read the value and set it to the primitive property of the bean.
+   * <p>
+   * Returns false (without setting the value) when the value read is null.
+   * </p>
+   */
+  boolean readSetPrimitive(DataReader reader, EntityBean bean, BeanPropertySetter setter) throws SQLException;
+}
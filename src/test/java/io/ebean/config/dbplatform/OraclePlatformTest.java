@@ -55,4 +55,9 @@ public class OraclePlatformTest {
     DbPlatformType dbType = platform.getDbTypeMap().get(DbPlatformType.UUID);
     assertThat(dbType.renderType(0, 0)).isEqualTo("raw(16)");
   }
+
+  @Test
+  public void maxInBinding() {
+    assertThat(platform.getMaxInBinding()).isEqualTo(1000);
+  }
 }
@@ -2,6 +2,7 @@ package io.ebean.config.dbplatform.sqlserver;
 
 import org.junit.Test;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
 
 /**
@@ -14,4 +15,10 @@ public class SqlServer2016PlatformTest {
     SqlServer17Platform platform = new SqlServer17Platform();
     assertTrue(platform.getHistorySupport() instanceof SqlServerHistorySupport);
   }
+
+  @Test
+  public void maxInBinding() {
+    SqlServer17Platform platform = new SqlServer17Platform();
+    assertEquals(2000, platform.getMaxInBinding());
+  }
 }
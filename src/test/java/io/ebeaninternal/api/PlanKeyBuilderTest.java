@@ -0,0 +1,71 @@
+package io.ebeaninternal.api;
+
+import io.ebean.Query;
+import org.junit.Test;
+
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class PlanKeyBuilderTest {
+
+  private PlanKeyBuilder key(String propName, int count) {
+    return new PlanKeyBuilder()
+      .append("In[").append(propName).append(" ?").append(count).append("]");
+  }
+
+  @Test
+  public void isSame() {
+
+    PlanKeyBuilder key1 = key("name", 3);
+    PlanKeyBuilder key2 = key("na" + "me".trim(), 3);
+
+    assertThat(key1.hash()).isEqualTo(key2.hash());
+    assertThat(key1.isSame(key2)).isTrue();
+    assertThat(key1.toString()).isEqualTo("In[name ?3]");
+  }
+
+  @Test
+  public void isSame_when_different() {
+
+    assertThat(key("name", 3).isSame(key("name", 4))).isFalse();
+    assertThat(key("name", 3).isSame(key("email", 3))).isFalse();
+    assertThat(new PlanKeyBuilder().append(Query.ForUpdate.NOWAIT).isSame(new PlanKeyBuilder().append(Query.ForUpdate.BASE))).isFalse();
+  }
+
+  @Test
+  public void append_null() {
+
+    PlanKeyBuilder key = new PlanKeyBuilder().append((String) null).append((Object) null);
+    assertThat(key.toString()).isEqualTo("nullnull");
+  }
+
+  @Test
+  public void append_mutableObject_usesStringForm() {
+
+    Set<String> props = new LinkedHashSet<>();
+    props.add("id");
+    PlanKeyBuilder key1 = new PlanKeyBuilder().append(props);
+    props.add("name");
+    PlanKeyBuilder key2 = new PlanKeyBuilder().append(props);
+
+    // changing the set after append does not change the key
+    assertThat(key1.toString()).isEqualTo("[id]");
+    assertThat(key1.isSame(key2)).isFalse();
+  }
+
+  @Test
+  public void append_growsBeyondInitialCapacity() {
+
+    PlanKeyBuilder key1 = new PlanKeyBuilder(2);
+    PlanKeyBuilder key2 = new PlanKeyBuilder(2);
+    for (int i = 0; i < 100; i++) {
+      key1.append("p").append(i);
+      key2.append("p").append(i);
+    }
+    assertThat(key1.isSame(key2)).isTrue();
+    assertThat(key1.isEmpty()).isFalse();
+    assertThat(new PlanKeyBuilder().isEmpty()).isTrue();
+  }
+}
@@ -46,6 +46,7 @@ import io.ebeaninternal.dbmigration.ddlgeneration.DdlHandler;
 import io.ebeaninternal.server.core.SpiResultSet;
 import io.ebeaninternal.server.core.timezone.DataTimeZone;
 import io.ebeaninternal.server.deploy.BeanDescriptor;
+import io.ebeaninternal.server.loadcontext.LazyLoadBatchSizer;
 import io.ebeaninternal.server.query.CQuery;
 import io.ebeaninternal.server.transaction.RemoteTransactionEvent;
 
@@ -59,8 +60,10 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.Callable;
+import java.util.concurrent.Executor;
 import java.util.function.Consumer;
 import java.util.function.Predicate;
+import java.util.stream.Stream;
 
 
 /**
@@ -287,6 +290,16 @@ public class TDSpiEbeanServer implements SpiEbeanServer {
 
   }
 
+  @Override
+  public LazyLoadBatchSizer getLazyLoadBatchSizer() {
+    return null;
+  }
+
+  @Override
+  public Executor getParallelQueryExecutor() {
+    return null;
+  }
+
   @Override
   public void visitMetrics(MetricVisitor visitor) {
 
@@ -597,6 +610,11 @@ public class TDSpiEbeanServer implements SpiEbeanServer {
     return null;
   }
 
+  @Override
+  public <T> Stream<T> findStream(Query<T> query, Transaction transaction) {
+    return null;
+  }
+
   @Override
   public <T> void findEach(Query<T> query, Consumer<T> consumer, Transaction transaction) {
 
@@ -16,9 +16,14 @@ import org.tests.model.embedded.EPerson;
 import org.junit.Test;
 
 import java.sql.Timestamp;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
 
 public class CacheBeanDataTest extends BaseTestCase {
 
@@ -120,4 +125,60 @@ public class CacheBeanDataTest extends BaseTestCase {
     assertEquals(person.getAddress().getStreet(), newPerson.getAddress().getStreet());
     assertEquals(person.getAddress().getCity(), newPerson.getAddress().getCity());
   }
+
+  @Test
+  public void extract_update_byPropertyIndex() {
+
+    SpiEbeanServer server = spiEbeanServer();
+    BeanDescriptor<Customer> desc = server.getBeanDescriptor(Customer.class);
+
+    Customer c = new Customer();
+    c.setId(98989);
+    c.setName("Rob");
+
+    EntityBean entityBean = (EntityBean) c;
+    String[] names = entityBean._ebean_getPropertyNames();
+    int nameIndex = desc.getBeanProperty("name").getPropertyIndex();
+    int noteIndex = desc.getBeanProperty("smallnote").getPropertyIndex();
+
+    CachedBeanData cacheData = CachedBeanDataFromBean.extract(desc, entityBean);
+    assertTrue(cacheData.isBeanLayout(names));
+    assertTrue(cacheData.isLoaded(names, nameIndex));
+    assertEquals("Rob", cacheData.getData(names, nameIndex));
+    assertFalse(cacheData.isLoaded(names, noteIndex));
+
+    CachedBeanData updated = cacheData.update(Collections.singletonMap("smallnote", "note"), 2);
+    assertTrue(updated.isBeanLayout(names));
+    assertEquals("note", updated.getData(names, noteIndex));
+    assertEquals("Rob", updated.getData("name"));
+    assertEquals(2, updated.getVersion());
+    // copy on write so the original is unchanged
+    assertFalse(cacheData.isLoaded("smallnote"));
+
+    Customer newCustomer = new Customer();
+    CachedBeanDataToBean.load(desc, (EntityBean) newCustomer, updated, new DefaultPersistenceContext());
+    assertEquals("Rob", newCustomer.getName());
+    assertEquals("note", newCustomer.getSmallnote());
+  }
+
+  @Test
+  public void load_fromNameKeyedData() {
+
+    SpiEbeanServer server = spiEbeanServer();
+    BeanDescriptor<Customer> desc = server.getBeanDescriptor(Customer.class);
+
+    Map<String, Object> data = new LinkedHashMap<>();
+    data.put("id", "98989");
+    data.put("name", "Rob");
+    CachedBeanData cacheData = new CachedBeanData(null, null, data, 1);
+
+    Customer newCustomer = new Customer();
+    CachedBeanDataToBean.load(desc, (EntityBean) newCustomer, cacheData, new DefaultPersistenceContext());
+    assertEquals(Integer.valueOf(98989), newCustomer.getId());
+    assertEquals("Rob", newCustomer.getName());
+
+    CachedBeanData updated = cacheData.update(Collections.singletonMap("smallnote", "note"), 2);
+    assertEquals("note", updated.getData("smallnote"));
+    assertEquals("Rob", updated.getData("name"));
+  }
 }
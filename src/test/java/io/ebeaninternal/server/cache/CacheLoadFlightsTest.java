@@ -0,0 +1,96 @@
+package io.ebeaninternal.server.cache;
+
+import org.junit.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class CacheLoadFlightsTest {
+
+  @Test
+  public void start_concurrentMiss_waitsOnInFlightLoad() throws InterruptedException {
+
+    CacheLoadFlights flights = new CacheLoadFlights();
+    assertThat(flights.start("A")).isTrue();
+    assertThat(flights.isLoading("A")).isTrue();
+
+    CountDownLatch started = new CountDownLatch(1);
+    AtomicBoolean followerLoads = new AtomicBoolean(true);
+    Thread follower = new Thread(() -> {
+      started.countDown();
+      followerLoads.set(flights.start("A"));
+    });
+    follower.start();
+    started.await();
+
+    // other keys are not blocked
+    assertThat(flights.start("B")).isTrue();
+    flights.end("B");
+
+    // wait for the follower to be waiting on the in flight load
+    for (int i = 0; i < 100 && flights.coalescedCount(false) == 0; i++) {
+      Thread.sleep(10);
+    }
+    flights.end("A");
+    follower.join(TimeUnit.SECONDS.toMillis(5));
+
+    assertThat(followerLoads.get()).isFalse();
+    assertThat(flights.isLoading("A")).isFalse();
+    assertThat(flights.loadCount(false)).isEqualTo(2);
+    assertThat(flights.coalescedCount(true)).isEqualTo(1);
+    assertThat(flights.coalescedCount(false)).isEqualTo(0);
+  }
+
+  @Test
+  public void start_whenInFlightLoadNotEnded_loadsAfterWait() throws InterruptedException {
+
+    CacheLoadFlights flights = new CacheLoadFlights(20);
+    Thread leader = new Thread(() -> flights.start("A"));
+    leader.start();
+    leader.join();
+
+    // the leader never ended the load
+    assertThat(flights.start("A")).isTrue();
+    assertThat(flights.isLoading("A")).isFalse();
+    assertThat(flights.start("A")).isTrue();
+    flights.end("A");
+    assertThat(flights.isLoading("A")).isFalse();
+  }
+
+  @Test
+  public void end_byOtherThread_ignored() throws InterruptedException {
+
+    CacheLoadFlights flights = new CacheLoadFlights();
+    assertThat(flights.start("A")).isTrue();
+
+    Thread other = new Thread(() -> flights.end("A"));
+    other.start();
+    other.join();
+
+    assertThat(flights.isLoading("A")).isTrue();
+    flights.end("A");
+    assertThat(flights.isLoading("A")).isFalse();
+  }
+
+  @Test
+  public void start_nestedBySameThread_doesNotWait() {
+
+    CacheLoadFlights flights = new CacheLoadFlights();
+    assertThat(flights.start("A")).isTrue();
+
+    long startNanos = System.nanoTime();
+    assertThat(flights.start("A")).isTrue();
+    assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos)).isLessThan(1000);
+
+    // ending the nested load leaves the outer load in flight
+    flights.end("A");
+    assertThat(flights.isLoading("A")).isTrue();
+    flights.end("A");
+    assertThat(flights.isLoading("A")).isFalse();
+    assertThat(flights.loadCount(false)).isEqualTo(1);
+    assertThat(flights.coalescedCount(false)).isEqualTo(0);
+  }
+}
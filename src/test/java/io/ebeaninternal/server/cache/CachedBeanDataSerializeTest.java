@@ -21,6 +21,8 @@ import java.util.List;
 import java.util.Map;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 
 
@@ -59,6 +61,25 @@ public class CachedBeanDataSerializeTest extends BaseTestCase {
   }
 
 
+  @Test
+  public void nameKeyed_byPropertyIndex() {
+
+    Map<String, Object> map = new LinkedHashMap<>();
+    map.put("name", "rob");
+    map.put("id", "42");
+
+    CachedBeanData data = new CachedBeanData(null, null, map, 1);
+    String[] propertyNames = {"id", "name", "status"};
+
+    assertFalse(data.isBeanLayout(propertyNames));
+    assertTrue(data.isLoaded(propertyNames, 0));
+    assertTrue(data.isLoaded(propertyNames, 1));
+    assertFalse(data.isLoaded(propertyNames, 2));
+    assertEquals("42", data.getData(propertyNames, 0));
+    assertEquals("rob", data.getData(propertyNames, 1));
+    assertNull(data.getData(propertyNames, 2));
+  }
+
   @Test
   public void fullBean() throws IOException, ClassNotFoundException {
 
@@ -1,9 +1,11 @@
 package io.ebeaninternal.server.cache;
 
 import io.ebean.cache.ServerCacheOptions;
+import io.ebean.cache.ServerCacheStatistics;
 import org.junit.Test;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
 
 public class DefaultServerCacheTest {
 
@@ -50,6 +52,54 @@ public class DefaultServerCacheTest {
     assertEquals(0, cache.size());
   }
 
+  @Test
+  public void getReadThrough_earlyRefresh() {
+
+    ServerCacheOptions cacheOptions = new ServerCacheOptions();
+    cacheOptions.setMaxSecsToLive(1);
+    cacheOptions.setEarlyRefreshSecs(2);
+    DefaultServerCache cache = new DefaultServerCache("foo", null, cacheOptions);
+    cache.put("A", "A");
+
+    int refreshed = 0;
+    for (int i = 0; i < 100; i++) {
+      if (cache.getReadThrough("A") == null) {
+        refreshed++;
+      }
+      // get() never refreshes early
+      assertEquals("A", cache.get("A"));
+    }
+    assertTrue(refreshed > 0);
+    assertTrue(refreshed < 100);
+    assertEquals(refreshed, cache.getStatistics(false).getEarlyRefreshCount());
+  }
+
+  @Test
+  public void getReadThrough_noEarlyRefresh() {
+
+    DefaultServerCache cache = createCache();
+    cache.put("A", "A");
+    for (int i = 0; i < 100; i++) {
+      assertEquals("A", cache.getReadThrough("A"));
+    }
+    assertEquals(0, cache.getStatistics(false).getEarlyRefreshCount());
+  }
+
+  @Test
+  public void loadStart_statistics() {
+
+    DefaultServerCache cache = createCache();
+    assertTrue(cache.loadStart("A"));
+    cache.loadEnd("A");
+    assertTrue(cache.loadStart("A"));
+    cache.loadEnd("A");
+
+    ServerCacheStatistics statistics = cache.getStatistics(true);
+    assertEquals(2, statistics.getLoadCount());
+    assertEquals(0, statistics.getCoalescedLoadCount());
+    assertEquals(0, cache.getStatistics(false).getLoadCount());
+  }
+
   @Test
   public void trimFreq_halfIdle() throws Exception {
 
@@ -0,0 +1,116 @@
+package io.ebeaninternal.server.cache;
+
+import io.ebean.cache.ServerCacheOptions;
+import io.ebean.cache.ServerCacheStatistics;
+import org.junit.Test;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class OffHeapServerCacheTest {
+
+  private OffHeapServerCache createCache(int maxSize, long maxBytes) {
+
+    ServerCacheOptions cacheOptions = new ServerCacheOptions();
+    cacheOptions.setMaxSize(maxSize);
+    cacheOptions.setOffHeapMaxBytes(maxBytes);
+    return new OffHeapServerCache("foo", null, cacheOptions);
+  }
+
+  private CachedBeanData beanData(String name) {
+
+    Map<String, Object> embedded = new LinkedHashMap<>();
+    embedded.put("street", "92 Someplace Else");
+    embedded.put("city", null);
+
+    Map<String, Object> data = new LinkedHashMap<>();
+    data.put("id", "42");
+    data.put("name", name);
+    data.put("content", new byte[]{1, 2, 3});
+    data.put("address", new CachedBeanData(null, null, embedded, 0));
+    data.put("other", 12L);
+    return new CachedBeanData(null, "C", data, 7);
+  }
+
+  @Test
+  public void put_get_roundTrip() {
+
+    OffHeapServerCache cache = createCache(100, 64 * 1024);
+    CachedBeanData write = beanData("rob");
+    cache.put(42, write);
+
+    CachedBeanData read = (CachedBeanData) cache.get(42);
+    assertThat(read.getVersion()).isEqualTo(7);
+    assertThat(read.getWhenCreated()).isEqualTo(write.getWhenCreated());
+    assertThat(read.getDiscValue()).isEqualTo("C");
+    assertThat(read.getData("name")).isEqualTo("rob");
+    assertThat(read.getData("other")).isEqualTo(12L);
+    assertThat((byte[]) read.getData("content")).containsExactly(1, 2, 3);
+    assertThat(read.isLoaded("missing")).isFalse();
+
+    CachedBeanData address = (CachedBeanData) read.getData("address");
+    assertThat(address.getData("street")).isEqualTo("92 Someplace Else");
+    assertThat(address.isLoaded("city")).isTrue();
+    assertThat(address.getData("city")).isNull();
+
+    assertThat(cache.get(43)).isNull();
+    assertThat(cache.getHitRatio()).isEqualTo(50);
+  }
+
+  @Test
+  public void put_replace_remove() {
+
+    OffHeapServerCache cache = createCache(100, 64 * 1024);
+    cache.put(1, beanData("a"));
+    cache.put(1, beanData("b"));
+    assertThat(cache.size()).isEqualTo(1);
+    assertThat(((CachedBeanData) cache.get(1)).getData("name")).isEqualTo("b");
+
+    cache.remove(1);
+    assertThat(cache.size()).isEqualTo(0);
+    assertThat(cache.get(1)).isNull();
+    assertThat(cache.getByteCount()).isEqualTo(0);
+
+    ServerCacheStatistics statistics = cache.getStatistics(false);
+    assertThat(statistics.getInsertCount()).isEqualTo(1);
+    assertThat(statistics.getUpdateCount()).isEqualTo(1);
+    assertThat(statistics.getRemoveCount()).isEqualTo(1);
+  }
+
+  @Test
+  public void put_when_wrap_evictsOldest() {
+
+    OffHeapServerCache cache = createCache(0, 4096);
+    for (int i = 0; i < 1000; i++) {
+      cache.put(i, beanData("name" + i));
+    }
+
+    ServerCacheStatistics statistics = cache.getStatistics(false);
+    assertThat(statistics.getEvictByLRU()).isGreaterThan(0);
+    assertThat(statistics.getSize() + statistics.getEvictByLRU()).isEqualTo(1000);
+    assertThat(statistics.getByteCount()).isLessThanOrEqualTo(4096);
+    assertThat(statistics.getMaxBytes()).isEqualTo(4096);
+
+    // most recent entry is retained and oldest evicted
+    assertThat(((CachedBeanData) cache.get(999)).getData("name")).isEqualTo("name999");
+    assertThat(cache.get(0)).isNull();
+  }
+
+  @Test
+  public void put_when_maxSize_evictsOldest() {
+
+    OffHeapServerCache cache = createCache(10, 64 * 1024);
+    for (int i = 0; i < 20; i++) {
+      cache.put(i, beanData("name" + i));
+    }
+    assertThat(cache.size()).isEqualTo(10);
+    assertThat(cache.get(0)).isNull();
+    assertThat(cache.get(19)).isNotNull();
+
+    cache.clear();
+    assertThat(cache.size()).isEqualTo(0);
+    assertThat(cache.getByteCount()).isEqualTo(0);
+  }
+}
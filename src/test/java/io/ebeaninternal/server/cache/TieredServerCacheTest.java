@@ -0,0 +1,105 @@
+package io.ebeaninternal.server.cache;
+
+import io.ebean.cache.ServerCacheOptions;
+import io.ebean.cache.ServerCacheStatistics;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+public class TieredServerCacheTest {
+
+  private DefaultServerCache remote;
+
+  private TieredServerCache createCache(int nearMaxSecsToLive) {
+
+    ServerCacheOptions cacheOptions = new ServerCacheOptions();
+    cacheOptions.setMaxSize(100);
+    cacheOptions.setNearMaxSize(10);
+    cacheOptions.setNearMaxSecsToLive(nearMaxSecsToLive);
+
+    remote = new DefaultServerCache("foo", null, cacheOptions);
+    return new TieredServerCache("foo", remote, null, cacheOptions);
+  }
+
+  @Test
+  public void get_nearThenRemote() {
+
+    TieredServerCache cache = createCache(60);
+    remote.put("A", "a");
+
+    // near miss, remote hit
+    assertEquals("a", cache.get("A"));
+    // near hit
+    assertEquals("a", cache.get("A"));
+    assertNull(cache.get("B"));
+
+    ServerCacheStatistics statistics = cache.getStatistics(false);
+    assertEquals(1, statistics.getNearSize());
+    assertEquals(1, statistics.getNearHitCount());
+    assertEquals(2, statistics.getNearMissCount());
+    assertEquals(33, statistics.getNearHitRatio());
+    assertEquals(1, statistics.getHitCount());
+    assertEquals(1, statistics.getMissCount());
+    assertEquals(66, cache.getHitRatio());
+
+    cache.getStatistics(true);
+    statistics = cache.getStatistics(false);
+    assertEquals(0, statistics.getNearHitCount());
+    assertEquals(0, statistics.getNearMissCount());
+  }
+
+  @Test
+  public void getAll() {
+
+    TieredServerCache cache = createCache(60);
+    cache.put("A", "a");
+    remote.put("B", "b");
+
+    Map<Object, Object> all = cache.getAll(new HashSet<>(Arrays.asList("A", "B", "C")));
+    assertEquals(2, all.size());
+    assertEquals("a", all.get("A"));
+    assertEquals("b", all.get("B"));
+    assertEquals(2, cache.getNear().size());
+  }
+
+  @Test
+  public void remove_bothTiers() {
+
+    TieredServerCache cache = createCache(60);
+    cache.put("A", "a");
+    cache.put("B", "b");
+    assertEquals(2, cache.getNear().size());
+    assertEquals(2, remote.size());
+
+    // invalidation removes from both tiers
+    cache.remove("A");
+    assertNull(cache.get("A"));
+    assertEquals(1, cache.getNear().size());
+    assertEquals(1, remote.size());
+
+    cache.clear();
+    assertNull(cache.get("B"));
+    assertEquals(0, cache.getNear().size());
+    assertEquals(0, cache.size());
+  }
+
+  @Test
+  public void get_nearExpired_readsRemote() throws InterruptedException {
+
+    TieredServerCache cache = createCache(1);
+    cache.put("A", "a");
+
+    // changed without an invalidation message
+    remote.put("A", "a2");
+    assertEquals("a", cache.get("A"));
+
+    Thread.sleep(1100);
+    assertEquals("a2", cache.get("A"));
+    assertEquals("a2", cache.get("A"));
+  }
+}
@@ -0,0 +1,87 @@
+package io.ebeaninternal.server.cache;
+
+import io.ebean.cache.ServerCacheOptions;
+import io.ebean.cache.ServerCacheStatistics;
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class TinyLfuEvictionTest {
+
+  private DefaultServerCache createCache(int maxSize) {
+
+    ServerCacheOptions cacheOptions = new ServerCacheOptions();
+    cacheOptions.setMaxSize(maxSize);
+    return new DefaultServerCache("foo", null, cacheOptions);
+  }
+
+  @Test
+  public void put_when_full_evictsOnPut() {
+
+    DefaultServerCache cache = createCache(100);
+    for (int i = 0; i < 1000; i++) {
+      cache.put("k" + i, i);
+    }
+
+    assertThat(cache.size()).isEqualTo(100);
+    ServerCacheStatistics statistics = cache.getStatistics(false);
+    assertThat(statistics.getEvictByLRU()).isEqualTo(900);
+    assertThat(((TinyLfuEviction) cache.eviction).size()).isEqualTo(100);
+  }
+
+  @Test
+  public void put_when_full_frequentlyUsedRetained() {
+
+    DefaultServerCache cache = createCache(100);
+    cache.put("hot", "hot");
+    cache.put("other", "other");
+    for (int i = 0; i < 10; i++) {
+      assertThat(cache.get("hot")).isEqualTo("hot");
+    }
+
+    for (int i = 0; i < 1000; i++) {
+      cache.put("k" + i, i);
+    }
+
+    assertThat(cache.get("hot")).isEqualTo("hot");
+    assertThat(cache.size()).isEqualTo(100);
+  }
+
+  @Test
+  public void remove_and_clear_keepPolicyInSync() {
+
+    DefaultServerCache cache = createCache(10);
+    for (int i = 0; i < 10; i++) {
+      cache.put("k" + i, i);
+    }
+    cache.remove("k3");
+    cache.put("k3", 3);
+    cache.put("k3", 33);
+    assertThat(cache.size()).isEqualTo(10);
+    assertThat(((TinyLfuEviction) cache.eviction).size()).isEqualTo(10);
+
+    cache.clear();
+    assertThat(cache.size()).isEqualTo(0);
+    assertThat(((TinyLfuEviction) cache.eviction).size()).isEqualTo(0);
+
+    for (int i = 0; i < 20; i++) {
+      cache.put("k" + i, i);
+    }
+    assertThat(cache.size()).isEqualTo(10);
+  }
+
+  @Test
+  public void frequencySketch_increment() {
+
+    FrequencySketch sketch = new FrequencySketch(100);
+    assertThat(sketch.frequency("a")).isEqualTo(0);
+    sketch.increment("a");
+    sketch.increment("a");
+    assertThat(sketch.frequency("a")).isGreaterThanOrEqualTo(2);
+
+    for (int i = 0; i < 20; i++) {
+      sketch.increment("b");
+    }
+    assertThat(sketch.frequency("b")).isEqualTo(15);
+  }
+}
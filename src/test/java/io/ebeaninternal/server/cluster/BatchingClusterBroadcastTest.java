@@ -0,0 +1,122 @@
+package io.ebeaninternal.server.cluster;
+
+import io.ebean.BaseTestCase;
+import io.ebean.Ebean;
+import io.ebean.cache.ServerCache;
+import io.ebean.config.ContainerConfig;
+import io.ebeaninternal.api.TransactionEventTable.TableIUD;
+import io.ebeaninternal.server.transaction.RemoteTransactionEvent;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.tests.model.basic.Country;
+import org.tests.model.basic.ResetBasicData;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Properties;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class BatchingClusterBroadcastTest extends BaseTestCase {
+
+  private LoopbackClusterBroadcastFactory.LoopbackClusterBroadcast broadcast;
+
+  @Before
+  public void setUp() {
+    Properties properties = new Properties();
+    properties.setProperty(BatchingClusterBroadcast.BATCH_WINDOW_MILLIS, "50");
+    ContainerConfig config = new ContainerConfig();
+    config.setProperties(properties);
+
+    ClusterManager manager = new ClusterManager(config);
+    manager.registerServer(server());
+    broadcast = new LoopbackClusterBroadcastFactory().create(manager, config);
+    broadcast.startup();
+  }
+
+  @After
+  public void tearDown() {
+    broadcast.shutdown();
+  }
+
+  private void awaitFrames(int count) throws InterruptedException {
+    for (int i = 0; i < 100 && broadcast.frames.size() < count; i++) {
+      Thread.sleep(10);
+    }
+  }
+
+  @Test
+  public void broadcast_batchedIntoSingleFrame() throws Exception {
+
+    for (int i = 0; i < 20; i++) {
+      RemoteTransactionEvent event = new RemoteTransactionEvent(server().getName());
+      event.addTableIUD(new TableIUD("O_CLUSTER_BATCH", false, true, false, Arrays.<Object>asList(100L + i, 200L + i)));
+      event.addTableIUD(new TableIUD("O_CLUSTER_OTHER", true, false, false));
+      broadcast.broadcast(event);
+    }
+    awaitFrames(1);
+
+    assertThat(broadcast.frames).hasSize(1);
+    List<RemoteTransactionEvent> events = broadcast.decode(broadcast.frames.get(0));
+    assertThat(events).hasSize(20);
+    for (RemoteTransactionEvent event : events) {
+      List<TableIUD> tables = event.getTableIUDList();
+      assertThat(tables).hasSize(2);
+      assertThat(tables.get(0).getTableName()).isEqualTo("O_CLUSTER_BATCH");
+      assertThat(tables.get(0).isUpdate()).isTrue();
+      assertThat(tables.get(0).getIds()).hasSize(2);
+      assertThat(tables.get(1).isInsert()).isTrue();
+      assertThat(tables.get(1).getIds()).isNull();
+    }
+    assertThat(events.get(3).getTableIUDList().get(0).getIds()).containsExactly(103L, 203L);
+  }
+
+  @Test
+  public void decode_unknownServer_skipsOnlyItsEvents() throws Exception {
+
+    RemoteTransactionEvent unknown = new RemoteTransactionEvent("notRegistered");
+    unknown.addTableIUD(new TableIUD("O_CLUSTER_UNKNOWN", true, false, false));
+    RemoteTransactionEvent known = new RemoteTransactionEvent(server().getName());
+    known.addTableIUD(new TableIUD("O_CLUSTER_KNOWN", false, true, false));
+
+    byte[] frame = BatchingClusterBroadcast.encode(Arrays.asList(unknown, known, unknown));
+    List<RemoteTransactionEvent> events = broadcast.decode(frame);
+
+    assertThat(events).hasSize(1);
+    assertThat(events.get(0).getTableIUDList().get(0).getTableName()).isEqualTo("O_CLUSTER_KNOWN");
+  }
+
+  @Test
+  public void receiveFrame_otherVersion_clearsCaches() throws Exception {
+
+    ResetBasicData.reset();
+    ServerCache countryCache = Ebean.getServerCacheManager().getBeanCache(Country.class);
+    loadCountryCache();
+    assertThat(countryCache.size()).isGreaterThan(0);
+
+    byte[] frame = BatchingClusterBroadcast.encode(Collections.singletonList(new RemoteTransactionEvent(server().getName())));
+    assertThat(BinaryFrameReader.isSupported(frame)).isTrue();
+    frame[4] = (byte) (BinaryFrameWriter.VERSION + 1);
+    assertThat(BinaryFrameReader.version(frame)).isEqualTo(BinaryFrameWriter.VERSION + 1);
+
+    broadcast.receiveFrame(frame);
+    assertThat(countryCache.size()).isEqualTo(0);
+  }
+
+  @Test
+  public void broadcast_cacheClear_appliedOnReceive() throws Exception {
+
+    ResetBasicData.reset();
+    ServerCache countryCache = Ebean.getServerCacheManager().getBeanCache(Country.class);
+    loadCountryCache();
+    assertThat(countryCache.size()).isGreaterThan(0);
+
+    broadcast.broadcast(new RemoteTransactionEvent(server().getName()).cacheClear(Country.class));
+    awaitFrames(1);
+
+    assertThat(broadcast.frames).hasSize(1);
+    assertThat(countryCache.size()).isEqualTo(0);
+  }
+}
@@ -0,0 +1,35 @@
+package io.ebeaninternal.server.cluster;
+
+import io.ebean.config.ContainerConfig;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * ClusterBroadcastFactory with a loopback transport that delivers the frames it sends to itself.
+ */
+public class LoopbackClusterBroadcastFactory implements ClusterBroadcastFactory {
+
+  @Override
+  public LoopbackClusterBroadcast create(ClusterManager manager, ContainerConfig config) {
+    return new LoopbackClusterBroadcast(manager, config);
+  }
+
+  /**
+   * Sends frames to itself recording the frames that were sent.
+   */
+  public static class LoopbackClusterBroadcast extends BatchingClusterBroadcast {
+
+    final List<byte[]> frames = new CopyOnWriteArrayList<>();
+
+    LoopbackClusterBroadcast(ClusterManager manager, ContainerConfig config) {
+      super(manager, config);
+    }
+
+    @Override
+    protected void sendFrame(byte[] frame) {
+      frames.add(frame);
+      receiveFrame(frame);
+    }
+  }
+}
@@ -5,6 +5,7 @@ import io.ebean.BaseTestCase;
 import io.ebean.Ebean;
 import io.ebean.FetchConfig;
 import io.ebean.Query;
+import io.ebeaninternal.api.PlanKeyBuilder;
 import io.ebeaninternal.server.querydefn.DefaultOrmQuery;
 import io.ebeaninternal.server.querydefn.OrmQueryDetail;
 import org.junit.Test;
@@ -313,7 +314,7 @@ public class DefaultServer_createOrmQueryRequestTest extends BaseTestCase {
   }
 
   private String hash(OrmQueryDetail detail1) {
-    StringBuilder sb = new StringBuilder();
+    PlanKeyBuilder sb = new PlanKeyBuilder();
     detail1.queryPlanHash(sb);
     return sb.toString();
   }
@@ -0,0 +1,47 @@
+package io.ebeaninternal.server.core;
+
+import io.ebean.bean.CallStack;
+import org.junit.Assume;
+import org.junit.Test;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class StackWalkerCallStackFactoryTest {
+
+  private final StackWalkerCallStackFactory factory = new StackWalkerCallStackFactory(3);
+
+  @Test
+  public void isSupported_java9() {
+    boolean java9 = !System.getProperty("java.specification.version").startsWith("1.");
+    assertThat(StackWalkerCallStackFactory.isSupported()).isEqualTo(java9);
+  }
+
+  @Test
+  public void createCallStack() {
+    Assume.assumeTrue(StackWalkerCallStackFactory.isSupported());
+
+    CallStack callStack = Optional.of(factory).map(StackWalkerCallStackFactory::createCallStack).get();
+
+    StackTraceElement first = callStack.getFirstStackTraceElement();
+    assertThat(first.getClassName()).isEqualTo(Optional.class.getName());
+    assertThat(callStack.getCallStack()).hasSize(3);
+    assertThat(callStack.getCallStack()[1].getClassName()).isEqualTo(StackWalkerCallStackFactoryTest.class.getName());
+  }
+
+  @Test
+  public void createCallStack_sameCallSite_expect_sameInstance() {
+    Assume.assumeTrue(StackWalkerCallStackFactory.isSupported());
+
+    CallStack[] stacks = new CallStack[2];
+    for (int i = 0; i < stacks.length; i++) {
+      stacks[i] = Optional.of(factory).map(StackWalkerCallStackFactory::createCallStack).get();
+    }
+    assertThat(stacks[1]).isSameAs(stacks[0]);
+
+    CallStack other = Optional.of(factory).map(StackWalkerCallStackFactory::createCallStack).get();
+    assertThat(other).isNotSameAs(stacks[0]);
+    assertThat(other).isNotEqualTo(stacks[0]);
+  }
+}
@@ -0,0 +1,40 @@
+package io.ebeaninternal.server.deploy;
+
+import io.ebean.bean.CallStack;
+import io.ebean.bean.ObjectGraphOrigin;
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ObjectGraphOriginCacheTest {
+
+  private CallStack callStack(int line) {
+    return new CallStack(new StackTraceElement[]{new StackTraceElement("Foo", "bar", "Foo.java", line)}, line, 2);
+  }
+
+  @Test
+  public void get_expect_sameInstance() {
+
+    ObjectGraphOriginCache cache = new ObjectGraphOriginCache("Customer", 10);
+    ObjectGraphOrigin origin = cache.get(callStack(1), 42);
+
+    assertThat(cache.get(callStack(1), 42)).isSameAs(origin);
+    assertThat(cache.get(callStack(1), 43)).isNotSameAs(origin);
+    assertThat(cache.get(callStack(2), 42)).isNotEqualTo(origin);
+    assertThat(origin).isEqualTo(new ObjectGraphOrigin(42, callStack(1), "Customer"));
+    assertThat(cache.size()).isEqualTo(3);
+  }
+
+  @Test
+  public void get_overMaxSize_notCached() {
+
+    ObjectGraphOriginCache cache = new ObjectGraphOriginCache("Customer", 2);
+    cache.get(callStack(1), 42);
+    cache.get(callStack(2), 42);
+    ObjectGraphOrigin origin = cache.get(callStack(3), 42);
+
+    assertThat(cache.size()).isEqualTo(2);
+    assertThat(cache.get(callStack(3), 42)).isNotSameAs(origin);
+    assertThat(cache.get(callStack(3), 42)).isEqualTo(origin);
+  }
+}
@@ -0,0 +1,188 @@
+package io.ebeaninternal.server.deploy;
+
+import io.ebean.BaseTestCase;
+import io.ebean.Query;
+import io.ebean.meta.MetaQueryPlanCache;
+import io.ebeaninternal.api.CQueryPlanKey;
+import io.ebeaninternal.server.core.OrmQueryRequestTestHelper;
+import io.ebeaninternal.server.query.CQueryPlan;
+import org.junit.Test;
+import org.tests.model.basic.Customer;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class QueryPlanCacheTest extends BaseTestCase {
+
+  private Query<Customer> query() {
+    return server().find(Customer.class).where().eq("name", "planCache").query();
+  }
+
+  private CQueryPlan plan() {
+    query().findList();
+    CQueryPlan plan = OrmQueryRequestTestHelper.queryRequest(query()).getQueryPlan();
+    assertThat(plan).isNotNull();
+    return plan;
+  }
+
+  @Test
+  public void get_hitAndMiss() {
+
+    CQueryPlan plan = plan();
+    QueryPlanCache cache = new QueryPlanCache("test", 10, new QueryPlanCache.Global(0));
+
+    assertThat(cache.get(new Key(1))).isNull();
+    cache.put(new Key(1), plan);
+    assertThat(cache.get(new Key(1))).isSameAs(plan);
+    assertThat(cache.get(new Key(1))).isSameAs(plan);
+
+    MetaQueryPlanCache statistics = cache.getStatistics(true);
+    assertThat(statistics.getHitCount()).isEqualTo(2);
+    assertThat(statistics.getMissCount()).isEqualTo(1);
+    assertThat(statistics.getEvictCount()).isEqualTo(0);
+    assertThat(statistics.getSize()).isEqualTo(1);
+
+    statistics = cache.getStatistics(false);
+    assertThat(statistics.getHitCount()).isEqualTo(0);
+    assertThat(statistics.getMissCount()).isEqualTo(0);
+  }
+
+  @Test
+  public void put_overMaxSize_evictsLeastFrequentlyUsed() {
+
+    CQueryPlan plan = plan();
+    QueryPlanCache cache = new QueryPlanCache("test", 4, new QueryPlanCache.Global(0));
+    for (int i = 1; i <= 4; i++) {
+      cache.put(new Key(i), plan);
+    }
+    // make 1 and 2 frequently used
+    for (int i = 0; i < 5; i++) {
+      cache.get(new Key(1));
+      cache.get(new Key(2));
+    }
+
+    cache.put(new Key(5), plan);
+
+    // evicted down to 75% of max size, frequently used plans protected
+    assertThat(cache.size()).isEqualTo(3);
+    assertThat(cache.get(new Key(1))).isNotNull();
+    assertThat(cache.get(new Key(2))).isNotNull();
+    assertThat(cache.get(new Key(5))).isNotNull();
+    assertThat(cache.getStatistics(false).getEvictCount()).isEqualTo(2);
+  }
+
+  @Test
+  public void put_overGlobalMaxSize_evictsLeastFrequentlyUsedAcrossTypes() {
+
+    CQueryPlan plan = plan();
+    QueryPlanCache.Global global = new QueryPlanCache.Global(8);
+    QueryPlanCache large = new QueryPlanCache("large", 0, global);
+    QueryPlanCache small = new QueryPlanCache("small", 0, global);
+    for (int i = 0; i < 4; i++) {
+      large.put(new Key(i), plan);
+    }
+    // make 0 and 1 frequently used
+    for (int i = 0; i < 5; i++) {
+      large.get(new Key(0));
+      large.get(new Key(1));
+    }
+    for (int i = 0; i < 4; i++) {
+      small.put(new Key(i), plan);
+      small.get(new Key(i));
+    }
+
+    large.put(new Key(4), plan);
+
+    // evicted down to 75% of the global max using the least frequently used plans of all types
+    assertThat(global.count()).isEqualTo(6);
+    assertThat(large.size()).isEqualTo(3);
+    assertThat(small.size()).isEqualTo(3);
+    assertThat(large.get(new Key(0))).isNotNull();
+    assertThat(large.get(new Key(1))).isNotNull();
+    assertThat(large.get(new Key(4))).isNotNull();
+    assertThat(large.getStatistics(false).getEvictCount()).isEqualTo(2);
+    assertThat(small.getStatistics(false).getEvictCount()).isEqualTo(1);
+  }
+
+  @Test
+  public void put_overGlobalMaxSize_keepsPlanJustPut() {
+
+    CQueryPlan plan = plan();
+    QueryPlanCache.Global global = new QueryPlanCache.Global(4);
+    QueryPlanCache large = new QueryPlanCache("large", 0, global);
+    QueryPlanCache single = new QueryPlanCache("single", 0, global);
+    for (int i = 0; i < 4; i++) {
+      large.put(new Key(i), plan);
+      large.get(new Key(i));
+      large.get(new Key(i));
+    }
+
+    single.put(new Key(1), plan);
+
+    // the single plan type does not evict the plan it just put
+    assertThat(single.size()).isEqualTo(1);
+    assertThat(single.get(new Key(1))).isNotNull();
+    assertThat(large.size()).isEqualTo(2);
+    assertThat(global.count()).isEqualTo(3);
+  }
+
+  @Test
+  public void trim_decrementsGlobalCount() {
+
+    CQueryPlan plan = plan();
+    QueryPlanCache.Global global = new QueryPlanCache.Global(0);
+    QueryPlanCache cache = new QueryPlanCache("test", 0, global);
+    cache.put(new Key(1), plan);
+    cache.put(new Key(2), plan);
+    cache.put(new Key(2), plan);
+    assertThat(global.count()).isEqualTo(2);
+
+    List<CQueryPlan> trimmed = cache.trim(Long.MAX_VALUE);
+    assertThat(trimmed).hasSize(2);
+    assertThat(cache.size()).isEqualTo(0);
+    assertThat(global.count()).isEqualTo(0);
+  }
+
+  @Test
+  public void collectQueryPlanCacheStatistics() {
+
+    query().findList();
+    query().findList();
+
+    List<MetaQueryPlanCache> list = server().getMetaInfoManager().collectQueryPlanCacheStatistics(false);
+    String fullName = getBeanDescriptor(Customer.class).getFullName();
+
+    assertThat(list).extracting(MetaQueryPlanCache::getName).contains(fullName);
+    for (MetaQueryPlanCache statistics : list) {
+      if (statistics.getName().equals(fullName)) {
+        assertThat(statistics.getHitCount()).isGreaterThan(0);
+        assertThat(statistics.getMaxSize()).isEqualTo(1000);
+      }
+    }
+  }
+
+  private static class Key implements CQueryPlanKey {
+
+    private final int id;
+
+    Key(int id) {
+      this.id = id;
+    }
+
+    @Override
+    public String getPartialKey() {
+      return String.valueOf(id);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      return o instanceof Key && ((Key) o).id == id;
+    }
+
+    @Override
+    public int hashCode() {
+      return id;
+    }
+  }
+}
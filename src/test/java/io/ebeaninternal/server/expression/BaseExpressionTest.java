@@ -5,6 +5,7 @@ import io.ebean.EbeanServer;
 import io.ebean.Query;
 import io.ebean.Transaction;
 import io.ebean.event.BeanQueryRequest;
+import io.ebeaninternal.api.PlanKeyBuilder;
 import io.ebeaninternal.api.SpiExpression;
 import io.ebeaninternal.server.deploy.BeanDescriptor;
 import org.tests.model.basic.Customer;
@@ -20,7 +21,7 @@ public abstract class BaseExpressionTest extends BaseTestCase {
   }
 
   protected String hash(SpiExpression expression) {
-    StringBuilder sb  = new StringBuilder();
+    PlanKeyBuilder sb = new PlanKeyBuilder();
     if (expression != null) {
       expression.queryPlanHash(sb);
     }
@@ -5,6 +5,7 @@ import io.ebean.Query;
 import io.ebean.bean.EntityBean;
 import io.ebean.event.BeanQueryRequest;
 import io.ebeaninternal.api.ManyWhereJoins;
+import io.ebeaninternal.api.PlanKeyBuilder;
 import io.ebeaninternal.api.SpiQuery;
 import io.ebeaninternal.server.core.OrmQueryRequest;
 import io.ebeaninternal.server.deploy.BeanDescriptor;
@@ -66,7 +67,7 @@ public class DefaultExampleExpressionTest extends BaseExpressionTest {
 
     prepare(expr);
 
-    StringBuilder builder = new StringBuilder();
+    PlanKeyBuilder builder = new PlanKeyBuilder();
     expr.queryPlanHash(builder);
 
     TDSpiExpressionRequest req = new TDSpiExpressionRequest(customerBeanDescriptor());
@@ -0,0 +1,106 @@
+package io.ebeaninternal.server.loadcontext;
+
+import io.ebean.bean.CallStack;
+import io.ebean.bean.ObjectGraphNode;
+import io.ebean.bean.ObjectGraphOrigin;
+import io.ebean.meta.MetaLazyLoadBatchSize;
+import org.junit.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class LazyLoadBatchSizerTest {
+
+  private final ObjectGraphOrigin origin = new ObjectGraphOrigin(42, new CallStack(new StackTraceElement[0], 1, 2), "Order");
+
+  private ObjectGraphNode node(String path) {
+    return new ObjectGraphNode(origin, path);
+  }
+
+  private void load(LazyLoadBatchSizer.Control control, int count) {
+    for (int i = 0; i < LazyLoadBatchSizer.SAMPLE_SIZE; i++) {
+      control.loaded(Math.min(count, control.getBatchSize()), control.getBatchSize());
+    }
+  }
+
+  @Test
+  public void control_sameNode_sameControl() {
+    LazyLoadBatchSizer sizer = new LazyLoadBatchSizer(1000);
+    assertThat(sizer.control(node("customer"), 10, 1)).isSameAs(sizer.control(node("customer"), 10, 1));
+    assertThat(sizer.control(node("details"), 10, 1)).isNotSameAs(sizer.control(node("customer"), 10, 1));
+  }
+
+  @Test
+  public void loaded_whenFull_expect_increase() {
+    LazyLoadBatchSizer sizer = new LazyLoadBatchSizer(1000);
+    LazyLoadBatchSizer.Control control = sizer.control(node("customer"), 10, 1);
+
+    load(control, 400);
+    assertThat(control.getBatchSize()).isEqualTo(20);
+    load(control, 400);
+    assertThat(control.getBatchSize()).isEqualTo(50);
+    load(control, 400);
+    load(control, 400);
+    load(control, 400);
+    assertThat(control.getBatchSize()).isEqualTo(500);
+  }
+
+  @Test
+  public void loaded_whenFull_expect_boundedByMax() {
+    LazyLoadBatchSizer sizer = new LazyLoadBatchSizer(30);
+    LazyLoadBatchSizer.Control control = sizer.control(node("customer"), 10, 1);
+
+    load(control, 400);
+    load(control, 400);
+    load(control, 400);
+    assertThat(control.getBatchSize()).isEqualTo(30);
+  }
+
+  @Test
+  public void control_compositeId_expect_maxDividedByIdColumns() {
+    LazyLoadBatchSizer sizer = new LazyLoadBatchSizer(1000);
+    LazyLoadBatchSizer.Control control = sizer.control(node("customer"), 1000, 3);
+    assertThat(control.getBatchSize()).isEqualTo(333);
+
+    load(control, 400);
+    assertThat(control.getBatchSize()).isEqualTo(333);
+  }
+
+  @Test
+  public void loaded_whenMostlyEmpty_expect_decrease() {
+    LazyLoadBatchSizer sizer = new LazyLoadBatchSizer(1000);
+    LazyLoadBatchSizer.Control control = sizer.control(node("customer"), 100, 1);
+
+    load(control, 2);
+    assertThat(control.getBatchSize()).isEqualTo(5);
+  }
+
+  @Test
+  public void loaded_whenPartlyFull_expect_unchanged() {
+    LazyLoadBatchSizer sizer = new LazyLoadBatchSizer(1000);
+    LazyLoadBatchSizer.Control control = sizer.control(node("customer"), 10, 1);
+
+    load(control, 6);
+    assertThat(control.getBatchSize()).isEqualTo(10);
+  }
+
+  @Test
+  public void collect() {
+    LazyLoadBatchSizer sizer = new LazyLoadBatchSizer(1000);
+    sizer.control(node("details"), 10, 1);
+    load(sizer.control(node("customer"), 10, 1), 400);
+
+    List<MetaLazyLoadBatchSize> sizes = sizer.collect();
+    assertThat(sizes).hasSize(1);
+
+    MetaLazyLoadBatchSize size = sizes.get(0);
+    assertThat(size.getNode()).isEqualTo(node("customer"));
+    assertThat(size.getInitialBatchSize()).isEqualTo(10);
+    assertThat(size.getBatchSize()).isEqualTo(20);
+    assertThat(size.getLoadCount()).isEqualTo(LazyLoadBatchSizer.SAMPLE_SIZE);
+    assertThat(size.getLoadedTotal()).isEqualTo(10L * LazyLoadBatchSizer.SAMPLE_SIZE);
+    assertThat(size.getIncreaseCount()).isEqualTo(1);
+    assertThat(size.getDecreaseCount()).isEqualTo(0);
+  }
+}
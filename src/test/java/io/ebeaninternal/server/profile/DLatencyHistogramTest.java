@@ -0,0 +1,93 @@
+package io.ebeaninternal.server.profile;
+
+import io.ebean.meta.MetricType;
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+public class DLatencyHistogramTest {
+
+  @Test
+  public void index_highestValue() {
+
+    for (long value = 0; value < 100_000; value++) {
+      int index = DLatencyHistogram.index(value);
+      assertThat(DLatencyHistogram.highestValue(index)).isGreaterThanOrEqualTo(value);
+      if (index > 0) {
+        assertThat(DLatencyHistogram.highestValue(index - 1)).isLessThan(value);
+      }
+    }
+    assertThat(DLatencyHistogram.index(Long.MAX_VALUE)).isEqualTo(DLatencyHistogram.BUCKETS - 1);
+  }
+
+  @Test
+  public void valueAt() {
+
+    DLatencyHistogram histogram = new DLatencyHistogram();
+    for (int i = 1; i <= 1000; i++) {
+      histogram.record(i);
+    }
+
+    DLatencyHistogram.Snapshot snapshot = histogram.snapshot(false);
+    assertThat(snapshot.getTotal()).isEqualTo(1000);
+    assertThat(snapshot.valueAt(50)).isCloseTo(500L, within(32L));
+    assertThat(snapshot.valueAt(99)).isCloseTo(990L, within(62L));
+    assertThat(snapshot.valueAt(100)).isGreaterThanOrEqualTo(1000L);
+  }
+
+  @Test
+  public void snapshot_reset() {
+
+    DLatencyHistogram histogram = new DLatencyHistogram();
+    histogram.record(10);
+    histogram.record(20);
+
+    assertThat(histogram.snapshot(true).getTotal()).isEqualTo(2);
+    assertThat(histogram.snapshot(false).getTotal()).isEqualTo(0);
+    assertThat(histogram.snapshot(false).valueAt(99)).isEqualTo(0);
+  }
+
+  @Test
+  public void merge() {
+
+    DLatencyHistogram first = new DLatencyHistogram();
+    DLatencyHistogram second = new DLatencyHistogram();
+    for (int i = 0; i < 90; i++) {
+      first.record(5);
+    }
+    for (int i = 0; i < 10; i++) {
+      second.record(5000);
+    }
+
+    DLatencyHistogram.Snapshot merged = first.snapshot(false).merge(second.snapshot(false));
+    assertThat(merged.getTotal()).isEqualTo(100);
+    assertThat(merged.valueAt(50)).isEqualTo(5);
+    assertThat(merged.valueAt(95)).isCloseTo(5000L, within(5000L / 16));
+  }
+
+  @Test
+  public void empty() {
+
+    DLatencyHistogram.Snapshot snapshot = new DLatencyHistogram().snapshot(true);
+    assertThat(snapshot.getTotal()).isEqualTo(0);
+    assertThat(snapshot.valueAt(50)).isEqualTo(0);
+  }
+
+  @Test
+  public void timedMetric_percentiles() {
+
+    DTimedMetric metric = new DTimedMetric(MetricType.ORM, "test");
+    for (int i = 1; i <= 100; i++) {
+      metric.add(i * 10);
+    }
+
+    DTimeMetricStats stats = metric.collect(true);
+    assertThat(stats.getP50()).isCloseTo(500L, within(32L));
+    assertThat(stats.getP99()).isLessThanOrEqualTo(stats.getMax());
+    assertThat(stats.getPercentile(100)).isEqualTo(1000);
+
+    metric.add(7);
+    assertThat(metric.collect(true).getP99()).isEqualTo(7);
+  }
+}
@@ -0,0 +1,60 @@
+package io.ebeaninternal.server.transaction;
+
+import io.ebean.bean.PersistenceContext;
+import org.junit.Test;
+import org.tests.model.basic.Customer;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.StrictAssertions.assertThat;
+
+public class ConcurrentPersistenceContextTest extends DefaultPersistenceContextTest {
+
+  @Override
+  PersistenceContext pc() {
+    return new ConcurrentPersistenceContext();
+  }
+
+  @Test
+  public void putIfAbsent_concurrent_singleInstance() throws Exception {
+
+    PersistenceContext pc = pc();
+    int threads = 4;
+    ExecutorService executor = Executors.newFixedThreadPool(threads);
+    try {
+      CountDownLatch start = new CountDownLatch(1);
+      List<Future<List<Object>>> futures = new ArrayList<>();
+      for (int t = 0; t < threads; t++) {
+        futures.add(executor.submit(() -> {
+          start.await();
+          List<Object> beans = new ArrayList<>();
+          for (int i = 0; i < 1000; i++) {
+            Customer customer = new Customer();
+            Object existing = pc.putIfAbsent(Customer.class, i, customer);
+            beans.add(existing == null ? customer : existing);
+          }
+          return beans;
+        }));
+      }
+      start.countDown();
+
+      List<Object> first = futures.get(0).get();
+      for (Future<List<Object>> future : futures) {
+        List<Object> beans = future.get();
+        for (int i = 0; i < beans.size(); i++) {
+          assertThat(beans.get(i)).isSameAs(first.get(i));
+          assertThat(pc.get(Customer.class, i)).isSameAs(first.get(i));
+        }
+      }
+      assertThat(pc.size(Customer.class)).isEqualTo(1000);
+
+    } finally {
+      executor.shutdown();
+    }
+  }
+}
@@ -0,0 +1,130 @@
+package io.ebeaninternal.server.transaction;
+
+import io.ebeaninternal.api.TxnProfileEventCodes;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.concurrent.CountDownLatch;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ProfileRingBufferTest {
+
+  private DefaultProfileStream stream(ProfileRingBuffer ringBuffer, int profileId) {
+    return new DefaultProfileStream(profileId, true, 0, ringBuffer);
+  }
+
+  @Test
+  public void capacity_roundedUp() {
+    assertThat(new ProfileRingBuffer(4096).capacity()).isEqualTo(4096);
+    assertThat(new ProfileRingBuffer(100).capacity()).isEqualTo(128);
+  }
+
+  @Test
+  public void publish_poll_verboseEvents() {
+
+    ProfileRingBuffer ringBuffer = new ProfileRingBuffer(16);
+
+    DefaultProfileStream stream = stream(ringBuffer, 42);
+    for (int i = 0; i < 6; i++) {
+      stream.addQueryEvent(TxnProfileEventCodes.FIND_MANY, stream.offset(), (short) 3, 10, (short) 7);
+    }
+    stream.addPersistEvent(TxnProfileEventCodes.EVT_INSERT, stream.offset(), (short) 4, 1);
+    stream.addEvent(TxnProfileEventCodes.EVT_COMMIT, stream.offset());
+    stream.end(null);
+
+    ProfileRecord record = new ProfileRecord();
+    assertThat(ringBuffer.poll(record)).isTrue();
+    assertThat(ringBuffer.poll(record)).isFalse();
+
+    TransactionProfile profile = record.toProfile();
+    assertThat(profile.getProfileId()).isEqualTo(42);
+    assertThat(profile.getSummary().queryCount).isEqualTo(6);
+    assertThat(profile.getSummary().queryBeans).isEqualTo(60);
+    assertThat(profile.getSummary().persistOneCount).isEqualTo(1);
+
+    String[] events = profile.getData().split(";");
+    assertThat(events).hasSize(8);
+    assertThat(events[0]).startsWith("fm,").endsWith(",3,10,7");
+    assertThat(events[6]).startsWith("i,").endsWith(",4,1,0");
+    assertThat(events[7]).startsWith("c,");
+  }
+
+  @Test
+  public void full_dropsAndWraps() {
+
+    ProfileRingBuffer ringBuffer = new ProfileRingBuffer(4);
+    ProfileRecord record = new ProfileRecord();
+
+    for (int round = 0; round < 10; round++) {
+      // 2 slots each (summary + 1 event slot)
+      for (int i = 0; i < 3; i++) {
+        DefaultProfileStream stream = stream(ringBuffer, round * 10 + i);
+        stream.addEvent(TxnProfileEventCodes.EVT_COMMIT, stream.offset());
+        stream.end(null);
+      }
+      assertThat(ringBuffer.poll(record)).isTrue();
+      assertThat(record.profileId).isEqualTo(round * 10);
+      assertThat(ringBuffer.poll(record)).isTrue();
+      assertThat(record.profileId).isEqualTo(round * 10 + 1);
+      assertThat(ringBuffer.poll(record)).isFalse();
+    }
+    assertThat(ringBuffer.dropped()).isEqualTo(10);
+  }
+
+  @Test
+  public void concurrentProducers() throws InterruptedException {
+
+    ProfileRingBuffer ringBuffer = new ProfileRingBuffer(1 << 14);
+    int threads = 4;
+    int perThread = 1000;
+    CountDownLatch latch = new CountDownLatch(threads);
+    for (int t = 0; t < threads; t++) {
+      new Thread(() -> {
+        for (int i = 0; i < perThread; i++) {
+          DefaultProfileStream stream = stream(ringBuffer, 1);
+          stream.addQueryEvent(TxnProfileEventCodes.FIND_ONE, stream.offset(), (short) 1, 1, (short) 2);
+          stream.end(null);
+        }
+        latch.countDown();
+      }).start();
+    }
+    latch.await();
+
+    ProfileRecord record = new ProfileRecord();
+    int count = 0;
+    while (ringBuffer.poll(record)) {
+      assertThat(record.eventCount).isEqualTo(1);
+      count++;
+    }
+    assertThat(count + ringBuffer.dropped()).isEqualTo(threads * perThread);
+  }
+
+  @Test
+  public void binary_roundTrip() throws IOException {
+
+    ProfileRingBuffer ringBuffer = new ProfileRingBuffer(16);
+    DefaultProfileStream stream = stream(ringBuffer, 12);
+    stream.addPersistEvent(TxnProfileEventCodes.EVT_SOFT_DELETE, stream.offset(), (short) 5, 3);
+    stream.end(null);
+
+    ProfileRecord record = new ProfileRecord();
+    assertThat(ringBuffer.poll(record)).isTrue();
+    String expected = record.toProfile().getData();
+
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    record.write(new DataOutputStream(bytes));
+
+    ProfileRecord read = new ProfileRecord();
+    DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes.toByteArray()));
+    assertThat(read.read(in)).isTrue();
+    assertThat(read.profileId).isEqualTo(12);
+    assertThat(read.totalMicros).isEqualTo(record.totalMicros);
+    assertThat(read.toProfile().getData()).isEqualTo(expected).startsWith("ds,");
+    assertThat(read.read(in)).isFalse();
+  }
+}
@@ -0,0 +1,125 @@
+package io.ebeaninternal.server.transaction;
+
+import io.ebean.BaseTestCase;
+import io.ebean.Ebean;
+import io.ebean.cache.ServerCache;
+import io.ebeaninternal.api.SpiEbeanServer;
+import io.ebeaninternal.server.cluster.BinaryFrameReader;
+import io.ebeaninternal.server.cluster.BinaryFrameWriter;
+import io.ebeaninternal.server.cluster.BinaryMessage;
+import io.ebeaninternal.server.cluster.BinaryMessageList;
+import io.ebeaninternal.server.core.PersistRequest;
+import org.junit.Test;
+import org.tests.model.basic.Country;
+import org.tests.model.basic.Customer;
+import org.tests.model.basic.EBasicVer;
+
+import java.io.IOException;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class RemoteTransactionEventFrameTest extends BaseTestCase {
+
+  private RemoteTransactionEvent event(SpiEbeanServer server) {
+
+    BeanPersistIds customers = new BeanPersistIds(server.getBeanDescriptor(Customer.class));
+    for (int i = 0; i < 200; i++) {
+      customers.addId(PersistRequest.Type.UPDATE, 1000 + i);
+    }
+    customers.addId(PersistRequest.Type.DELETE, 5);
+
+    BeanPersistIds countries = new BeanPersistIds(server.getBeanDescriptor(Country.class));
+    countries.addId(PersistRequest.Type.INSERT, "NZ");
+
+    RemoteTransactionEvent event = new RemoteTransactionEvent(server.getName());
+    event.addBeanPersistIds(customers);
+    event.addBeanPersistIds(countries);
+    return event;
+  }
+
+  @Test
+  public void writeFrame_readFrame() throws IOException {
+
+    SpiEbeanServer server = spiEbeanServer();
+
+    BinaryFrameWriter writer = new BinaryFrameWriter();
+    for (int i = 0; i < 3; i++) {
+      event(server).writeFrame(writer);
+    }
+    byte[] frame = writer.toFrame();
+
+    try (BinaryFrameReader reader = new BinaryFrameReader(frame)) {
+      for (int i = 0; i < 3; i++) {
+        RemoteTransactionEvent read = RemoteTransactionEvent.readFrame(server, reader);
+        List<BeanPersistIds> persistList = read.getBeanPersistList();
+        assertThat(persistList).hasSize(2);
+
+        BeanPersistIds customers = persistList.get(0);
+        assertThat(customers.getBeanDescriptor().getBeanType()).isEqualTo(Customer.class);
+        assertThat(customers.getDeleteIds()).containsExactly(5);
+        assertThat(customers.toString()).contains("1000, 1001").contains("1199");
+
+        BeanPersistIds countries = persistList.get(1);
+        assertThat(countries.toString()).contains("insertIds:[NZ]");
+      }
+    }
+  }
+
+  @Test
+  public void writeFrame_readFrame_updateVersions() throws IOException {
+
+    SpiEbeanServer server = spiEbeanServer();
+
+    EBasicVer bean = new EBasicVer("remoteVersion");
+    Ebean.save(bean);
+    // load into the bean cache
+    Ebean.find(EBasicVer.class, bean.getId());
+    ServerCache beanCache = Ebean.getServerCacheManager().getBeanCache(EBasicVer.class);
+    assertThat(beanCache.get(bean.getId())).isNotNull();
+
+    long version = bean.getLastUpdate().getTime();
+
+    // remote update at the same version as the cached bean so keep it
+    BeanPersistIds sameVersion = readBack(server, bean.getId(), version);
+    sameVersion.notifyCacheAndListener();
+    assertThat(beanCache.get(bean.getId())).isNotNull();
+
+    // remote update is newer than the cached bean so remove it
+    BeanPersistIds newerVersion = readBack(server, bean.getId(), version + 1);
+    newerVersion.notifyCacheAndListener();
+    assertThat(beanCache.get(bean.getId())).isNull();
+  }
+
+  private BeanPersistIds readBack(SpiEbeanServer server, Integer id, long version) throws IOException {
+
+    BeanPersistIds ids = new BeanPersistIds(server.getBeanDescriptor(EBasicVer.class));
+    ids.addId(PersistRequest.Type.UPDATE, id, version);
+
+    BinaryFrameWriter writer = new BinaryFrameWriter();
+    ids.writeFrame(writer);
+    try (BinaryFrameReader reader = new BinaryFrameReader(writer.toFrame())) {
+      return BeanPersistIds.readFrame(server, reader);
+    }
+  }
+
+  @Test
+  public void writeFrame_smallerThanBinaryMessages() throws IOException {
+
+    SpiEbeanServer server = spiEbeanServer();
+
+    BinaryMessageList messageList = new BinaryMessageList();
+    BinaryFrameWriter writer = new BinaryFrameWriter();
+    for (int i = 0; i < 10; i++) {
+      RemoteTransactionEvent event = event(server);
+      event.writeBinaryMessage(messageList);
+      event.writeFrame(writer);
+    }
+
+    int messageBytes = 0;
+    for (BinaryMessage message : messageList.getList()) {
+      messageBytes += message.getByteArray().length;
+    }
+    assertThat(writer.toFrame().length).isLessThan(messageBytes / 4);
+  }
+}
@@ -0,0 +1,131 @@
+package org.tests.batchinsert;
+
+import io.ebean.BaseTestCase;
+import io.ebean.Ebean;
+import io.ebean.Transaction;
+import io.ebean.config.dbplatform.DatabasePlatform;
+import io.ebeaninternal.api.SpiTransaction;
+import org.ebeantest.LoggedSqlCollector;
+import org.junit.Test;
+import org.tests.model.basic.EBasic;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class TestBatchInsertMultiRow extends BaseTestCase {
+
+  @Test
+  public void saveAll_multiRow() {
+
+    String prefix = "multiRow-" + System.nanoTime() + "-";
+    List<EBasic> beans = beans(prefix, 250);
+
+    DatabasePlatform platform = server().getDatabasePlatform();
+    int max = platform.getMultiRowInsertMax();
+    platform.setMultiRowInsertMax(100);
+    try (Transaction transaction = Ebean.beginTransaction()) {
+      transaction.setBatchGetGeneratedKeys(false);
+      Ebean.saveAll(beans, transaction);
+      transaction.commit();
+    } finally {
+      platform.setMultiRowInsertMax(max);
+    }
+
+    int count = Ebean.find(EBasic.class).where().startsWith("name", prefix).findCount();
+    assertThat(count).isEqualTo(250);
+  }
+
+  @Test
+  public void insertAll_multiRow_generatedKeys() {
+
+    String prefix = "multiRowKeys-" + System.nanoTime() + "-";
+    List<EBasic> beans = beans(prefix, 120);
+
+    DatabasePlatform platform = server().getDatabasePlatform();
+    int max = platform.getMultiRowInsertMax();
+    platform.setMultiRowInsertMax(50);
+    try {
+      Ebean.insertAll(beans);
+    } finally {
+      platform.setMultiRowInsertMax(max);
+    }
+
+    // ids set via multi-row insert or by fallback to JDBC batch
+    for (EBasic bean : beans) {
+      assertThat(bean.getId()).isNotNull();
+    }
+    int count = Ebean.find(EBasic.class).where().startsWith("name", prefix).findCount();
+    assertThat(count).isEqualTo(120);
+  }
+
+  @Test
+  public void batchMode_multiRowOnlyForSaveAll() {
+
+    String prefix = "multiRowBatch-" + System.nanoTime() + "-";
+    List<EBasic> beans = beans(prefix, 20);
+
+    DatabasePlatform platform = server().getDatabasePlatform();
+    int max = platform.getMultiRowInsertMax();
+    platform.setMultiRowInsertMax(10);
+    try (Transaction transaction = Ebean.beginTransaction()) {
+      transaction.setBatchMode(true);
+      Ebean.saveAll(beans, transaction);
+
+      // other batched inserts use JDBC batch
+      assertThat(((SpiTransaction) transaction).getBatchControl().isMultiRowInsert()).isFalse();
+      Ebean.save(new EBasic(prefix + "single"), transaction);
+      transaction.commit();
+    } finally {
+      platform.setMultiRowInsertMax(max);
+    }
+
+    int count = Ebean.find(EBasic.class).where().startsWith("name", prefix).findCount();
+    assertThat(count).isEqualTo(21);
+  }
+
+  @Test
+  public void insertSql_columnsAndValues() {
+
+    String prefix = "multiRowSql-" + System.nanoTime() + "-";
+    List<EBasic> beans = beans(prefix, 3);
+
+    DatabasePlatform platform = server().getDatabasePlatform();
+    int max = platform.getMultiRowInsertMax();
+    platform.setMultiRowInsertMax(10);
+    LoggedSqlCollector.start();
+    try (Transaction transaction = Ebean.beginTransaction()) {
+      transaction.setBatchGetGeneratedKeys(false);
+      Ebean.save(new EBasic(prefix + "single"), transaction);
+      Ebean.saveAll(beans, transaction);
+      transaction.commit();
+    } finally {
+      platform.setMultiRowInsertMax(max);
+    }
+
+    List<String> sql = LoggedSqlCollector.stop();
+    int inserts = 0;
+    for (String insert : sql) {
+      if (insert.contains("insert into e_basic")) {
+        inserts++;
+        assertThat(insert).containsPattern("insert into e_basic \\([a-z_, ]+\\) values \\(\\?(,\\?)*\\)");
+      }
+    }
+    assertThat(inserts).isGreaterThan(0);
+    assertThat(Ebean.find(EBasic.class).where().startsWith("name", prefix).findCount()).isEqualTo(4);
+  }
+
+  @Test
+  public void defaultPlatform_multiRowNotUsed() {
+    assertThat(new DatabasePlatform().getMultiRowInsertMax()).isEqualTo(0);
+  }
+
+  private List<EBasic> beans(String prefix, int count) {
+    List<EBasic> beans = new ArrayList<>(count);
+    for (int i = 0; i < count; i++) {
+      beans.add(new EBasic(prefix + i));
+    }
+    return beans;
+  }
+}
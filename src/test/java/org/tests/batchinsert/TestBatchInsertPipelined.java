@@ -0,0 +1,86 @@
+package org.tests.batchinsert;
+
+import io.ebean.BaseTestCase;
+import io.ebean.Ebean;
+import io.ebean.Transaction;
+import io.ebean.annotation.PersistBatch;
+import org.junit.Test;
+import org.tests.model.basic.EBasic;
+import org.tests.model.basic.EBasicVer;
+
+import javax.persistence.PersistenceException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class TestBatchInsertPipelined extends BaseTestCase {
+
+  @Test
+  public void insert_pipelined() {
+
+    String prefix = "pipelined-" + System.nanoTime() + "-";
+    insert(prefix, 1000, true);
+
+    int count = Ebean.find(EBasic.class).where().startsWith("name", prefix).findCount();
+    assertThat(count).isEqualTo(1000);
+  }
+
+  @Test
+  public void insert_pipelined_rollback() {
+
+    String prefix = "pipelinedRollback-" + System.nanoTime() + "-";
+    insert(prefix, 500, false);
+
+    int count = Ebean.find(EBasic.class).where().startsWith("name", prefix).findCount();
+    assertThat(count).isEqualTo(0);
+  }
+
+  @Test
+  public void update_pipelined_optimisticLock_beanNotPostExecuted() {
+
+    EBasicVer bean = new EBasicVer("pipelinedLock");
+    Ebean.save(bean);
+
+    EBasicVer first = Ebean.find(EBasicVer.class, bean.getId());
+    EBasicVer stale = Ebean.find(EBasicVer.class, bean.getId());
+    first.setDescription("first");
+    Ebean.save(first);
+
+    Transaction transaction = Ebean.beginTransaction();
+    try {
+      transaction.setBatch(PersistBatch.ALL);
+      transaction.setBatchSize(1);
+      transaction.setBatchPipelined(true);
+
+      stale.setDescription("stale");
+      Ebean.save(stale);
+      assertThatThrownBy(transaction::commit).isInstanceOf(PersistenceException.class);
+    } finally {
+      transaction.end();
+    }
+
+    // post execute only occurs after the row counts are checked
+    assertThat(Ebean.getBeanState(stale).isDirty()).isTrue();
+    assertThat(Ebean.find(EBasicVer.class, bean.getId()).getDescription()).isEqualTo("first");
+  }
+
+  private void insert(String prefix, int rows, boolean commit) {
+
+    Transaction transaction = Ebean.beginTransaction();
+    try {
+      transaction.setBatch(PersistBatch.ALL);
+      transaction.setBatchSize(50);
+      transaction.setBatchGetGeneratedKeys(false);
+      transaction.setBatchPipelined(true);
+
+      for (int i = 0; i < rows; i++) {
+        Ebean.save(new EBasic(prefix + i));
+      }
+      if (commit) {
+        transaction.commit();
+      }
+    } finally {
+      transaction.end();
+    }
+  }
+}
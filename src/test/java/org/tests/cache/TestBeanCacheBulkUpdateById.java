@@ -0,0 +1,82 @@
+package org.tests.cache;
+
+import io.ebean.BaseTestCase;
+import io.ebean.Ebean;
+import org.ebeantest.LoggedSqlCollector;
+import org.junit.Test;
+import org.tests.model.basic.OCachedBean;
+
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Update and delete queries by id only remove those beans from the bean cache.
+ */
+public class TestBeanCacheBulkUpdateById extends BaseTestCase {
+
+  private OCachedBean insertAndLoad(String name) {
+    OCachedBean bean = new OCachedBean();
+    bean.setName(name);
+    Ebean.save(bean);
+    // load into the bean cache
+    Ebean.find(OCachedBean.class, bean.getId());
+    return bean;
+  }
+
+  private List<String> find(Long id) {
+    LoggedSqlCollector.start();
+    Ebean.find(OCachedBean.class, id);
+    return LoggedSqlCollector.stop();
+  }
+
+  @Test
+  public void updateByIdIn_removesOnlyThoseIds() {
+
+    OCachedBean bean0 = insertAndLoad("bulkById0");
+    OCachedBean bean1 = insertAndLoad("bulkById1");
+    assertThat(find(bean0.getId())).isEmpty();
+    assertThat(find(bean1.getId())).isEmpty();
+
+    int rows = Ebean.update(OCachedBean.class)
+      .set("name", "bulkById0-mod")
+      .where().idIn(Collections.singletonList(bean0.getId()))
+      .update();
+    assertThat(rows).isEqualTo(1);
+
+    // removed from the bean cache
+    assertThat(find(bean0.getId())).isNotEmpty();
+    // still in the bean cache
+    assertThat(find(bean1.getId())).isEmpty();
+  }
+
+  @Test
+  public void deleteByIdEq_removesOnlyThatId() {
+
+    OCachedBean bean0 = insertAndLoad("bulkById2");
+    OCachedBean bean1 = insertAndLoad("bulkById3");
+
+    int rows = Ebean.find(OCachedBean.class).where().idEq(bean0.getId()).delete();
+    assertThat(rows).isEqualTo(1);
+
+    assertThat(find(bean0.getId())).isNotEmpty();
+    assertThat(find(bean1.getId())).isEmpty();
+  }
+
+  @Test
+  public void updateByPredicate_clearsBeanCache() {
+
+    OCachedBean bean0 = insertAndLoad("bulkById4");
+    OCachedBean bean1 = insertAndLoad("bulkById5");
+
+    int rows = Ebean.update(OCachedBean.class)
+      .set("name", "bulkById4-mod")
+      .where().eq("name", "bulkById4")
+      .update();
+    assertThat(rows).isEqualTo(1);
+
+    assertThat(find(bean0.getId())).isNotEmpty();
+    assertThat(find(bean1.getId())).isNotEmpty();
+  }
+}
@@ -0,0 +1,77 @@
+package org.tests.cache;
+
+import io.ebean.BaseTestCase;
+import io.ebean.Ebean;
+import io.ebean.cache.ServerCache;
+import io.ebean.cache.ServerCacheStatistics;
+import org.junit.Test;
+import org.tests.model.basic.OCachedBean;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class TestBeanCacheSingleFlight extends BaseTestCase {
+
+  private ServerCache beanCache() {
+    return Ebean.getServerCacheManager().getBeanCache(OCachedBean.class);
+  }
+
+  private OCachedBean insert(String name) {
+    OCachedBean bean = new OCachedBean();
+    bean.setName(name);
+    Ebean.save(bean);
+    beanCache().clear();
+    beanCache().getStatistics(true);
+    return bean;
+  }
+
+  @Test
+  public void findById_miss_loadedOnce() {
+
+    OCachedBean bean = insert("singleFlight0");
+
+    assertThat(Ebean.find(OCachedBean.class, bean.getId())).isNotNull();
+    assertThat(Ebean.find(OCachedBean.class, bean.getId())).isNotNull();
+
+    ServerCacheStatistics statistics = beanCache().getStatistics(false);
+    assertThat(statistics.getLoadCount()).isEqualTo(1);
+    assertThat(statistics.getCoalescedLoadCount()).isEqualTo(0);
+  }
+
+  @Test
+  public void findById_concurrentMiss() throws InterruptedException {
+
+    OCachedBean bean = insert("singleFlight1");
+
+    int threadCount = 8;
+    CyclicBarrier barrier = new CyclicBarrier(threadCount);
+    AtomicInteger found = new AtomicInteger();
+    List<Thread> threads = new ArrayList<>();
+    for (int i = 0; i < threadCount; i++) {
+      Thread thread = new Thread(() -> {
+        try {
+          barrier.await();
+          if (Ebean.find(OCachedBean.class, bean.getId()) != null) {
+            found.incrementAndGet();
+          }
+        } catch (Exception e) {
+          throw new RuntimeException(e);
+        }
+      });
+      thread.start();
+      threads.add(thread);
+    }
+    for (Thread thread : threads) {
+      thread.join();
+    }
+
+    assertThat(found.get()).isEqualTo(threadCount);
+    ServerCacheStatistics statistics = beanCache().getStatistics(false);
+    assertThat(statistics.getLoadCount()).isBetween(1L, (long) threadCount);
+    assertThat(statistics.getLoadCount() + statistics.getCoalescedLoadCount()).isLessThanOrEqualTo(threadCount);
+  }
+}
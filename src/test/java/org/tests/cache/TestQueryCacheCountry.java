@@ -95,8 +95,9 @@ public class TestQueryCacheCountry extends BaseTestCase {
     Ebean.save(nz);
     awaitL2Cache();
 
+    // entry is not cleared eagerly but invalidated (by table) on read
     statistics = queryCache.getStatistics(false);
-    assertEquals(0, statistics.getSize());
+    assertEquals(1, statistics.getSize());
 
     List<Country> countryList2 = Ebean.find(Country.class)
       .setUseQueryCache(true)
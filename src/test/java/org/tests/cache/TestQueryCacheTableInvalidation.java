@@ -0,0 +1,110 @@
+package org.tests.cache;
+
+import io.ebean.BaseTestCase;
+import io.ebean.Ebean;
+import org.junit.Test;
+import org.tests.model.basic.Address;
+import org.tests.model.basic.Customer;
+import org.tests.model.basic.EBasic;
+import org.tests.model.basic.Order;
+import org.tests.model.basic.ResetBasicData;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class TestQueryCacheTableInvalidation extends BaseTestCase {
+
+  private List<Customer> findWithBillingAddress() {
+    return Ebean.find(Customer.class)
+      .setUseQueryCache(true)
+      .fetch("billingAddress")
+      .where().isNotNull("billingAddress")
+      .order().asc("id")
+      .findList();
+  }
+
+  private List<Customer> findWithOrderSubQuery() {
+    return Ebean.find(Customer.class)
+      .setUseQueryCache(true)
+      .where().in("id", Ebean.find(Order.class).select("customer.id").where().eq("status", Order.Status.NEW).query())
+      .order().asc("id")
+      .findList();
+  }
+
+  private int countByCity(String city) {
+    return Ebean.find(Customer.class)
+      .setUseQueryCache(true)
+      .where().eq("billingAddress.city", city)
+      .findCount();
+  }
+
+  @Test
+  public void joinedTable_update_invalidates() {
+
+    ResetBasicData.reset();
+
+    List<Customer> list0 = findWithBillingAddress();
+    List<Customer> list1 = findWithBillingAddress();
+    assertThat(list1).isSameAs(list0);
+
+    Address address = Ebean.find(Address.class, list0.get(0).getBillingAddress().getId());
+    String city = address.getCity();
+    address.setCity("QueryCacheTable");
+    Ebean.save(address);
+    awaitL2Cache();
+
+    List<Customer> list2 = findWithBillingAddress();
+    assertThat(list2).isNotSameAs(list0);
+    assertThat(list2.get(0).getBillingAddress().getCity()).isEqualTo("QueryCacheTable");
+
+    address.setCity(city);
+    Ebean.save(address);
+  }
+
+  @Test
+  public void joinedTable_findCount_invalidatedBySqlUpdate() {
+
+    ResetBasicData.reset();
+
+    int count0 = countByCity("Auckland");
+    assertThat(countByCity("Auckland")).isEqualTo(count0);
+
+    Ebean.createSqlUpdate("update o_address set city = 'QueryCacheCount' where city = 'Auckland'").execute();
+    awaitL2Cache();
+    assertThat(countByCity("Auckland")).isEqualTo(0);
+
+    Ebean.createSqlUpdate("update o_address set city = 'Auckland' where city = 'QueryCacheCount'").execute();
+    awaitL2Cache();
+    assertThat(countByCity("Auckland")).isEqualTo(count0);
+  }
+
+  @Test
+  public void unrelatedTable_change_retainsEntry() {
+
+    ResetBasicData.reset();
+
+    List<Customer> list0 = findWithBillingAddress();
+
+    Ebean.save(new EBasic("queryCacheUnrelated"));
+    awaitL2Cache();
+
+    List<Customer> list1 = findWithBillingAddress();
+    assertThat(list1).isSameAs(list0);
+  }
+
+  @Test
+  public void subQueryTable_update_invalidates() {
+
+    ResetBasicData.reset();
+
+    List<Customer> list0 = findWithOrderSubQuery();
+    assertThat(findWithOrderSubQuery()).isSameAs(list0);
+
+    // o_order is only reached through the subquery so the entry depends on any table change
+    Ebean.createSqlUpdate("update o_order set status = status").execute();
+    awaitL2Cache();
+
+    assertThat(findWithOrderSubQuery()).isNotSameAs(list0);
+  }
+}
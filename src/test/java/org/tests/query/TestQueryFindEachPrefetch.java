@@ -0,0 +1,91 @@
+package org.tests.query;
+
+import io.ebean.BaseTestCase;
+import io.ebean.Ebean;
+import io.ebean.FetchConfig;
+import io.ebean.Query;
+import io.ebeaninternal.api.SpiQuery;
+import org.junit.Test;
+import org.tests.model.basic.Order;
+import org.tests.model.basic.ResetBasicData;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class TestQueryFindEachPrefetch extends BaseTestCase {
+
+  private Query<Order> query() {
+    return Ebean.find(Order.class)
+      .fetch("customer", "name", new FetchConfig().query(2))
+      .fetch("details", new FetchConfig().query(2))
+      .setDisableLazyLoading(true)
+      .order().asc("id");
+  }
+
+  @Test
+  public void findEach() {
+
+    ResetBasicData.reset();
+
+    List<Order> expected = query().findList();
+    List<Order> orders = new ArrayList<>();
+    query().setIteratePrefetch(true).findEach(order -> {
+      assertThat(order.getCustomer().getName()).isNotNull();
+      orders.add(order);
+    });
+
+    assertThat(orders).hasSize(expected.size());
+    for (int i = 0; i < orders.size(); i++) {
+      Order order = orders.get(i);
+      Order expectedOrder = expected.get(i);
+      assertThat(order.getId()).isEqualTo(expectedOrder.getId());
+      assertThat(order.getCustomer().getName()).isEqualTo(expectedOrder.getCustomer().getName());
+      assertThat(order.getDetails()).hasSize(expectedOrder.getDetails().size());
+    }
+  }
+
+  @Test
+  public void findEachWhile_stopEarly() {
+
+    ResetBasicData.reset();
+
+    int[] count = new int[1];
+    query().setIteratePrefetch(true).findEachWhile(order -> ++count[0] < 3);
+
+    assertThat(count[0]).isEqualTo(3);
+  }
+
+  @Test
+  public void findEach_noSecondaryQueries() {
+
+    ResetBasicData.reset();
+
+    int expected = Ebean.find(Order.class).findCount();
+    int[] count = new int[1];
+    Ebean.find(Order.class).setLazyLoadBatchSize(2).setDisableLazyLoading(true)
+      .setIteratePrefetch(true).findEach(order -> count[0]++);
+
+    assertThat(count[0]).isEqualTo(expected);
+  }
+
+  @Test
+  public void findEach_lazyLoadingEnabled_noPrefetch() {
+
+    ResetBasicData.reset();
+
+    Query<Order> query = Ebean.find(Order.class)
+      .fetch("customer", "name", new FetchConfig().query(2))
+      .setIteratePrefetch(true);
+    assertThat(((SpiQuery<Order>) query).isIteratePrefetch()).isFalse();
+
+    int expected = Ebean.find(Order.class).findCount();
+    int[] count = new int[1];
+    query.findEach(order -> {
+      assertThat(order.getCustomer().getName()).isNotNull();
+      count[0]++;
+    });
+    assertThat(count[0]).isEqualTo(expected);
+  }
+}
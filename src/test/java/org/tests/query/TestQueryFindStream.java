@@ -0,0 +1,92 @@
+package org.tests.query;
+
+import io.ebean.BaseTestCase;
+import io.ebean.Ebean;
+import io.ebean.plugin.SpiServer;
+import org.avaje.datasource.DataSourcePool;
+import org.junit.Test;
+import org.tests.model.basic.Customer;
+import org.tests.model.basic.Order;
+import org.tests.model.basic.ResetBasicData;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class TestQueryFindStream extends BaseTestCase {
+
+  private DataSourcePool dataSourcePool() {
+    SpiServer pluginApi = server().getPluginApi();
+    DataSourcePool dsPool = (DataSourcePool) pluginApi.getServerConfig().getReadOnlyDataSource();
+    if (dsPool == null) {
+      dsPool = (DataSourcePool) pluginApi.getDataSource();
+    }
+    return dsPool;
+  }
+
+  @Test
+  public void findStream() {
+
+    ResetBasicData.reset();
+
+    List<Integer> expected = Ebean.find(Order.class).order().asc("id").findIds();
+
+    try (Stream<Order> orders = Ebean.find(Order.class).order().asc("id").findStream()) {
+      List<Integer> ids = orders.map(Order::getId).collect(Collectors.toList());
+      assertThat(ids).isEqualTo(expected);
+    }
+  }
+
+  @Test
+  public void findStream_parallel() {
+
+    ResetBasicData.reset();
+
+    List<String> expected = Ebean.find(Customer.class).order().asc("id").findList()
+      .stream().map(Customer::getName).collect(Collectors.toList());
+
+    try (Stream<Customer> customers = Ebean.find(Customer.class).order().asc("id").findStream()) {
+      List<String> names = customers.parallel()
+        .map(Customer::getName)
+        .collect(Collectors.toList());
+
+      // ordered stream so the encounter order is maintained
+      assertThat(names).isEqualTo(expected);
+    }
+  }
+
+  @Test
+  public void findStream_closeEarly_releasesConnection() {
+
+    ResetBasicData.reset();
+
+    DataSourcePool dsPool = dataSourcePool();
+    int startConns = dsPool.getStatus(false).getBusy();
+
+    Optional<Customer> first;
+    try (Stream<Customer> customers = Ebean.find(Customer.class).order().asc("id").findStream()) {
+      first = customers.filter(customer -> customer.getName() != null).findFirst();
+      assertThat(dsPool.getStatus(false).getBusy()).isEqualTo(startConns + 1);
+    }
+
+    assertThat(first).isPresent();
+    assertThat(dsPool.getStatus(false).getBusy()).isEqualTo(startConns);
+  }
+
+  @Test
+  public void findStream_consumed_releasesConnection() {
+
+    ResetBasicData.reset();
+
+    DataSourcePool dsPool = dataSourcePool();
+    int startConns = dsPool.getStatus(false).getBusy();
+
+    long count = Ebean.find(Customer.class).findStream().count();
+
+    assertThat(count).isEqualTo(Ebean.find(Customer.class).findCount());
+    assertThat(dsPool.getStatus(false).getBusy()).isEqualTo(startConns);
+  }
+}
@@ -0,0 +1,58 @@
+package org.tests.query;
+
+import io.ebean.BaseTestCase;
+import io.ebean.Ebean;
+import io.ebean.FetchConfig;
+import io.ebean.Query;
+import org.junit.Test;
+import org.tests.model.basic.Order;
+import org.tests.model.basic.ResetBasicData;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class TestQueryParallelSecondaryQueries extends BaseTestCase {
+
+  private Query<Order> query() {
+    return Ebean.find(Order.class)
+      .fetch("customer", "name", new FetchConfig().query())
+      .fetch("details", new FetchConfig().query())
+      .fetch("shipments", new FetchConfig().query())
+      .order().asc("id");
+  }
+
+  @Test
+  public void test() {
+
+    ResetBasicData.reset();
+
+    List<Order> expected = query().findList();
+    List<Order> orders = query().setParallelSecondaryQueries(true).findList();
+
+    assertThat(orders).hasSize(expected.size());
+    for (int i = 0; i < orders.size(); i++) {
+      Order order = orders.get(i);
+      Order expectedOrder = expected.get(i);
+      assertThat(order.getId()).isEqualTo(expectedOrder.getId());
+      assertThat(order.getCustomer().getName()).isEqualTo(expectedOrder.getCustomer().getName());
+      assertThat(order.getDetails()).hasSize(expectedOrder.getDetails().size());
+      assertThat(order.getShipments()).hasSize(expectedOrder.getShipments().size());
+    }
+  }
+
+  @Test
+  public void test_findEach() {
+
+    ResetBasicData.reset();
+
+    int expected = query().findCount();
+    int[] count = new int[1];
+    query().setParallelSecondaryQueries(true).findEach(order -> {
+      assertThat(order.getCustomer().getName()).isNotNull();
+      count[0]++;
+    });
+
+    assertThat(count[0]).isEqualTo(expected);
+  }
+}
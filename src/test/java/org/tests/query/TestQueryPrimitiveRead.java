@@ -0,0 +1,48 @@
+package org.tests.query;
+
+import io.ebean.BaseTestCase;
+import io.ebean.Ebean;
+import io.ebeaninternal.server.deploy.BeanDescriptor;
+import org.junit.Test;
+import org.tests.model.tevent.TEventMany;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class TestQueryPrimitiveRead extends BaseTestCase {
+
+  @Test
+  public void primitiveProperties_readWithoutBoxing() {
+
+    BeanDescriptor<TEventMany> desc = getBeanDescriptor(TEventMany.class);
+    assertThat(desc.findProperty("units").isPrimitiveRead()).isTrue();
+    assertThat(desc.findProperty("amount").isPrimitiveRead()).isTrue();
+    assertThat(desc.findProperty("description").isPrimitiveRead()).isFalse();
+    assertThat(desc.findProperty("version").isPrimitiveRead()).isFalse();
+  }
+
+  @Test
+  public void findList_primitiveValues() {
+
+    String description = "primitive-" + System.nanoTime();
+    TEventMany bean = new TEventMany(description, 123456, 98765.25);
+    Ebean.save(bean);
+
+    TEventMany found = Ebean.find(TEventMany.class, bean.getId());
+    assertThat(found.getUnits()).isEqualTo(123456);
+    assertThat(found.getAmount()).isEqualTo(98765.25);
+
+    List<TEventMany> list = Ebean.find(TEventMany.class)
+      .where().eq("description", description)
+      .findList();
+
+    assertThat(list).hasSize(1);
+    assertThat(list.get(0).getUnits()).isEqualTo(123456);
+    assertThat(list.get(0).getAmount()).isEqualTo(98765.25);
+
+    // loaded values are not dirty
+    found.setDescription(description + "-mod");
+    assertThat(Ebean.getBeanState(found).getDirtyProperties()).containsOnly("description");
+  }
+}
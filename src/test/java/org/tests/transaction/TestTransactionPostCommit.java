@@ -0,0 +1,138 @@
+package org.tests.transaction;
+
+import io.ebean.BaseTestCase;
+import io.ebean.Ebean;
+import io.ebean.EbeanServer;
+import io.ebean.EbeanServerFactory;
+import io.ebean.cache.ServerCache;
+import io.ebean.config.ContainerConfig;
+import io.ebean.config.ServerConfig;
+import io.ebean.meta.MetaPostCommit;
+import io.ebeaninternal.server.cache.DefaultServerCachePlugin;
+import org.junit.Test;
+import org.tests.model.basic.EBasic;
+import org.tests.model.cache.EColAB;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class TestTransactionPostCommit extends BaseTestCase {
+
+  private MetaPostCommit statistics(boolean reset) {
+    return server().getMetaInfoManager().collectPostCommitStatistics(reset);
+  }
+
+  @Test
+  public void concurrentCommits_coalesced() throws InterruptedException {
+
+    statistics(true);
+
+    int threadCount = 4;
+    int commitsPerThread = 50;
+    List<Thread> threads = new ArrayList<>();
+    for (int t = 0; t < threadCount; t++) {
+      final int threadId = t;
+      Thread thread = new Thread(() -> {
+        for (int i = 0; i < commitsPerThread; i++) {
+          Ebean.save(new EBasic("postCommit" + threadId + "-" + i));
+        }
+      });
+      thread.start();
+      threads.add(thread);
+    }
+    for (Thread thread : threads) {
+      thread.join();
+    }
+
+    int expected = threadCount * commitsPerThread;
+    MetaPostCommit statistics = statistics(false);
+    for (int i = 0; i < 100 && statistics.getCommitCount() < expected; i++) {
+      Thread.sleep(50);
+      statistics = statistics(false);
+    }
+
+    assertThat(statistics.getCommitCount()).isGreaterThanOrEqualTo(expected);
+    assertThat(statistics.getBatchCount()).isBetween(1L, statistics.getCommitCount());
+    assertThat(statistics.getMaxBatchSize()).isGreaterThanOrEqualTo(1);
+    assertThat(statistics.getQueueDepth()).isGreaterThanOrEqualTo(0);
+
+    statistics(true);
+    assertThat(statistics(false).getCommitCount()).isEqualTo(0);
+  }
+
+  @Test
+  public void queueFull_cacheChangesAppliedInCommitOrder() throws InterruptedException {
+
+    EbeanServer server = createServer();
+    try {
+      EColAB bean = new EColAB("a", "b");
+      server.save(bean);
+
+      // load into the bean cache
+      ServerCache beanCache = server.getServerCacheManager().getBeanCache(EColAB.class);
+      waitForPostCommit(server, 1);
+      server.find(EColAB.class, bean.getId());
+      assertThat(beanCache.size()).isEqualTo(1);
+
+      // the queue (capacity 1) fills such that committing threads wait
+      int updates = 200;
+      for (int i = 0; i < updates; i++) {
+        bean.setColumnA("a" + i);
+        server.save(bean);
+      }
+      MetaPostCommit statistics = waitForPostCommit(server, updates + 1);
+      assertThat(statistics.getQueueFullCount()).isGreaterThan(0);
+
+      // the bean cache holds the newest value
+      assertThat(beanCache.size()).isEqualTo(1);
+      EColAB found = server.find(EColAB.class, bean.getId());
+      assertThat(found.getColumnA()).isEqualTo("a" + (updates - 1));
+
+    } finally {
+      server.shutdown(true, false);
+    }
+  }
+
+  private MetaPostCommit waitForPostCommit(EbeanServer server, int commits) throws InterruptedException {
+    MetaPostCommit statistics = server.getMetaInfoManager().collectPostCommitStatistics(false);
+    for (int i = 0; i < 100 && statistics.getCommitCount() < commits; i++) {
+      Thread.sleep(50);
+      statistics = server.getMetaInfoManager().collectPostCommitStatistics(false);
+    }
+    return statistics;
+  }
+
+  private EbeanServer createServer() {
+
+    System.setProperty("ebean.ignoreExtraDdl", "true");
+
+    ServerConfig config = new ServerConfig();
+    config.setName("postCommitOrder");
+
+    Properties properties = new Properties();
+    properties.setProperty("datasource.postCommitOrder.username", "sa");
+    properties.setProperty("datasource.postCommitOrder.password", "");
+    properties.setProperty("datasource.postCommitOrder.databaseUrl", "jdbc:h2:mem:postCommitOrder;");
+    properties.setProperty("datasource.postCommitOrder.databaseDriver", "org.h2.Driver");
+
+    config.loadFromProperties(properties);
+    config.setContainerConfig(new ContainerConfig());
+    config.setDefaultServer(false);
+    config.setRegister(false);
+    config.setDdlGenerate(true);
+    config.setDdlRun(true);
+
+    // L2 cache changes applied in the background by several workers with a small queue
+    config.setServerCachePlugin(new DefaultServerCachePlugin());
+    config.setPostCommitWorkers(4);
+    config.setPostCommitQueueCapacity(1);
+    config.addClass(EColAB.class);
+
+    EbeanServer server = EbeanServerFactory.create(config);
+    System.clearProperty("ebean.ignoreExtraDdl");
+    return server;
+  }
+}
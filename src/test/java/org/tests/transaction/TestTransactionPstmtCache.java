@@ -0,0 +1,115 @@
+package org.tests.transaction;
+
+import io.ebean.BaseTestCase;
+import io.ebean.DuplicateKeyException;
+import io.ebean.Ebean;
+import io.ebean.Transaction;
+import io.ebean.meta.MetaPstmtCache;
+import org.junit.Test;
+import org.tests.model.basic.EBasic;
+import org.tests.model.draftable.Document;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.Assert.fail;
+
+public class TestTransactionPstmtCache extends BaseTestCase {
+
+  private List<EBasic> insert(String prefix) {
+    List<EBasic> beans = new ArrayList<>();
+    for (int i = 0; i < 3; i++) {
+      beans.add(new EBasic(prefix + i));
+    }
+    Ebean.saveAll(beans);
+    return beans;
+  }
+
+  private MetaPstmtCache statistics() {
+    return server().getMetaInfoManager().collectPstmtCacheStatistics(true);
+  }
+
+  @Test
+  public void findByIdAndUpdate_reuseStatements() {
+
+    List<EBasic> beans = insert("pstmtCache");
+    statistics();
+
+    try (Transaction txn = Ebean.beginTransaction()) {
+      txn.setBatchMode(false);
+      for (EBasic bean : beans) {
+        EBasic found = Ebean.find(EBasic.class, bean.getId());
+        assertThat(found.getName()).isEqualTo(bean.getName());
+        found.setDescription("reuse");
+        Ebean.update(found);
+      }
+      txn.commit();
+    }
+
+    MetaPstmtCache statistics = statistics();
+    assertThat(statistics.getHitCount()).isGreaterThanOrEqualTo(4);
+    assertThat(statistics.getHitRatio()).isGreaterThan(0);
+
+    for (EBasic bean : beans) {
+      assertThat(Ebean.find(EBasic.class, bean.getId()).getDescription()).isEqualTo("reuse");
+    }
+  }
+
+  @Test
+  public void findEach_nestedQueryWithSameSql() {
+
+    String prefix = "pstmtNested" + System.nanoTime();
+    insert(prefix);
+
+    List<Integer> nestedCounts = new ArrayList<>();
+    try (Transaction txn = Ebean.beginTransaction()) {
+      Ebean.find(EBasic.class).where().startsWith("name", prefix).findEach(bean -> {
+        // same sql while the outer statement is in use
+        int count = Ebean.find(EBasic.class).where().startsWith("name", prefix).findList().size();
+        nestedCounts.add(count);
+      });
+      txn.commit();
+    }
+
+    assertThat(nestedCounts).containsExactly(3, 3, 3);
+  }
+
+  @Test
+  public void update_failed_statementNotReused() {
+
+    String prefix = "pstmtFailed" + System.nanoTime();
+    document(prefix + "A").save();
+    Document doc = document(prefix + "B");
+    doc.save();
+
+    try (Transaction txn = Ebean.beginTransaction()) {
+      txn.setBatchMode(false);
+      doc.setTitle(prefix + "C");
+      doc.save();
+      statistics();
+
+      // same update sql failing on the unique title
+      for (int i = 0; i < 2; i++) {
+        try {
+          doc.setTitle(prefix + "A");
+          doc.save();
+          fail("expected DuplicateKeyException");
+        } catch (DuplicateKeyException e) {
+          // the failed statement is closed rather than returned to the cache
+        }
+      }
+    }
+
+    MetaPstmtCache statistics = statistics();
+    assertThat(statistics.getHitCount()).isEqualTo(1);
+    assertThat(statistics.getMissCount()).isEqualTo(1);
+  }
+
+  private Document document(String title) {
+    Document doc = new Document();
+    doc.setTitle(title);
+    doc.setBody("pstmtFailed");
+    return doc;
+  }
+}